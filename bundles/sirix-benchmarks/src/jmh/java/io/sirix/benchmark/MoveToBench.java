@@ -0,0 +1,125 @@
+package io.sirix.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.sirix.access.DatabaseConfiguration;
+import org.sirix.access.Databases;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.api.Database;
+import org.sirix.api.xml.XmlNodeReadOnlyTrx;
+import org.sirix.api.xml.XmlResourceManager;
+import org.sirix.service.xml.shredder.XmlShredder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cursor moves of a read-only transaction. Run it with the GC profiler ({@code -prof gc}, as done by
+ * {@link #main(String[])}): the normalized allocation rate ({@code gc.alloc.rate.norm}) shows the bytes allocated per
+ * move, which should be close to zero, as records of the most recently read record pages are looked up without
+ * allocating.
+ *
+ * @author Johannes Lichtenberger
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = { "-Xms1G", "-Xmx1G" })
+public class MoveToBench {
+
+  private static final Path DATABASE_PATH =
+      Paths.get(System.getProperty("user.home"), "sirix-data", "xml-move-to-database");
+
+  private static final Path XMARK_AUCTION = Paths.get("src", "jmh", "resources", "xmark", "auction.xml");
+
+  @State(Scope.Thread)
+  public static class MoveToState {
+    private Database<XmlResourceManager> database;
+    private XmlResourceManager manager;
+    private XmlNodeReadOnlyTrx rtx;
+    private long maxNodeKey;
+    private long nodeKey;
+
+    @Setup(Level.Trial)
+    public void doSetup() {
+      if (Files.exists(DATABASE_PATH))
+        Databases.removeDatabase(DATABASE_PATH);
+
+      Databases.createXmlDatabase(new DatabaseConfiguration(DATABASE_PATH));
+      database = Databases.openXmlDatabase(DATABASE_PATH);
+      database.createResource(ResourceConfiguration.newBuilder("resource").useTextCompression(false).build());
+      manager = database.openResourceManager("resource");
+
+      try (final var wtx = manager.beginNodeTrx()) {
+        wtx.insertSubtreeAsFirstChild(XmlShredder.createStringReader(Files.readString(XMARK_AUCTION)));
+        wtx.commit();
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+
+      rtx = manager.beginNodeReadOnlyTrx();
+      maxNodeKey = rtx.getMaxNodeKey();
+      nodeKey = 1;
+    }
+
+    @TearDown(Level.Trial)
+    public void doTearDown() {
+      rtx.close();
+      manager.close();
+      database.close();
+      Databases.removeDatabase(DATABASE_PATH);
+    }
+  }
+
+  /**
+   * Moves to the nodes in document order by their keys.
+   */
+  @Benchmark
+  public boolean moveToNextNodeKey(final MoveToState state) {
+    if (state.nodeKey > state.maxNodeKey) {
+      state.nodeKey = 1;
+    }
+    return state.rtx.moveTo(state.nodeKey++).hasMoved();
+  }
+
+  /**
+   * Moves to the next node in preorder, using the structural cursor moves.
+   */
+  @Benchmark
+  public long moveToNextNodeInPreorder(final MoveToState state) {
+    final var rtx = state.rtx;
+
+    if (rtx.hasFirstChild()) {
+      rtx.moveToFirstChild();
+    } else {
+      while (!rtx.hasRightSibling() && !rtx.isDocumentRoot()) {
+        rtx.moveToParent();
+      }
+      rtx.moveToRightSibling();
+    }
+
+    return rtx.getNodeKey();
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    final var opt = new OptionsBuilder().include(".*MoveToBench.*").addProfiler(GCProfiler.class).build();
+
+    new Runner(opt).run();
+  }
+}
@@ -11,6 +11,8 @@ import org.sirix.access.trx.TransactionManagerImpl;
 import org.sirix.api.*;
 import org.sirix.cache.BufferManager;
 import org.sirix.cache.BufferManagerImpl;
+import org.sirix.cache.OffHeapPageCache;
+import org.sirix.cache.SharedPageCache;
 import org.sirix.exception.SirixIOException;
 import org.sirix.io.StorageType;
 import org.sirix.io.bytepipe.Encryptor;
@@ -77,10 +79,26 @@ public abstract class AbstractLocalDatabase<T extends ResourceManager<? extends
   }
 
   protected void addResourceToBufferManagerMapping(Path resourceFile, ResourceConfiguration resourceConfig) {
+    if (resourceConfig.pageCacheQuota > 0) {
+      // The quota is reused, such that the pages of the resource, which are still cached, are found again.
+      final var quota = SharedPageCache.getInstance().getQuota(resourceFile, resourceConfig.pageCacheQuota,
+          () -> new OffHeapPageCache(resourceConfig.offHeapRecordPageCacheSize, resourceConfig));
+      bufferManagers.put(resourceFile,
+                         new BufferManagerImpl(SharedPageCache.getInstance(),
+                                               quota,
+                                               1_000,
+                                               resourceConfig.sharedRecordPageExpiry));
+      return;
+    }
+
+    final var offHeapPageCache = new OffHeapPageCache(resourceConfig.offHeapRecordPageCacheSize, resourceConfig);
     if (resourceConfig.getStorageType() == StorageType.MEMORY_MAPPED) {
-      bufferManagers.put(resourceFile, new BufferManagerImpl(100, 50, 150));
+      bufferManagers.put(resourceFile,
+                         new BufferManagerImpl(100, 50, 150, offHeapPageCache, resourceConfig.sharedRecordPageExpiry));
     } else {
-      bufferManagers.put(resourceFile, new BufferManagerImpl(5_000, 1_000, 1_000));
+      bufferManagers.put(resourceFile,
+                         new BufferManagerImpl(5_000, 1_000, 1_000, offHeapPageCache,
+                                               resourceConfig.sharedRecordPageExpiry));
     }
   }
 
@@ -134,6 +152,9 @@ public abstract class AbstractLocalDatabase<T extends ResourceManager<? extends
     if (returnVal) {
       // If everything was correct so far, initialize storage.
 
+      // Pages of a former resource with the same name mustn't be found in the shared page cache.
+      SharedPageCache.getInstance().removeQuota(path);
+
       // Serialization of the config.
       resourceID.set(dbConfig.getMaxResourceID());
       ResourceConfiguration.serialize(resConfig.setID(resourceID.getAndIncrement()));
@@ -185,6 +206,7 @@ public abstract class AbstractLocalDatabase<T extends ResourceManager<? extends
       // mReadSemaphores.remove(resourceFile);
       // mWriteSemaphores.remove(resourceFile);
       bufferManagers.remove(resourceFile);
+      SharedPageCache.getInstance().removeQuota(resourceFile);
     }
 
     return this;
@@ -13,8 +13,12 @@ public final class EmptyBufferManager implements org.sirix.cache.BufferManager {
 
   private static final EmptyCache<PageReference, Page> PAGE_CACHE = new EmptyCache<>();
 
+  private static final EmptyCache<IndexLogKey, Page> UNORDERED_KEY_VALUE_PAGE_CACHE = new EmptyCache<>();
+
   private static final EmptyCache<Integer, RevisionRootPage> REVISION_ROOT_PAGE_CACHE = new EmptyCache<>();
 
+  private static final EmptyCache<Long, byte[]> SERIALIZED_RECORD_PAGE_CACHE = new EmptyCache<>();
+
   EmptyBufferManager() {
   }
 
@@ -28,11 +32,21 @@ public final class EmptyBufferManager implements org.sirix.cache.BufferManager {
     return PAGE_CACHE;
   }
 
+  @Override
+  public Cache<IndexLogKey, Page> getUnorderedKeyValuePageCache() {
+    return UNORDERED_KEY_VALUE_PAGE_CACHE;
+  }
+
   @Override
   public Cache<Integer, RevisionRootPage> getRevisionRootPageCache() {
     return REVISION_ROOT_PAGE_CACHE;
   }
 
+  @Override
+  public Cache<Long, byte[]> getSerializedRecordPageCache() {
+    return SERIALIZED_RECORD_PAGE_CACHE;
+  }
+
   @Override
   public void close() {
   }
@@ -26,7 +26,9 @@ import com.google.common.hash.Hashing;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 import org.sirix.access.trx.node.HashType;
+import org.sirix.access.trx.node.HashWidth;
 import org.sirix.exception.SirixIOException;
+import org.sirix.io.ChecksumType;
 import org.sirix.io.StorageType;
 import org.sirix.io.bytepipe.ByteHandlePipeline;
 import org.sirix.io.bytepipe.ByteHandler;
@@ -150,12 +152,30 @@ public final class ResourceConfiguration {
   /** Type of hashing. */
   private static final HashType HASHKIND = HashType.ROLLING;
 
+  /** Width of the hashes. */
+  private static final HashWidth HASH_WIDTH = HashWidth.BITS_128;
+
   /** Versions to restore. */
   private static final int VERSIONS_TO_RESTORE = 3;
 
   /** Persistenter for records. */
   private static final RecordPersister PERSISTENTER = new NodePersistenterImpl();
 
+  /** Number of record pages to read ahead during sequential scans (disabled by default). */
+  private static final int RECORD_PAGES_TO_READ_AHEAD = 0;
+
+  /** Bytes of the shared page cache, the pages of the resource may occupy (disabled by default). */
+  private static final long PAGE_CACHE_QUOTA = 0;
+
+  /** Bytes of the off-heap cache for evicted record pages (disabled by default). */
+  private static final long OFF_HEAP_RECORD_PAGE_CACHE_SIZE = 0;
+
+  /** Milliseconds after which unused reconstructed record pages expire from the cache shared by transactions. */
+  private static final long SHARED_RECORD_PAGE_EXPIRY = 10_000;
+
+  /** The algorithm used to compute the checksums of pages. */
+  private static final ChecksumType CHECKSUM_TYPE = ChecksumType.CRC32C;
+
   // END FIXED STANDARD FIELDS
 
   // MEMBERS FOR FIXED FIELDS
@@ -168,6 +188,9 @@ public final class ResourceConfiguration {
   /** Kind of integrity hash (rolling, postorder). */
   public final HashType hashType;
 
+  /** Width of the integrity hashes (128 bits or 64 bits). */
+  public final HashWidth hashWidth;
+
   /** Number of revisions to restore a complete set of data. */
   public final int numberOfRevisionsToRestore;
 
@@ -204,6 +227,39 @@ public final class ResourceConfiguration {
   /** Determines whether resource child count should be tracked */
   private boolean storeChildCount;
 
+  /** Number of record pages to read ahead asynchronously, once record pages are read sequentially. */
+  public final int recordPagesToReadAhead;
+
+  /**
+   * Maximum number of bytes, the pages of the resource may occupy in the page cache shared by all resources, or
+   * {@code 0}, if the resource uses its own page caches.
+   */
+  public final long pageCacheQuota;
+
+  /**
+   * Maximum number of bytes of the off-heap cache, which stores serialized record pages evicted from the record page
+   * cache, or {@code 0}, if the off-heap cache is disabled.
+   */
+  public final long offHeapRecordPageCacheSize;
+
+  /**
+   * Milliseconds after which reconstructed record pages, which haven't been accessed, expire from the cache shared by
+   * the read-only transactions of a revision, or {@code 0}, if they only expire once the cache is full.
+   */
+  public final long sharedRecordPageExpiry;
+
+  /** The algorithm used to compute the checksums of pages, which are stored in the references to the pages. */
+  public final ChecksumType checksumType;
+
+  /** Determines if the checksums of pages are verified, once the pages are read. */
+  public final boolean verifyChecksums;
+
+  /** Determines if JSON object nodes store a directory of their object keys, to look them up by their names. */
+  public final boolean storeObjectKeyDirectories;
+
+  /** Determines if JSON array nodes store a directory of chunks of their elements, to access them by their positions. */
+  public final boolean storeArrayChunkDirectories;
+
   // END MEMBERS FOR FIXED FIELDS
 
   /**
@@ -227,6 +283,7 @@ public final class ResourceConfiguration {
     byteHandlePipeline = builder.byteHandler;
     revisioningType = builder.revisionKind;
     hashType = builder.hashKind;
+    hashWidth = builder.hashWidth;
     numberOfRevisionsToRestore = builder.revisionsToRestore;
     useTextCompression = builder.useTextCompression;
     withPathSummary = builder.pathSummary;
@@ -235,6 +292,14 @@ public final class ResourceConfiguration {
     resourceName = builder.resource;
     nodeHashFunction = builder.hashFunction;
     storeChildCount = builder.storeChildCount;
+    recordPagesToReadAhead = builder.recordPagesToReadAhead;
+    pageCacheQuota = builder.pageCacheQuota;
+    offHeapRecordPageCacheSize = builder.offHeapRecordPageCacheSize;
+    sharedRecordPageExpiry = builder.sharedRecordPageExpiry;
+    checksumType = builder.checksumType;
+    verifyChecksums = builder.verifyChecksums;
+    storeObjectKeyDirectories = builder.storeObjectKeyDirectories;
+    storeArrayChunkDirectories = builder.storeArrayChunkDirectories;
   }
 
   ResourceConfiguration setDatabaseConfiguration(final DatabaseConfiguration config) {
@@ -292,6 +357,7 @@ public final class ResourceConfiguration {
                       .add("Type", storageType)
                       .add("Revision", revisioningType)
                       .add("HashKind", hashType)
+                      .add("HashWidth", hashWidth)
                       .toString();
   }
 
@@ -340,7 +406,10 @@ public final class ResourceConfiguration {
    */
   private static final String[] JSONNAMES =
       {"revisioning", "revisioningClass", "numbersOfRevisiontoRestore", "byteHandlerClasses", "storageKind", "hashKind",
-          "hashFunction", "compression", "pathSummary", "resourceID", "deweyIDsStored", "persistenter"};
+          "hashFunction", "compression", "pathSummary", "resourceID", "deweyIDsStored", "persistenter",
+          "recordPagesToReadAhead", "pageCacheQuota", "offHeapRecordPageCacheSize",
+          "checksumType", "verifyChecksums", "objectKeyDirectories", "arrayChunkDirectories",
+          "sharedRecordPageExpiry", "hashWidth"};
 
   /**
    * Serialize the configuration.
@@ -382,6 +451,23 @@ public final class ResourceConfiguration {
       jsonWriter.name(JSONNAMES[10]).value(config.areDeweyIDsStored);
       // Persistenter.
       jsonWriter.name(JSONNAMES[11]).value(config.recordPersister.getClass().getName());
+      // Number of record pages to read ahead.
+      jsonWriter.name(JSONNAMES[12]).value(config.recordPagesToReadAhead);
+      // Quota of the shared page cache.
+      jsonWriter.name(JSONNAMES[13]).value(config.pageCacheQuota);
+      // Size of the off-heap record page cache.
+      jsonWriter.name(JSONNAMES[14]).value(config.offHeapRecordPageCacheSize);
+      // Checksums of pages.
+      jsonWriter.name(JSONNAMES[15]).value(config.checksumType.name());
+      jsonWriter.name(JSONNAMES[16]).value(config.verifyChecksums);
+      // Key directories of JSON object nodes.
+      jsonWriter.name(JSONNAMES[17]).value(config.storeObjectKeyDirectories);
+      // Chunk directories of JSON array nodes.
+      jsonWriter.name(JSONNAMES[18]).value(config.storeArrayChunkDirectories);
+      // Expiry of the record pages shared by transactions.
+      jsonWriter.name(JSONNAMES[19]).value(config.sharedRecordPageExpiry);
+      // Width of the hashes.
+      jsonWriter.name(JSONNAMES[20]).value(config.hashWidth.name());
       jsonWriter.endObject();
     } catch (final IOException e) {
       throw new SirixIOException(e);
@@ -469,6 +555,42 @@ public final class ResourceConfiguration {
       final Class<?> persistenterClazz = Class.forName(jsonReader.nextString());
       final Constructor<?> persistenterConstr = persistenterClazz.getConstructors()[0];
       final RecordPersister persistenter = (RecordPersister) persistenterConstr.newInstance();
+      // Optional settings, which might not be stored for resources created with former versions.
+      int recordPagesToReadAhead = RECORD_PAGES_TO_READ_AHEAD;
+      long pageCacheQuota = PAGE_CACHE_QUOTA;
+      long offHeapRecordPageCacheSize = OFF_HEAP_RECORD_PAGE_CACHE_SIZE;
+      // Resources created with former versions store SHA-256 hashes of the pages.
+      ChecksumType checksumType = ChecksumType.SHA256;
+      boolean verifyChecksums = false;
+      boolean storeObjectKeyDirectories = false;
+      boolean storeArrayChunkDirectories = false;
+      long sharedRecordPageExpiry = SHARED_RECORD_PAGE_EXPIRY;
+      // Resources created with former versions store hashes of up to 128 bits.
+      HashWidth hashWidth = HashWidth.BITS_128;
+      while (jsonReader.hasNext()) {
+        name = jsonReader.nextName();
+        if (name.equals(JSONNAMES[12])) {
+          recordPagesToReadAhead = jsonReader.nextInt();
+        } else if (name.equals(JSONNAMES[13])) {
+          pageCacheQuota = jsonReader.nextLong();
+        } else if (name.equals(JSONNAMES[14])) {
+          offHeapRecordPageCacheSize = jsonReader.nextLong();
+        } else if (name.equals(JSONNAMES[15])) {
+          checksumType = ChecksumType.valueOf(jsonReader.nextString());
+        } else if (name.equals(JSONNAMES[16])) {
+          verifyChecksums = jsonReader.nextBoolean();
+        } else if (name.equals(JSONNAMES[17])) {
+          storeObjectKeyDirectories = jsonReader.nextBoolean();
+        } else if (name.equals(JSONNAMES[18])) {
+          storeArrayChunkDirectories = jsonReader.nextBoolean();
+        } else if (name.equals(JSONNAMES[19])) {
+          sharedRecordPageExpiry = jsonReader.nextLong();
+        } else if (name.equals(JSONNAMES[20])) {
+          hashWidth = HashWidth.valueOf(jsonReader.nextString());
+        } else {
+          jsonReader.skipValue();
+        }
+      }
       jsonReader.endObject();
       jsonReader.close();
       fileReader.close();
@@ -480,13 +602,22 @@ public final class ResourceConfiguration {
       final ResourceConfiguration.Builder builder = ResourceConfiguration.newBuilder(file.getFileName().toString());
       builder.byteHandlerPipeline(pipeline)
              .hashKind(hashing)
+             .hashWidth(hashWidth)
              .versioningApproach(revisioning)
              .revisionsToRestore(revisionToRestore)
              .storageType(storage)
              .persistenter(persistenter)
              .useTextCompression(compression)
              .buildPathSummary(pathSummary)
-             .useDeweyIDs(deweyIDsStored);
+             .useDeweyIDs(deweyIDsStored)
+             .recordPagesToReadAhead(recordPagesToReadAhead)
+             .pageCacheQuota(pageCacheQuota)
+             .offHeapRecordPageCacheSize(offHeapRecordPageCacheSize)
+             .checksumType(checksumType)
+             .verifyChecksums(verifyChecksums)
+             .storeObjectKeyDirectories(storeObjectKeyDirectories)
+             .storeArrayChunkDirectories(storeArrayChunkDirectories)
+             .sharedRecordPageExpiry(sharedRecordPageExpiry);
 
       // Deserialized instance.
       final ResourceConfiguration config = new ResourceConfiguration(builder);
@@ -515,6 +646,9 @@ public final class ResourceConfiguration {
     /** Kind of integrity hash (rolling, postorder). */
     private HashType hashKind = HASHKIND;
 
+    /** Width of the integrity hashes. */
+    private HashWidth hashWidth = HASH_WIDTH;
+
     /** Number of revisions to restore a complete set of data. */
     private int revisionsToRestore = VERSIONS_TO_RESTORE;
 
@@ -539,6 +673,30 @@ public final class ResourceConfiguration {
     /** Determines whether child count should be tracked or not. */
     private boolean storeChildCount;
 
+    /** Number of record pages to read ahead during sequential scans. */
+    private int recordPagesToReadAhead = RECORD_PAGES_TO_READ_AHEAD;
+
+    /** Bytes of the shared page cache, the pages of the resource may occupy. */
+    private long pageCacheQuota = PAGE_CACHE_QUOTA;
+
+    /** Bytes of the off-heap cache for evicted record pages. */
+    private long offHeapRecordPageCacheSize = OFF_HEAP_RECORD_PAGE_CACHE_SIZE;
+
+    /** Milliseconds after which unused record pages expire from the cache shared by transactions. */
+    private long sharedRecordPageExpiry = SHARED_RECORD_PAGE_EXPIRY;
+
+    /** The algorithm used to compute the checksums of pages. */
+    private ChecksumType checksumType = CHECKSUM_TYPE;
+
+    /** Determines if the checksums of pages are verified on reads. */
+    private boolean verifyChecksums;
+
+    /** Determines if JSON object nodes store a directory of their object keys. */
+    private boolean storeObjectKeyDirectories;
+
+    /** Determines if JSON array nodes store a directory of chunks of their elements. */
+    private boolean storeArrayChunkDirectories;
+
     /**
      * Constructor, setting the mandatory fields.
      *
@@ -610,6 +768,19 @@ public final class ResourceConfiguration {
       return this;
     }
 
+    /**
+     * Set the width of the hashes of the nodes. Hashes of up to 128 bits (the default) are computed with
+     * {@code BigInteger} arithmetic, whereas 64-bit hashes are computed with long arithmetic, which is considerably
+     * cheaper, once the hashes of the ancestors are updated. The width can't be changed once the resource is created.
+     *
+     * @param hashWidth width of the hashes
+     * @return reference to the builder object
+     */
+    public Builder hashWidth(final HashWidth hashWidth) {
+      this.hashWidth = checkNotNull(hashWidth);
+      return this;
+    }
+
     /**
      * Set the byte handler pipeline.
      *
@@ -670,6 +841,115 @@ public final class ResourceConfiguration {
       return this;
     }
 
+    /**
+     * Set the number of record pages to read ahead asynchronously, once a read-only transaction reads record pages
+     * sequentially (for instance during a descendant scan). {@code 0} disables read-ahead.
+     *
+     * @param recordPagesToReadAhead number of record pages to read ahead
+     * @return reference to the builder object
+     */
+    public Builder recordPagesToReadAhead(final @Nonnegative int recordPagesToReadAhead) {
+      checkArgument(recordPagesToReadAhead >= 0, "recordPagesToReadAhead must be >= 0!");
+      this.recordPagesToReadAhead = recordPagesToReadAhead;
+      return this;
+    }
+
+    /**
+     * Cache the pages of the resource in the page cache shared by all resources of the JVM, which is bounded by the
+     * estimated size of the pages instead of their number. The pages of the resource may occupy at most
+     * {@code pageCacheQuota} bytes. {@code 0} (the default) uses page caches, which are bound to the resource.
+     *
+     * @param pageCacheQuota maximum number of bytes the pages of the resource may occupy in the shared cache
+     * @return reference to the builder object
+     */
+    public Builder pageCacheQuota(final @Nonnegative long pageCacheQuota) {
+      checkArgument(pageCacheQuota >= 0, "pageCacheQuota must be >= 0!");
+      this.pageCacheQuota = pageCacheQuota;
+      return this;
+    }
+
+    /**
+     * Store record pages, which are evicted from the record page cache, serialized but uncompressed in off-heap
+     * memory, such that they can be deserialized instead of being read from the storage, decompressed and
+     * reconstructed from their fragments again. {@code 0} (the default) disables the off-heap cache.
+     *
+     * @param offHeapRecordPageCacheSize maximum number of bytes of the off-heap cache
+     * @return reference to the builder object
+     */
+    public Builder offHeapRecordPageCacheSize(final @Nonnegative long offHeapRecordPageCacheSize) {
+      checkArgument(offHeapRecordPageCacheSize >= 0, "offHeapRecordPageCacheSize must be >= 0!");
+      this.offHeapRecordPageCacheSize = offHeapRecordPageCacheSize;
+      return this;
+    }
+
+    /**
+     * Set the number of milliseconds after which reconstructed record pages, which haven't been accessed, expire from
+     * the cache shared by the read-only transactions of a revision (10 seconds by default). {@code 0} keeps the pages
+     * until the cache is full.
+     *
+     * @param sharedRecordPageExpiry milliseconds after which unused shared record pages expire
+     * @return reference to the builder object
+     */
+    public Builder sharedRecordPageExpiry(final @Nonnegative long sharedRecordPageExpiry) {
+      checkArgument(sharedRecordPageExpiry >= 0, "sharedRecordPageExpiry must be >= 0!");
+      this.sharedRecordPageExpiry = sharedRecordPageExpiry;
+      return this;
+    }
+
+    /**
+     * Set the algorithm used to compute the checksums of pages, which are stored in the references to the pages.
+     * CRC32C (the default) is hardware-accelerated on most platforms, whereas SHA-256 is a cryptographic hash.
+     *
+     * @param checksumType the algorithm used to compute the checksums of pages
+     * @return reference to the builder object
+     */
+    public Builder checksumType(final ChecksumType checksumType) {
+      this.checksumType = checkNotNull(checksumType);
+      return this;
+    }
+
+    /**
+     * Determines if the checksums of pages are verified, once the pages are read from the storage. A mismatch results
+     * in a {@link SirixIOException}. Verification is disabled by default.
+     *
+     * @param verifyChecksums {@code true}, if the checksums should be verified, {@code false} otherwise
+     * @return reference to the builder object
+     */
+    public Builder verifyChecksums(final boolean verifyChecksums) {
+      this.verifyChecksums = verifyChecksums;
+      return this;
+    }
+
+    /**
+     * Determines if JSON object nodes store a directory, which maps the names of their object keys to the object key
+     * nodes. Object keys are then looked up by their names without scanning all children of an object, which pays
+     * off for objects with many keys, but the directories have to be maintained once object keys are inserted,
+     * renamed or removed. Key directories aren't stored by default.
+     *
+     * @param storeObjectKeyDirectories {@code true}, if the key directories should be stored, {@code false} otherwise
+     * @return reference to the builder object
+     */
+    public Builder storeObjectKeyDirectories(final boolean storeObjectKeyDirectories) {
+      this.storeObjectKeyDirectories = storeObjectKeyDirectories;
+      return this;
+    }
+
+    /**
+     * Determines if JSON array nodes store a directory, which partitions their elements into chunks of consecutive
+     * elements and stores the number of elements per chunk. Elements are then accessed by their positions with a
+     * binary search over the chunks followed by a bounded number of moves, instead of moving through all elements in
+     * front of them, which pays off for huge arrays, but the directories have to be maintained once elements are
+     * inserted or removed. Chunk directories aren't stored by default.
+     *
+     * @param storeArrayChunkDirectories {@code true}, if the chunk directories should be stored, {@code false}
+     *                                   otherwise
+     * @return reference to the builder object
+     */
+    public Builder storeArrayChunkDirectories(final boolean storeArrayChunkDirectories) {
+      this.storeArrayChunkDirectories = storeArrayChunkDirectories;
+      return this;
+    }
+
     @Override
     public String toString() {
       return MoreObjects.toStringHelper(this)
@@ -14,6 +14,11 @@ import org.sirix.page.UnorderedKeyValuePage;
 
 import javax.annotation.Nonnegative;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
 
 public abstract class AbstractNodeHashing {
 
@@ -22,11 +27,31 @@ public abstract class AbstractNodeHashing {
    */
   private static final BigInteger PRIME = BigInteger.valueOf(77081);
 
+  /**
+   * Prime for computing 64-bit hashes.
+   */
+  private static final long LONG_PRIME = 77081;
+
+  /**
+   * Number of nodes up to which subtrees are hashed by a single task.
+   */
+  private static final int SUBTREE_TASK_SIZE = 1 << 12;
+
+  /**
+   * Default maximum number of nodes of the subtrees, which are kept in memory to hash them in parallel.
+   */
+  private static final int MAX_BATCH_SIZE = 1 << 20;
+
   /**
    * The hash type.
    */
   private final HashType hashType;
 
+  /**
+   * Determines if 64-bit hashes are computed instead of {@link BigInteger} hashes.
+   */
+  private final boolean longHashes;
+
   /**
    * The node read-only trx.
    */
@@ -44,16 +69,23 @@ public abstract class AbstractNodeHashing {
 
   private boolean autoCommit;
 
+  /**
+   * Maximum number of nodes of the subtrees, which are kept in memory to hash them in parallel.
+   */
+  private int maxBatchSize = MAX_BATCH_SIZE;
+
   /**
    * Constructor.
    *
    * @param hashType        the hash type used
+   * @param hashWidth       the width of the hashes
    * @param nodeReadOnlyTrx the internal read-only node trx
    * @param pageWriteTrx    the page trx
    */
-  public AbstractNodeHashing(final HashType hashType, final NodeReadOnlyTrx nodeReadOnlyTrx,
+  public AbstractNodeHashing(final HashType hashType, final HashWidth hashWidth, final NodeReadOnlyTrx nodeReadOnlyTrx,
       final PageTrx<Long, DataRecord, UnorderedKeyValuePage> pageWriteTrx) {
     this.hashType = hashType;
+    this.longHashes = hashWidth == HashWidth.BITS_64;
     this.nodeReadOnlyTrx = nodeReadOnlyTrx;
     this.pageWriteTrx = pageWriteTrx;
   }
@@ -68,6 +100,18 @@ public abstract class AbstractNodeHashing {
     return this;
   }
 
+  /**
+   * Set the maximum number of nodes of the subtrees, which are kept in memory to hash them in parallel.
+   *
+   * @param maxBatchSize the maximum number of nodes
+   * @return this instance
+   */
+  public AbstractNodeHashing setMaxBatchSize(final @Nonnegative int maxBatchSize) {
+    checkArgument(maxBatchSize > 0, "maxBatchSize must be > 0!");
+    this.maxBatchSize = maxBatchSize;
+    return this;
+  }
+
   /**
    * Adapting the structure with a hash for all ancestors only with insert.
    *
@@ -77,7 +121,11 @@ public abstract class AbstractNodeHashing {
     if (!bulkInsert || autoCommit) {
       switch (hashType) {
         case ROLLING:
-          rollingAdd();
+          if (longHashes) {
+            rollingAddLong();
+          } else {
+            rollingAdd();
+          }
           break;
         case POSTORDER:
           postorderAdd();
@@ -97,7 +145,11 @@ public abstract class AbstractNodeHashing {
     if (!bulkInsert || autoCommit) {
       switch (hashType) {
         case ROLLING:
-          rollingRemove();
+          if (longHashes) {
+            rollingRemoveLong();
+          } else {
+            rollingRemove();
+          }
           break;
         case POSTORDER:
           postorderRemove();
@@ -111,14 +163,19 @@ public abstract class AbstractNodeHashing {
   /**
    * Adapting the structure with a hash for all ancestors only with update.
    *
-   * @param oldHash pOldHash to be removed
+   * @param oldHash pOldHash to be removed, of which only the lower 64 bits are taken into account, if 64-bit hashes are
+   *                computed
    * @throws SirixIOException if an I/O error occurs
    */
   public void adaptHashedWithUpdate(final BigInteger oldHash) {
     if (!bulkInsert || autoCommit) {
       switch (hashType) {
         case ROLLING:
-          rollingUpdate(oldHash);
+          if (longHashes) {
+            rollingUpdateLong(oldHash.longValue());
+          } else {
+            rollingUpdate(oldHash);
+          }
           break;
         case POSTORDER:
           postorderAdd();
@@ -145,6 +202,11 @@ public abstract class AbstractNodeHashing {
    * @throws SirixIOException if anything weird happened
    */
   private void postorderAdd() {
+    if (longHashes) {
+      postorderAddLong();
+      return;
+    }
+
     // start with hash to add
     final ImmutableNode startNode = getCurrentNode();
     // long for adapting the hash of the parent
@@ -195,6 +257,60 @@ public abstract class AbstractNodeHashing {
     setCurrentNode(startNode);
   }
 
+  /**
+   * Adapting the structure with a 64-bit postorder hash for all ancestors only with insert.
+   */
+  private void postorderAddLong() {
+    // start with hash to add
+    final ImmutableNode startNode = getCurrentNode();
+    // long for adapting the hash of the parent
+    long hashCodeForParent = 0;
+    // adapting the parent if the current node is no structural one.
+    if (!(startNode instanceof StructNode)) {
+      final Node node =
+          (Node) pageWriteTrx.prepareEntryForModification(getCurrentNode().getNodeKey(), PageKind.RECORDPAGE, -1);
+      node.setLongHash(getCurrentNode().computeLongHash());
+      nodeReadOnlyTrx.moveTo(getCurrentNode().getParentKey());
+    }
+    // Cursor to root
+    StructNode cursorToRoot;
+    do {
+      cursorToRoot =
+          (StructNode) pageWriteTrx.prepareEntryForModification(getCurrentNode().getNodeKey(), PageKind.RECORDPAGE, -1);
+      hashCodeForParent = getCurrentNode().computeLongHash() + hashCodeForParent * LONG_PRIME;
+      // Caring about attributes and namespaces if node is an element.
+      if (cursorToRoot.getKind() == NodeKind.ELEMENT) {
+        final ElementNode currentElement = (ElementNode) cursorToRoot;
+        // setting the attributes and namespaces
+        final int attCount = ((ElementNode) cursorToRoot).getAttributeCount();
+        for (int i = 0; i < attCount; i++) {
+          nodeReadOnlyTrx.moveTo(currentElement.getAttributeKey(i));
+          hashCodeForParent = getCurrentNode().computeLongHash() + hashCodeForParent * LONG_PRIME;
+        }
+        final int nspCount = ((ElementNode) cursorToRoot).getNamespaceCount();
+        for (int i = 0; i < nspCount; i++) {
+          nodeReadOnlyTrx.moveTo(currentElement.getNamespaceKey(i));
+          hashCodeForParent = getCurrentNode().computeLongHash() + hashCodeForParent * LONG_PRIME;
+        }
+        nodeReadOnlyTrx.moveTo(cursorToRoot.getNodeKey());
+      }
+
+      // Caring about the children of a node
+      if (nodeReadOnlyTrx.moveTo(getStructuralNode().getFirstChildKey()).hasMoved()) {
+        do {
+          hashCodeForParent = getCurrentNode().getLongHash() + hashCodeForParent * LONG_PRIME;
+        } while (nodeReadOnlyTrx.moveTo(getStructuralNode().getRightSiblingKey()).hasMoved());
+        nodeReadOnlyTrx.moveTo(getStructuralNode().getParentKey());
+      }
+
+      // setting hash and resetting hash
+      cursorToRoot.setLongHash(hashCodeForParent);
+      hashCodeForParent = 0;
+    } while (nodeReadOnlyTrx.moveTo(cursorToRoot.getParentKey()).hasMoved());
+
+    setCurrentNode(startNode);
+  }
+
   protected abstract StructNode getStructuralNode();
 
   protected abstract ImmutableNode getCurrentNode();
@@ -229,6 +345,31 @@ public abstract class AbstractNodeHashing {
     setCurrentNode(newNode);
   }
 
+  /**
+   * Adapting the structure with a 64-bit rolling hash for all ancestors only with update.
+   *
+   * @param oldHash pOldHash to be removed
+   */
+  private void rollingUpdateLong(final long oldHash) {
+    final ImmutableNode newNode = getCurrentNode();
+    final long hash = newNode.computeLongHash();
+    long resultNew;
+
+    // go the path to the root
+    do {
+      final Node node =
+          (Node) pageWriteTrx.prepareEntryForModification(getCurrentNode().getNodeKey(), PageKind.RECORDPAGE, -1);
+      if (node.getNodeKey() == newNode.getNodeKey()) {
+        resultNew = node.getLongHash() - oldHash + hash;
+      } else {
+        resultNew = node.getLongHash() - oldHash * LONG_PRIME + hash * LONG_PRIME;
+      }
+      node.setLongHash(resultNew);
+    } while (nodeReadOnlyTrx.moveTo(getCurrentNode().getParentKey()).hasMoved());
+
+    setCurrentNode(newNode);
+  }
+
   /**
    * Adapting the structure with a rolling hash for all ancestors only with remove.
    */
@@ -263,6 +404,39 @@ public abstract class AbstractNodeHashing {
     setCurrentNode(startNode);
   }
 
+  /**
+   * Adapting the structure with a 64-bit rolling hash for all ancestors only with remove.
+   */
+  private void rollingRemoveLong() {
+    final ImmutableNode startNode = getCurrentNode();
+    long hashToRemove = startNode.getLongHash();
+    long hashToAdd = 0;
+    long newHash;
+    // go the path to the root
+    do {
+      final Node node =
+          (Node) pageWriteTrx.prepareEntryForModification(getCurrentNode().getNodeKey(), PageKind.RECORDPAGE, -1);
+      if (node.getNodeKey() == startNode.getNodeKey()) {
+        // the begin node is always null
+        newHash = 0;
+      } else if (node.getNodeKey() == startNode.getParentKey()) {
+        // the parent node is just removed
+        newHash = node.getLongHash() - hashToRemove * LONG_PRIME;
+        hashToRemove = node.getLongHash();
+        setRemoveDescendants(startNode);
+      } else {
+        // the ancestors are all touched regarding the modification
+        newHash = node.getLongHash() - hashToRemove * LONG_PRIME + hashToAdd * LONG_PRIME;
+        hashToRemove = node.getLongHash();
+        setRemoveDescendants(startNode);
+      }
+      node.setLongHash(newHash);
+      hashToAdd = newHash;
+    } while (nodeReadOnlyTrx.moveTo(getCurrentNode().getParentKey()).hasMoved());
+
+    setCurrentNode(startNode);
+  }
+
   /**
    * Set new descendant count of ancestor after a remove-operation.
    *
@@ -326,6 +500,51 @@ public abstract class AbstractNodeHashing {
     setCurrentNode(startNode);
   }
 
+  /**
+   * Adapting the structure with a 64-bit rolling hash for all ancestors only with insert.
+   */
+  private void rollingAddLong() {
+    // start with hash to add
+    final ImmutableNode startNode = getCurrentNode();
+    final long oldDescendantCount = getStructuralNode().getDescendantCount();
+    final long descendantCount = oldDescendantCount == 0 ? 1 : oldDescendantCount + 1;
+    long hashToAdd = startNode.hasLongHash() ? startNode.getLongHash() : startNode.computeLongHash();
+    long newHash;
+    long possibleOldHash = 0;
+
+    if (startNode.getKind() == NodeKind.STRING_VALUE || startNode.getKind() == NodeKind.OBJECT_STRING_VALUE
+        || startNode.getKind() == NodeKind.BOOLEAN_VALUE || startNode.getKind() == NodeKind.OBJECT_BOOLEAN_VALUE
+        || startNode.getKind() == NodeKind.NUMBER_VALUE || startNode.getKind() == NodeKind.OBJECT_NUMBER_VALUE
+        || startNode.getKind() == NodeKind.NULL_VALUE || startNode.getKind() == NodeKind.OBJECT_NULL_VALUE) {
+      nodeReadOnlyTrx.moveTo(startNode.getParentKey());
+    }
+
+    // go the path to the root
+    do {
+      final Node node =
+          (Node) pageWriteTrx.prepareEntryForModification(getCurrentNode().getNodeKey(), PageKind.RECORDPAGE, -1);
+      if (node.getNodeKey() == startNode.getNodeKey()) {
+        // first, take the hashcode of the node only
+        newHash = hashToAdd;
+      } else if (node.getNodeKey() == startNode.getParentKey()) {
+        // at the parent level, just add the node
+        possibleOldHash = node.getLongHash();
+        newHash = possibleOldHash + hashToAdd * LONG_PRIME;
+        hashToAdd = newHash;
+        setAddDescendants(startNode, node, descendantCount);
+      } else {
+        // at the rest, remove the existing old key for this element
+        // and add the new one
+        newHash = node.getLongHash() - possibleOldHash * LONG_PRIME + hashToAdd * LONG_PRIME;
+        hashToAdd = newHash;
+        possibleOldHash = node.getLongHash();
+        setAddDescendants(startNode, node, descendantCount);
+      }
+      node.setLongHash(newHash);
+    } while (nodeReadOnlyTrx.moveTo(getCurrentNode().getParentKey()).hasMoved());
+    setCurrentNode(startNode);
+  }
+
   /**
    * Add a hash.
    *
@@ -334,10 +553,13 @@ public abstract class AbstractNodeHashing {
   public void addParentHash(final ImmutableNode startNode) {
     switch (hashType) {
       case ROLLING:
-        final BigInteger hashToAdd = startNode.computeHash();
         final Node node =
             (Node) pageWriteTrx.prepareEntryForModification(getCurrentNode().getNodeKey(), PageKind.RECORDPAGE, -1);
-        node.setHash(node.getHash().add(hashToAdd.multiply(PRIME)));
+        if (longHashes) {
+          node.setLongHash(node.getLongHash() + startNode.computeLongHash() * LONG_PRIME);
+        } else {
+          node.setHash(node.getHash().add(startNode.computeHash().multiply(PRIME)));
+        }
         if (startNode instanceof StructNode) {
           ((StructNode) node).setDescendantCount(
               ((StructNode) node).getDescendantCount() + ((StructNode) startNode).getDescendantCount() + 1);
@@ -356,6 +578,11 @@ public abstract class AbstractNodeHashing {
   public void addHashAndDescendantCount() {
     switch (hashType) {
       case ROLLING:
+        if (longHashes) {
+          addLongHashAndDescendantCount();
+          break;
+        }
+
         // Setup.
         final ImmutableNode startNode = getCurrentNode();
         final long oldDescendantCount = getStructuralNode().getDescendantCount();
@@ -391,6 +618,270 @@ public abstract class AbstractNodeHashing {
     }
   }
 
+  /**
+   * Add a 64-bit hash and the descendant count.
+   */
+  private void addLongHashAndDescendantCount() {
+    // Setup.
+    final ImmutableNode startNode = getCurrentNode();
+    final long oldDescendantCount = getStructuralNode().getDescendantCount();
+    final long descendantCount = oldDescendantCount == 0 ? 1 : oldDescendantCount + 1;
+
+    // Set start node.
+    final long hashToAdd = startNode.hasLongHash()
+        ? startNode.getLongHash() + startNode.computeLongHash()
+        : startNode.computeLongHash();
+    Node node = (Node) pageWriteTrx.prepareEntryForModification(getCurrentNode().getNodeKey(), PageKind.RECORDPAGE, -1);
+    node.setLongHash(hashToAdd);
+
+    // Set parent node.
+    if (startNode.hasParent()) {
+      nodeReadOnlyTrx.moveTo(startNode.getParentKey());
+      node = (Node) pageWriteTrx.prepareEntryForModification(getCurrentNode().getNodeKey(), PageKind.RECORDPAGE, -1);
+      final long hash = node.hasLongHash() ? node.getLongHash() : node.computeLongHash();
+      node.setLongHash(hash + hashToAdd * LONG_PRIME);
+
+      setAddDescendants(startNode, node, descendantCount);
+    }
+
+    setCurrentNode(startNode);
+  }
+
+  /**
+   * Add the hashes and descendant counts of the subtree rooted at the current node, which has not been hashed so far
+   * (for instance after a bulk insert). The result is the same as calling {@link #addHashAndDescendantCount()} for
+   * every node of the subtree in postorder, but the subtrees of the children of the current node are hashed in
+   * parallel. Only structural nodes are taken into account, that is the subtree must not contain attributes or
+   * namespaces.
+   */
+  public void addHashesAndDescendantCountsInParallel() {
+    if (hashType == HashType.NONE) {
+      return;
+    }
+
+    addHashesAndDescendantCountsOfChildren();
+    addHashAndDescendantCount();
+  }
+
+  /**
+   * Add the hashes and descendant counts of the subtrees of the children of the current node in batches of at most
+   * {@code maxBatchSize} nodes. A child, whose subtree alone exceeds the batch size, is hashed after the subtrees of
+   * its own children, which are batched the same way. Afterwards the cursor is located at the current node again.
+   */
+  private void addHashesAndDescendantCountsOfChildren() {
+    final long parentKey = getCurrentNode().getNodeKey();
+
+    if (!nodeReadOnlyTrx.moveTo(getStructuralNode().getFirstChildKey()).hasMoved()) {
+      return;
+    }
+
+    final SubtreeBatch batch = new SubtreeBatch(hashType, longHashes);
+
+    do {
+      if (addSubtree(batch)) {
+        continue;
+      }
+
+      if (batch.size() > 0) {
+        // The subtree doesn't fit into the batch, thus the batch is hashed first.
+        hashBatch(parentKey, batch);
+
+        if (addSubtree(batch)) {
+          continue;
+        }
+      }
+
+      // The subtree alone exceeds the batch size, thus the subtrees of its children are batched.
+      addHashesAndDescendantCountsOfChildren();
+      addHashAndDescendantCountOfChild(parentKey);
+    } while (nodeReadOnlyTrx.moveTo(getStructuralNode().getRightSiblingKey()).hasMoved());
+
+    hashBatch(parentKey, batch);
+    nodeReadOnlyTrx.moveTo(parentKey);
+  }
+
+  /**
+   * Add the nodes of the subtree rooted at the current node to the batch in preorder. Afterwards the cursor is located
+   * at the subtree root again.
+   *
+   * @param batch the batch to add the nodes to
+   * @return {@code true}, if the subtree has been added, {@code false}, if the batch would exceed the maximum batch
+   * size, in which case the batch is left unchanged
+   */
+  private boolean addSubtree(final SubtreeBatch batch) {
+    if (batch.size() >= maxBatchSize) {
+      return false;
+    }
+
+    final long subtreeRootKey = getCurrentNode().getNodeKey();
+    final int sizeBefore = batch.size();
+    batch.addSubtreeRoot(getStructuralNode());
+
+    while (true) {
+      if (nodeReadOnlyTrx.moveTo(getStructuralNode().getFirstChildKey()).hasMoved()) {
+        if (batch.size() >= maxBatchSize) {
+          batch.removeSubtreeRoot(sizeBefore);
+          nodeReadOnlyTrx.moveTo(subtreeRootKey);
+          return false;
+        }
+
+        batch.add(getStructuralNode());
+        continue;
+      }
+
+      while (true) {
+        batch.close();
+
+        if (getCurrentNode().getNodeKey() == subtreeRootKey) {
+          return true;
+        }
+
+        if (nodeReadOnlyTrx.moveTo(getStructuralNode().getRightSiblingKey()).hasMoved()) {
+          if (batch.size() >= maxBatchSize) {
+            batch.removeSubtreeRoot(sizeBefore);
+            nodeReadOnlyTrx.moveTo(subtreeRootKey);
+            return false;
+          }
+
+          batch.add(getStructuralNode());
+          break;
+        }
+
+        nodeReadOnlyTrx.moveTo(getStructuralNode().getParentKey());
+      }
+    }
+  }
+
+  /**
+   * Add the hash and descendant count of the current node, whose children have already been hashed, and add it to its
+   * parent, just as a batch does for the roots of its subtrees.
+   *
+   * @param parentKey the key of the parent node
+   */
+  private void addHashAndDescendantCountOfChild(final long parentKey) {
+    final long nodeKey = getCurrentNode().getNodeKey();
+
+    switch (hashType) {
+      case ROLLING: {
+        // The children have already been added to the node.
+        final StructNode node =
+            (StructNode) pageWriteTrx.prepareEntryForModification(nodeKey, PageKind.RECORDPAGE, -1);
+        if (longHashes) {
+          node.setLongHash(node.hasLongHash() ? node.getLongHash() + node.computeLongHash() : node.computeLongHash());
+        } else {
+          node.setHash(node.getHash() == null || BigInteger.ZERO.equals(node.getHash())
+              ? node.computeHash()
+              : node.getHash().add(node.computeHash()));
+        }
+
+        final StructNode parent =
+            (StructNode) pageWriteTrx.prepareEntryForModification(parentKey, PageKind.RECORDPAGE, -1);
+        if (longHashes) {
+          addChildLongHash(parent, node);
+        } else {
+          addChildHash(parent, node);
+        }
+        break;
+      }
+      case POSTORDER: {
+        long longHash = longHashes ? getStructuralNode().computeLongHash() : 0;
+        BigInteger hash = longHashes ? null : getStructuralNode().computeHash();
+        if (nodeReadOnlyTrx.moveTo(getStructuralNode().getFirstChildKey()).hasMoved()) {
+          do {
+            if (longHashes) {
+              longHash = getStructuralNode().getLongHash() + longHash * LONG_PRIME;
+            } else {
+              hash = getStructuralNode().getHash().add(hash.multiply(PRIME));
+            }
+          } while (nodeReadOnlyTrx.moveTo(getStructuralNode().getRightSiblingKey()).hasMoved());
+          nodeReadOnlyTrx.moveTo(nodeKey);
+        }
+
+        final StructNode node =
+            (StructNode) pageWriteTrx.prepareEntryForModification(nodeKey, PageKind.RECORDPAGE, -1);
+        if (longHashes) {
+          node.setLongHash(longHash);
+        } else {
+          node.setHash(hash);
+        }
+        break;
+      }
+      case NONE:
+      default:
+    }
+  }
+
+  /**
+   * Hash the subtrees of the batch in parallel, store the hashes and descendant counts and add the subtrees to their
+   * parent node.
+   *
+   * @param parentKey the key of the parent node of the subtree roots
+   * @param batch     the batch to hash
+   */
+  private void hashBatch(final long parentKey, final SubtreeBatch batch) {
+    if (batch.size() == 0) {
+      return;
+    }
+
+    batch.hash();
+
+    // The hashed nodes might have been evicted from the transaction intent log in the meantime.
+    for (int i = 0, size = batch.size(); i < size; i++) {
+      final StructNode hashedNode = batch.getNode(i);
+      final StructNode node =
+          (StructNode) pageWriteTrx.prepareEntryForModification(hashedNode.getNodeKey(), PageKind.RECORDPAGE, -1);
+      if (longHashes) {
+        node.setLongHash(hashedNode.getLongHash());
+      } else {
+        node.setHash(hashedNode.getHash());
+      }
+      node.setDescendantCount(hashedNode.getDescendantCount());
+    }
+
+    if (hashType == HashType.ROLLING) {
+      final StructNode parent =
+          (StructNode) pageWriteTrx.prepareEntryForModification(parentKey, PageKind.RECORDPAGE, -1);
+
+      for (int i = 0, size = batch.subtreeRootsSize(); i < size; i++) {
+        if (longHashes) {
+          addChildLongHash(parent, batch.getSubtreeRoot(i));
+        } else {
+          addChildHash(parent, batch.getSubtreeRoot(i));
+        }
+      }
+    }
+
+    batch.clear();
+  }
+
+  /**
+   * Add the hash and descendant count of a child to its parent, just as the rolling hash of
+   * {@link #addHashAndDescendantCount()} does.
+   *
+   * @param parent the parent node
+   * @param child  the child node, which is already hashed
+   */
+  private static void addChildHash(final StructNode parent, final StructNode child) {
+    final BigInteger hash = parent.getHash() == null || BigInteger.ZERO.equals(parent.getHash())
+        ? parent.computeHash()
+        : parent.getHash();
+    parent.setHash(hash.add(child.getHash().multiply(PRIME)));
+    parent.setDescendantCount(parent.getDescendantCount() + child.getDescendantCount() + 1);
+  }
+
+  /**
+   * Add the 64-bit hash and descendant count of a child to its parent, just as the rolling hash of
+   * {@link #addHashAndDescendantCount()} does.
+   *
+   * @param parent the parent node
+   * @param child  the child node, which is already hashed
+   */
+  private static void addChildLongHash(final StructNode parent, final StructNode child) {
+    final long hash = parent.hasLongHash() ? parent.getLongHash() : parent.computeLongHash();
+    parent.setLongHash(hash + child.getLongHash() * LONG_PRIME);
+    parent.setDescendantCount(parent.getDescendantCount() + child.getDescendantCount() + 1);
+  }
+
   /**
    * Set new descendant count of ancestor after an add-operation.
    *
@@ -413,4 +904,224 @@ public abstract class AbstractNodeHashing {
   public boolean isBulkInsert() {
     return bulkInsert;
   }
+
+  /**
+   * Nodes of subtrees in preorder, whose hashes and descendant counts are computed in parallel. As the records are
+   * only read and modified by the task hashing their subtree, the computation doesn't need the (single threaded) page
+   * transaction.
+   */
+  private static final class SubtreeBatch {
+    /**
+     * The hash type.
+     */
+    private final HashType hashType;
+
+    /**
+     * Determines if 64-bit hashes are computed instead of {@link BigInteger} hashes.
+     */
+    private final boolean longHashes;
+
+    /**
+     * The nodes in preorder.
+     */
+    private StructNode[] nodes = new StructNode[64];
+
+    /**
+     * The number of nodes of the subtree rooted at the node with the same index, including the node itself.
+     */
+    private int[] subtreeSizes = new int[64];
+
+    /**
+     * The number of nodes.
+     */
+    private int size;
+
+    /**
+     * The indexes of the roots of the subtrees.
+     */
+    private int[] subtreeRoots = new int[16];
+
+    /**
+     * The number of subtree roots.
+     */
+    private int subtreeRootsSize;
+
+    /**
+     * The indexes of the nodes, which have been added, but not closed, that is the path to the last added node.
+     */
+    private int[] openNodes = new int[16];
+
+    /**
+     * The number of open nodes.
+     */
+    private int openNodesSize;
+
+    SubtreeBatch(final HashType hashType, final boolean longHashes) {
+      this.hashType = hashType;
+      this.longHashes = longHashes;
+    }
+
+    void addSubtreeRoot(final StructNode node) {
+      subtreeRoots = ensureCapacity(subtreeRoots, subtreeRootsSize);
+      subtreeRoots[subtreeRootsSize++] = size;
+      add(node);
+    }
+
+    void add(final StructNode node) {
+      if (size == nodes.length) {
+        nodes = Arrays.copyOf(nodes, size << 1);
+        subtreeSizes = Arrays.copyOf(subtreeSizes, size << 1);
+      }
+      openNodes = ensureCapacity(openNodes, openNodesSize);
+      openNodes[openNodesSize++] = size;
+      nodes[size++] = node;
+    }
+
+    void close() {
+      final int index = openNodes[--openNodesSize];
+      subtreeSizes[index] = size - index;
+    }
+
+    int size() {
+      return size;
+    }
+
+    StructNode getNode(final int index) {
+      return nodes[index];
+    }
+
+    int subtreeRootsSize() {
+      return subtreeRootsSize;
+    }
+
+    StructNode getSubtreeRoot(final int index) {
+      return nodes[subtreeRoots[index]];
+    }
+
+    /**
+     * Remove the nodes of the last subtree, which hasn't been added completely.
+     *
+     * @param subtreeRootIndex the index of the root of the subtree
+     */
+    void removeSubtreeRoot(final int subtreeRootIndex) {
+      Arrays.fill(nodes, subtreeRootIndex, size, null);
+      size = subtreeRootIndex;
+      subtreeRootsSize--;
+      openNodesSize = 0;
+    }
+
+    void clear() {
+      Arrays.fill(nodes, 0, size, null);
+      size = 0;
+      subtreeRootsSize = 0;
+    }
+
+    /**
+     * Hash the nodes. Consecutive subtrees with at most {@code SUBTREE_TASK_SIZE} nodes in total are hashed by one
+     * task. The nodes of larger subtrees are hashed after all tasks are done, as they depend on the hashes of the
+     * subtrees.
+     */
+    void hash() {
+      final List<int[]> ranges = new ArrayList<>();
+      int[] largeSubtreeRoots = new int[16];
+      int largeSubtreeRootsSize = 0;
+      int rangeStart = -1;
+
+      for (int i = 0; i < size; ) {
+        if (subtreeSizes[i] <= SUBTREE_TASK_SIZE) {
+          if (rangeStart == -1) {
+            rangeStart = i;
+          }
+          i += subtreeSizes[i];
+          if (i - rangeStart >= SUBTREE_TASK_SIZE) {
+            ranges.add(new int[] { rangeStart, i });
+            rangeStart = -1;
+          }
+        } else {
+          if (rangeStart != -1) {
+            ranges.add(new int[] { rangeStart, i });
+            rangeStart = -1;
+          }
+          largeSubtreeRoots = ensureCapacity(largeSubtreeRoots, largeSubtreeRootsSize);
+          largeSubtreeRoots[largeSubtreeRootsSize++] = i;
+          i++;
+        }
+      }
+
+      if (rangeStart != -1) {
+        ranges.add(new int[] { rangeStart, size });
+      }
+
+      // In reverse preorder all descendants of a node are hashed before the node itself.
+      ranges.parallelStream().forEach(range -> {
+        for (int i = range[1] - 1; i >= range[0]; i--) {
+          hashNode(i);
+        }
+      });
+
+      for (int i = largeSubtreeRootsSize - 1; i >= 0; i--) {
+        hashNode(largeSubtreeRoots[i]);
+      }
+    }
+
+    /**
+     * Hash a node, whose children are already hashed, the same way as
+     * {@link AbstractNodeHashing#addHashAndDescendantCount()} does.
+     *
+     * @param index the index of the node
+     */
+    private void hashNode(final int index) {
+      final StructNode node = nodes[index];
+      final int end = index + subtreeSizes[index];
+
+      if (longHashes) {
+        hashNodeLong(node, index, end);
+        return;
+      }
+
+      switch (hashType) {
+        case ROLLING:
+          for (int child = index + 1; child < end; child += subtreeSizes[child]) {
+            addChildHash(node, nodes[child]);
+          }
+          node.setHash(node.getHash() == null || BigInteger.ZERO.equals(node.getHash())
+              ? node.computeHash()
+              : node.getHash().add(node.computeHash()));
+          break;
+        case POSTORDER:
+          BigInteger hash = node.computeHash();
+          for (int child = index + 1; child < end; child += subtreeSizes[child]) {
+            hash = nodes[child].getHash().add(hash.multiply(PRIME));
+          }
+          node.setHash(hash);
+          break;
+        case NONE:
+        default:
+      }
+    }
+
+    private void hashNodeLong(final StructNode node, final int index, final int end) {
+      switch (hashType) {
+        case ROLLING:
+          for (int child = index + 1; child < end; child += subtreeSizes[child]) {
+            addChildLongHash(node, nodes[child]);
+          }
+          node.setLongHash(node.hasLongHash() ? node.getLongHash() + node.computeLongHash() : node.computeLongHash());
+          break;
+        case POSTORDER:
+          long hash = node.computeLongHash();
+          for (int child = index + 1; child < end; child += subtreeSizes[child]) {
+            hash = nodes[child].getLongHash() + hash * LONG_PRIME;
+          }
+          node.setLongHash(hash);
+          break;
+        case NONE:
+        default:
+      }
+    }
+
+    private static int[] ensureCapacity(final int[] array, final int size) {
+      return size == array.length ? Arrays.copyOf(array, size << 1) : array;
+    }
+  }
 }
@@ -3,6 +3,7 @@ package org.sirix.access.trx.node;
 import org.sirix.access.User;
 import org.sirix.access.trx.page.NodePageReadOnlyTrx;
 import org.sirix.api.Move;
+import org.sirix.api.Moved;
 import org.sirix.api.NodeCursor;
 import org.sirix.api.NodeReadOnlyTrx;
 import org.sirix.api.PageReadOnlyTrx;
@@ -41,6 +42,9 @@ public abstract class AbstractNodeReadOnlyTrx<T extends NodeCursor> implements N
   /** The current node. */
   protected ImmutableNode currentNode;
 
+  /** The {@link Move}, which denotes that this cursor has moved (reused, as it's immutable). */
+  private Moved<T> moved;
+
   /**
    * Constructor.
    * @param trxId the transaction ID
@@ -203,6 +207,9 @@ public abstract class AbstractNodeReadOnlyTrx<T extends NodeCursor> implements N
   @Override
   public BigInteger getHash() {
     assertNotClosed();
+    if (pageReadOnlyTrx.getResourceManager().getResourceConfig().hashWidth == HashWidth.BITS_64) {
+      return currentNode.hasLongHash() ? HashWidth.toBigInteger(currentNode.getLongHash()) : null;
+    }
     return currentNode.getHash();
   }
 
@@ -339,6 +346,18 @@ public abstract class AbstractNodeReadOnlyTrx<T extends NodeCursor> implements N
 
   protected abstract T thisInstance();
 
+  /**
+   * Get the {@link Move}, which denotes that this cursor has moved, without allocating a new one on every move.
+   *
+   * @return the move of this cursor
+   */
+  protected final Move<T> moved() {
+    if (moved == null) {
+      moved = Move.moved(thisInstance());
+    }
+    return moved;
+  }
+
   @Override
   public Move<T> moveToLastChild() {
     assertNotClosed();
@@ -349,7 +368,7 @@ public abstract class AbstractNodeReadOnlyTrx<T extends NodeCursor> implements N
         moveToRightSibling();
       }
 
-      return Move.moved(thisInstance());
+      return moved();
     }
     return Move.notMoved();
   }
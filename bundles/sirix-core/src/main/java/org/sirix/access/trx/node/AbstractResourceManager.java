@@ -10,10 +10,12 @@ import org.sirix.api.*;
 import org.sirix.api.json.JsonNodeTrx;
 import org.sirix.api.xml.XmlNodeTrx;
 import org.sirix.cache.BufferManager;
+import org.sirix.cache.PathSummaryCache;
 import org.sirix.exception.SirixException;
 import org.sirix.exception.SirixIOException;
 import org.sirix.exception.SirixThreadedException;
 import org.sirix.exception.SirixUsageException;
+import org.sirix.index.path.summary.PathSummaryData;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.io.IOStorage;
 import org.sirix.io.Writer;
@@ -49,6 +51,16 @@ import static com.google.common.base.Preconditions.checkNotNull;
 public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCursor, W extends NodeTrx & NodeCursor>
     implements ResourceManager<R, W>, InternalResourceManager<R, W> {
 
+  /**
+   * The name of the file, which stores the revisions in which the nodes have been changed.
+   */
+  private static final String NODE_HISTORY_FILENAME = "sirix.history";
+
+  /**
+   * The maximum number of revisions, whose path summary mappings are cached.
+   */
+  private static final int MAX_CACHED_PATH_SUMMARIES = 16;
+
   /**
    * Thread pool.
    */
@@ -99,6 +111,16 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
    */
   final IOStorage storage;
 
+  /**
+   * The revisions, in which the nodes have been changed.
+   */
+  private final NodeHistory nodeHistory;
+
+  /**
+   * The mappings of the path summaries per revision, which are shared by all path summary readers.
+   */
+  private final PathSummaryCache pathSummaryCache;
+
   /**
    * Atomic counter for concurrent generation of node transaction id.
    */
@@ -148,6 +170,9 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
     resourceConfig = checkNotNull(resourceConf);
     this.bufferManager = checkNotNull(bufferManager);
     this.storage = checkNotNull(storage);
+    nodeHistory = new NodeHistory(resourceConfig.resourcePath.resolve(ResourceConfiguration.ResourcePaths.DATA.getPath())
+                                                             .resolve(NODE_HISTORY_FILENAME));
+    pathSummaryCache = new PathSummaryCache(MAX_CACHED_PATH_SUMMARIES);
 
     nodeTrxMap = new ConcurrentHashMap<>();
     pageTrxMap = new ConcurrentHashMap<>();
@@ -414,6 +439,7 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
       nodeTrxMap.clear();
       pageTrxMap.clear();
       nodePageTrxMap.clear();
+      pathSummaryCache.close();
       resourceStore.closeResource(resourceConfig.getResource());
 
       storage.close();
@@ -583,6 +609,18 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
     return resourceConfig;
   }
 
+  @Override
+  public NodeHistory getNodeHistory() {
+    return nodeHistory;
+  }
+
+  @Override
+  public Optional<int[]> getRevisionsOfNode(final long nodeKey) {
+    assertNotClosed();
+
+    return nodeHistory.getRevisions(nodeKey, getMostRecentRevisionNumber());
+  }
+
   @Override
   public int getMostRecentRevisionNumber() {
     assertNotClosed();
@@ -591,11 +629,21 @@ public abstract class AbstractResourceManager<R extends NodeReadOnlyTrx & NodeCu
   }
 
   @Override
-  public synchronized PathSummaryReader openPathSummary(final @Nonnegative int revision) {
+  public PathSummaryReader openPathSummary(final @Nonnegative int revision) {
     assertAccess(revision);
 
     final PageReadOnlyTrx pageReadTrx = beginPageReadOnlyTrx(revision);
-    return PathSummaryReader.getInstance(pageReadTrx, this);
+    final PathSummaryData data = pathSummaryCache.get(revision);
+
+    if (data != null) {
+      return PathSummaryReader.getInstance(pageReadTrx, this, data);
+    }
+
+    // Concurrent readers of the same revision might build the mappings at the same time, which is harmless, as they
+    // are equal.
+    final PathSummaryReader pathSummaryReader = PathSummaryReader.getInstance(pageReadTrx, this);
+    pathSummaryCache.put(revision, pathSummaryReader.share());
+    return pathSummaryReader;
   }
 
   @Override
@@ -0,0 +1,31 @@
+package org.sirix.access.trx.node;
+
+import java.math.BigInteger;
+
+/**
+ * How many bits do the hashes of the nodes have?
+ */
+public enum HashWidth {
+  /**
+   * Hashes of up to 128 bits, which are computed and stored as {@link BigInteger}s (the format of all resources
+   * created before the width has been configurable).
+   */
+  BITS_128,
+
+  /**
+   * 64-bit hashes, which are computed with long arithmetic and stored in eight bytes. The hash of a node is the lower
+   * half of its 128-bit hash, but hashes of ancestors differ, as they are combined modulo 2^64.
+   */
+  BITS_64;
+
+  /**
+   * Get a 64-bit hash as a non-negative {@link BigInteger}, that is the way hashes are exposed by the transactions.
+   *
+   * @param hash the 64-bit hash
+   * @return the unsigned value of the hash
+   */
+  public static BigInteger toBigInteger(final long hash) {
+    final BigInteger value = BigInteger.valueOf(hash);
+    return hash >= 0 ? value : value.add(BigInteger.ONE.shiftLeft(Long.SIZE));
+  }
+}
@@ -24,6 +24,8 @@ public interface InternalResourceManager<R extends NodeReadOnlyTrx & NodeCursor,
 
   Path getCommitFile();
 
+  NodeHistory getNodeHistory();
+
   void assertAccess(int revision);
 
   PageTrx<Long, DataRecord, UnorderedKeyValuePage> createPageTransaction(long trxID, int revision, int i, Abort no,
@@ -0,0 +1,227 @@
+package org.sirix.access.trx.node;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.sirix.exception.SirixIOException;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Records for each revision of a resource the keys of the nodes, which have been created, modified or removed in the
+ * revision. The history is appended to a file during each commit, such that the temporal axes are able to skip the
+ * revisions, in which a node hasn't been changed.
+ *
+ * <p>
+ * Each revision is stored as a record consisting of the revision number, the revision the revision is based on, the
+ * number of changed node keys and the sorted node keys. A revision, which isn't based on its predecessor (a reverted
+ * revision), changes all nodes, which have been changed in between.
+ * </p>
+ *
+ * <p>
+ * The history is only available, if a record has been appended for each revision of the resource, starting with the
+ * bootstrap revision. Otherwise (for instance for resources created with former versions) the history is never
+ * appended to and lookups return {@code Optional.empty()}.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class NodeHistory {
+  /** The size of the header of a record (revision, base revision and number of node keys). */
+  private static final int HEADER_SIZE = 3 * Integer.BYTES;
+
+  /** The history file. */
+  private final Path file;
+
+  /** The offsets of the records in the history file, indexed by revision. */
+  private List<Long> offsets;
+
+  /** The offset behind the last record, that is the size of the valid part of the history file. */
+  private long size;
+
+  /**
+   * Constructor.
+   *
+   * @param file the history file
+   */
+  public NodeHistory(final Path file) {
+    this.file = checkNotNull(file);
+  }
+
+  /**
+   * Append the keys of the nodes, which have been changed in a revision. Records of the same or newer revisions are
+   * replaced.
+   *
+   * @param revision     the committed revision
+   * @param baseRevision the revision the committed revision is based on
+   * @param nodeKeys     the keys of the changed nodes
+   * @throws SirixIOException if an I/O error occurs
+   */
+  public synchronized void append(final int revision, final int baseRevision, final long[] nodeKeys) {
+    checkArgument(revision >= 0, "revision must be >= 0!");
+    checkNotNull(nodeKeys);
+
+    final List<Long> offsets = getOffsets();
+
+    if (offsets.size() < revision) {
+      // The history is incomplete.
+      return;
+    }
+
+    final long[] sortedNodeKeys = nodeKeys.clone();
+    Arrays.sort(sortedNodeKeys);
+
+    final ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + sortedNodeKeys.length * Long.BYTES);
+    buffer.putInt(revision).putInt(baseRevision).putInt(sortedNodeKeys.length);
+    for (final long nodeKey : sortedNodeKeys) {
+      buffer.putLong(nodeKey);
+    }
+    buffer.flip();
+
+    try {
+      Files.createDirectories(file.getParent());
+
+      try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+          StandardOpenOption.WRITE)) {
+        final long offset = revision < offsets.size() ? offsets.get(revision) : size;
+        channel.truncate(offset);
+        while (buffer.hasRemaining()) {
+          channel.write(buffer, offset + buffer.position());
+        }
+
+        offsets.subList(revision, offsets.size()).clear();
+        offsets.add(offset);
+        size = offset + buffer.limit();
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  /**
+   * Get the revisions, in which the node with the given key has been created, modified or removed.
+   *
+   * @param nodeKey            the key of the node
+   * @param mostRecentRevision the most recent revision of the resource
+   * @return the revisions in ascending order or {@code Optional.empty()}, if the history isn't available
+   * @throws SirixIOException if an I/O error occurs
+   */
+  public synchronized Optional<int[]> getRevisions(final long nodeKey, final int mostRecentRevision) {
+    final List<Long> offsets = getOffsets();
+
+    if (offsets.size() <= mostRecentRevision) {
+      return Optional.empty();
+    }
+
+    final int[] revisions = new int[mostRecentRevision + 1];
+    int numberOfRevisions = 0;
+
+    // The sizes of the records are derived from their offsets, such that the records are read from mapped windows of
+    // the file only, instead of reading the header of each record separately.
+    try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long windowStart = 0;
+      MappedByteBuffer window = null;
+
+      for (int revision = 0; revision <= mostRecentRevision; revision++) {
+        final long offset = offsets.get(revision);
+        final long end = revision + 1 < offsets.size() ? offsets.get(revision + 1) : size;
+
+        if (window == null || end > windowStart + window.capacity()) {
+          windowStart = offset;
+          window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, Math.min(size - windowStart, Integer.MAX_VALUE));
+        }
+
+        final int position = (int) (offset - windowStart);
+        final int baseRevision = window.getInt(position + Integer.BYTES);
+        final int numberOfNodeKeys = window.getInt(position + 2 * Integer.BYTES);
+
+        final boolean isReverted = baseRevision < revision - 1 && numberOfRevisions > 0
+            && revisions[numberOfRevisions - 1] > baseRevision;
+
+        if (isReverted || contains(window, position + HEADER_SIZE, numberOfNodeKeys, nodeKey)) {
+          revisions[numberOfRevisions++] = revision;
+        }
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+
+    return Optional.of(Arrays.copyOf(revisions, numberOfRevisions));
+  }
+
+  private static boolean contains(final ByteBuffer window, final int position, final int numberOfNodeKeys,
+      final long nodeKey) {
+    int low = 0;
+    int high = numberOfNodeKeys - 1;
+
+    while (low <= high) {
+      final int mid = (low + high) >>> 1;
+      final long midNodeKey = window.getLong(position + mid * Long.BYTES);
+
+      if (midNodeKey < nodeKey) {
+        low = mid + 1;
+      } else if (midNodeKey > nodeKey) {
+        high = mid - 1;
+      } else {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Get the offsets of the records, which are read from the history file on first access. Records, which are
+   * incomplete or not in sequence (for instance due to a crash during a commit), are ignored.
+   */
+  private List<Long> getOffsets() {
+    if (offsets != null) {
+      return offsets;
+    }
+
+    offsets = new ArrayList<>();
+    size = 0;
+
+    if (!Files.exists(file)) {
+      return offsets;
+    }
+
+    // The headers are read sequentially through a buffer, skipping the node keys.
+    try (final DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+      final long fileSize = Files.size(file);
+      long offset = 0;
+
+      while (offset + HEADER_SIZE <= fileSize) {
+        final int revision = in.readInt();
+        in.readInt();
+        final long recordSize = HEADER_SIZE + (long) in.readInt() * Long.BYTES;
+
+        if (revision != offsets.size() || offset + recordSize > fileSize) {
+          break;
+        }
+
+        in.skipNBytes(recordSize - HEADER_SIZE);
+        offsets.add(offset);
+        offset += recordSize;
+      }
+
+      size = offset;
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+
+    return offsets;
+  }
+}
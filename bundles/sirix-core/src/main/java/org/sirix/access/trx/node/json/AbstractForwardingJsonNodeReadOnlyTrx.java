@@ -299,6 +299,16 @@ public abstract class AbstractForwardingJsonNodeReadOnlyTrx extends ForwardingOb
     return delegate().moveTo(key);
   }
 
+  @Override
+  public Move<? extends JsonNodeReadOnlyTrx> moveToObjectKey(String name) {
+    return delegate().moveToObjectKey(name);
+  }
+
+  @Override
+  public Move<? extends JsonNodeReadOnlyTrx> moveToChild(long index) {
+    return delegate().moveToChild(index);
+  }
+
   @Override
   public Move<? extends JsonNodeReadOnlyTrx> moveToDocumentRoot() {
     return delegate().moveToDocumentRoot();
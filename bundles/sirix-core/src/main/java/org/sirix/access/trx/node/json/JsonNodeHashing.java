@@ -2,6 +2,7 @@ package org.sirix.access.trx.node.json;
 
 import org.sirix.access.trx.node.AbstractNodeHashing;
 import org.sirix.access.trx.node.HashType;
+import org.sirix.access.trx.node.HashWidth;
 import org.sirix.api.PageTrx;
 import org.sirix.node.interfaces.DataRecord;
 import org.sirix.node.interfaces.StructNode;
@@ -16,11 +17,12 @@ final class JsonNodeHashing extends AbstractNodeHashing {
    * Constructor.
    *
    * @param hashType the hash type used
+   * @param hashWidth the width of the hashes
    * @param nodeReadOnlyTrx the internal read-only node trx
    * @param pageWriteTrx the page trx
    */
-  JsonNodeHashing(final HashType hashType, final InternalJsonNodeReadOnlyTrx nodeReadOnlyTrx, final PageTrx<Long, DataRecord, UnorderedKeyValuePage> pageWriteTrx) {
-    super(hashType, nodeReadOnlyTrx, pageWriteTrx);
+  JsonNodeHashing(final HashType hashType, final HashWidth hashWidth, final InternalJsonNodeReadOnlyTrx nodeReadOnlyTrx, final PageTrx<Long, DataRecord, UnorderedKeyValuePage> pageWriteTrx) {
+    super(hashType, hashWidth, nodeReadOnlyTrx, pageWriteTrx);
     this.nodeReadOnlyTrx = nodeReadOnlyTrx;
   }
 
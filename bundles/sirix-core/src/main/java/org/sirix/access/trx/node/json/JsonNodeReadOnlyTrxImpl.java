@@ -30,6 +30,7 @@ import org.sirix.node.interfaces.immutable.ImmutableNode;
 import org.sirix.node.json.*;
 import org.sirix.page.PageKind;
 import org.sirix.settings.Constants;
+import org.sirix.settings.Fixed;
 
 import javax.annotation.Nonnegative;
 import java.io.IOException;
@@ -38,7 +39,6 @@ import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -208,27 +208,114 @@ public final class JsonNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<JsonN
 
     // Remember old node and fetch new one.
     final ImmutableNode oldNode = currentNode;
-    Optional<? extends DataRecord> newNode;
+    DataRecord newNode;
     try {
       // Immediately return node from item list if node key negative.
       if (nodeKey < 0) {
-        newNode = Optional.empty();
+        newNode = null;
       } else {
-        newNode = pageReadOnlyTrx.getRecord(nodeKey, PageKind.RECORDPAGE, -1);
+        newNode = pageReadOnlyTrx.getRecordOrNull(nodeKey, PageKind.RECORDPAGE, -1);
       }
     } catch (final SirixIOException | UncheckedIOException e) {
-      newNode = Optional.empty();
+      newNode = null;
     }
 
-    if (newNode.isPresent()) {
-      currentNode = (Node) newNode.get();
-      return Move.moved(this);
+    // Key directories of object nodes are stored in the record pages as well, but aren't nodes.
+    if (newNode instanceof Node) {
+      currentNode = (Node) newNode;
+      return moved();
     } else {
       currentNode = oldNode;
       return Move.notMoved();
     }
   }
 
+  @Override
+  public Move<JsonNodeReadOnlyTrx> moveToObjectKey(final String name) {
+    assertNotClosed();
+    checkNotNull(name);
+
+    if (currentNode.getKind() != NodeKind.OBJECT) {
+      return Move.notMoved();
+    }
+
+    final ObjectNode objectNode = (ObjectNode) currentNode;
+
+    if (objectNode.hasKeyDirectory()) {
+      final var keyDirectory = (ObjectKeyDirectory) pageReadOnlyTrx.getRecordOrNull(objectNode.getKeyDirectoryKey(),
+                                                                                     PageKind.RECORDPAGE,
+                                                                                     -1);
+
+      if (keyDirectory != null) {
+        // Names with the same hash code are distinguished by comparing them.
+        for (final long objectKeyNodeKey : keyDirectory.getNodeKeys(ObjectKeyDirectory.hash(name))) {
+          if (moveTo(objectKeyNodeKey).hasMoved() && name.equals(getName().getLocalName())) {
+            return moved();
+          }
+        }
+
+        currentNode = objectNode;
+        return Move.notMoved();
+      }
+    }
+
+    if (moveToFirstChild().hasMoved()) {
+      do {
+        if (name.equals(getName().getLocalName())) {
+          return moved();
+        }
+      } while (moveToRightSibling().hasMoved());
+    }
+
+    currentNode = objectNode;
+    return Move.notMoved();
+  }
+
+  @Override
+  public Move<JsonNodeReadOnlyTrx> moveToChild(final long index) {
+    assertNotClosed();
+
+    if (index < 0) {
+      return Move.notMoved();
+    }
+
+    final ImmutableNode parentNode = currentNode;
+    long firstNodeKey = getFirstChildKey();
+    long numberOfMoves = index;
+
+    if (parentNode.getKind() == NodeKind.ARRAY && ((ArrayNode) parentNode).hasChunkDirectory()) {
+      final var chunkDirectory =
+          (ArrayChunkDirectory) pageReadOnlyTrx.getRecordOrNull(((ArrayNode) parentNode).getChunkDirectoryKey(),
+                                                                PageKind.RECORDPAGE,
+                                                                -1);
+
+      if (chunkDirectory != null) {
+        final int chunk = chunkDirectory.getChunk(index);
+
+        if (chunk == -1) {
+          return Move.notMoved();
+        }
+
+        firstNodeKey = chunkDirectory.getFirstNodeKey(chunk);
+        numberOfMoves = index - chunkDirectory.getFirstPosition(chunk);
+      }
+    }
+
+    if (firstNodeKey == Fixed.NULL_NODE_KEY.getStandardProperty() || !moveTo(firstNodeKey).hasMoved()) {
+      currentNode = parentNode;
+      return Move.notMoved();
+    }
+
+    for (long i = 0; i < numberOfMoves; i++) {
+      if (!moveToRightSibling().hasMoved()) {
+        currentNode = parentNode;
+        return Move.notMoved();
+      }
+    }
+
+    return moved();
+  }
+
   @Override
   public String getValue() {
     assertNotClosed();
@@ -32,6 +32,7 @@ import org.sirix.access.ResourceConfiguration;
 import org.sirix.access.User;
 import org.sirix.access.trx.node.CommitCredentials;
 import org.sirix.access.trx.node.HashType;
+import org.sirix.access.trx.node.HashWidth;
 import org.sirix.access.trx.node.InternalResourceManager;
 import org.sirix.access.trx.node.InternalResourceManager.Abort;
 import org.sirix.access.trx.node.json.objectvalue.ObjectRecordValue;
@@ -129,6 +130,11 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
    */
   private JsonNodeHashing nodeHashing;
 
+  /**
+   * Determines if the subtrees of bulk inserted nodes are hashed in parallel.
+   */
+  private boolean hashSubtreesInParallel = true;
+
   /**
    * Modification counter.
    */
@@ -139,6 +145,11 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
    */
   private final HashType hashType;
 
+  /**
+   * Width of the hashes.
+   */
+  private final HashWidth hashWidth;
+
   /**
    * Scheduled executor service.
    */
@@ -220,6 +231,16 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
    */
   private final boolean storeChildCount;
 
+  /**
+   * Determines if object nodes store a directory of their object keys.
+   */
+  private final boolean storeObjectKeyDirectories;
+
+  /**
+   * Determines if array nodes store a directory of chunks of their elements.
+   */
+  private final boolean storeArrayChunkDirectories;
+
   private boolean canRemoveValue;
 
   private int beforeBulkInsertionRevisionNumber;
@@ -256,6 +277,8 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
     indexController = resourceManager.getWtxIndexController(nodeReadOnlyTrx.getPageTrx().getRevisionNumber());
     pageWriteTrx = (PageTrx<Long, DataRecord, UnorderedKeyValuePage>) nodeReadOnlyTrx.getPageTrx();
     storeChildCount = this.resourceManager.getResourceConfig().getStoreChildCount();
+    storeObjectKeyDirectories = this.resourceManager.getResourceConfig().storeObjectKeyDirectories;
+    storeArrayChunkDirectories = this.resourceManager.getResourceConfig().storeArrayChunkDirectories;
 
     this.nodeFactory = Preconditions.checkNotNull(nodeFactory);
 
@@ -277,6 +300,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
     lock = maxTime > 0 ? new ReentrantLock() : null;
 
     hashType = resourceManager.getResourceConfig().hashType;
+    hashWidth = resourceManager.getResourceConfig().hashWidth;
     useTextCompression = resourceManager.getResourceConfig().useTextCompression;
 
     deweyIDManager = new JsonDeweyIDManager(this);
@@ -433,12 +457,36 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
   }
 
   /**
-   * Modifying hashes in a postorder-traversal.
+   * Modifying hashes in a postorder-traversal. The subtrees of the children of the current node are hashed in
+   * parallel.
    *
    * @throws SirixIOException if an I/O error occurs
    */
   private void postOrderTraversalHashes() {
-    new PostOrderAxis(this, IncludeSelf.YES).forEach((unused) -> nodeHashing.addHashAndDescendantCount());
+    if (hashSubtreesInParallel) {
+      nodeHashing.addHashesAndDescendantCountsInParallel();
+    } else {
+      new PostOrderAxis(this, IncludeSelf.YES).forEach((unused) -> nodeHashing.addHashAndDescendantCount());
+    }
+  }
+
+  /**
+   * Determine if the hashes and descendant counts of bulk inserted subtrees are computed in parallel (the default) or
+   * in a single postorder traversal.
+   *
+   * @param hashSubtreesInParallel {@code true}, if the subtrees are hashed in parallel, {@code false} otherwise
+   */
+  void setHashSubtreesInParallel(final boolean hashSubtreesInParallel) {
+    this.hashSubtreesInParallel = hashSubtreesInParallel;
+  }
+
+  /**
+   * Set the maximum number of nodes of bulk inserted subtrees, which are kept in memory to hash them in parallel.
+   *
+   * @param maxHashBatchSize the maximum number of nodes
+   */
+  void setMaxHashBatchSize(final int maxHashBatchSize) {
+    nodeHashing.setMaxBatchSize(maxHashBatchSize);
   }
 
   @Override
@@ -542,6 +590,8 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
 
       adaptNodesAndHashesForInsertAsFirstChild(node);
 
+      addToKeyDirectory(parentKey, key, node.getNodeKey());
+
       nodeReadOnlyTrx.setCurrentNode(node);
 
       indexController.notifyChange(ChangeType.INSERT, node, pathNodeKey);
@@ -572,6 +622,74 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
     }
   }
 
+  /**
+   * Add an object key to the key directory of its object, which is created, once the first object key is added.
+   *
+   * @param objectNodeKey    the node key of the object
+   * @param name             the name of the object key
+   * @param objectKeyNodeKey the node key of the object key
+   */
+  private void addToKeyDirectory(final long objectNodeKey, final String name, final long objectKeyNodeKey) {
+    if (!storeObjectKeyDirectories) {
+      return;
+    }
+
+    ObjectNode objectNode = (ObjectNode) pageWriteTrx.getRecordOrNull(objectNodeKey, PageKind.RECORDPAGE, -1);
+
+    if (!objectNode.hasKeyDirectory()) {
+      final long keyDirectoryKey = pageWriteTrx.getActualRevisionRootPage().getMaxNodeKey() + 1;
+      pageWriteTrx.createEntry(keyDirectoryKey, new ObjectKeyDirectory(keyDirectoryKey), PageKind.RECORDPAGE, -1);
+      objectNode = (ObjectNode) pageWriteTrx.prepareEntryForModification(objectNodeKey, PageKind.RECORDPAGE, -1);
+      objectNode.setKeyDirectoryKey(keyDirectoryKey);
+    }
+
+    final ObjectKeyDirectory keyDirectory =
+        (ObjectKeyDirectory) pageWriteTrx.prepareEntryForModification(objectNode.getKeyDirectoryKey(),
+                                                                      PageKind.RECORDPAGE,
+                                                                      -1);
+    keyDirectory.add(ObjectKeyDirectory.hash(name), objectKeyNodeKey);
+  }
+
+  /**
+   * Remove an object key from the key directory of its object.
+   *
+   * @param objectNodeKey    the node key of the object
+   * @param name             the name of the object key
+   * @param objectKeyNodeKey the node key of the object key
+   */
+  private void removeFromKeyDirectory(final long objectNodeKey, final String name, final long objectKeyNodeKey) {
+    if (!storeObjectKeyDirectories) {
+      return;
+    }
+
+    final ObjectNode objectNode = (ObjectNode) pageWriteTrx.getRecordOrNull(objectNodeKey, PageKind.RECORDPAGE, -1);
+
+    if (objectNode.hasKeyDirectory()) {
+      final ObjectKeyDirectory keyDirectory =
+          (ObjectKeyDirectory) pageWriteTrx.prepareEntryForModification(objectNode.getKeyDirectoryKey(),
+                                                                        PageKind.RECORDPAGE,
+                                                                        -1);
+      keyDirectory.remove(ObjectKeyDirectory.hash(name), objectKeyNodeKey);
+    }
+  }
+
+  /**
+   * Remove the key directory of an object, which is removed.
+   *
+   * @param objectNodeKey the node key of the object
+   */
+  private void removeKeyDirectory(final long objectNodeKey) {
+    if (!storeObjectKeyDirectories) {
+      return;
+    }
+
+    final ObjectNode objectNode = (ObjectNode) pageWriteTrx.getRecordOrNull(objectNodeKey, PageKind.RECORDPAGE, -1);
+
+    if (objectNode.hasKeyDirectory()) {
+      pageWriteTrx.removeEntry(objectNode.getKeyDirectoryKey(), PageKind.RECORDPAGE, -1);
+    }
+  }
+
   private void setFirstChildOfObjectKeyNode(final ObjectKeyNode node) {
     final ObjectKeyNode objectKeyNode =
         (ObjectKeyNode) pageWriteTrx.prepareEntryForModification(node.getNodeKey(), PageKind.RECORDPAGE, -1);
@@ -639,6 +757,8 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
 
       insertAsRightSibling(node);
 
+      addToKeyDirectory(parentKey, key, node.getNodeKey());
+
       insertValue(value);
 
       setFirstChildOfObjectKeyNode(node);
@@ -1132,12 +1252,26 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
 
       canRemoveValue = false;
 
+      if (node.getKind() == NodeKind.OBJECT_KEY) {
+        removeFromKeyDirectory(node.getParentKey(), getName().getLocalName(), node.getNodeKey());
+      } else if (node.getKind() == NodeKind.OBJECT) {
+        removeKeyDirectory(node.getNodeKey());
+      } else if (node.getKind() == NodeKind.ARRAY) {
+        removeChunkDirectory(node.getNodeKey());
+      }
+
       // Remove subtree.
       for (final var axis = new PostOrderAxis(this); axis.hasNext(); ) {
         axis.next();
 
         final var currentNode = axis.getCursor().getNode();
 
+        if (currentNode.getKind() == NodeKind.OBJECT) {
+          removeKeyDirectory(currentNode.getNodeKey());
+        } else if (currentNode.getKind() == NodeKind.ARRAY) {
+          removeChunkDirectory(currentNode.getNodeKey());
+        }
+
         // Remove name.
         removeName();
 
@@ -1246,6 +1380,10 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       ObjectKeyNode node = (ObjectKeyNode) nodeReadOnlyTrx.getCurrentNode();
       final BigInteger oldHash = node.computeHash();
 
+      // Adapt the key directory of the object.
+      removeFromKeyDirectory(node.getParentKey(), getName().getLocalName(), node.getNodeKey());
+      addToKeyDirectory(node.getParentKey(), key, node.getNodeKey());
+
       // Remove old keys from mapping.
       final NodeKind nodeKind = node.getKind();
       final int oldNameKey = node.getNameKey();
@@ -1445,7 +1583,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
       nodeReadOnlyTrx.setPageReadTransaction(pageTrx);
       resourceManager.setNodePageWriteTransaction(getId(), pageTrx);
 
-      nodeHashing = new JsonNodeHashing(hashType, nodeReadOnlyTrx, pageTrx);
+      nodeHashing = new JsonNodeHashing(hashType, hashWidth, nodeReadOnlyTrx, pageTrx);
 
       // Reset node factory.
       nodeFactory = null;
@@ -1570,7 +1708,7 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
     nodeFactory = new JsonNodeFactoryImpl(hashFunction, pageWriteTrx);
     final boolean isBulkInsert = nodeHashing.isBulkInsert();
     nodeHashing = null;
-    nodeHashing = new JsonNodeHashing(hashType, nodeReadOnlyTrx, pageWriteTrx);
+    nodeHashing = new JsonNodeHashing(hashType, hashWidth, nodeReadOnlyTrx, pageWriteTrx);
     nodeHashing.setBulkInsert(isBulkInsert);
 
     updateOperationsUnordered.clear();
@@ -1642,6 +1780,165 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
                                                                 -1);
       leftSiblingNode.setRightSiblingKey(structNode.getNodeKey());
     }
+
+    if (storeArrayChunkDirectories && parent.getKind() == NodeKind.ARRAY) {
+      addToChunkDirectory((ArrayNode) parent, structNode);
+    }
+  }
+
+  /**
+   * Add an element to the chunk directory of its array, which is created, once the first element is inserted. The
+   * element is added to the chunk of its left sibling, or to the first chunk, if it's the first element. Chunks,
+   * which exceed {@link ArrayChunkDirectory#MAX_CHUNK_SIZE} elements, are split in halves.
+   *
+   * @param arrayNode the array, which has been prepared for modification
+   * @param element   the inserted element, whose siblings already reference it
+   */
+  private void addToChunkDirectory(final ArrayNode arrayNode, final StructNode element) {
+    if (!arrayNode.hasChunkDirectory()) {
+      final long chunkDirectoryKey = pageWriteTrx.getActualRevisionRootPage().getMaxNodeKey() + 1;
+      pageWriteTrx.createEntry(chunkDirectoryKey,
+                               new ArrayChunkDirectory(chunkDirectoryKey),
+                               PageKind.RECORDPAGE,
+                               -1);
+      arrayNode.setChunkDirectoryKey(chunkDirectoryKey);
+    }
+
+    final ArrayChunkDirectory chunkDirectory =
+        (ArrayChunkDirectory) pageWriteTrx.prepareEntryForModification(arrayNode.getChunkDirectoryKey(),
+                                                                       PageKind.RECORDPAGE,
+                                                                       -1);
+
+    int chunk;
+    int offset;
+
+    if (element.hasLeftSibling()) {
+      if (!chunkDirectory.isLocatedElement(element.getLeftSiblingKey())) {
+        locateInChunkDirectory(chunkDirectory,
+                               (StructNode) pageWriteTrx.getRecordOrNull(element.getLeftSiblingKey(),
+                                                                         PageKind.RECORDPAGE,
+                                                                         -1));
+      }
+      chunk = chunkDirectory.getLocatedChunk();
+      offset = chunkDirectory.getLocatedOffset() + 1;
+      chunkDirectory.setSize(chunk, chunkDirectory.getSize(chunk) + 1);
+    } else if (chunkDirectory.getNumberOfChunks() == 0) {
+      chunk = 0;
+      offset = 0;
+      chunkDirectory.insertChunk(chunk, element.getNodeKey(), 1);
+    } else {
+      chunk = 0;
+      offset = 0;
+      chunkDirectory.setFirstNodeKey(chunk, element.getNodeKey());
+      chunkDirectory.setSize(chunk, chunkDirectory.getSize(chunk) + 1);
+    }
+
+    final int size = chunkDirectory.getSize(chunk);
+
+    if (size > ArrayChunkDirectory.MAX_CHUNK_SIZE) {
+      final int half = size / 2;
+      StructNode firstNodeOfNewChunk =
+          (StructNode) pageWriteTrx.getRecordOrNull(chunkDirectory.getFirstNodeKey(chunk), PageKind.RECORDPAGE, -1);
+      for (int i = 0; i < half; i++) {
+        firstNodeOfNewChunk = (StructNode) pageWriteTrx.getRecordOrNull(firstNodeOfNewChunk.getRightSiblingKey(),
+                                                                        PageKind.RECORDPAGE,
+                                                                        -1);
+      }
+      chunkDirectory.setSize(chunk, half);
+      chunkDirectory.insertChunk(chunk + 1, firstNodeOfNewChunk.getNodeKey(), size - half);
+
+      if (offset >= half) {
+        chunk++;
+        offset -= half;
+      }
+    }
+
+    // Subsequent appends after this element don't have to locate it.
+    chunkDirectory.setLocatedElement(element.getNodeKey(), chunk, offset);
+  }
+
+  /**
+   * Remove an element from the chunk directory of its array, if its parent is an array. Empty chunks are removed and a chunk is merged with its
+   * right neighbour, if both chunks together have at most half of {@link ArrayChunkDirectory#MAX_CHUNK_SIZE}
+   * elements.
+   *
+   * @param element the element to remove, whose siblings still reference it
+   */
+  private void removeFromChunkDirectory(final StructNode element) {
+    final StructNode parent =
+        (StructNode) pageWriteTrx.getRecordOrNull(element.getParentKey(), PageKind.RECORDPAGE, -1);
+
+    if (parent.getKind() != NodeKind.ARRAY || !((ArrayNode) parent).hasChunkDirectory()) {
+      return;
+    }
+
+    final ArrayNode arrayNode = (ArrayNode) parent;
+
+    final ArrayChunkDirectory chunkDirectory =
+        (ArrayChunkDirectory) pageWriteTrx.prepareEntryForModification(arrayNode.getChunkDirectoryKey(),
+                                                                       PageKind.RECORDPAGE,
+                                                                       -1);
+
+    locateInChunkDirectory(chunkDirectory, element);
+    final int chunk = chunkDirectory.getLocatedChunk();
+    final int size = chunkDirectory.getSize(chunk) - 1;
+
+    if (size == 0) {
+      chunkDirectory.removeChunk(chunk);
+      return;
+    }
+
+    if (chunkDirectory.getFirstNodeKey(chunk) == element.getNodeKey()) {
+      chunkDirectory.setFirstNodeKey(chunk, element.getRightSiblingKey());
+    }
+    chunkDirectory.setSize(chunk, size);
+
+    if (chunk + 1 < chunkDirectory.getNumberOfChunks()
+        && size + chunkDirectory.getSize(chunk + 1) <= ArrayChunkDirectory.MAX_CHUNK_SIZE / 2) {
+      chunkDirectory.setSize(chunk, size + chunkDirectory.getSize(chunk + 1));
+      chunkDirectory.removeChunk(chunk + 1);
+    }
+  }
+
+  /**
+   * Locate an element in a chunk directory by moving to its left siblings until the first element of a chunk is
+   * reached. The chunk and the offset of the element are stored as the located element of the directory.
+   *
+   * @param chunkDirectory the chunk directory
+   * @param element        the element
+   */
+  private void locateInChunkDirectory(final ArrayChunkDirectory chunkDirectory, final StructNode element) {
+    if (chunkDirectory.isLocatedElement(element.getNodeKey())) {
+      return;
+    }
+
+    StructNode node = element;
+    int offset = 0;
+    int chunk;
+
+    while ((chunk = chunkDirectory.getChunkOfFirstNodeKey(node.getNodeKey())) == -1) {
+      node = (StructNode) pageWriteTrx.getRecordOrNull(node.getLeftSiblingKey(), PageKind.RECORDPAGE, -1);
+      offset++;
+    }
+
+    chunkDirectory.setLocatedElement(element.getNodeKey(), chunk, offset);
+  }
+
+  /**
+   * Remove the chunk directory of an array, which is removed.
+   *
+   * @param arrayNodeKey the node key of the array
+   */
+  private void removeChunkDirectory(final long arrayNodeKey) {
+    if (!storeArrayChunkDirectories) {
+      return;
+    }
+
+    final ArrayNode arrayNode = (ArrayNode) pageWriteTrx.getRecordOrNull(arrayNodeKey, PageKind.RECORDPAGE, -1);
+
+    if (arrayNode.hasChunkDirectory()) {
+      pageWriteTrx.removeEntry(arrayNode.getChunkDirectoryKey(), PageKind.RECORDPAGE, -1);
+    }
   }
 
   // ////////////////////////////////////////////////////////////
@@ -1661,6 +1958,11 @@ final class JsonNodeTrxImpl extends AbstractForwardingJsonNodeReadOnlyTrx implem
   private void adaptForRemove(final StructNode oldNode) {
     assert oldNode != null;
 
+    // Adapt the chunk directory of the array, while the siblings still reference the old node.
+    if (storeArrayChunkDirectories) {
+      removeFromChunkDirectory(oldNode);
+    }
+
     // Adapt left sibling node if there is one.
     if (oldNode.hasLeftSibling()) {
       final StructNode leftSibling =
@@ -109,7 +109,8 @@ public final class JsonResourceManagerImpl extends AbstractResourceManager<JsonN
     }
 
     return new JsonNodeTrxImpl(this, nodeReadTrx, pathSummaryWriter, maxNodeCount, timeUnit, maxTime,
-        new JsonNodeHashing(getResourceConfig().hashType, nodeReadTrx, pageWriteTrx), nodeFactory);
+        new JsonNodeHashing(getResourceConfig().hashType, getResourceConfig().hashWidth, nodeReadTrx, pageWriteTrx),
+        nodeFactory);
   }
 
   @SuppressWarnings("unchecked")
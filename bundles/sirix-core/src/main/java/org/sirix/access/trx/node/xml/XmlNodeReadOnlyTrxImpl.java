@@ -57,7 +57,6 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.UncheckedIOException;
-import java.math.BigInteger;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -119,25 +118,25 @@ public final class XmlNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<XmlNod
 
     // Remember old node and fetch new one.
     final ImmutableXmlNode oldNode = (ImmutableXmlNode) currentNode;
-    Optional<? extends DataRecord> newNode;
+    DataRecord newNode;
     try {
       // Immediately return node from item list if node key negative.
       if (nodeKey < 0) {
         if (itemList.size() > 0) {
-          newNode = itemList.getItem(nodeKey);
+          newNode = itemList.getItem(nodeKey).orElse(null);
         } else {
-          newNode = Optional.empty();
+          newNode = null;
         }
       } else {
-        newNode = getPageTransaction().getRecord(nodeKey, PageKind.RECORDPAGE, -1);
+        newNode = getPageTransaction().getRecordOrNull(nodeKey, PageKind.RECORDPAGE, -1);
       }
     } catch (final SirixIOException | UncheckedIOException e) {
-      newNode = Optional.empty();
+      newNode = null;
     }
 
-    if (newNode.isPresent()) {
-      currentNode = (ImmutableXmlNode) newNode.get();
-      return Move.moved(this);
+    if (newNode != null) {
+      currentNode = (ImmutableXmlNode) newNode;
+      return moved();
     } else {
       currentNode = oldNode;
       return Move.notMoved();
@@ -581,12 +580,6 @@ public final class XmlNodeReadOnlyTrxImpl extends AbstractNodeReadOnlyTrx<XmlNod
     return currentNode instanceof ValueNode;
   }
 
-  @Override
-  public BigInteger getHash() {
-    assertNotClosed();
-    return currentNode.getHash();
-  }
-
   @Override
   public byte[] getRawValue() {
     assertNotClosed();
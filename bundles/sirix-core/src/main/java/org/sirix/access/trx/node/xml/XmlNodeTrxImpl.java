@@ -28,6 +28,7 @@ import org.brackit.xquery.atomic.QNm;
 import org.sirix.access.User;
 import org.sirix.access.trx.node.CommitCredentials;
 import org.sirix.access.trx.node.HashType;
+import org.sirix.access.trx.node.HashWidth;
 import org.sirix.access.trx.node.InternalResourceManager;
 import org.sirix.access.trx.node.InternalResourceManager.Abort;
 import org.sirix.access.trx.node.xml.XmlIndexController.ChangeType;
@@ -115,6 +116,9 @@ final class XmlNodeTrxImpl extends AbstractForwardingXmlNodeReadOnlyTrx implemen
   /** Hash kind of Structure. */
   private final HashType hashType;
 
+  /** Width of the hashes. */
+  private final HashWidth hashWidth;
+
   /** Scheduled executor service. */
   private final ScheduledExecutorService threadPool =
       Executors.newScheduledThreadPool(1);
@@ -214,6 +218,7 @@ final class XmlNodeTrxImpl extends AbstractForwardingXmlNodeReadOnlyTrx implemen
         : null;
 
     hashType = resourceManager.getResourceConfig().hashType;
+    hashWidth = resourceManager.getResourceConfig().hashWidth;
     storeDeweyIDs = resourceManager.getResourceConfig().areDeweyIDsStored;
     useTextCompression = resourceManager.getResourceConfig().useTextCompression;
 
@@ -947,7 +952,7 @@ final class XmlNodeTrxImpl extends AbstractForwardingXmlNodeReadOnlyTrx implemen
           moveTo(rightSibKey);
           if (getCurrentNode().getKind() == NodeKind.TEXT) {
             setValue(value + getValue());
-            nodeHashing.adaptHashedWithUpdate(getCurrentNode().getHash());
+            nodeHashing.adaptHashedWithUpdate(getHash());
             return this;
           }
           moveTo(parentKey);
@@ -1520,7 +1525,7 @@ final class XmlNodeTrxImpl extends AbstractForwardingXmlNodeReadOnlyTrx implemen
       nodeReadOnlyTrx.setPageReadTransaction(pageTrx);
       resourceManager.setNodePageWriteTransaction(getId(), pageTrx);
 
-      nodeHashing = new XmlNodeHashing(hashType, nodeReadOnlyTrx, pageTrx);
+      nodeHashing = new XmlNodeHashing(hashType, hashWidth, nodeReadOnlyTrx, pageTrx);
 
       // Reset node factory.
       nodeFactory = null;
@@ -2292,7 +2297,7 @@ final class XmlNodeTrxImpl extends AbstractForwardingXmlNodeReadOnlyTrx implemen
 
     nodeFactory = null;
     nodeFactory = new XmlNodeFactoryImpl(resourceManager.getResourceConfig().nodeHashFunction, pageTrx);
-    nodeHashing = new XmlNodeHashing(hashType, nodeReadOnlyTrx, pageTrx);
+    nodeHashing = new XmlNodeHashing(hashType, hashWidth, nodeReadOnlyTrx, pageTrx);
 
     reInstantiateIndexes();
   }
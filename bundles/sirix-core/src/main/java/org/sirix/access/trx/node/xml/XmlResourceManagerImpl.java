@@ -108,7 +108,8 @@ public final class XmlResourceManagerImpl extends AbstractResourceManager<XmlNod
     }
 
     return new XmlNodeTrxImpl(this, nodeReadTrx, pathSummaryWriter, maxNodeCount, timeUnit, maxTime,
-        new XmlNodeHashing(getResourceConfig().hashType, nodeReadTrx, pageWriteTrx), nodeFactory);
+        new XmlNodeHashing(getResourceConfig().hashType, getResourceConfig().hashWidth, nodeReadTrx, pageWriteTrx),
+        nodeFactory);
   }
 
   @Override
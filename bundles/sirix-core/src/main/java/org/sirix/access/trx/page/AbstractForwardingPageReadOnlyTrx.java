@@ -102,6 +102,12 @@ public abstract class AbstractForwardingPageReadOnlyTrx extends ForwardingObject
     return delegate().getRecord(key, page, index);
   }
 
+  @Override
+  public DataRecord getRecordOrNull(@Nonnegative long key, @Nonnull PageKind page, @Nonnegative int index)
+      throws SirixIOException {
+    return delegate().getRecordOrNull(key, page, index);
+  }
+
   @Override
   public long pageKey(@Nonnegative long recordKey, @Nonnull PageKind pageKind) {
     return delegate().pageKey(recordKey, pageKind);
@@ -48,7 +48,7 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -115,9 +115,35 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
   private final NamePage namePage;
 
   /**
-   * Caches the most recently read record page.
+   * The number of most recently read record pages, which are cached by the transaction.
    */
-  private RecordPage mostRecentlyReadRecordPage;
+  private static final int MOST_RECENTLY_READ_RECORD_PAGES = 8;
+
+  /**
+   * Caches the most recently read record pages. The slots are reused, such that looking up a record of one of these
+   * pages doesn't allocate any objects.
+   */
+  private final RecordPage[] mostRecentlyReadRecordPages;
+
+  /**
+   * The slot of {@link #mostRecentlyReadRecordPages}, which is replaced next.
+   */
+  private int nextRecordPageSlot;
+
+  /**
+   * Loads page fragments concurrently.
+   */
+  private final PageFragmentLoader pageFragmentLoader;
+
+  /**
+   * Record pages, which are currently read ahead (only used by read-only transactions).
+   */
+  private final Map<IndexLogKey, CompletableFuture<byte[]>> readAheadRecordPages;
+
+  /**
+   * The key of the most recently loaded record page, used to detect sequential scans.
+   */
+  private IndexLogKey mostRecentlyLoadedRecordPageKey;
 
   /**
    * Standard constructor.
@@ -146,6 +172,13 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
     this.resourceConfig = resourceManager.getResourceConfig();
     this.pageReader = checkNotNull(reader);
     this.uberPage = checkNotNull(uberPage);
+    this.pageFragmentLoader = new PageFragmentLoader(reader, this);
+    this.readAheadRecordPages = new HashMap<>();
+    this.mostRecentlyReadRecordPages = new RecordPage[MOST_RECENTLY_READ_RECORD_PAGES];
+
+    for (int i = 0; i < MOST_RECENTLY_READ_RECORD_PAGES; i++) {
+      mostRecentlyReadRecordPages[i] = new RecordPage();
+    }
 
     revisionNumber = revision;
     rootPage = revisionRootPageReader.loadRevisionRootPage(this, revision);
@@ -216,25 +249,41 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
 
   @Override
   public Optional<DataRecord> getRecord(final long nodeKey, final PageKind pageKind, final @Nonnegative int index) {
+    return Optional.ofNullable(getRecordOrNull(nodeKey, pageKind, index));
+  }
+
+  @Override
+  public DataRecord getRecordOrNull(final long nodeKey, final PageKind pageKind, final @Nonnegative int index) {
     checkNotNull(pageKind);
     assertNotClosed();
 
     if (nodeKey == Fixed.NULL_NODE_KEY.getStandardProperty()) {
-      return Optional.empty();
+      return null;
     }
 
     final long recordPageKey = pageKey(nodeKey, pageKind);
 
-    // $CASES-OMITTED$
-    final Optional<Page> page = switch (pageKind) {
-      case RECORDPAGE, PATHSUMMARYPAGE, PATHPAGE, CASPAGE, NAMEPAGE -> getRecordPage(new IndexLogKey(pageKind,
-                                                                                                     recordPageKey,
-                                                                                                     index,
-                                                                                                     revisionNumber));
-      default -> throw new IllegalStateException();
-    };
+    // Look up the most recently read record pages first, which doesn't allocate.
+    Page page = getMostRecentlyReadRecordPage(recordPageKey, index, pageKind);
+
+    if (page == null) {
+      // $CASES-OMITTED$
+      final Optional<Page> recordPage = switch (pageKind) {
+        case RECORDPAGE, PATHSUMMARYPAGE, PATHPAGE, CASPAGE, NAMEPAGE -> getRecordPage(new IndexLogKey(pageKind,
+                                                                                                       recordPageKey,
+                                                                                                       index,
+                                                                                                       revisionNumber));
+        default -> throw new IllegalStateException();
+      };
+
+      if (recordPage.isEmpty()) {
+        return null;
+      }
 
-    return page.map(thePage -> ((UnorderedKeyValuePage) thePage).getValue(nodeKey)).flatMap(this::checkItemIfDeleted);
+      page = recordPage.get();
+    }
+
+    return checkItemIfDeleted(((UnorderedKeyValuePage) page).getValue(nodeKey));
   }
 
   /**
@@ -243,11 +292,11 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
    * @param toCheck node to check
    * @return the {@code node} if it is valid, {@code null} otherwise
    */
-  final Optional<DataRecord> checkItemIfDeleted(final @Nullable DataRecord toCheck) {
+  final @Nullable DataRecord checkItemIfDeleted(final @Nullable DataRecord toCheck) {
     if (toCheck instanceof DeletedNode) {
-      return Optional.empty();
+      return null;
     } else {
-      return Optional.ofNullable(toCheck);
+      return toCheck;
     }
   }
 
@@ -360,13 +409,25 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
     assertNotClosed();
     checkArgument(indexLogKey.getRecordPageKey() >= 0, "recordPageKey must not be negative!");
 
-    if (isMostRecentlyReadPage(indexLogKey)) {
-      return Optional.of(mostRecentlyReadRecordPage.getPage());
-      //      final var page = mResourceBufferManager.getUnorderedKeyValuePageCache().get(indexLogKey);
-      //
-      //      if (page != null) {
-      //        return Optional.of(page);
-      //      }
+    final Page mostRecentlyReadRecordPage = getMostRecentlyReadRecordPage(indexLogKey.getRecordPageKey(),
+                                                                          indexLogKey.getIndex(),
+                                                                          indexLogKey.getIndexType());
+
+    if (mostRecentlyReadRecordPage != null) {
+      return Optional.of(mostRecentlyReadRecordPage);
+    }
+
+    // Try to get the page reconstructed by another transaction reading the same revision, before traversing the tree.
+    final boolean isSharedRecordPage = trxIntentLog == null && indexLogKey.getRevisionNumber() == revisionNumber;
+
+    if (isSharedRecordPage) {
+      final Page sharedPage = resourceBufferManager.getUnorderedKeyValuePageCache().get(indexLogKey);
+
+      if (sharedPage != null) {
+        final Page page = rebindRecordPage(sharedPage);
+        setMostRecentlyReadRecordPage(indexLogKey, page);
+        return Optional.of(page);
+      }
     }
 
     final Optional<PageReference> pageReferenceToRecordPage = getLeafPageReference(indexLogKey.getRecordPageKey(),
@@ -382,24 +443,43 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
       final var page = pageReferenceToRecordPage.get().getPage();
 
       if (page != null) {
-        mostRecentlyReadRecordPage =
-            new RecordPage(indexLogKey.getIndex(), indexLogKey.getIndexType(), indexLogKey.getRecordPageKey(), page);
+        setMostRecentlyReadRecordPage(indexLogKey, page);
         return Optional.of(page);
       }
 
-      final Page recordPageFromBuffer = resourceBufferManager.getRecordPageCache().get(pageReferenceToRecordPage.get());
+      final Page cachedRecordPage = resourceBufferManager.getRecordPageCache().get(pageReferenceToRecordPage.get());
 
-      if (recordPageFromBuffer != null) {
-        mostRecentlyReadRecordPage = new RecordPage(indexLogKey.getIndex(),
-                                                    indexLogKey.getIndexType(),
-                                                    indexLogKey.getRecordPageKey(),
-                                                    recordPageFromBuffer);
+      if (cachedRecordPage != null) {
+        if (isSharedRecordPage) {
+          resourceBufferManager.getUnorderedKeyValuePageCache().put(indexLogKey, cachedRecordPage);
+        }
+        final Page recordPageFromBuffer = rebindRecordPage(cachedRecordPage);
+        setMostRecentlyReadRecordPage(indexLogKey, recordPageFromBuffer);
         return Optional.of(recordPageFromBuffer);
       }
+
+      // Try to deserialize the page from the off-heap cache, instead of reading and combining the page fragments.
+      final byte[] serializedRecordPage =
+          resourceBufferManager.getSerializedRecordPageCache().get(pageReferenceToRecordPage.get().getKey());
+
+      if (serializedRecordPage != null) {
+        final Page recordPage = pageFragmentLoader.deserialize(serializedRecordPage, pageReferenceToRecordPage.get());
+        resourceBufferManager.getRecordPageCache().put(pageReferenceToRecordPage.get(), recordPage);
+        pageReferenceToRecordPage.get().setPage(recordPage);
+        if (isSharedRecordPage) {
+          resourceBufferManager.getUnorderedKeyValuePageCache().put(indexLogKey, recordPage);
+        }
+        setMostRecentlyReadRecordPage(indexLogKey, recordPage);
+        return Optional.of(recordPage);
+      }
+    }
+
+    if (trxIntentLog == null && resourceConfig.recordPagesToReadAhead > 0) {
+      readAhead(indexLogKey);
     }
 
     // Load list of page "fragments" from persistent storage.
-    final List<T> pages = getPageFragments(pageReferenceToRecordPage.get());
+    final List<T> pages = getPageFragments(pageReferenceToRecordPage.get(), readAheadRecordPages.remove(indexLogKey));
 
     if (pages.isEmpty()) {
       return Optional.empty();
@@ -407,28 +487,57 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
 
     final int mileStoneRevision = resourceConfig.numberOfRevisionsToRestore;
     final VersioningType revisioning = resourceConfig.revisioningType;
-    final Page completePage = revisioning.combineRecordPages(pages, mileStoneRevision, this);
+    final T completePage = revisioning.combineRecordPages(pages, mileStoneRevision, this);
 
 //    if (trxIntentLog == null && resourceConfig.getStorageType() != StorageType.MEMORY_MAPPED) {
     if (trxIntentLog == null) {
+      // Cached pages outlive this transaction, thus records of overflow pages must be loaded now.
+      for (final Map.Entry<K, PageReference> entry : completePage.referenceEntrySet()) {
+        completePage.getValue(entry.getKey());
+      }
       resourceBufferManager.getRecordPageCache().put(pageReferenceToRecordPage.get(), completePage);
-      //      mResourceBufferManager.getUnorderedKeyValuePageCache().put(indexLogKey, completePage);
+      if (isSharedRecordPage) {
+        resourceBufferManager.getUnorderedKeyValuePageCache().put(indexLogKey, completePage);
+      }
       pageReferenceToRecordPage.get().setPage(completePage);
     }
 
-    mostRecentlyReadRecordPage = new RecordPage(indexLogKey.getIndex(),
-                                                indexLogKey.getIndexType(),
-                                                indexLogKey.getRecordPageKey(),
-                                                completePage);
+    setMostRecentlyReadRecordPage(indexLogKey, completePage);
 
     return Optional.of(completePage);
   }
 
-  private boolean isMostRecentlyReadPage(IndexLogKey indexLogKey) {
-    return mostRecentlyReadRecordPage != null
-        && mostRecentlyReadRecordPage.getRecordPageKey() == indexLogKey.getRecordPageKey()
-        && mostRecentlyReadRecordPage.getIndex() == indexLogKey.getIndex()
-        && mostRecentlyReadRecordPage.getPageKind() == indexLogKey.getIndexType();
+  /**
+   * Bind a record page, which has been reconstructed by another, possibly closed, transaction, to this transaction,
+   * such that records of the page are deserialized with this transaction. The records themselves are shared.
+   *
+   * @param page the cached record page
+   * @return the record page bound to this transaction
+   */
+  private Page rebindRecordPage(final Page page) {
+    if (page instanceof UnorderedKeyValuePage && ((UnorderedKeyValuePage) page).getPageReadTrx() != this) {
+      return new UnorderedKeyValuePage(this, (UnorderedKeyValuePage) page);
+    }
+    return page;
+  }
+
+  private @Nullable Page getMostRecentlyReadRecordPage(final long recordPageKey, final int index,
+      final PageKind pageKind) {
+    for (final RecordPage recordPage : mostRecentlyReadRecordPages) {
+      if (recordPage.getPage() != null && recordPage.getRecordPageKey() == recordPageKey
+          && recordPage.getIndex() == index && recordPage.getPageKind() == pageKind) {
+        return recordPage.getPage();
+      }
+    }
+    return null;
+  }
+
+  private void setMostRecentlyReadRecordPage(final IndexLogKey indexLogKey, final Page page) {
+    mostRecentlyReadRecordPages[nextRecordPageSlot].set(indexLogKey.getIndex(),
+                                                         indexLogKey.getIndexType(),
+                                                         indexLogKey.getRecordPageKey(),
+                                                         page);
+    nextRecordPageSlot = (nextRecordPageSlot + 1) % MOST_RECENTLY_READ_RECORD_PAGES;
   }
 
   final Optional<PageReference> getLeafPageReference(final @Nonnegative long recordPageKey, final int indexNumber,
@@ -450,30 +559,108 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
    */
   final <K extends Comparable<? super K>, V extends DataRecord, T extends KeyValuePage<K, V>> List<T> getPageFragments(
       final PageReference pageReference) {
+    return getPageFragments(pageReference, null);
+  }
+
+  /**
+   * Dereference key/value page reference and get all leaves, the {@link KeyValuePage}s from the
+   * revision-trees.
+   *
+   * @param pageReference  optional page reference pointing to the first page
+   * @param serializedPage the most recent page fragment, if it has already been read ahead, {@code null} otherwise
+   * @return dereferenced pages
+   * @throws SirixIOException if an I/O-error occurs within the creation process
+   */
+  @SuppressWarnings("unchecked")
+  private <K extends Comparable<? super K>, V extends DataRecord, T extends KeyValuePage<K, V>> List<T> getPageFragments(
+      final PageReference pageReference, final @Nullable CompletableFuture<byte[]> serializedPage) {
     assert pageReference != null;
     final ResourceConfiguration config = resourceManager.getResourceConfig();
     final int revsToRestore = config.numberOfRevisionsToRestore;
     final int[] revisionsToRead = config.revisioningType.getRevisionRoots(rootPage.getRevision(), revsToRestore);
     final List<T> pages = new ArrayList<>(revisionsToRead.length);
 
-    final T page = (T) pageReader.read(pageReference, this);
+    final T page = serializedPage == null
+        ? (T) pageReader.read(pageReference, this)
+        : (T) pageFragmentLoader.deserialize(PageFragmentLoader.join(serializedPage), pageReference);
     pages.add(page);
 
     if (!page.getPreviousReferenceKeys().isEmpty()) {
-      pages.addAll(getPreviousPageFragments(page));
+      // All previous fragments are read concurrently with the reader of this transaction.
+      pages.addAll(pageFragmentLoader.loadFragments(page.getPreviousReferenceKeys()));
     }
 
     return pages;
   }
 
-  private <K extends Comparable<? super K>, V extends DataRecord, T extends KeyValuePage<K, V>> List<T> getPreviousPageFragments(
-      T page) {
-    return page.getPreviousReferenceKeys().stream().map(pageFragmentKey -> {
-      try (final var pageReadOnlyTrx = resourceManager.beginPageReadOnlyTrx(pageFragmentKey.getRevision())) {
-        return (T) pageReadOnlyTrx.getReader()
-                                  .read(new PageReference().setKey(pageFragmentKey.getKey()), pageReadOnlyTrx);
+  /**
+   * Read the next record pages ahead of time if record pages are read sequentially, for instance during a scan
+   * of all descendants. Only the most recent page fragment of each page is read asynchronously, as the keys of
+   * the previous fragments are only known once the page is deserialized.
+   *
+   * @param indexLogKey the key of the record page, which is currently loaded
+   */
+  private void readAhead(final IndexLogKey indexLogKey) {
+    final IndexLogKey previousKey = mostRecentlyLoadedRecordPageKey;
+    mostRecentlyLoadedRecordPageKey = indexLogKey;
+
+    final boolean isSequentialRead = previousKey != null && previousKey.getIndexType() == indexLogKey.getIndexType()
+        && previousKey.getIndex() == indexLogKey.getIndex()
+        && previousKey.getRecordPageKey() + 1 == indexLogKey.getRecordPageKey();
+
+    if (!isSequentialRead) {
+      if (!readAheadRecordPages.containsKey(indexLogKey)) {
+        cancelReadAhead();
+      }
+      return;
+    }
+
+    final long maxRecordKey = getMaxRecordKey(indexLogKey.getIndexType(), indexLogKey.getIndex());
+
+    if (maxRecordKey < 0) {
+      return;
+    }
+
+    final long maxRecordPageKey = pageKey(maxRecordKey, indexLogKey.getIndexType());
+
+    for (long recordPageKey = indexLogKey.getRecordPageKey() + 1,
+         lastRecordPageKey = Math.min(maxRecordPageKey, recordPageKey + resourceConfig.recordPagesToReadAhead - 1);
+         recordPageKey <= lastRecordPageKey; recordPageKey++) {
+      final var keyToReadAhead =
+          new IndexLogKey(indexLogKey.getIndexType(), recordPageKey, indexLogKey.getIndex(), revisionNumber);
+
+      if (readAheadRecordPages.containsKey(keyToReadAhead)) {
+        continue;
+      }
+
+      final PageReference reference =
+          getLeafPageReference(recordPageKey, indexLogKey.getIndex(), indexLogKey.getIndexType()).orElse(null);
+
+      if (reference == null || reference.getKey() == Constants.NULL_ID_LONG || reference.getPage() != null
+          || resourceBufferManager.getRecordPageCache().get(reference) != null) {
+        continue;
       }
-    }).sorted(Comparator.<T, Integer>comparing(KeyValuePage::getRevision).reversed()).collect(Collectors.toList());
+
+      readAheadRecordPages.put(keyToReadAhead, pageFragmentLoader.readAsync(reference));
+    }
+  }
+
+  private long getMaxRecordKey(final PageKind pageKind, final int index) {
+    // $CASES-OMITTED$
+    return switch (pageKind) {
+      case RECORDPAGE -> rootPage.getMaxNodeKey();
+      case CASPAGE -> getCASPage(rootPage).getMaxNodeKey(index);
+      case PATHPAGE -> getPathPage(rootPage).getMaxNodeKey(index);
+      case NAMEPAGE -> getNamePage(rootPage).getMaxNodeKey(index);
+      case PATHSUMMARYPAGE -> getPathSummaryPage(rootPage).getMaxNodeKey(index);
+      default -> throw new IllegalStateException(
+          "Only defined for node, path summary, text value and attribute value pages!");
+    };
+  }
+
+  private void cancelReadAhead() {
+    readAheadRecordPages.values().forEach(serializedPage -> serializedPage.cancel(false));
+    readAheadRecordPages.clear();
   }
 
   /**
@@ -627,6 +814,8 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
   @Override
   public void close() {
     if (!isClosed) {
+      cancelReadAhead();
+
       if (trxIntentLog == null) {
         pageReader.close();
       }
@@ -678,16 +867,19 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
     return (int) (key - ((key >> Constants.NDP_NODE_COUNT_EXPONENT) << Constants.NDP_NODE_COUNT_EXPONENT));
   }
 
-  private static class RecordPage {
-    private final int index;
+  /**
+   * A slot of the most recently read record pages, which is reused.
+   */
+  private static final class RecordPage {
+    private int index;
 
-    private final PageKind pageKind;
+    private PageKind pageKind;
 
-    private final long recordPageKey;
+    private long recordPageKey;
 
-    private final Page page;
+    private Page page;
 
-    public RecordPage(int index, PageKind pageKind, long recordPageKey, Page page) {
+    public void set(int index, PageKind pageKind, long recordPageKey, Page page) {
       this.index = index;
       this.pageKind = pageKind;
       this.recordPageKey = recordPageKey;
@@ -709,22 +901,5 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
     public Page getPage() {
       return page;
     }
-
-    @Override
-    public boolean equals(Object o) {
-      if (this == o)
-        return true;
-      if (o == null || getClass() != o.getClass())
-        return false;
-      RecordPage that = (RecordPage) o;
-      return index == that.index && recordPageKey == that.recordPageKey && pageKind == that.pageKind && Objects.equals(
-          page,
-          that.page);
-    }
-
-    @Override
-    public int hashCode() {
-      return Objects.hash(index, pageKind, recordPageKey, page);
-    }
   }
 }
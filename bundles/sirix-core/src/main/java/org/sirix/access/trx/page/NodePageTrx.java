@@ -21,6 +21,7 @@
 
 package org.sirix.access.trx.page;
 
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.access.trx.node.CommitCredentials;
 import org.sirix.access.trx.node.IndexController;
@@ -52,8 +53,11 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -123,6 +127,16 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx
 
   private MostRecentPageContainer mostRecentPageContainer;
 
+  /**
+   * Record pages, which have been serialized in parallel before the pages are written during a commit.
+   */
+  private final Map<PageReference, byte[]> serializedRecordPages = new ConcurrentHashMap<>();
+
+  /**
+   * The keys of the nodes, which have been created, modified or removed in this revision.
+   */
+  private final Roaring64NavigableMap changedNodeKeys = new Roaring64NavigableMap();
+
   /**
    * Constructor.
    *
@@ -184,6 +198,9 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx
       record = oldRecord;
       ((UnorderedKeyValuePage) cont.getModified()).setEntry(record.getNodeKey(), record);
     }
+    if (pageKind == PageKind.RECORDPAGE) {
+      changedNodeKeys.addLong(recordKey);
+    }
     return record;
   }
 
@@ -220,6 +237,9 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx
     @SuppressWarnings("unchecked")
     final KeyValuePage<Long, DataRecord> modified = (KeyValuePage<Long, DataRecord>) cont.getModified();
     modified.setEntry(key, record);
+    if (pageKind == PageKind.RECORDPAGE) {
+      changedNodeKeys.addLong(key);
+    }
     return record;
   }
 
@@ -235,6 +255,9 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx
           new DeletedNode(new NodeDelegate(nodeToDel.getNodeKey(), -1, null, null, pageRtx.getRevisionNumber(), null));
       ((UnorderedKeyValuePage) cont.getModified()).setEntry(delNode.getNodeKey(), delNode);
       ((UnorderedKeyValuePage) cont.getComplete()).setEntry(delNode.getNodeKey(), delNode);
+      if (pageKind == PageKind.RECORDPAGE) {
+        changedNodeKeys.addLong(recordKey);
+      }
     } else {
       throw new IllegalStateException("Node not found!");
     }
@@ -243,6 +266,12 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx
   @Override
   public Optional<DataRecord> getRecord(final @Nonnegative long recordKey, @Nonnull final PageKind pageKind,
       final @Nonnegative int index) {
+    return Optional.ofNullable(getRecordOrNull(recordKey, pageKind, index));
+  }
+
+  @Override
+  public DataRecord getRecordOrNull(final @Nonnegative long recordKey, @Nonnull final PageKind pageKind,
+      final @Nonnegative int index) {
     pageRtx.assertNotClosed();
     checkArgument(recordKey >= Fixed.NULL_NODE_KEY.getStandardProperty());
     checkNotNull(pageKind);
@@ -251,7 +280,7 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx
 
     final PageContainer pageCont = prepareRecordPage(recordPageKey, index, pageKind);
     if (pageCont.equals(PageContainer.emptyInstance())) {
-      return pageRtx.getRecord(recordKey, pageKind, index);
+      return pageRtx.getRecordOrNull(recordKey, pageKind, index);
     } else {
       DataRecord node = ((UnorderedKeyValuePage) pageCont.getModified()).getValue(recordKey);
       if (node == null) {
@@ -302,7 +331,13 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx
 
     // Recursively commit indirectly referenced pages and then write self.f
     page.commit(this);
-    pageWriter.write(reference);
+
+    final byte[] serializedPage = serializedRecordPages.remove(reference);
+    if (serializedPage == null) {
+      pageWriter.write(reference);
+    } else {
+      pageWriter.write(reference, serializedPage);
+    }
 
     // Remove page reference.
     reference.setPage(null);
@@ -336,8 +371,20 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx
       getActualRevisionRootPage().setCommitMessage(commitMessage);
     }
 
+    serializeRecordPages();
+
     // Recursively write indirectly referenced pages.
     uberPage.commit(this);
+    serializedRecordPages.clear();
+
+    if (revision == 0) {
+      // The document node is created while bootstrapping the resource.
+      changedNodeKeys.addLong(Fixed.DOCUMENT_NODE_KEY.getStandardProperty());
+    }
+
+    // Append the changed nodes before the revision is visible, such that a revision is never missing in the history.
+    pageRtx.resourceManager.getNodeHistory().append(revision, representRevision, changedNodeKeys.toArray());
+    changedNodeKeys.clear();
 
     uberPageReference.setPage(uberPage);
     pageWriter.writeUberPageReference(uberPageReference);
@@ -375,6 +422,42 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx
     return commitedUberPage;
   }
 
+  /**
+   * Serialize the modified record pages of the transaction intent log in parallel, such that the commit mostly has
+   * to append the serialized pages. Indirect pages are serialized while committing, as they store the keys of
+   * their children, which are only known once the children have been written. The same holds for record pages,
+   * which reference new overflow pages. The records are transformed into the slots of their pages on the committing
+   * thread, as this uses the shared page transaction, such that the worker threads only read their pages.
+   */
+  private void serializeRecordPages() {
+    if (pageRtx.getResourceManager().getResourceConfig().areDeweyIDsStored) {
+      // Serializing a page with DeweyIDs isn't idempotent.
+      return;
+    }
+
+    final List<Map.Entry<PageReference, PageContainer>> recordPages = new ArrayList<>();
+    for (final Map.Entry<PageReference, PageContainer> entry : log.getMap().entrySet()) {
+      if (entry.getValue().getModified() instanceof UnorderedKeyValuePage) {
+        // Also adds the serialized records and the references to overflow pages to the page.
+        final var recordPage = (UnorderedKeyValuePage) entry.getValue().getModified();
+        if (!recordPage.hasUnwrittenOverflowPages()) {
+          recordPages.add(entry);
+        }
+      }
+    }
+
+    if (recordPages.size() < 2) {
+      return;
+    }
+
+    recordPages.parallelStream().forEach(entry -> {
+      final byte[] serializedPage = pageWriter.serializePage(entry.getValue().getModified());
+      if (serializedPage != null) {
+        serializedRecordPages.put(entry.getKey(), serializedPage);
+      }
+    });
+  }
+
   @Override
   public UberPage commit() {
     return commit((String) null);
@@ -384,6 +467,7 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx
   public UberPage rollback() {
     pageRtx.assertNotClosed();
     log.truncate();
+    changedNodeKeys.clear();
     return (UberPage) pageWriter.read(pageWriter.readUberPageReference(), pageRtx);
   }
 
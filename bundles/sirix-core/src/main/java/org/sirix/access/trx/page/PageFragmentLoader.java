@@ -0,0 +1,170 @@
+package org.sirix.access.trx.page;
+
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.exception.SirixIOException;
+import org.sirix.io.Reader;
+import org.sirix.node.interfaces.DataRecord;
+import org.sirix.page.PagePersister;
+import org.sirix.page.PageReference;
+import org.sirix.page.SerializationType;
+import org.sirix.page.interfaces.KeyValuePage;
+import org.sirix.page.interfaces.Page;
+import org.sirix.page.interfaces.PageFragmentKey;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Loads page fragments of record pages. The fragments are read from the storage concurrently, using the single
+ * reader of the page transaction, and are deserialized afterwards on the thread of the page transaction, as
+ * deserialization of records might need to resolve names through the (single threaded) transaction.
+ *
+ * @author Johannes Lichtenberger
+ */
+final class PageFragmentLoader {
+
+  /**
+   * Executor shared by all loaders, which is used to read fragments from the storage. As the threads mainly block
+   * on I/O, the thread pool isn't bound to the number of available processors.
+   */
+  private static final ExecutorService IO_EXECUTOR = Executors.newCachedThreadPool(new PageFragmentThreadFactory());
+
+  /**
+   * The reader to read the fragments from.
+   */
+  private final Reader reader;
+
+  /**
+   * The page read-only trx used to deserialize the fragments.
+   */
+  private final PageReadOnlyTrx pageReadTrx;
+
+  /**
+   * Used to deserialize pages.
+   */
+  private final PagePersister pagePersister;
+
+  /**
+   * Constructor.
+   *
+   * @param reader      the reader to read the fragments from
+   * @param pageReadTrx the page read-only trx used to deserialize the fragments
+   */
+  PageFragmentLoader(final Reader reader, final PageReadOnlyTrx pageReadTrx) {
+    this.reader = checkNotNull(reader);
+    this.pageReadTrx = checkNotNull(pageReadTrx);
+    pagePersister = new PagePersister();
+  }
+
+  /**
+   * Load the page fragments denoted by the page fragment keys. All fragments are read concurrently.
+   *
+   * @param pageFragmentKeys the keys of the page fragments
+   * @return the page fragments, sorted by their revision in descending order
+   * @throws SirixIOException if an I/O error occurs
+   */
+  @SuppressWarnings("unchecked")
+  <K extends Comparable<? super K>, V extends DataRecord, T extends KeyValuePage<K, V>> List<T> loadFragments(
+      final List<PageFragmentKey> pageFragmentKeys) {
+    final List<PageReference> references = new ArrayList<>(pageFragmentKeys.size());
+    for (final PageFragmentKey pageFragmentKey : pageFragmentKeys) {
+      references.add(new PageReference().setKey(pageFragmentKey.getKey()));
+    }
+
+    final List<T> pages = new ArrayList<>(references.size());
+
+    if (references.size() == 1) {
+      pages.add((T) reader.read(references.get(0), pageReadTrx));
+      return pages;
+    }
+
+    final List<CompletableFuture<byte[]>> serializedPages = new ArrayList<>(references.size());
+    for (final PageReference reference : references) {
+      serializedPages.add(readAsync(reference));
+    }
+
+    for (int i = 0, size = references.size(); i < size; i++) {
+      pages.add((T) deserialize(join(serializedPages.get(i)), references.get(i)));
+    }
+
+    pages.sort(Comparator.<T, Integer>comparing(KeyValuePage::getRevision).reversed());
+    return pages;
+  }
+
+  /**
+   * Read the serialized page asynchronously.
+   *
+   * @param reference reference to the page
+   * @return the future, which completes with the serialized page or with {@code null}, if the reader doesn't
+   * support concurrent reads
+   */
+  CompletableFuture<byte[]> readAsync(final PageReference reference) {
+    return CompletableFuture.supplyAsync(() -> reader.readSerializedPage(reference), IO_EXECUTOR);
+  }
+
+  /**
+   * Deserialize a page, which has been read by {@link #readAsync(PageReference)}.
+   *
+   * @param serializedPage the serialized page or {@code null}, if the page has to be read by the calling thread
+   * @param reference      reference to the page
+   * @return the deserialized page
+   * @throws SirixIOException if an I/O error occurs
+   */
+  Page deserialize(final @Nullable byte[] serializedPage, final @Nonnull PageReference reference) {
+    if (serializedPage == null) {
+      return reader.read(reference, pageReadTrx);
+    }
+
+    try {
+      final DataInputStream input = new DataInputStream(new ByteArrayInputStream(serializedPage));
+      return pagePersister.deserializePage(input, pageReadTrx, SerializationType.DATA);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  /**
+   * Wait for the serialized page and rethrow the original exception if reading failed.
+   *
+   * @param serializedPage the future of the serialized page
+   * @return the serialized page
+   */
+  static byte[] join(final CompletableFuture<byte[]> serializedPage) {
+    try {
+      return serializedPage.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new SirixIOException(e.getCause());
+    }
+  }
+
+  private static final class PageFragmentThreadFactory implements ThreadFactory {
+    private final AtomicInteger threadNumber = new AtomicInteger();
+
+    @Override
+    public Thread newThread(@Nonnull final Runnable runnable) {
+      final var thread = new Thread(runnable, "PageFragmentLoaderThread-" + threadNumber.incrementAndGet());
+
+      thread.setPriority(Thread.NORM_PRIORITY);
+      thread.setDaemon(true);
+
+      return thread;
+    }
+  }
+}
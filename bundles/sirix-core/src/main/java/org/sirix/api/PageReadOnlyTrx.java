@@ -12,6 +12,7 @@ import org.sirix.page.interfaces.Page;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.Optional;
 
 /**
@@ -61,6 +62,19 @@ public interface PageReadOnlyTrx extends AutoCloseable {
    */
   Optional<? extends DataRecord> getRecord(final @Nonnegative long key, final PageKind pageKind, final int index);
 
+  /**
+   * Get a record from persistent storage. In contrast to {@link #getRecord(long, PageKind, int)} the record isn't
+   * wrapped, such that no objects are allocated if the record is stored in one of the most recently read pages.
+   *
+   * @param key the unique record-ID
+   * @param pageKind the page kind from which to fetch the record
+   * @param index the index number
+   * @return the record, or {@code null} if it doesn't exist or has been deleted
+   * @throws SirixIOException if an I/O error occurred
+   */
+  @Nullable
+  DataRecord getRecordOrNull(final @Nonnegative long key, final PageKind pageKind, final int index);
+
   /**
    * Current reference to actual revision-root page.
    *
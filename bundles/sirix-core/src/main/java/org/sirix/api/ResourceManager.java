@@ -301,6 +301,15 @@ public interface ResourceManager<R extends NodeReadOnlyTrx & NodeCursor, W exten
 
   Optional<R> getNodeReadTrxByRevisionNumber(int revision);
 
+  /**
+   * Get the revisions, in which the node with the given key has been created, modified or removed.
+   *
+   * @param nodeKey the key of the node
+   * @return the revisions in ascending order or {@code Optional.empty()}, if the history of the nodes isn't available
+   *         (for instance for resources created with former versions)
+   */
+  Optional<int[]> getRevisionsOfNode(long nodeKey);
+
   Optional<User> getUser();
 
 }
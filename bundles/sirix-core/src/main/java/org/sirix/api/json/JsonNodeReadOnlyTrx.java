@@ -61,6 +61,25 @@ public interface JsonNodeReadOnlyTrx extends NodeCursor, NodeReadOnlyTrx {
   @Override
   Move<? extends JsonNodeReadOnlyTrx> moveToNextFollowing();
 
+  /**
+   * Move to the object key with the given name, if the current node is an object node. The key directory of the
+   * object is used, if the resource stores key directories, otherwise the children of the object are scanned.
+   *
+   * @param name the name of the object key
+   * @return {@link Move} instance, which is {@code Move.notMoved()}, if the object has no such key
+   */
+  Move<? extends JsonNodeReadOnlyTrx> moveToObjectKey(String name);
+
+  /**
+   * Move to the child at the given position. If the current node is an array node with a chunk directory, the chunk
+   * of the child is looked up in the directory, such that at most {@code ArrayChunkDirectory.MAX_CHUNK_SIZE} moves to
+   * right siblings are needed, otherwise the cursor moves through all children in front of it.
+   *
+   * @param index the position of the child, starting at {@code 0}
+   * @return {@link Move} instance, which is {@code Move.notMoved()}, if the current node has no child at this position
+   */
+  Move<? extends JsonNodeReadOnlyTrx> moveToChild(long index);
+
   /**
    * Accept a visitor.
    *
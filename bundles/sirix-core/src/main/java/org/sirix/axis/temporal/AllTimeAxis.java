@@ -40,8 +40,13 @@ public final class AllTimeAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends
    */
   public AllTimeAxis(final ResourceManager<R, W> resourceManager, final R rtx) {
     mResourceManager = checkNotNull(resourceManager);
-    mRevision = 1;
     mNodeKey = rtx.getNodeKey();
+
+    // Skip the revisions before the node has been created.
+    mRevision = resourceManager.getRevisionsOfNode(mNodeKey)
+                               .filter(revisions -> revisions.length > 0)
+                               .map(revisions -> Math.max(1, revisions[0]))
+                               .orElse(1);
   }
 
   @Override
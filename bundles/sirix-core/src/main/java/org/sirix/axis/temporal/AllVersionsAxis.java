@@ -0,0 +1,98 @@
+package org.sirix.axis.temporal;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import java.util.Optional;
+import org.sirix.api.NodeCursor;
+import org.sirix.api.NodeReadOnlyTrx;
+import org.sirix.api.NodeTrx;
+import org.sirix.api.ResourceManager;
+import org.sirix.axis.AbstractTemporalAxis;
+
+/**
+ * Retrieve a node by node key in all revisions, in which it has been created or modified. The revisions are looked up
+ * in the node history of the resource, such that a transaction is only opened for the revisions, in which the node
+ * has been changed. The iterator has no more elements once the node has been removed. If the node history isn't
+ * available, the node is retrieved in all revisions just like in the {@link AllTimeAxis}.
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
+public final class AllVersionsAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends NodeTrx & NodeCursor>
+    extends AbstractTemporalAxis<R, W> {
+
+  /** Sirix {@link ResourceManager}. */
+  private final ResourceManager<R, W> mResourceManager;
+
+  /** Node key to lookup and retrieve. */
+  private final long mNodeKey;
+
+  /** The revisions, in which the node has been changed or {@code null}, if the node history isn't available. */
+  private final int[] mRevisions;
+
+  /** The index of the next revision. */
+  private int mIndex;
+
+  /** The revision number, if the node history isn't available. */
+  private int mRevision;
+
+  /** Determines if node has been found before and now has been deleted. */
+  private boolean mHasMoved;
+
+  /**
+   * Constructor.
+   *
+   * @param resourceManager the resource manager
+   * @param rtx the read only transactional cursor
+   */
+  public AllVersionsAxis(final ResourceManager<R, W> resourceManager, final R rtx) {
+    mResourceManager = checkNotNull(resourceManager);
+    mNodeKey = rtx.getNodeKey();
+    mRevisions = resourceManager.getRevisionsOfNode(mNodeKey).orElse(null);
+    mRevision = 1;
+  }
+
+  @Override
+  protected R computeNext() {
+    while (hasNextRevision()) {
+      final int revision = mRevisions == null ? mRevision++ : mRevisions[mIndex++];
+
+      if (revision == 0) {
+        // The bootstrapped revision.
+        continue;
+      }
+
+      final Optional<R> optionalRtx = mResourceManager.getNodeReadTrxByRevisionNumber(revision);
+
+      final R rtx;
+      if (optionalRtx.isPresent()) {
+        rtx = optionalRtx.get();
+      } else {
+        rtx = mResourceManager.beginNodeReadOnlyTrx(revision);
+      }
+
+      if (rtx.moveTo(mNodeKey).hasMoved()) {
+        mHasMoved = true;
+        return rtx;
+      }
+
+      rtx.close();
+
+      if (mHasMoved) {
+        return endOfData();
+      }
+    }
+
+    return endOfData();
+  }
+
+  private boolean hasNextRevision() {
+    return mRevisions == null
+        ? mRevision <= mResourceManager.getMostRecentRevisionNumber()
+        : mIndex < mRevisions.length;
+  }
+
+  @Override
+  public ResourceManager<R, W> getResourceManager() {
+    return mResourceManager;
+  }
+}
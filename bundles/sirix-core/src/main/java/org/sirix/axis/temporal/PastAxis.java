@@ -14,7 +14,8 @@ import org.sirix.axis.IncludeSelf;
  * Retrieve a node by node key in all earlier revisions. In each revision a
  * {@link XmlNodeReadOnlyTrx} is opened which is moved to the node with the given node key if it
  * exists. Otherwise the iterator has no more elements (the {@link XmlNodeReadOnlyTrx} moved to the
- * node by it's node key).
+ * node by it's node key). The revisions before the node has been created, which are looked up in the node history
+ * of the resource, aren't opened at all.
  *
  * @author Johannes Lichtenberger
  *
@@ -31,6 +32,9 @@ public final class PastAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends No
   /** Node key to lookup and retrieve. */
   private long mNodeKey;
 
+  /** The revision, in which the node has been created, or the first revision, if the node history isn't available. */
+  private final int mFirstRevision;
+
   /**
    * Constructor.
    *
@@ -55,11 +59,15 @@ public final class PastAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends No
     mRevision = checkNotNull(includeSelf) == IncludeSelf.YES
         ? rtx.getRevisionNumber()
         : rtx.getRevisionNumber() - 1;
+    mFirstRevision = resourceManager.getRevisionsOfNode(mNodeKey)
+                                    .filter(revisions -> revisions.length > 0)
+                                    .map(revisions -> Math.max(1, revisions[0]))
+                                    .orElse(1);
   }
 
   @Override
   protected R computeNext() {
-    if (mRevision > 0) {
+    if (mRevision >= mFirstRevision) {
       final Optional<R> optionalRtx = mResourceManager.getNodeReadTrxByRevisionNumber(mRevision);
 
       final R rtx;
@@ -9,5 +9,21 @@ public interface BufferManager extends AutoCloseable {
 
   Cache<PageReference, Page> getPageCache();
 
+  /**
+   * Get the cache of reconstructed record pages, which is shared by all transactions reading the same revision of the
+   * resource.
+   *
+   * @return the cache of reconstructed record pages
+   */
+  Cache<IndexLogKey, Page> getUnorderedKeyValuePageCache();
+
   Cache<Integer, RevisionRootPage> getRevisionRootPageCache();
+
+  /**
+   * Get the second level cache of record pages, which stores the serialized pages keyed by the key of the most recent
+   * page fragment.
+   *
+   * @return the second level cache of record pages
+   */
+  Cache<Long, byte[]> getSerializedRecordPageCache();
 }
@@ -4,17 +4,78 @@ import org.sirix.page.PageReference;
 import org.sirix.page.RevisionRootPage;
 import org.sirix.page.interfaces.Page;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 public final class BufferManagerImpl implements BufferManager {
-  private final PageCache pageCache;
+  private final Cache<PageReference, Page> pageCache;
+
+  private final Cache<PageReference, Page> recordPageCache;
 
-  private final RecordPageCache recordPageCache;
+  private final UnorderedKeyValuePageCache unorderedKeyValuePageCache;
 
   private final RevisionRootPageCache revisionRootPageCache;
 
+  private final OffHeapPageCache serializedRecordPageCache;
+
+  /**
+   * Determines if the pages are cached in the {@link SharedPageCache}.
+   */
+  private final boolean isShared;
+
   public BufferManagerImpl(final int maxPageCacheSize, final int maxRecordPageCacheSize, final int maxRevisionRootPageCache) {
+    this(maxPageCacheSize, maxRecordPageCacheSize, maxRevisionRootPageCache, new OffHeapPageCache(0),
+         UnorderedKeyValuePageCache.DEFAULT_EXPIRY);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param maxPageCacheSize          the maximum number of cached pages
+   * @param maxRecordPageCacheSize    the maximum number of cached record pages
+   * @param maxRevisionRootPageCache  the maximum number of cached revision root pages
+   * @param serializedRecordPageCache the second level cache, which stores evicted record pages serialized
+   * @param sharedRecordPageExpiry    milliseconds after which unused record pages shared by transactions expire
+   */
+  public BufferManagerImpl(final int maxPageCacheSize, final int maxRecordPageCacheSize,
+      final int maxRevisionRootPageCache, final OffHeapPageCache serializedRecordPageCache,
+      final long sharedRecordPageExpiry) {
+    this.serializedRecordPageCache = checkNotNull(serializedRecordPageCache);
     pageCache = new PageCache(maxPageCacheSize);
-    recordPageCache = new RecordPageCache(maxRecordPageCacheSize);
+    recordPageCache = new RecordPageCache(maxRecordPageCacheSize, serializedRecordPageCache);
+    unorderedKeyValuePageCache = new UnorderedKeyValuePageCache(maxRecordPageCacheSize, sharedRecordPageExpiry);
     revisionRootPageCache = new RevisionRootPageCache(maxRevisionRootPageCache);
+    isShared = false;
+  }
+
+  /**
+   * Constructor, which caches the (record) pages in the shared page cache, bounded by the quota of the resource.
+   *
+   * @param sharedPageCache          the shared page cache
+   * @param quota                    the quota of the resource
+   * @param maxRevisionRootPageCache the maximum number of cached revision root pages
+   */
+  public BufferManagerImpl(final SharedPageCache sharedPageCache, final SharedPageCache.Quota quota,
+      final int maxRevisionRootPageCache) {
+    this(sharedPageCache, quota, maxRevisionRootPageCache, UnorderedKeyValuePageCache.DEFAULT_EXPIRY);
+  }
+
+  /**
+   * Constructor, which caches the (record) pages in the shared page cache, bounded by the quota of the resource.
+   * Evicted record pages are stored in the second level cache of the quota.
+   *
+   * @param sharedPageCache          the shared page cache
+   * @param quota                    the quota of the resource, which is reused whenever the resource is opened
+   * @param maxRevisionRootPageCache the maximum number of cached revision root pages
+   * @param sharedRecordPageExpiry   milliseconds after which unused record pages shared by transactions expire
+   */
+  public BufferManagerImpl(final SharedPageCache sharedPageCache, final SharedPageCache.Quota quota,
+      final int maxRevisionRootPageCache, final long sharedRecordPageExpiry) {
+    serializedRecordPageCache = quota.getOffHeapPageCache();
+    pageCache = sharedPageCache.getPageCache(quota);
+    recordPageCache = sharedPageCache.getRecordPageCache(quota);
+    unorderedKeyValuePageCache = new UnorderedKeyValuePageCache(1_000, sharedRecordPageExpiry);
+    revisionRootPageCache = new RevisionRootPageCache(maxRevisionRootPageCache, false);
+    isShared = true;
   }
 
   @Override
@@ -27,15 +88,29 @@ public final class BufferManagerImpl implements BufferManager {
     return recordPageCache;
   }
 
+  @Override
+  public Cache<IndexLogKey, Page> getUnorderedKeyValuePageCache() {
+    return unorderedKeyValuePageCache;
+  }
+
   @Override
   public Cache<Integer, RevisionRootPage> getRevisionRootPageCache() {
     return revisionRootPageCache;
   }
 
+  @Override
+  public Cache<Long, byte[]> getSerializedRecordPageCache() {
+    return serializedRecordPageCache;
+  }
+
   @Override
   public void close() {
-    pageCache.clear();
-    recordPageCache.clear();
-    revisionRootPageCache.clear();
+    // Pages in the shared cache outlive transactions, such that they can be used by subsequent transactions. The
+    // same holds for the reconstructed record pages, which are keyed by the revision.
+    if (!isShared) {
+      pageCache.clear();
+      recordPageCache.clear();
+      revisionRootPageCache.clear();
+    }
   }
 }
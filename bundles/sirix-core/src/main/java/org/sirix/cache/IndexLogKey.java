@@ -53,6 +53,10 @@ public final class IndexLogKey {
     return pageKind;
   }
 
+  public int getRevisionNumber() {
+    return revisionNumber;
+  }
+
   @Override
   public int hashCode() {
     return Objects.hashCode(recordPageKey, index, pageKind, revisionNumber);
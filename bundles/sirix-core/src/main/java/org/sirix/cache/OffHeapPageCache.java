@@ -0,0 +1,171 @@
+package org.sirix.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.page.PageKind;
+import org.sirix.page.UnorderedKeyValuePage;
+import org.sirix.page.interfaces.Page;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Second level cache for reconstructed record pages, which are stored serialized (but uncompressed) in direct
+ * memory, thus they don't have to be traced by the garbage collector. It's keyed by the key of the most recent page
+ * fragment, such that a miss in the first level cache is served by deserializing the page instead of reading,
+ * decompressing and combining the page fragments. The cache is bounded by the number of stored bytes.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class OffHeapPageCache implements Cache<Long, byte[]> {
+
+  /**
+   * The underlying cache, which only holds small buffer instances on the heap, or {@code null}, if the cache is
+   * disabled.
+   */
+  private final com.github.benmanes.caffeine.cache.Cache<Long, ByteBuffer> cache;
+
+  /**
+   * The configuration of the resource, the cached pages belong to, or {@code null}, if evicted pages aren't cached.
+   */
+  private final ResourceConfiguration resourceConfig;
+
+  /**
+   * Constructor, which creates a cache, which only stores already serialized pages.
+   *
+   * @param maximumWeight the maximum number of bytes to store, {@code 0} disables the cache
+   */
+  public OffHeapPageCache(final @Nonnegative long maximumWeight) {
+    this(maximumWeight, null);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param maximumWeight  the maximum number of bytes to store, {@code 0} disables the cache
+   * @param resourceConfig the configuration of the resource, the cached pages belong to, which is used to serialize
+   *                       evicted pages, or {@code null}, if evicted pages aren't cached
+   */
+  public OffHeapPageCache(final @Nonnegative long maximumWeight, final @Nullable ResourceConfiguration resourceConfig) {
+    checkArgument(maximumWeight >= 0, "maximumWeight must be >= 0!");
+    cache = maximumWeight == 0
+        ? null
+        : Caffeine.newBuilder().maximumWeight(maximumWeight).weigher((Long key, ByteBuffer buffer) -> buffer.capacity())
+                  .build();
+    this.resourceConfig = resourceConfig;
+  }
+
+  /**
+   * Determines if the cache is enabled.
+   *
+   * @return {@code true}, if the cache is enabled, {@code false} otherwise
+   */
+  public boolean isEnabled() {
+    return cache != null;
+  }
+
+  /**
+   * Serialize a record page, which has been evicted from the first level cache, and put it into the cache. The page
+   * might be shared by other transactions and the transaction, which has read it, might already be closed, thus the
+   * page is serialized with the configuration of the resource instead of its transaction and isn't modified. Pages,
+   * which reference overflow pages, aren't cached, as serializing them would require to write the overflow pages.
+   * Neither are pages of resources, which store DeweyIDs, as serializing them removes the records from the page. An
+   * I/O failure just means, that the page isn't cached.
+   *
+   * @param key  the key of the most recent page fragment
+   * @param page the reconstructed record page
+   */
+  void putPage(final long key, final Page page) {
+    if (cache == null || resourceConfig == null || resourceConfig.areDeweyIDsStored
+        || !(page instanceof UnorderedKeyValuePage)) {
+      return;
+    }
+
+    try (final ByteArrayOutputStream output = new ByteArrayOutputStream();
+         final DataOutputStream dataOutput = new DataOutputStream(output)) {
+      dataOutput.writeByte(PageKind.RECORDPAGE.getID());
+      if (((UnorderedKeyValuePage) page).serializeDetached(dataOutput, resourceConfig)) {
+        dataOutput.flush();
+        put(key, output.toByteArray());
+      }
+    } catch (final IOException e) {
+      // The page is just not cached.
+    }
+  }
+
+  @Override
+  public void clear() {
+    if (cache != null) {
+      cache.invalidateAll();
+    }
+  }
+
+  @Override
+  public byte[] get(final Long key) {
+    if (cache == null) {
+      return null;
+    }
+
+    final ByteBuffer buffer = cache.getIfPresent(key);
+
+    if (buffer == null) {
+      return null;
+    }
+
+    final byte[] bytes = new byte[buffer.capacity()];
+    buffer.get(0, bytes);
+    return bytes;
+  }
+
+  @Override
+  public void put(final Long key, final @Nonnull byte[] value) {
+    if (cache != null) {
+      final ByteBuffer buffer = ByteBuffer.allocateDirect(value.length);
+      buffer.put(value);
+      cache.put(key, buffer);
+    }
+  }
+
+  @Override
+  public void putAll(final Map<? extends Long, ? extends byte[]> map) {
+    map.forEach(this::put);
+  }
+
+  @Override
+  public void toSecondCache() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Map<Long, byte[]> getAll(final Iterable<? extends Long> keys) {
+    final Map<Long, byte[]> values = new HashMap<>();
+    for (final Long key : keys) {
+      final byte[] value = get(key);
+      if (value != null) {
+        values.put(key, value);
+      }
+    }
+    return values;
+  }
+
+  @Override
+  public void remove(final Long key) {
+    if (cache != null) {
+      cache.invalidate(key);
+    }
+  }
+
+  @Override
+  public void close() {
+    clear();
+  }
+}
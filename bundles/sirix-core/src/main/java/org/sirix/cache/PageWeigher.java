@@ -0,0 +1,71 @@
+package org.sirix.cache;
+
+import org.sirix.page.OverflowPage;
+import org.sirix.page.UnorderedKeyValuePage;
+import org.sirix.page.interfaces.KeyValuePage;
+import org.sirix.page.interfaces.Page;
+import org.sirix.settings.Constants;
+
+/**
+ * Estimates the number of bytes a page occupies on the heap.
+ *
+ * @author Johannes Lichtenberger
+ */
+final class PageWeigher {
+
+  /**
+   * The estimated overhead of a page instance (object headers, fields and maps).
+   */
+  private static final int PAGE_OVERHEAD = 256;
+
+  /**
+   * The estimated size of a deserialized record (including its delegates and the map entry).
+   */
+  private static final int RECORD_WEIGHT = 160;
+
+  /**
+   * The estimated size of a page reference (including the list entry).
+   */
+  private static final int REFERENCE_WEIGHT = 56;
+
+  /**
+   * The size of an array with an element for each offset of a record in a record page (array header and compressed
+   * object references), which is allocated regardless of the number of records.
+   */
+  private static final int OFFSET_ARRAY_WEIGHT = 16 + Constants.NDP_NODE_COUNT * 4;
+
+  /**
+   * The size of the bitmaps of the occupied offsets of a record page.
+   */
+  private static final int OFFSET_BITMAPS_WEIGHT = 3 * (32 + Constants.NDP_NODE_COUNT / Byte.SIZE);
+
+  /**
+   * Private constructor to prevent instantiation.
+   */
+  private PageWeigher() {
+    throw new AssertionError("May never be instantiated!");
+  }
+
+  /**
+   * Estimate the size of the page in bytes.
+   *
+   * @param page the page to weigh
+   * @return the estimated size in bytes
+   */
+  static int weigh(final Page page) {
+    if (page instanceof UnorderedKeyValuePage) {
+      final UnorderedKeyValuePage recordPage = (UnorderedKeyValuePage) page;
+      final long weight = PAGE_OVERHEAD + OFFSET_BITMAPS_WEIGHT
+          + (long) recordPage.getNumberOfOffsetArrays() * OFFSET_ARRAY_WEIGHT
+          + (long) recordPage.size() * RECORD_WEIGHT + recordPage.getSlotBytes();
+      return (int) Math.min(Integer.MAX_VALUE, weight);
+    }
+    if (page instanceof KeyValuePage) {
+      return PAGE_OVERHEAD + ((KeyValuePage<?, ?>) page).size() * RECORD_WEIGHT;
+    }
+    if (page instanceof OverflowPage) {
+      return PAGE_OVERHEAD + ((OverflowPage) page).getData().length;
+    }
+    return PAGE_OVERHEAD + page.getReferences().size() * REFERENCE_WEIGHT;
+  }
+}
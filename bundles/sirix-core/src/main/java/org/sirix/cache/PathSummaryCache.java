@@ -0,0 +1,66 @@
+package org.sirix.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.sirix.index.path.summary.PathSummaryData;
+
+import java.util.Map;
+
+/**
+ * Caches the mappings of the path summaries of a resource per revision, such that they are shared by all path
+ * summary readers of a revision instead of being rebuilt by each of them. The mappings are softly referenced, as they
+ * can be rebuilt from the path summary pages at any time.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class PathSummaryCache implements Cache<Integer, PathSummaryData> {
+  private final com.github.benmanes.caffeine.cache.Cache<Integer, PathSummaryData> cache;
+
+  /**
+   * Constructor.
+   *
+   * @param maxSize the maximum number of cached revisions
+   */
+  public PathSummaryCache(final int maxSize) {
+    cache = Caffeine.newBuilder().maximumSize(maxSize).softValues().build();
+  }
+
+  @Override
+  public void clear() {
+    cache.invalidateAll();
+  }
+
+  @Override
+  public PathSummaryData get(Integer key) {
+    return cache.getIfPresent(key);
+  }
+
+  @Override
+  public void put(Integer key, PathSummaryData value) {
+    cache.put(key, value);
+  }
+
+  @Override
+  public void putAll(Map<? extends Integer, ? extends PathSummaryData> map) {
+    cache.putAll(map);
+  }
+
+  @Override
+  public void toSecondCache() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Map<Integer, PathSummaryData> getAll(Iterable<? extends Integer> keys) {
+    return cache.getAllPresent(keys);
+  }
+
+  @Override
+  public void remove(Integer key) {
+    cache.invalidate(key);
+  }
+
+  @Override
+  public void close() {
+    cache.invalidateAll();
+  }
+}
@@ -1,18 +1,81 @@
 package org.sirix.cache;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+
 import org.sirix.api.PageReadOnlyTrx;
-import org.sirix.io.Writer;
+import org.sirix.exception.SirixIOException;
+import org.sirix.io.bytepipe.ByteHandlePipeline;
+import org.sirix.io.bytepipe.ByteHandler;
+import org.sirix.io.bytepipe.DeflateCompressor;
+import org.sirix.io.bytepipe.SnappyCompressor;
+import org.sirix.page.PagePersister;
 import org.sirix.page.PageReference;
+import org.sirix.page.SerializationType;
 import org.sirix.page.interfaces.KeyValuePage;
 import org.sirix.page.interfaces.Page;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Stores page containers, which are evicted from the transaction intent log, in a log file. The pages are stored
+ * serialized, but neither compressed nor hashed, as the file only lives as long as the transaction. The other byte
+ * handlers of the resource, that is the encryptor, are still applied, such that pages of encrypted resources are never
+ * stored in plaintext. Each entry consists of a header with the lengths of the modified and the complete page followed
+ * by the serialized pages. The offset of an entry is stored as the persistent log key of the page reference.
+ */
 public final class PersistentFileCache implements AutoCloseable {
-  /** Write to a persistent file. */
-  private final Writer writer;
+  /** The size of the header of an entry (the lengths of the modified and the complete page). */
+  private static final int HEADER_SIZE = 2 * Integer.BYTES;
+
+  /** The initial size of the direct buffer, used to write the entries. */
+  private static final int INITIAL_BUFFER_SIZE = 1 << 16;
+
+  /** The log file. */
+  private final FileChannel logFile;
+
+  /** Used to serialize and deserialize pages. */
+  private final PagePersister pagePersister;
 
-  public PersistentFileCache(final Writer writer) {
-    this.writer = checkNotNull(writer);
+  /** The byte handler, which is applied to each serialized page. */
+  private final ByteHandler byteHandler;
+
+  /** Reused stream to serialize the pages. */
+  private final LogOutputStream output;
+
+  /** Reused direct buffer, used to write the entries. */
+  private ByteBuffer buffer;
+
+  /** The current end of the log file. */
+  private long logFileSize;
+
+  /**
+   * Constructor.
+   *
+   * @param logFile       the log file, which is truncated
+   * @param pagePersister used to serialize and deserialize pages
+   * @param byteHandler   the byte handler, which is applied to each serialized page
+   * @throws SirixIOException if the log file can't be opened
+   */
+  public PersistentFileCache(final Path logFile, final PagePersister pagePersister, final ByteHandler byteHandler) {
+    checkNotNull(logFile);
+    this.pagePersister = checkNotNull(pagePersister);
+    this.byteHandler = checkNotNull(byteHandler);
+    try {
+      this.logFile = FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+          StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+    output = new LogOutputStream();
+    buffer = ByteBuffer.allocateDirect(INITIAL_BUFFER_SIZE);
   }
 
   public PageContainer get(PageReference reference, final PageReadOnlyTrx pageReadTrx) {
@@ -21,47 +84,135 @@ public final class PersistentFileCache implements AutoCloseable {
     if (reference.getPersistentLogKey() < 0)
       return PageContainer.emptyInstance();
 
-    final Page modifiedPage = writer.read(reference, pageReadTrx);
-    final Page completePage;
+    try {
+      final long offset = reference.getPersistentLogKey();
+      final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+      read(header, offset);
+      header.flip();
+      final int modifiedPageLength = header.getInt();
+      final int completePageLength = header.getInt();
 
-    if (modifiedPage instanceof KeyValuePage) {
-      final long peristKey = reference.getPersistentLogKey();
-      reference.setPersistentLogKey(peristKey + reference.getLength());
-      completePage = writer.read(reference, pageReadTrx);
-      reference.setPersistentLogKey(peristKey);
-    } else {
-      completePage = modifiedPage;
-    }
+      final ByteBuffer pages = ByteBuffer.allocate(modifiedPageLength + completePageLength);
+      read(pages, offset + HEADER_SIZE);
+
+      final byte[] serializedPages = pages.array();
+      final Page modifiedPage = deserialize(serializedPages, 0, modifiedPageLength, pageReadTrx);
+      final Page completePage = completePageLength == 0
+          ? modifiedPage
+          : deserialize(serializedPages, modifiedPageLength, completePageLength, pageReadTrx);
 
-    return PageContainer.getInstance(completePage, modifiedPage);
+      return PageContainer.getInstance(completePage, modifiedPage);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
   }
 
   public PersistentFileCache put(PageReference reference, PageContainer container) {
-    reference.setPage(container.getModified());
-    writer.write(reference);
+    try {
+      output.reset();
+      serialize(container.getModified());
+      final int modifiedPageLength = output.size();
+
+      if (container.getModified() instanceof KeyValuePage) {
+        serialize(container.getComplete());
+      }
+      final int completePageLength = output.size() - modifiedPageLength;
+      final int length = HEADER_SIZE + output.size();
+
+      if (buffer.capacity() < length) {
+        buffer = ByteBuffer.allocateDirect(Math.max(length, buffer.capacity() << 1));
+      }
+
+      buffer.clear();
+      buffer.putInt(modifiedPageLength).putInt(completePageLength).put(output.getBuffer(), 0, output.size()).flip();
+
+      final long offset = logFileSize;
+      while (buffer.hasRemaining()) {
+        logFile.write(buffer, offset + buffer.position());
+      }
+      logFileSize += length;
 
-    if (container.getModified() instanceof KeyValuePage) {
-      final long offset = reference.getPersistentLogKey();
-      int length = reference.getLength();
-      reference.setPage(container.getComplete());
-      writer.write(reference);
-      length += reference.getLength();
       reference.setPersistentLogKey(offset);
       reference.setLength(length);
+      reference.setPage(null);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
     }
 
-    reference.setPage(null);
-
     return this;
   }
 
   public PersistentFileCache truncate() {
-    writer.truncate();
+    try {
+      logFile.truncate(0);
+      logFileSize = 0;
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
     return this;
   }
 
   @Override
   public void close() {
-    writer.close();
+    try {
+      if (logFile.isOpen()) {
+        logFile.truncate(0);
+        logFile.close();
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  private void read(final ByteBuffer buffer, final long offset) throws IOException {
+    while (buffer.hasRemaining()) {
+      if (logFile.read(buffer, offset + buffer.position()) < 0) {
+        throw new SirixIOException("Unexpected end of the transaction intent log.");
+      }
+    }
+  }
+
+  private void serialize(final Page page) throws IOException {
+    // Closing the stream finishes the byte handler, whereas closing the reused output stream has no effect.
+    try (final DataOutputStream dataOutput = new DataOutputStream(byteHandler.serialize(output))) {
+      pagePersister.serializePage(dataOutput, page, SerializationType.TRANSACTION_INTENT_LOG);
+    }
+  }
+
+  private Page deserialize(final byte[] serializedPages, final int offset, final int length,
+      final PageReadOnlyTrx pageReadTrx) throws IOException {
+    try (final DataInputStream input = new DataInputStream(
+        byteHandler.deserialize(new ByteArrayInputStream(serializedPages, offset, length)))) {
+      return pagePersister.deserializePage(input, pageReadTrx, SerializationType.TRANSACTION_INTENT_LOG);
+    }
+  }
+
+  /**
+   * Get the byte handler, which is applied to spilled pages of a resource, that is its pipeline without the
+   * compressors.
+   *
+   * @param pipeline the byte handler pipeline of the resource
+   * @return the byte handler for spilled pages
+   */
+  public static ByteHandler getByteHandler(final ByteHandlePipeline pipeline) {
+    return new ByteHandlePipeline(pipeline.getComponents()
+                                          .stream()
+                                          .filter(handler -> !(handler instanceof DeflateCompressor
+                                              || handler instanceof SnappyCompressor))
+                                          .map(ByteHandler::getInstance)
+                                          .toArray(ByteHandler[]::new));
+  }
+
+  /**
+   * Output stream, which exposes its buffer, such that the serialized pages don't have to be copied.
+   */
+  private static final class LogOutputStream extends ByteArrayOutputStream {
+    LogOutputStream() {
+      super(8192);
+    }
+
+    byte[] getBuffer() {
+      return buf;
+    }
   }
 }
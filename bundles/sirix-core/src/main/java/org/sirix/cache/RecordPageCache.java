@@ -11,17 +11,38 @@ import org.sirix.page.interfaces.Page;
 
 import javax.annotation.Nonnull;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 public final class RecordPageCache implements Cache<PageReference, Page> {
 
   private final com.github.benmanes.caffeine.cache.Cache<PageReference, Page> pageCache;
 
+  private final OffHeapPageCache offHeapPageCache;
+
   public RecordPageCache(final int maxSize) {
+    this(maxSize, new OffHeapPageCache(0));
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param maxSize          the maximum number of cached record pages
+   * @param offHeapPageCache the second level cache, which stores evicted record pages serialized
+   */
+  public RecordPageCache(final int maxSize, final OffHeapPageCache offHeapPageCache) {
+    this.offHeapPageCache = checkNotNull(offHeapPageCache);
     final RemovalListener<PageReference, Page> removalListener = (PageReference key, Page value, RemovalCause cause) -> {
       assert key != null;
       key.setPage(null);
+      if (cause.wasEvicted() && value != null) {
+        offHeapPageCache.putPage(key.getKey(), value);
+      }
     };
 
+    // The removal listener runs on the thread, which evicts the page, such that the page isn't serialized
+    // asynchronously, while it's still in use.
     pageCache = Caffeine.newBuilder()
+                        .executor(Runnable::run)
                         .maximumSize(maxSize)
                         .expireAfterWrite(5, TimeUnit.SECONDS)
                         .expireAfterAccess(5, TimeUnit.SECONDS)
@@ -31,6 +52,7 @@ public final class RecordPageCache implements Cache<PageReference, Page> {
 
   @Override
   public void clear() {
+    // Explicitly removed pages aren't moved to the second level cache.
     pageCache.invalidateAll();
   }
 
@@ -40,11 +40,24 @@ public final class RevisionRootPageCache implements Cache<Integer, RevisionRootP
   private final com.github.benmanes.caffeine.cache.Cache<Integer, RevisionRootPage> pageCache;
 
   public RevisionRootPageCache(final int maxSize) {
-    pageCache = Caffeine.newBuilder()
-                        .maximumSize(maxSize)
-                        .expireAfterWrite(30, TimeUnit.SECONDS)
-                        .expireAfterAccess(30, TimeUnit.SECONDS)
-                        .build();
+    this(maxSize, true);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param maxSize        the maximum number of cached revision root pages
+   * @param expireEntries  {@code true}, if entries should expire 30 seconds after they have been written or accessed,
+   *                       {@code false} if entries should only be evicted once the cache is full
+   */
+  public RevisionRootPageCache(final int maxSize, final boolean expireEntries) {
+    final Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(maxSize);
+
+    if (expireEntries) {
+      builder.expireAfterWrite(30, TimeUnit.SECONDS).expireAfterAccess(30, TimeUnit.SECONDS);
+    }
+
+    pageCache = builder.build();
   }
 
   @Override
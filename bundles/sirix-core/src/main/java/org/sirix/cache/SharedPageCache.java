@@ -0,0 +1,415 @@
+package org.sirix.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.sirix.page.PageReference;
+import org.sirix.page.interfaces.Page;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A page cache, which is shared by all resources of the JVM. The cache is bounded by the estimated size of the
+ * cached pages in bytes instead of the number of pages, and pages don't expire after a fixed time, such that hot
+ * pages survive idle periods. Each resource accesses the cache through views, which are bound to the quota of the
+ * resource, that is the maximum number of bytes the pages of the resource may occupy. A quota keeps track of the pages
+ * of its resource, such that the pages of a resource exceeding its quota are evicted in the order, in which they have
+ * been cached, without scanning the pages of other resources.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class SharedPageCache {
+
+  /**
+   * The default maximum size of the cache in bytes (a quarter of the maximum heap size).
+   */
+  private static final long DEFAULT_MAXIMUM_WEIGHT = Runtime.getRuntime().maxMemory() / 4;
+
+  /**
+   * The cache instance shared by all resources.
+   */
+  private static final SharedPageCache INSTANCE = new SharedPageCache(DEFAULT_MAXIMUM_WEIGHT);
+
+  /**
+   * The underlying cache.
+   */
+  private final com.github.benmanes.caffeine.cache.Cache<Key, Entry> cache;
+
+  /**
+   * The quotas of the resources, which are reused whenever a resource is opened again, such that the pages, which
+   * have been cached before, are still found and accounted to the resource.
+   */
+  private final ConcurrentMap<Path, Quota> quotas;
+
+  /**
+   * Constructor.
+   *
+   * @param maximumWeight the maximum size of the cache in bytes
+   */
+  SharedPageCache(final @Nonnegative long maximumWeight) {
+    checkArgument(maximumWeight >= 0, "maximumWeight must be >= 0!");
+    cache = Caffeine.newBuilder()
+                    .maximumWeight(maximumWeight)
+                    .weigher((Key key, Entry entry) -> entry.weight)
+                    .executor(Runnable::run)
+                    .removalListener(this::onRemoval)
+                    .build();
+    quotas = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Get the page cache shared by all resources of the JVM.
+   *
+   * @return the shared page cache
+   */
+  public static SharedPageCache getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Set the maximum size of the cache in bytes. If the cache currently exceeds the new maximum, pages are evicted.
+   *
+   * @param maximumWeight the maximum size of the cache in bytes
+   */
+  public void setMaximumWeight(final @Nonnegative long maximumWeight) {
+    checkArgument(maximumWeight >= 0, "maximumWeight must be >= 0!");
+    eviction().setMaximum(maximumWeight);
+  }
+
+  /**
+   * Create a new quota for a resource.
+   *
+   * @param maximumWeight the maximum number of bytes the pages of the resource may occupy
+   * @return the new quota
+   */
+  public Quota createQuota(final @Nonnegative long maximumWeight) {
+    return createQuota(maximumWeight, new OffHeapPageCache(0));
+  }
+
+  /**
+   * Create a new quota for a resource.
+   *
+   * @param maximumWeight    the maximum number of bytes the pages of the resource may occupy
+   * @param offHeapPageCache the second level cache, which stores evicted record pages of the resource serialized
+   * @return the new quota
+   */
+  public Quota createQuota(final @Nonnegative long maximumWeight, final OffHeapPageCache offHeapPageCache) {
+    checkArgument(maximumWeight > 0, "maximumWeight must be > 0!");
+    return new Quota(maximumWeight, checkNotNull(offHeapPageCache));
+  }
+
+  /**
+   * Get the quota of a resource. The quota is created once and reused afterwards, until the resource is removed or
+   * created anew.
+   *
+   * @param resource                 the path of the resource
+   * @param maximumWeight            the maximum number of bytes the pages of the resource may occupy
+   * @param offHeapPageCacheSupplier supplies the second level cache, which stores evicted record pages of the resource
+   *                                 serialized, if the quota is created
+   * @return the quota of the resource
+   */
+  public Quota getQuota(final Path resource, final @Nonnegative long maximumWeight,
+      final Supplier<OffHeapPageCache> offHeapPageCacheSupplier) {
+    checkNotNull(resource);
+    checkNotNull(offHeapPageCacheSupplier);
+    return quotas.computeIfAbsent(resource.toAbsolutePath().normalize(),
+                                  unused -> createQuota(maximumWeight, offHeapPageCacheSupplier.get()));
+  }
+
+  /**
+   * Remove the quota of a resource and its cached pages, once the resource is removed or created anew.
+   *
+   * @param resource the path of the resource
+   */
+  public void removeQuota(final Path resource) {
+    final Quota quota = quotas.remove(resource.toAbsolutePath().normalize());
+
+    if (quota != null) {
+      cache.invalidateAll(quota.getKeys());
+      quota.offHeapPageCache.clear();
+    }
+  }
+
+  /**
+   * Get a view of the cache for the (indirect) pages of a resource.
+   *
+   * @param quota the quota of the resource
+   * @return the view of the cache
+   */
+  public Cache<PageReference, Page> getPageCache(final Quota quota) {
+    return new ResourceView(checkNotNull(quota), false);
+  }
+
+  /**
+   * Get a view of the cache for the (reconstructed) record pages of a resource.
+   *
+   * @param quota the quota of the resource
+   * @return the view of the cache
+   */
+  public Cache<PageReference, Page> getRecordPageCache(final Quota quota) {
+    return new ResourceView(checkNotNull(quota), true);
+  }
+
+  private Policy.Eviction<Key, Entry> eviction() {
+    return cache.policy().eviction().orElseThrow();
+  }
+
+  private void onRemoval(final @Nullable Key key, final @Nullable Entry entry, final @Nonnull RemovalCause cause) {
+    if (key == null || entry == null) {
+      return;
+    }
+
+    key.quota.usedBytes.addAndGet(-entry.weight);
+
+    // The page has been replaced by another page with the same key, which is still cached.
+    if (cause == RemovalCause.REPLACED) {
+      return;
+    }
+
+    key.reference.setPage(null);
+    key.quota.removeKey(key);
+
+    if (key.isRecordPage && cause.wasEvicted()) {
+      key.quota.offHeapPageCache.putPage(key.reference.getKey(), entry.page);
+    }
+  }
+
+  /**
+   * Evict the coldest pages of a resource until the resource doesn't exceed its quota anymore.
+   *
+   * @param quota the quota of the resource
+   */
+  private void evictExceedingPages(final Quota quota) {
+    while (quota.usedBytes.get() > quota.maximumWeight) {
+      final Key key = quota.getEldestKey();
+
+      if (key == null) {
+        return;
+      }
+
+      final Entry entry = cache.asMap().remove(key);
+
+      if (entry == null) {
+        // The page has already been removed concurrently.
+        quota.removeKey(key);
+      } else if (key.isRecordPage) {
+        quota.offHeapPageCache.putPage(key.reference.getKey(), entry.page);
+      }
+    }
+  }
+
+  /**
+   * The quota of a resource.
+   */
+  public static final class Quota {
+    /**
+     * The maximum number of bytes the pages of the resource may occupy.
+     */
+    private final long maximumWeight;
+
+    /**
+     * The estimated number of bytes the cached pages of the resource currently occupy.
+     */
+    private final AtomicLong usedBytes;
+
+    /**
+     * The second level cache, which stores evicted record pages of the resource serialized.
+     */
+    private final OffHeapPageCache offHeapPageCache;
+
+    /**
+     * The keys of the cached pages of the resource in the order, in which the pages have been cached.
+     */
+    private final Set<Key> keys;
+
+    private Quota(final long maximumWeight, final OffHeapPageCache offHeapPageCache) {
+      this.maximumWeight = maximumWeight;
+      this.offHeapPageCache = offHeapPageCache;
+      usedBytes = new AtomicLong();
+      keys = new LinkedHashSet<>();
+    }
+
+    private synchronized void addKey(final Key key) {
+      // A page, which is cached again, is evicted last.
+      keys.remove(key);
+      keys.add(key);
+    }
+
+    private synchronized void removeKey(final Key key) {
+      keys.remove(key);
+    }
+
+    private synchronized @Nullable Key getEldestKey() {
+      return keys.isEmpty() ? null : keys.iterator().next();
+    }
+
+    private synchronized List<Key> getKeys() {
+      return new ArrayList<>(keys);
+    }
+
+    /**
+     * Get the second level cache, which stores evicted record pages of the resource serialized.
+     *
+     * @return the second level cache
+     */
+    public OffHeapPageCache getOffHeapPageCache() {
+      return offHeapPageCache;
+    }
+
+    /**
+     * Get the estimated number of bytes the cached pages of the resource currently occupy.
+     *
+     * @return the estimated number of bytes
+     */
+    public long getUsedBytes() {
+      return usedBytes.get();
+    }
+
+    /**
+     * Get the maximum number of bytes the pages of the resource may occupy.
+     *
+     * @return the maximum number of bytes
+     */
+    public long getMaximumWeight() {
+      return maximumWeight;
+    }
+  }
+
+  /**
+   * Key of a cached page. Pages of different resources are distinguished by the quota instances.
+   */
+  private static final class Key {
+    private final Quota quota;
+
+    private final boolean isRecordPage;
+
+    private final PageReference reference;
+
+    private Key(final Quota quota, final boolean isRecordPage, final PageReference reference) {
+      this.quota = quota;
+      this.isRecordPage = isRecordPage;
+      this.reference = reference;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * (31 * System.identityHashCode(quota) + Boolean.hashCode(isRecordPage)) + reference.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+
+      final Key other = (Key) obj;
+      return quota == other.quota && isRecordPage == other.isRecordPage && reference.equals(other.reference);
+    }
+  }
+
+  /**
+   * A cached page together with its weight, which is estimated once, when the page is put into the cache.
+   */
+  private static final class Entry {
+    private final Page page;
+
+    private final int weight;
+
+    private Entry(final Page page, final int weight) {
+      this.page = page;
+      this.weight = weight;
+    }
+  }
+
+  /**
+   * View of the cache for the pages of one resource.
+   */
+  private final class ResourceView implements Cache<PageReference, Page> {
+    private final Quota quota;
+
+    private final boolean isRecordPageCache;
+
+    private ResourceView(final Quota quota, final boolean isRecordPageCache) {
+      this.quota = quota;
+      this.isRecordPageCache = isRecordPageCache;
+    }
+
+    private Key key(final PageReference reference) {
+      return new Key(quota, isRecordPageCache, reference);
+    }
+
+    @Override
+    public void clear() {
+      final List<Key> keys = quota.getKeys();
+      keys.removeIf(key -> key.isRecordPage != isRecordPageCache);
+      cache.invalidateAll(keys);
+    }
+
+    @Override
+    public Page get(final PageReference reference) {
+      final Entry entry = cache.getIfPresent(key(reference));
+      return entry == null ? null : entry.page;
+    }
+
+    @Override
+    public void put(final PageReference reference, final @Nonnull Page page) {
+      final Key key = key(reference);
+      final int weight = PageWeigher.weigh(page);
+      quota.usedBytes.addAndGet(weight);
+      // The key is tracked before the page is cached, as the page might be evicted right away.
+      quota.addKey(key);
+      cache.put(key, new Entry(page, weight));
+
+      if (quota.usedBytes.get() > quota.maximumWeight) {
+        evictExceedingPages(quota);
+      }
+    }
+
+    @Override
+    public void putAll(final Map<? extends PageReference, ? extends Page> map) {
+      map.forEach(this::put);
+    }
+
+    @Override
+    public void toSecondCache() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Map<PageReference, Page> getAll(final Iterable<? extends PageReference> references) {
+      final Map<PageReference, Page> pages = new HashMap<>();
+      for (final PageReference reference : references) {
+        final Page page = get(reference);
+        if (page != null) {
+          pages.put(reference, page);
+        }
+      }
+      return pages;
+    }
+
+    @Override
+    public void remove(final PageReference reference) {
+      cache.invalidate(key(reference));
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+}
@@ -192,7 +192,7 @@ public final class TransactionIntentLog implements AutoCloseable {
    * @return this log instance
    */
   public TransactionIntentLog truncate() {
-    secondCache.close();
+    secondCache.truncate();
     mapToPersistentLogKey.clear();
     map.clear();
     return this;
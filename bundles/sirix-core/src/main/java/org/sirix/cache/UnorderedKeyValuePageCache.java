@@ -3,20 +3,55 @@ package org.sirix.cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import org.sirix.page.interfaces.Page;
 
+import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Cache of reconstructed record pages, which is keyed by the revision, the kind of index, the index number and the
+ * record page key instead of page references, such that transactions reading the same revision share the record
+ * pages, even though each transaction deserializes its own page references. The cached pages are still bound to the
+ * transaction, which has reconstructed them, thus transactions must rebind a page to themselves once they look it up.
+ *
+ * @author Johannes Lichtenberger
+ */
 public final class UnorderedKeyValuePageCache implements Cache<IndexLogKey, Page> {
 
+  /** Default number of milliseconds, after which pages, which haven't been accessed, expire. */
+  public static final long DEFAULT_EXPIRY = 10_000;
+
   private final com.github.benmanes.caffeine.cache.Cache<IndexLogKey, Page> pageCache;
 
   public UnorderedKeyValuePageCache() {
-    pageCache = Caffeine.newBuilder()
-                        .maximumSize(1_000)
-                        .expireAfterWrite(10, TimeUnit.SECONDS)
-                        .expireAfterAccess(10, TimeUnit.SECONDS)
-                        .build();
+    this(1_000);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param maxSize the maximum number of cached record pages
+   */
+  public UnorderedKeyValuePageCache(final int maxSize) {
+    this(maxSize, DEFAULT_EXPIRY);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param maxSize the maximum number of cached record pages
+   * @param expiry  the number of milliseconds, after which pages, which haven't been accessed, expire, or {@code 0},
+   *                if pages are only evicted once the cache is full
+   */
+  public UnorderedKeyValuePageCache(final int maxSize, final @Nonnegative long expiry) {
+    checkArgument(expiry >= 0, "expiry must be >= 0!");
+    final Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(maxSize);
+    if (expiry > 0) {
+      builder.expireAfterAccess(expiry, TimeUnit.MILLISECONDS);
+    }
+    pageCache = builder.build();
   }
 
   @Override
@@ -133,6 +133,17 @@ public final class DiffFactory {
             (Builder<JsonNodeReadOnlyTrx, JsonNodeTrx>) builder;
         new JsonDiff(jsonDiffBuilder).diffMovement();
       }
+    },
+
+    /**
+     * Diff, which skips the pages shared between the revisions.
+     */
+    PAGE_REFERENCES {
+      @Override
+      <R extends NodeReadOnlyTrx & NodeCursor, W extends NodeTrx & NodeCursor> void invoke(
+          final Builder<R, W> builder) {
+        new PageReferenceDiff<>(builder).diff();
+      }
     };
 
     /**
@@ -349,6 +360,17 @@ public final class DiffFactory {
     DiffAlgorithm.JSON.invoke(builder);
   }
 
+  /**
+   * Do a diff, which compares the trees of indirect pages of both revisions and only compares the nodes of changed
+   * record pages. The start keys and the maximum depth of the builder are ignored, as the whole revisions are compared.
+   *
+   * @param builder {@link Builder} reference
+   */
+  public static synchronized <R extends NodeReadOnlyTrx & NodeCursor, W extends NodeTrx & NodeCursor> void
+  invokePageReferenceDiff(final Builder<R, W> builder) {
+    DiffAlgorithm.PAGE_REFERENCES.invoke(builder);
+  }
+
   /**
    * Do a full diff.
    *
@@ -28,6 +28,28 @@ public final class JsonDiffSerializer {
   }
 
   public String serialize(boolean emitFromDiffAlgorithm) {
+    final var out = new StringBuilder();
+    serialize(emitFromDiffAlgorithm, out);
+    return out.toString();
+  }
+
+  /**
+   * Serialize the diffs into an appendable. The diffs are appended one by one, such that the serialized diffs don't
+   * have to be kept in memory.
+   *
+   * @param emitFromDiffAlgorithm {@code true}, if the diffs have been emitted by a diff algorithm
+   * @param out                   the appendable to serialize into
+   * @throws UncheckedIOException if an I/O error occurs
+   */
+  public void serialize(boolean emitFromDiffAlgorithm, Appendable out) {
+    try {
+      serializeDiffs(emitFromDiffAlgorithm, out);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void serializeDiffs(boolean emitFromDiffAlgorithm, Appendable out) throws IOException {
     final var databaseName = resourceManager.getDatabase().getName();
     final var resourceName = resourceManager.getResourceConfig().getName();
 
@@ -36,11 +58,15 @@ public final class JsonDiffSerializer {
     if (diffs.size() == 1) {
       final var tuple = diffs.iterator().next();
       if (tuple.getDiff() == DiffFactory.DiffType.SAME || tuple.getDiff() == DiffFactory.DiffType.SAMEHASH) {
-        return json.toString();
+        out.append(json.toString());
+        return;
       }
     }
 
-    final var jsonDiffs = json.getAsJsonArray("diffs");
+    final var metaInfo = json.toString();
+    // The meta info without the closing brackets of the empty diffs array and of the object.
+    out.append(metaInfo, 0, metaInfo.length() - 2);
+    var isFirstDiff = true;
 
     try (final var oldRtx = resourceManager.beginNodeReadOnlyTrx(oldRevisionNumber);
          final var newRtx = resourceManager.beginNodeReadOnlyTrx(newRevisionNumber)) {
@@ -51,7 +77,8 @@ public final class JsonDiffSerializer {
       }
 
       if (diffs.isEmpty()) {
-        return json.toString();
+        out.append("]}");
+        return;
       }
 
       for (final var diffTuple : diffs) {
@@ -82,7 +109,8 @@ public final class JsonDiffSerializer {
             addTypeAndDataProperties(newRtx, jsonInsertDiff, newRevisionNumber, emitFromDiffAlgorithm);
 
             insertedJson.add("insert", jsonInsertDiff);
-            jsonDiffs.add(insertedJson);
+            appendDiff(out, insertedJson, isFirstDiff);
+            isFirstDiff = false;
 
             break;
           case DELETED:
@@ -102,7 +130,8 @@ public final class JsonDiffSerializer {
               deletedJson.addProperty("delete", diffTuple.getOldNodeKey());
             }
 
-            jsonDiffs.add(deletedJson);
+            appendDiff(out, deletedJson, isFirstDiff);
+            isFirstDiff = false;
             break;
           case REPLACEDNEW:
             final var replaceJson = new JsonObject();
@@ -121,7 +150,8 @@ public final class JsonDiffSerializer {
 
             addTypeAndDataProperties(newRtx, jsonReplaceDiff, newRevisionNumber, emitFromDiffAlgorithm);
 
-            jsonDiffs.add(replaceJson);
+            appendDiff(out, replaceJson, isFirstDiff);
+            isFirstDiff = false;
             break;
           case UPDATED:
             final var updateJson = new JsonObject();
@@ -156,7 +186,8 @@ public final class JsonDiffSerializer {
             }
 
             updateJson.add("update", jsonUpdateDiff);
-            jsonDiffs.add(updateJson);
+            appendDiff(out, updateJson, isFirstDiff);
+            isFirstDiff = false;
 
             // $CASES-OMITTED$
           default:
@@ -165,7 +196,14 @@ public final class JsonDiffSerializer {
       }
     }
 
-    return json.toString();
+    out.append("]}");
+  }
+
+  private static void appendDiff(Appendable out, JsonObject diff, boolean isFirstDiff) throws IOException {
+    if (!isFirstDiff) {
+      out.append(',');
+    }
+    out.append(diff.toString());
   }
 
   private void insertBasedOnNewRtx(JsonNodeReadOnlyTrx newRtx, JsonObject jsonInsertDiff) {
@@ -0,0 +1,237 @@
+package org.sirix.diff;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.sirix.api.NodeCursor;
+import org.sirix.api.NodeReadOnlyTrx;
+import org.sirix.api.NodeTrx;
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.diff.DiffFactory.Builder;
+import org.sirix.diff.DiffFactory.DiffType;
+import org.sirix.page.IndirectPage;
+import org.sirix.page.PageKind;
+import org.sirix.page.PageReference;
+import org.sirix.settings.Constants;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Diff, which compares the trees of indirect pages of two revisions top-down. Unchanged record pages (and whole
+ * subtrees of unchanged pages) are shared between the revisions and thus referenced by the same persistent page
+ * reference, such that they are skipped without reading them. The nodes of the changed record pages are compared
+ * by their node keys, which are stable between revisions:
+ *
+ * <ul>
+ * <li>nodes, which only exist in the new revision, are reported as {@link DiffType#INSERTED},</li>
+ * <li>nodes, which only exist in the old revision, are reported as {@link DiffType#DELETED},</li>
+ * <li>nodes, whose name or value has been changed, are reported as {@link DiffType#UPDATED}.</li>
+ * </ul>
+ *
+ * If subtrees are skipped, only the roots of inserted and deleted subtrees are reported. The diff always compares
+ * the whole revisions and doesn't detect moves or replaced nodes.
+ *
+ * @author Johannes Lichtenberger
+ */
+final class PageReferenceDiff<R extends NodeReadOnlyTrx & NodeCursor, W extends NodeTrx & NodeCursor>
+    extends AbstractDiffObservable {
+
+  /** No page references. */
+  private static final PageReference[] NO_REFERENCES = new PageReference[Constants.INP_REFERENCE_COUNT];
+
+  /** Read only transaction on the old revision. */
+  private final R oldRtx;
+
+  /** Read only transaction on the new revision. */
+  private final R newRtx;
+
+  /** Determines if subtrees should be skipped or not. */
+  private final boolean skipSubtrees;
+
+  /** The exponents of the number of pages, which are referenced by an indirect page on each level. */
+  private final int[] inpLevelPageCountExp;
+
+  /** The level of the root of the indirect page tree in the old revision. */
+  private final int oldRootLevel;
+
+  /** The level of the root of the indirect page tree in the new revision. */
+  private final int newRootLevel;
+
+  /** The maximum node key of both revisions. */
+  private final long maxNodeKey;
+
+  /**
+   * Constructor.
+   *
+   * @param builder {@link Builder} reference
+   */
+  PageReferenceDiff(final Builder<R, W> builder) {
+    checkNotNull(builder);
+    skipSubtrees = builder.mSkipSubtrees;
+    synchronized (builder.mResMgr) {
+      newRtx = builder.mResMgr.beginNodeReadOnlyTrx(builder.mNewRev);
+      oldRtx = builder.mResMgr.beginNodeReadOnlyTrx(builder.mOldRev);
+    }
+
+    synchronized (builder.mObservers) {
+      for (final DiffObserver observer : builder.mObservers) {
+        addObserver(observer);
+      }
+    }
+
+    final PageReadOnlyTrx oldPageRtx = oldRtx.getPageTrx();
+    final PageReadOnlyTrx newPageRtx = newRtx.getPageTrx();
+    inpLevelPageCountExp = newPageRtx.getUberPage().getPageCountExp(PageKind.RECORDPAGE);
+    oldRootLevel = inpLevelPageCountExp.length
+        - oldPageRtx.getCurrentMaxIndirectPageTreeLevel(PageKind.RECORDPAGE, -1, null);
+    newRootLevel = inpLevelPageCountExp.length
+        - newPageRtx.getCurrentMaxIndirectPageTreeLevel(PageKind.RECORDPAGE, -1, null);
+    maxNodeKey = Math.max(oldRtx.getMaxNodeKey(), newRtx.getMaxNodeKey());
+  }
+
+  /**
+   * Do the diff.
+   */
+  void diff() {
+    try {
+      diff(oldRtx.getPageTrx().getActualRevisionRootPage().getIndirectPageReference(),
+          newRtx.getPageTrx().getActualRevisionRootPage().getIndirectPageReference(),
+          Math.min(oldRootLevel, newRootLevel), 0);
+      done();
+    } finally {
+      newRtx.close();
+      oldRtx.close();
+    }
+  }
+
+  /**
+   * Compare the subtrees of pages referenced by two page references.
+   *
+   * @param oldReference the reference in the old revision or {@code null}
+   * @param newReference the reference in the new revision or {@code null}
+   * @param level        the level of the referenced pages in the indirect page tree
+   * @param pageKey      the key of the first record page in the subtrees
+   */
+  private void diff(final PageReference oldReference, final PageReference newReference, final int level,
+      final long pageKey) {
+    if (oldReference == null && newReference == null) {
+      return;
+    }
+
+    if (level >= oldRootLevel && level >= newRootLevel && oldReference != null && newReference != null
+        && oldReference.getKey() == newReference.getKey()) {
+      // The subtree is shared between the revisions.
+      return;
+    }
+
+    if (level == inpLevelPageCountExp.length) {
+      diffRecordPage(pageKey);
+      return;
+    }
+
+    final PageReference[] oldChildren = children(oldRtx.getPageTrx(), oldReference, level, oldRootLevel);
+    final PageReference[] newChildren = children(newRtx.getPageTrx(), newReference, level, newRootLevel);
+
+    for (int offset = 0; offset < Constants.INP_REFERENCE_COUNT; offset++) {
+      final long childPageKey = pageKey + ((long) offset << inpLevelPageCountExp[level]);
+
+      if ((childPageKey << Constants.NDP_NODE_COUNT_EXPONENT) > maxNodeKey) {
+        break;
+      }
+
+      diff(oldChildren[offset], newChildren[offset], level + 1, childPageKey);
+    }
+  }
+
+  /**
+   * Get the references of an indirect page by their offsets.
+   *
+   * @param pageRtx   the page transaction to read the indirect page
+   * @param reference the reference to the indirect page or {@code null}
+   * @param level     the level of the indirect page
+   * @param rootLevel the level of the root of the indirect page tree
+   * @return the references by their offsets
+   */
+  private static PageReference[] children(final PageReadOnlyTrx pageRtx, final PageReference reference,
+      final int level, final int rootLevel) {
+    if (reference == null || reference.getKey() == Constants.NULL_ID_LONG) {
+      return NO_REFERENCES;
+    }
+
+    final PageReference[] children = new PageReference[Constants.INP_REFERENCE_COUNT];
+
+    if (level < rootLevel) {
+      // The tree of the revision is lower, its root is the first child of the missing indirect pages on top.
+      children[0] = reference;
+      return children;
+    }
+
+    final IndirectPage page = pageRtx.dereferenceIndirectPageReference(reference);
+
+    if (page == null) {
+      return NO_REFERENCES;
+    }
+
+    final int[] offsets = page.getOffsets();
+    final List<PageReference> references = page.getReferences();
+    for (int i = 0; i < offsets.length; i++) {
+      children[offsets[i]] = references.get(i);
+    }
+
+    return children;
+  }
+
+  /**
+   * Compare the nodes stored in a changed record page.
+   *
+   * @param pageKey the key of the record page
+   */
+  private void diffRecordPage(final long pageKey) {
+    final long firstNodeKey = pageKey << Constants.NDP_NODE_COUNT_EXPONENT;
+    final long lastNodeKey = Math.min(firstNodeKey + Constants.NDP_NODE_COUNT - 1, maxNodeKey);
+
+    for (long nodeKey = firstNodeKey; nodeKey <= lastNodeKey; nodeKey++) {
+      final boolean existsInOldRevision = oldRtx.moveTo(nodeKey).hasMoved();
+      final boolean existsInNewRevision = newRtx.moveTo(nodeKey).hasMoved();
+
+      if (existsInNewRevision && !existsInOldRevision) {
+        final long parentKey = newRtx.getParentKey();
+        if (!skipSubtrees || oldRtx.hasNode(parentKey)) {
+          fireDiff(DiffType.INSERTED, nodeKey, Math.max(parentKey, 0), new DiffDepth(depth(newRtx, nodeKey), -1));
+        }
+      } else if (existsInOldRevision && !existsInNewRevision) {
+        final long parentKey = oldRtx.getParentKey();
+        if (!skipSubtrees || newRtx.hasNode(parentKey)) {
+          fireDiff(DiffType.DELETED, Math.max(parentKey, 0), nodeKey, new DiffDepth(-1, depth(oldRtx, nodeKey)));
+        }
+      } else if (existsInOldRevision && isUpdated()) {
+        fireDiff(DiffType.UPDATED, nodeKey, nodeKey, new DiffDepth(depth(newRtx, nodeKey), depth(oldRtx, nodeKey)));
+      }
+    }
+  }
+
+  /**
+   * Determines if the name or the value of the nodes the transactions are located at differ.
+   */
+  private boolean isUpdated() {
+    return oldRtx.getKind() != newRtx.getKind() || !Objects.equals(oldRtx.getName(), newRtx.getName())
+        || !Objects.equals(oldRtx.getValue(), newRtx.getValue());
+  }
+
+  /**
+   * Get the depth of a node.
+   *
+   * @param rtx     the transaction located at the node
+   * @param nodeKey the key of the node
+   * @return the depth of the node (the document node has depth 0)
+   */
+  private int depth(final R rtx, final long nodeKey) {
+    int depth = 0;
+    while (rtx.hasParent()) {
+      rtx.moveToParent();
+      depth++;
+    }
+    rtx.moveTo(nodeKey);
+    return depth;
+  }
+}
@@ -0,0 +1,22 @@
+package org.sirix.index;
+
+/**
+ * An index builder, which collects the entries of an index while the nodes are visited and writes them into the
+ * index in the order of their keys, once all nodes have been visited.
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
+public interface BulkIndexBuilder extends AutoCloseable {
+
+  /**
+   * Write the collected entries into the index, once all nodes have been visited.
+   */
+  void finish();
+
+  /**
+   * Release the collected entries, whether they have been written into the index or the traversal has failed.
+   */
+  @Override
+  void close();
+}
@@ -0,0 +1,14 @@
+package org.sirix.index;
+
+/**
+ * The data structure, which stores the entries of an index.
+ *
+ * @author Johannes Lichtenberger
+ */
+public enum IndexBackendType {
+  /** Balanced binary search tree, whose nodes are stored as separate records. */
+  AVL_TREE,
+
+  /** B+-tree with a high fan-out, whose leaves are linked for range scans. */
+  BPLUS_TREE;
+}
@@ -9,7 +9,8 @@ import org.sirix.axis.DescendantAxis;
 import org.sirix.axis.NonStructuralWrapperAxis;
 
 /**
- * Build an index by traversing the current revision.
+ * Build an index by traversing the current revision. Builders, which implement {@link BulkIndexBuilder}, collect the
+ * entries during the traversal and write them in the order of their keys afterwards.
  *
  * @author Johannes Lichtenberger
  *
@@ -26,11 +27,16 @@ public final class IndexBuilder {
     final long nodeKey = rtx.getNodeKey();
     rtx.moveToDocumentRoot();
 
-    for (@SuppressWarnings("unused")
-    final long key : new NonStructuralWrapperAxis(new DescendantAxis(rtx))) {
-      for (final XmlNodeVisitor builder : builders) {
-        rtx.acceptVisitor(builder);
+    try {
+      for (@SuppressWarnings("unused")
+      final long key : new NonStructuralWrapperAxis(new DescendantAxis(rtx))) {
+        for (final XmlNodeVisitor builder : builders) {
+          rtx.acceptVisitor(builder);
+        }
       }
+      finish(builders);
+    } finally {
+      close(builders);
     }
     rtx.moveTo(nodeKey);
   }
@@ -45,13 +51,33 @@ public final class IndexBuilder {
     final long nodeKey = rtx.getNodeKey();
     rtx.moveToDocumentRoot();
 
-    for (@SuppressWarnings("unused")
-    final long key : new DescendantAxis(rtx)) {
-      for (final JsonNodeVisitor builder : builders) {
-        rtx.acceptVisitor(builder);
+    try {
+      for (@SuppressWarnings("unused")
+      final long key : new DescendantAxis(rtx)) {
+        for (final JsonNodeVisitor builder : builders) {
+          rtx.acceptVisitor(builder);
+        }
       }
+      finish(builders);
+    } finally {
+      close(builders);
     }
     rtx.moveTo(nodeKey);
   }
 
+  private static void finish(final Set<?> builders) {
+    for (final Object builder : builders) {
+      if (builder instanceof BulkIndexBuilder) {
+        ((BulkIndexBuilder) builder).finish();
+      }
+    }
+  }
+
+  private static void close(final Set<?> builders) {
+    for (final Object builder : builders) {
+      if (builder instanceof BulkIndexBuilder) {
+        ((BulkIndexBuilder) builder).close();
+      }
+    }
+  }
 }
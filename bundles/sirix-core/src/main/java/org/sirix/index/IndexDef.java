@@ -33,6 +33,10 @@ public final class IndexDef implements Materializable {
 
   private static final QNm ID_ATTRIBUTE = new QNm("id");
 
+  private static final QNm BACKEND_ATTRIBUTE = new QNm("backend");
+
+  private static final QNm POSTING_FORMAT_ATTRIBUTE = new QNm("postings");
+
   public static final QNm INDEX_TAG = new QNm("index");
 
   private IndexType type;
@@ -46,6 +50,12 @@ public final class IndexDef implements Materializable {
   // populated when index is built
   private int id;
 
+  // the data structure, in which the index entries are stored
+  private IndexBackendType backendType = IndexBackendType.AVL_TREE;
+
+  // the format of the node keys of the index entries (definitions without the attribute have been stored as lists)
+  private PostingFormat postingFormat = PostingFormat.BITMAP;
+
   private final Set<Path<QNm>> paths = new HashSet<>();
 
   private final Set<QNm> excluded = new HashSet<>();
@@ -58,19 +68,36 @@ public final class IndexDef implements Materializable {
    * Name index.
    */
   IndexDef(final Set<QNm> included, final Set<QNm> excluded, final int indexDefNo) {
+    this(included, excluded, indexDefNo, IndexBackendType.AVL_TREE);
+  }
+
+  /**
+   * Name index, stored in the given backend.
+   */
+  IndexDef(final Set<QNm> included, final Set<QNm> excluded, final int indexDefNo,
+      final IndexBackendType backendType) {
     type = IndexType.NAME;
     this.included.addAll(included);
     this.excluded.addAll(excluded);
     id = indexDefNo;
+    this.backendType = checkNotNull(backendType);
   }
 
   /**
    * Path index.
    */
   IndexDef(final Set<Path<QNm>> paths, final int indexDefNo) {
+    this(paths, indexDefNo, IndexBackendType.AVL_TREE);
+  }
+
+  /**
+   * Path index, stored in the given backend.
+   */
+  IndexDef(final Set<Path<QNm>> paths, final int indexDefNo, final IndexBackendType backendType) {
     type = IndexType.PATH;
     this.paths.addAll(paths);
     id = indexDefNo;
+    this.backendType = checkNotNull(backendType);
   }
 
   /**
@@ -78,11 +105,20 @@ public final class IndexDef implements Materializable {
    */
   IndexDef(final Type contentType, final Set<Path<QNm>> paths, final boolean unique,
       final int indexDefNo) {
+    this(contentType, paths, unique, indexDefNo, IndexBackendType.AVL_TREE);
+  }
+
+  /**
+   * CAS index, stored in the given backend.
+   */
+  IndexDef(final Type contentType, final Set<Path<QNm>> paths, final boolean unique,
+      final int indexDefNo, final IndexBackendType backendType) {
     type = IndexType.CAS;
     this.contentType = checkNotNull(contentType);
     this.paths.addAll(paths);
     this.unique = unique;
     id = indexDefNo;
+    this.backendType = checkNotNull(backendType);
   }
 
   @Override
@@ -101,6 +137,15 @@ public final class IndexDef implements Materializable {
       tmp.attribute(UNIQUE_ATTRIBUTE, new Una(Boolean.toString(unique)));
     }
 
+    // Only non-default backends are stored, such that existing index definitions remain unchanged.
+    if (backendType != IndexBackendType.AVL_TREE) {
+      tmp.attribute(BACKEND_ATTRIBUTE, new Una(backendType.toString()));
+    }
+
+    if (postingFormat != PostingFormat.LIST) {
+      tmp.attribute(POSTING_FORMAT_ATTRIBUTE, new Una(postingFormat.toString()));
+    }
+
     if (paths != null && !paths.isEmpty()) {
       for (final Path<QNm> path : paths) {
         tmp.openElement(PATH_TAG);
@@ -173,6 +218,16 @@ public final class IndexDef implements Materializable {
       unique = (Boolean.valueOf(attribute.getValue().stringValue()));
     }
 
+    attribute = root.getAttribute(BACKEND_ATTRIBUTE);
+    if (attribute != null) {
+      backendType = IndexBackendType.valueOf(attribute.getValue().stringValue());
+    }
+
+    attribute = root.getAttribute(POSTING_FORMAT_ATTRIBUTE);
+    postingFormat = attribute != null
+        ? PostingFormat.valueOf(attribute.getValue().stringValue())
+        : PostingFormat.LIST;
+
     final Stream<? extends Node<?>> children = root.getChildren();
 
     try {
@@ -246,6 +301,14 @@ public final class IndexDef implements Materializable {
     return type;
   }
 
+  public IndexBackendType getBackendType() {
+    return backendType;
+  }
+
+  public PostingFormat getPostingFormat() {
+    return postingFormat;
+  }
+
   public Set<Path<QNm>> getPaths() {
     return Collections.unmodifiableSet(paths);
   }
@@ -33,8 +33,23 @@ public final class IndexDefs {
    */
   public static IndexDef createCASIdxDef(final boolean unique, final Type optType, final Set<Path<QNm>> paths,
       final int indexDefNo) {
+    return createCASIdxDef(unique, optType, paths, indexDefNo, IndexBackendType.AVL_TREE);
+  }
+
+  /**
+   * Create a CAS {@link IndexDef} instance, whose entries are stored in the given backend.
+   *
+   * @param unique determine if it's unique
+   * @param optType an optional type
+   * @param paths the paths to index
+   * @param indexDefNo the number of the index definition
+   * @param backendType the data structure, in which the index entries are stored
+   * @return a new {@link IndexDef} instance
+   */
+  public static IndexDef createCASIdxDef(final boolean unique, final Type optType, final Set<Path<QNm>> paths,
+      final int indexDefNo, final IndexBackendType backendType) {
     final Type type = optType == null ? Type.STR : optType;
-    return new IndexDef(type, paths, unique, indexDefNo);
+    return new IndexDef(type, paths, unique, indexDefNo, backendType);
   }
 
   /**
@@ -47,6 +62,19 @@ public final class IndexDefs {
     return new IndexDef(paths, indexDefNo);
   }
 
+  /**
+   * Create a path {@link IndexDef}, whose entries are stored in the given backend.
+   *
+   * @param paths the paths to index
+   * @param indexDefNo the number of the index definition
+   * @param backendType the data structure, in which the index entries are stored
+   * @return a new path {@link IndexDef} instance
+   */
+  public static IndexDef createPathIdxDef(final Set<Path<QNm>> paths, final int indexDefNo,
+      final IndexBackendType backendType) {
+    return new IndexDef(paths, indexDefNo, backendType);
+  }
+
   public enum NameIndexType {
     JSON,
 
@@ -54,11 +82,18 @@ public final class IndexDefs {
   }
 
   public static IndexDef createNameIdxDef(final int indexDefNo, final NameIndexType type) {
+    return createNameIdxDef(indexDefNo, type, IndexBackendType.AVL_TREE);
+  }
+
+  public static IndexDef createNameIdxDef(final int indexDefNo, final NameIndexType type,
+      final IndexBackendType backendType) {
     switch (type) {
       case JSON:
-        return new IndexDef(ImmutableSet.of(), ImmutableSet.of(), PageConstants.JSON_NAME_INDEX_OFFSET + indexDefNo);
+        return new IndexDef(ImmutableSet.of(), ImmutableSet.of(), PageConstants.JSON_NAME_INDEX_OFFSET + indexDefNo,
+            backendType);
       case XML:
-        return new IndexDef(ImmutableSet.of(), ImmutableSet.of(), PageConstants.XML_NAME_INDEX_OFFSET + indexDefNo);
+        return new IndexDef(ImmutableSet.of(), ImmutableSet.of(), PageConstants.XML_NAME_INDEX_OFFSET + indexDefNo,
+            backendType);
       default:
         throw new IllegalStateException("Type " + type + " not known.");
     }
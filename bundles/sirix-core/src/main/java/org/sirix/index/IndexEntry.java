@@ -0,0 +1,26 @@
+package org.sirix.index;
+
+/**
+ * An entry of an index, that is an indexed key and its value.
+ *
+ * @author Johannes Lichtenberger
+ *
+ * @param <K> the key
+ * @param <V> the value
+ */
+public interface IndexEntry<K extends Comparable<? super K>, V> {
+
+  /**
+   * Key to be indexed.
+   *
+   * @return key reference
+   */
+  K getKey();
+
+  /**
+   * Value to be indexed.
+   *
+   * @return value reference
+   */
+  V getValue();
+}
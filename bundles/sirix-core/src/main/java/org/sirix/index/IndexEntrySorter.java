@@ -0,0 +1,508 @@
+package org.sirix.index;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingOutputStream;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.exception.SirixIOException;
+import org.sirix.index.avltree.keyvalue.NodeReferences;
+import org.sirix.node.NodeKind;
+
+import javax.annotation.Nonnegative;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * Sorts the (key, node key) pairs of an index, which is built, with bounded memory. Every distinct key is buffered
+ * once, whereas the pairs are buffered as the number of their key and their node key in two arrays. Once the buffer
+ * exceeds the maximum number of bytes, the pairs are sorted by the order of their keys and written to a file in the
+ * transaction log directory of the resource as a sorted run. The runs are merged afterwards, such that the entries are
+ * returned in the order of their keys and every key only once, with the node keys of all runs. If there are more runs
+ * than the maximum fan-in, the runs are merged in intermediate passes first, such that only a bounded number of files
+ * is opened at a time.
+ *
+ * @author Johannes Lichtenberger
+ *
+ * @param <K> the key
+ */
+public final class IndexEntrySorter<K extends Comparable<? super K>> implements AutoCloseable {
+
+  /** Default maximum number of bytes, which are buffered in memory. */
+  public static final int DEFAULT_MAX_BUFFERED_BYTES = 1 << 25;
+
+  /** Default maximum number of runs, which are merged at once. */
+  public static final int DEFAULT_MAX_FAN_IN = 64;
+
+  /**
+   * Bytes of a buffered pair, that is the number of its key and its node key, as well as its node key, once the pairs
+   * are sorted.
+   */
+  private static final int PAIR_BYTES = Integer.BYTES + 2 * Long.BYTES;
+
+  /** Bytes of a distinct key in addition to its serialized form, that is the entry of the tree map and the objects. */
+  private static final int KEY_OVERHEAD_BYTES = 64;
+
+  /** Initial number of pairs, which are buffered. */
+  private static final int INITIAL_CAPACITY = 1 << 10;
+
+  /** The kind of the B+-tree nodes of the index type, whose key format is used to write the runs. */
+  private final NodeKind keyKind;
+
+  /** The directory of the runs. */
+  private final Path directory;
+
+  /** Maximum number of bytes, which are buffered in memory. */
+  private final int maxBufferedBytes;
+
+  /** Maximum number of runs, which are merged at once. */
+  private final int maxFanIn;
+
+  /** The files of the sorted runs. */
+  private final List<Path> runs;
+
+  /** The readers of the runs, which are merged. */
+  private final List<RunReader> runReaders;
+
+  /** Counts the bytes of the keys, which are serialized to determine their sizes. */
+  private final CountingOutputStream keySizeCounter;
+
+  /** Discards the keys, which are serialized to determine their sizes. */
+  private final DataOutputStream keySizeSink;
+
+  /** The buffered keys and their numbers. */
+  private TreeMap<K, Integer> keyNumbers;
+
+  /** The numbers of the keys of the buffered pairs. */
+  private int[] pairKeyNumbers;
+
+  /** The node keys of the buffered pairs. */
+  private long[] pairNodeKeys;
+
+  /** The number of buffered pairs. */
+  private int numberOfPairs;
+
+  /** The bytes of the buffered keys. */
+  private long keyBytes;
+
+  /** Determines if the sorted entries have been requested. */
+  private boolean isFinished;
+
+  /**
+   * Get a new instance, which writes its runs to the transaction log directory of the resource.
+   *
+   * @param <K>         the key
+   * @param pageReadTrx the page transaction of the resource
+   * @param type        the index type
+   * @return new sorter instance
+   */
+  public static <K extends Comparable<? super K>> IndexEntrySorter<K> getInstance(final PageReadOnlyTrx pageReadTrx,
+      final IndexType type) {
+    final Path directory = pageReadTrx.getResourceManager()
+                                      .getResourceConfig()
+                                      .getResource()
+                                      .resolve(ResourceConfiguration.ResourcePaths.TRANSACTION_INTENT_LOG.getPath());
+
+    return new IndexEntrySorter<>(type, directory);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param type      the index type
+   * @param directory the directory of the runs
+   */
+  public IndexEntrySorter(final IndexType type, final Path directory) {
+    this(type, directory, DEFAULT_MAX_BUFFERED_BYTES, DEFAULT_MAX_FAN_IN);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param type             the index type
+   * @param directory        the directory of the runs
+   * @param maxBufferedBytes maximum number of bytes, which are buffered in memory
+   * @param maxFanIn         maximum number of runs, which are merged at once
+   */
+  public IndexEntrySorter(final IndexType type, final Path directory, final @Nonnegative int maxBufferedBytes,
+      final @Nonnegative int maxFanIn) {
+    checkArgument(maxBufferedBytes > 0, "maxBufferedBytes must be > 0!");
+    checkArgument(maxFanIn > 1, "maxFanIn must be > 1!");
+    keyKind = switch (checkNotNull(type)) {
+      case PATH -> NodeKind.PATHBPLUSTREE;
+      case CAS -> NodeKind.CASBPLUSTREE;
+      case NAME -> NodeKind.NAMEBPLUSTREE;
+    };
+    this.directory = checkNotNull(directory);
+    this.maxBufferedBytes = maxBufferedBytes;
+    this.maxFanIn = maxFanIn;
+    runs = new ArrayList<>();
+    runReaders = new ArrayList<>();
+    keySizeCounter = new CountingOutputStream(ByteStreams.nullOutputStream());
+    keySizeSink = new DataOutputStream(keySizeCounter);
+    keyNumbers = new TreeMap<>();
+    // At most half of the bytes are used for the pairs at first, the others are left to the keys.
+    final int capacity = Math.max(1, Math.min(INITIAL_CAPACITY, maxBufferedBytes / (2 * PAIR_BYTES)));
+    pairKeyNumbers = new int[capacity];
+    pairNodeKeys = new long[capacity];
+  }
+
+  /**
+   * Add a node key to the entry of a key.
+   *
+   * @param key     the key
+   * @param nodeKey the node key
+   */
+  public void add(final K key, final @Nonnegative long nodeKey) {
+    checkNotNull(key);
+    checkArgument(nodeKey >= 0, "nodeKey must be >= 0!");
+    checkState(!isFinished, "The sorted entries have already been requested.");
+
+    if (numberOfPairs == pairNodeKeys.length) {
+      if (getBufferedBytes(2L * pairNodeKeys.length) <= maxBufferedBytes) {
+        pairKeyNumbers = Arrays.copyOf(pairKeyNumbers, 2 * pairKeyNumbers.length);
+        pairNodeKeys = Arrays.copyOf(pairNodeKeys, 2 * pairNodeKeys.length);
+      } else {
+        writeRun(bufferedEntries());
+      }
+    }
+
+    Integer keyNumber = keyNumbers.get(key);
+
+    if (keyNumber == null) {
+      keyNumber = keyNumbers.size();
+      keyNumbers.put(key, keyNumber);
+      keyBytes += KEY_OVERHEAD_BYTES + getSerializedSize(key);
+    }
+
+    pairKeyNumbers[numberOfPairs] = keyNumber;
+    pairNodeKeys[numberOfPairs] = nodeKey;
+    numberOfPairs++;
+
+    if (getBufferedBytes(pairNodeKeys.length) > maxBufferedBytes) {
+      writeRun(bufferedEntries());
+    }
+  }
+
+  /**
+   * Get the entries in the order of their keys. Must be called only once, after all pairs have been added.
+   *
+   * @return the sorted entries, whereby every key is returned only once
+   * @throws SirixIOException if the runs can't be read
+   */
+  public Iterator<IndexEntry<K, NodeReferences>> sortedEntries() {
+    checkState(!isFinished, "The sorted entries have already been requested.");
+    isFinished = true;
+
+    if (runs.isEmpty()) {
+      return bufferedEntries();
+    }
+
+    if (numberOfPairs > 0) {
+      writeRun(bufferedEntries());
+    }
+
+    pairKeyNumbers = new int[0];
+    pairNodeKeys = new long[0];
+
+    // Merge the runs in intermediate passes, until they're merged at once.
+    while (runs.size() > maxFanIn) {
+      final List<Path> mergedRuns = new ArrayList<>(runs.subList(0, maxFanIn));
+      openRuns(mergedRuns);
+      writeRun(new MergingIterator());
+      closeRuns();
+      runs.removeAll(mergedRuns);
+    }
+
+    openRuns(runs);
+    return new MergingIterator();
+  }
+
+  /**
+   * Close the runs and delete their files.
+   *
+   * @throws SirixIOException if a run can't be deleted
+   */
+  @Override
+  public void close() {
+    closeRuns();
+
+    try {
+      for (final Path run : runs) {
+        Files.deleteIfExists(run);
+      }
+      runs.clear();
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  /**
+   * Close the opened runs and delete their files.
+   *
+   * @throws SirixIOException if a run can't be deleted
+   */
+  private void closeRuns() {
+    try {
+      for (final RunReader runReader : runReaders) {
+        runReader.close();
+        Files.deleteIfExists(runReader.run);
+      }
+      runReaders.clear();
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  private long getBufferedBytes(final long capacity) {
+    return capacity * PAIR_BYTES + keyBytes;
+  }
+
+  private long getSerializedSize(final K key) {
+    final long size = keySizeCounter.getCount();
+
+    try {
+      NodeKind.serializeBPlusTreeKey(keyKind, key, keySizeSink);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+
+    return keySizeCounter.getCount() - size;
+  }
+
+  /**
+   * Get the buffered entries in the order of their keys and clear the buffer. As the keys are sorted already, the node
+   * keys are sorted by the ranks of their keys with a counting sort.
+   *
+   * @return the buffered entries
+   */
+  private Iterator<IndexEntry<K, NodeReferences>> bufferedEntries() {
+    final int[] ranks = new int[keyNumbers.size()];
+    int rank = 0;
+    for (final int keyNumber : keyNumbers.values()) {
+      ranks[keyNumber] = rank++;
+    }
+
+    // The node keys of the key of rank i are stored from offsets[i] to offsets[i + 1].
+    final int[] offsets = new int[ranks.length + 1];
+    for (int i = 0; i < numberOfPairs; i++) {
+      offsets[ranks[pairKeyNumbers[i]] + 1]++;
+    }
+    for (int i = 1; i < offsets.length; i++) {
+      offsets[i] += offsets[i - 1];
+    }
+
+    final long[] sortedNodeKeys = new long[numberOfPairs];
+    final int[] positions = Arrays.copyOf(offsets, ranks.length);
+    for (int i = 0; i < numberOfPairs; i++) {
+      sortedNodeKeys[positions[ranks[pairKeyNumbers[i]]]++] = pairNodeKeys[i];
+    }
+
+    final Iterator<K> keys = keyNumbers.keySet().iterator();
+    keyNumbers = new TreeMap<>();
+    numberOfPairs = 0;
+    keyBytes = 0;
+
+    return new AbstractIterator<>() {
+      private int rank;
+
+      @Override
+      protected IndexEntry<K, NodeReferences> computeNext() {
+        if (!keys.hasNext()) {
+          return endOfData();
+        }
+
+        final NodeReferences references = new NodeReferences();
+        for (int i = offsets[rank]; i < offsets[rank + 1]; i++) {
+          references.addNodeKey(sortedNodeKeys[i]);
+        }
+        rank++;
+
+        return new Entry<>(keys.next(), references);
+      }
+    };
+  }
+
+  /**
+   * Write sorted entries to a new file as a sorted run.
+   *
+   * @param entries the sorted entries
+   */
+  private void writeRun(final Iterator<IndexEntry<K, NodeReferences>> entries) {
+    try {
+      final Path run = Files.createTempFile(directory, "index-", ".run");
+      runs.add(run);
+
+      try (final DataOutputStream sink =
+          new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run)))) {
+        while (entries.hasNext()) {
+          final IndexEntry<K, NodeReferences> entry = entries.next();
+          sink.writeBoolean(true);
+          NodeKind.serializeBPlusTreeKey(keyKind, entry.getKey(), sink);
+          entry.getValue().serialize(sink);
+        }
+        sink.writeBoolean(false);
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  private void openRuns(final List<Path> runsToOpen) {
+    try {
+      for (final Path run : runsToOpen) {
+        runReaders.add(new RunReader(run));
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  /**
+   * An entry of the sorted entries.
+   */
+  private static final class Entry<K extends Comparable<? super K>> implements IndexEntry<K, NodeReferences> {
+    private final K key;
+
+    private final NodeReferences value;
+
+    private Entry(final K key, final NodeReferences value) {
+      this.key = key;
+      this.value = value;
+    }
+
+    @Override
+    public K getKey() {
+      return key;
+    }
+
+    @Override
+    public NodeReferences getValue() {
+      return value;
+    }
+  }
+
+  /**
+   * Reads the entries of a sorted run one after the other.
+   */
+  private final class RunReader implements AutoCloseable {
+
+    /** The file of the run. */
+    private final Path run;
+
+    /** The source to read from. */
+    private final DataInputStream source;
+
+    /** The key of the current entry. */
+    private K key;
+
+    /** The value of the current entry. */
+    private NodeReferences value;
+
+    /**
+     * Constructor.
+     *
+     * @param run the file of the run
+     * @throws IOException if an I/O error occurs
+     */
+    private RunReader(final Path run) throws IOException {
+      this.run = run;
+      source = new DataInputStream(new BufferedInputStream(Files.newInputStream(run)));
+    }
+
+    /**
+     * Read the next entry.
+     *
+     * @return {@code true}, if an entry has been read, {@code false}, if the run is exhausted
+     * @throws IOException if an I/O error occurs
+     */
+    @SuppressWarnings("unchecked")
+    private boolean next() throws IOException {
+      if (!source.readBoolean()) {
+        key = null;
+        value = null;
+        return false;
+      }
+
+      key = (K) NodeKind.deserializeBPlusTreeKey(keyKind, source);
+      value = NodeReferences.deserialize(source);
+      return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+      source.close();
+    }
+  }
+
+  /**
+   * Merges the opened runs by their current keys and combines the node keys of equal keys.
+   */
+  private final class MergingIterator extends AbstractIterator<IndexEntry<K, NodeReferences>> {
+
+    /** The runs, which aren't exhausted, ordered by their current keys. */
+    private final PriorityQueue<RunReader> queue;
+
+    /**
+     * Constructor.
+     */
+    private MergingIterator() {
+      queue = new PriorityQueue<>(runReaders.size(), (first, second) -> first.key.compareTo(second.key));
+
+      try {
+        for (final RunReader runReader : runReaders) {
+          if (runReader.next()) {
+            queue.add(runReader);
+          }
+        }
+      } catch (final IOException e) {
+        throw new SirixIOException(e);
+      }
+    }
+
+    @Override
+    protected IndexEntry<K, NodeReferences> computeNext() {
+      if (queue.isEmpty()) {
+        return endOfData();
+      }
+
+      try {
+        RunReader runReader = queue.poll();
+        final K key = runReader.key;
+        final NodeReferences value = runReader.value;
+        advance(runReader);
+
+        while (!queue.isEmpty() && queue.peek().key.compareTo(key) == 0) {
+          runReader = queue.poll();
+          value.addAll(runReader.value);
+          advance(runReader);
+        }
+
+        return new Entry<>(key, value);
+      } catch (final IOException e) {
+        throw new SirixIOException(e);
+      }
+    }
+
+    private void advance(final RunReader runReader) throws IOException {
+      if (runReader.next()) {
+        queue.add(runReader);
+      }
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package org.sirix.index;
+
+import org.sirix.api.PageTrx;
+import org.sirix.index.avltree.AVLTreeReader.MoveCursor;
+import org.sirix.index.avltree.AVLTreeWriter;
+import org.sirix.index.avltree.interfaces.References;
+import org.sirix.index.bplustree.BPlusTreeWriter;
+import org.sirix.node.interfaces.DataRecord;
+import org.sirix.page.UnorderedKeyValuePage;
+
+import java.util.Iterator;
+import java.util.Optional;
+
+/**
+ * Writes the entries of an index, independent of the data structure, in which they are stored.
+ *
+ * @author Johannes Lichtenberger
+ *
+ * @param <K> the key to search for or insert
+ * @param <V> the value
+ */
+public interface IndexTreeWriter<K extends Comparable<? super K>, V extends References> {
+
+  /**
+   * Get a new instance, which stores the entries in the backend of the index definition.
+   *
+   * @param pageWriteTrx {@link PageTrx} for persistent storage
+   * @param indexDef     the index definition
+   * @return new writer instance
+   */
+  static <K extends Comparable<? super K>, V extends References> IndexTreeWriter<K, V> getInstance(
+      final PageTrx<Long, DataRecord, UnorderedKeyValuePage> pageWriteTrx, final IndexDef indexDef) {
+    return switch (indexDef.getBackendType()) {
+      case AVL_TREE -> AVLTreeWriter.getInstance(pageWriteTrx, indexDef.getType(), indexDef.getID());
+      case BPLUS_TREE -> BPlusTreeWriter.getInstance(pageWriteTrx, indexDef.getType(), indexDef.getID());
+    };
+  }
+
+  /**
+   * Checks if the specified key is already indexed; if yes, replaces its value. Otherwise, creates a new index entry.
+   *
+   * @param key   key to be indexed
+   * @param value node key references
+   * @param move  determines if the cursor must be moved to the document root first, which is ignored by backends
+   *              without a cursor
+   * @return indexed node key references
+   */
+  V index(K key, V value, MoveCursor move);
+
+  /**
+   * Remove a node key from the value of a key.
+   *
+   * @param key     the key for which to search the value
+   * @param nodeKey the nodeKey to remove from the value
+   * @return {@code true}, if the node key has been removed, {@code false} otherwise
+   */
+  boolean remove(K key, long nodeKey);
+
+  /**
+   * Finds the specified key in the index and returns its value.
+   *
+   * @param key  key to be found
+   * @param mode the search mode
+   * @return {@link Optional} reference (with the found value, or a reference which indicates that the value hasn't
+   *     been found)
+   */
+  Optional<V> get(K key, SearchMode mode);
+
+  /**
+   * Index entries, which are sorted by their keys, whereby every key occurs only once, for instance when an index is
+   * built. The default implementation indexes one entry after the other, such that every key is written only once.
+   *
+   * @param entries the entries in ascending order of their keys, whose keys mustn't be indexed yet
+   */
+  default void bulkLoad(Iterator<? extends IndexEntry<K, V>> entries) {
+    while (entries.hasNext()) {
+      final IndexEntry<K, V> entry = entries.next();
+      index(entry.getKey(), entry.getValue(), MoveCursor.TO_DOCUMENT_ROOT);
+    }
+  }
+}
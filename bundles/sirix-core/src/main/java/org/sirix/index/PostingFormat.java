@@ -0,0 +1,17 @@
+package org.sirix.index;
+
+/**
+ * The format, in which the node keys of an index entry (its postings) are stored.
+ *
+ * @author Johannes Lichtenberger
+ */
+public enum PostingFormat {
+  /**
+   * Lists of node keys, the format of all indexes created before the node keys have been stored in bitmaps. Entries
+   * of these indexes are still written as lists, such that every index is stored in a single format.
+   */
+  LIST,
+
+  /** Compressed bitmaps of node keys, which store dense ranges of node keys in a few bytes. */
+  BITMAP;
+}
@@ -1,11 +1,12 @@
 package org.sirix.index.avltree.interfaces;
 
+import org.sirix.index.IndexEntry;
 import org.sirix.node.interfaces.Node;
 
 /**
  * Immutable AVLNode.
  */
-public interface ImmutableAVLNode<K extends Comparable<? super K>, V> extends Node {
+public interface ImmutableAVLNode<K extends Comparable<? super K>, V> extends Node, IndexEntry<K, V> {
 
   /**
    * Key to be indexed.
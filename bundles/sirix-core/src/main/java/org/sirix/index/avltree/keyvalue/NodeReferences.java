@@ -1,29 +1,51 @@
 package org.sirix.index.avltree.keyvalue;
 
-import java.util.Collections;
-import java.util.HashSet;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
 import java.util.Set;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nullable;
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.sirix.index.PostingFormat;
 import org.sirix.index.avltree.interfaces.References;
 import com.google.common.base.MoreObjects;
-import com.google.common.base.Objects;
 
 /**
- * Text node-ID references.
+ * Text node-ID references. The node keys are stored in a compressed bitmap, which stores dense ranges of node keys
+ * in a few bytes, iterates over them in ascending order and combines the node keys of several references by bitwise
+ * operations instead of boxing every single node key.
  *
  * @author Johannes Lichtenberger
  *
  */
 public final class NodeReferences implements References {
-  /** A {@link Set} of node-keys. */
-  private final Set<Long> mNodeKeys;
+  /** A compressed bitmap of node-keys. */
+  private final Roaring64NavigableMap mNodeKeys;
+
+  /** The format, in which the node keys are stored in the index. */
+  private final PostingFormat mPostingFormat;
 
   /**
    * Default constructor.
    */
   public NodeReferences() {
-    mNodeKeys = new HashSet<>();
+    this(PostingFormat.BITMAP);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param postingFormat the format, in which the node keys are stored in the index
+   */
+  public NodeReferences(final PostingFormat postingFormat) {
+    assert postingFormat != null;
+    mNodeKeys = new Roaring64NavigableMap();
+    mPostingFormat = postingFormat;
   }
 
   /**
@@ -33,7 +55,59 @@ public final class NodeReferences implements References {
    */
   public NodeReferences(final Set<Long> nodeKeys) {
     assert nodeKeys != null;
-    mNodeKeys = new HashSet<>(nodeKeys);
+    mNodeKeys = new Roaring64NavigableMap();
+    for (final long nodeKey : nodeKeys) {
+      mNodeKeys.addLong(nodeKey);
+    }
+    mPostingFormat = PostingFormat.BITMAP;
+  }
+
+  /**
+   * Private constructor.
+   *
+   * @param nodeKeys the bitmap of node keys
+   */
+  private NodeReferences(final Roaring64NavigableMap nodeKeys) {
+    mNodeKeys = nodeKeys;
+    mPostingFormat = PostingFormat.BITMAP;
+  }
+
+  /**
+   * Deserialize node references, which have been serialized by {@link #serialize(DataOutput)}.
+   *
+   * @param source the source to read from
+   * @return the node references
+   * @throws IOException if an I/O error occurs
+   */
+  public static NodeReferences deserialize(final DataInput source) throws IOException {
+    final Roaring64NavigableMap nodeKeys = new Roaring64NavigableMap();
+    nodeKeys.deserialize(source);
+    return new NodeReferences(nodeKeys);
+  }
+
+  /**
+   * Serialize the node references.
+   *
+   * @param sink the sink to write to
+   * @throws IOException if an I/O error occurs
+   */
+  public void serialize(final DataOutput sink) throws IOException {
+    // Store consecutive node keys as runs. References are only serialized once they aren't modified anymore: pages of
+    // the writing transaction are serialized on its thread, and evicted pages of other transactions are read-only.
+    // Still, a copy is optimized, as optimizing restructures the bitmap, which concurrent readers might access.
+    final Roaring64NavigableMap nodeKeys = new Roaring64NavigableMap();
+    nodeKeys.or(mNodeKeys);
+    nodeKeys.runOptimize();
+    nodeKeys.serialize(sink);
+  }
+
+  /**
+   * Get the format, in which the node keys are stored in the index.
+   *
+   * @return the posting format
+   */
+  public PostingFormat getPostingFormat() {
+    return mPostingFormat;
   }
 
   @Override
@@ -41,32 +115,128 @@ public final class NodeReferences implements References {
     return mNodeKeys.contains(nodeKey);
   }
 
+  /**
+   * Get an unmodifiable set view, which iterates over the node keys in ascending order.
+   *
+   * @return set of all keys
+   */
   @Override
   public Set<Long> getNodeKeys() {
-    return Collections.unmodifiableSet(mNodeKeys);
+    return new NodeKeySet();
+  }
+
+  /**
+   * Get an iterator over the node keys in ascending order, which doesn't box the node keys.
+   *
+   * @return the iterator
+   */
+  public PrimitiveIterator.OfLong getNodeKeyIterator() {
+    final LongIterator iterator = mNodeKeys.getLongIterator();
+
+    return new PrimitiveIterator.OfLong() {
+      @Override
+      public long nextLong() {
+        return iterator.next();
+      }
+
+      @Override
+      public boolean hasNext() {
+        return iterator.hasNext();
+      }
+    };
+  }
+
+  /**
+   * Get the number of node keys.
+   *
+   * @return the number of node keys
+   */
+  public long getNumberOfNodeKeys() {
+    return mNodeKeys.getLongCardinality();
   }
 
   @Override
   public NodeReferences addNodeKey(final @Nonnegative long nodeKey) {
-    mNodeKeys.add(nodeKey);
+    mNodeKeys.addLong(nodeKey);
     return this;
   }
 
   @Override
   public boolean removeNodeKey(@Nonnegative long nodeKey) {
-    return mNodeKeys.remove(nodeKey);
+    if (!mNodeKeys.contains(nodeKey)) {
+      return false;
+    }
+    mNodeKeys.removeLong(nodeKey);
+    return true;
+  }
+
+  /**
+   * Add the node keys of other references (union).
+   *
+   * @param other the other references
+   * @return this instance
+   */
+  public NodeReferences addAll(final NodeReferences other) {
+    mNodeKeys.or(other.mNodeKeys);
+    return this;
+  }
+
+  /**
+   * Retain only the node keys, which are also stored in other references (intersection).
+   *
+   * @param other the other references
+   * @return this instance
+   */
+  public NodeReferences retainAll(final NodeReferences other) {
+    mNodeKeys.and(other.mNodeKeys);
+    return this;
+  }
+
+  /**
+   * Remove the node keys, which are stored in other references (difference).
+   *
+   * @param other the other references
+   * @return this instance
+   */
+  public NodeReferences removeAll(final NodeReferences other) {
+    mNodeKeys.andNot(other.mNodeKeys);
+    return this;
+  }
+
+  /**
+   * Combine the node keys of several references (union), for instance of the references of all index entries, which
+   * match a query.
+   *
+   * @param references the references to combine
+   * @return new references, which contain the node keys of all references
+   */
+  public static NodeReferences union(final Iterator<NodeReferences> references) {
+    final NodeReferences union = new NodeReferences();
+    references.forEachRemaining(union::addAll);
+    return union;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(mNodeKeys);
+    // Same as the hash code of a set of the node keys.
+    return getNodeKeys().hashCode();
   }
 
   @Override
   public boolean equals(final @Nullable Object obj) {
+    // The bitmaps themselves aren't compared, as their internal structure depends on the removed node keys.
     if (obj instanceof NodeReferences) {
       final NodeReferences refs = (NodeReferences) obj;
-      return mNodeKeys.equals(refs.mNodeKeys);
+      if (mNodeKeys.getLongCardinality() != refs.mNodeKeys.getLongCardinality()) {
+        return false;
+      }
+      final PrimitiveIterator.OfLong iterator = getNodeKeyIterator();
+      while (iterator.hasNext()) {
+        if (!refs.mNodeKeys.contains(iterator.nextLong())) {
+          return false;
+        }
+      }
+      return true;
     }
     return false;
   }
@@ -74,19 +244,40 @@ public final class NodeReferences implements References {
   @Override
   public String toString() {
     final MoreObjects.ToStringHelper helper = MoreObjects.toStringHelper(this);
-    for (final long nodeKey : mNodeKeys) {
-      helper.add("referenced node key", nodeKey);
+    final PrimitiveIterator.OfLong iterator = getNodeKeyIterator();
+    while (iterator.hasNext()) {
+      helper.add("referenced node key", iterator.nextLong());
     }
     return helper.toString();
   }
 
   @Override
   public boolean hasNodeKeys() {
-    return !mNodeKeys.isEmpty();
+    return mNodeKeys.getLongCardinality() != 0;
   }
 
   @Override
   public boolean contains(@Nonnegative long nodeKey) {
     return mNodeKeys.contains(nodeKey);
   }
+
+  /**
+   * Unmodifiable view of the node keys.
+   */
+  private final class NodeKeySet extends AbstractSet<Long> {
+    @Override
+    public Iterator<Long> iterator() {
+      return getNodeKeyIterator();
+    }
+
+    @Override
+    public int size() {
+      return (int) Math.min(Integer.MAX_VALUE, mNodeKeys.getLongCardinality());
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+      return o instanceof Long && mNodeKeys.contains((Long) o);
+    }
+  }
 }
@@ -0,0 +1,350 @@
+package org.sirix.index.bplustree;
+
+import com.google.common.base.MoreObjects;
+import org.sirix.node.NodeKind;
+import org.sirix.node.SirixDeweyID;
+import org.sirix.node.interfaces.DataRecord;
+import org.sirix.settings.Fixed;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A node of a B+-tree, which stores up to {@link #MAX_NUMBER_OF_KEYS} keys in a single record. Inner nodes store the
+ * node keys of their children, whereby the subtree of the child at position {@code i} contains the keys, which are
+ * greater than or equal to the key at position {@code i - 1} and lower than the key at position {@code i}. Leaves
+ * store the values of their keys and the node key of the next leaf, such that ranges of keys are scanned without
+ * moving up the tree. As the values, that is the postings, are stored inline, the node keys of all postings of a leaf
+ * are bounded by {@link #MAX_NUMBER_OF_NODE_KEYS}, except for leaves with a single key, whose posting exceeds it.
+ *
+ * @author Johannes Lichtenberger
+ *
+ * @param <K> the key
+ * @param <V> the value
+ */
+public final class BPlusTreeNode<K extends Comparable<? super K>, V> implements DataRecord {
+
+  /** Maximum number of keys of a node. Nodes with more keys are split in halves. */
+  public static final int MAX_NUMBER_OF_KEYS = 64;
+
+  /**
+   * Maximum number of node keys of the postings of a leaf. Leaves with more node keys are split, as long as they have
+   * more than one key, such that a posting, which exceeds the maximum on its own, is stored in a leaf of its own and
+   * modifications of other keys don't copy it.
+   */
+  public static final int MAX_NUMBER_OF_NODE_KEYS = 4096;
+
+  /** The node key. */
+  private final long nodeKey;
+
+  /** The kind of the node, which depends on the index type. */
+  private final NodeKind kind;
+
+  /** Determines if the node is a leaf. */
+  private final boolean isLeaf;
+
+  /** The sorted keys. */
+  private final List<K> keys;
+
+  /** The values of the keys, if the node is a leaf. */
+  private final List<V> values;
+
+  /** The node keys of the children, if the node is an inner node. */
+  private final List<Long> childKeys;
+
+  /** The node key of the next leaf, if the node is a leaf. */
+  private long nextLeafKey = Fixed.NULL_NODE_KEY.getStandardProperty();
+
+  /**
+   * Constructor for a leaf.
+   *
+   * @param nodeKey the node key
+   * @param kind    the kind of the node
+   * @param keys    the sorted keys
+   * @param values  the values of the keys
+   */
+  public BPlusTreeNode(final long nodeKey, final NodeKind kind, final List<K> keys, final List<V> values) {
+    this.nodeKey = nodeKey;
+    this.kind = checkNotNull(kind);
+    this.keys = checkNotNull(keys);
+    this.values = checkNotNull(values);
+    childKeys = Collections.emptyList();
+    isLeaf = true;
+  }
+
+  /**
+   * Constructor for an inner node.
+   *
+   * @param nodeKey   the node key
+   * @param kind      the kind of the node
+   * @param keys      the sorted keys
+   * @param childKeys the node keys of the children, one more than keys
+   * @param isLeaf    must be {@code false}
+   */
+  public BPlusTreeNode(final long nodeKey, final NodeKind kind, final List<K> keys, final List<Long> childKeys,
+      final boolean isLeaf) {
+    assert !isLeaf;
+    this.nodeKey = nodeKey;
+    this.kind = checkNotNull(kind);
+    this.keys = checkNotNull(keys);
+    this.childKeys = checkNotNull(childKeys);
+    values = Collections.emptyList();
+    this.isLeaf = false;
+  }
+
+  /**
+   * Determines if the node is a leaf.
+   *
+   * @return {@code true}, if the node is a leaf, {@code false} if it's an inner node
+   */
+  public boolean isLeaf() {
+    return isLeaf;
+  }
+
+  /**
+   * Get the number of keys.
+   *
+   * @return the number of keys
+   */
+  public int size() {
+    return keys.size();
+  }
+
+  /**
+   * Get the keys.
+   *
+   * @return the sorted keys, which must not be modified
+   */
+  public List<K> getKeys() {
+    return keys;
+  }
+
+  /**
+   * Get the key at a position.
+   *
+   * @param position the position
+   * @return the key
+   */
+  public K getKey(final int position) {
+    return keys.get(position);
+  }
+
+  /**
+   * Get the values of a leaf.
+   *
+   * @return the values, which must not be modified
+   */
+  public List<V> getValues() {
+    return values;
+  }
+
+  /**
+   * Get the value at a position of a leaf.
+   *
+   * @param position the position
+   * @return the value
+   */
+  public V getValue(final int position) {
+    return values.get(position);
+  }
+
+  /**
+   * Get the node keys of the children of an inner node.
+   *
+   * @return the node keys of the children, which must not be modified
+   */
+  public List<Long> getChildKeys() {
+    return childKeys;
+  }
+
+  /**
+   * Get the node key of the child at a position of an inner node.
+   *
+   * @param position the position
+   * @return the node key of the child
+   */
+  public long getChildKey(final int position) {
+    return childKeys.get(position);
+  }
+
+  /**
+   * Search a key by a binary search.
+   *
+   * @param key the key to search
+   * @return the position of the key, if it's stored, otherwise {@code (-(insertion point) - 1)}
+   */
+  public int search(final K key) {
+    return Collections.binarySearch(keys, key);
+  }
+
+  /**
+   * Get the position of the child of an inner node, whose subtree contains the given key.
+   *
+   * @param key the key
+   * @return the position of the child
+   */
+  public int getChildPosition(final K key) {
+    final int position = search(key);
+    return position >= 0 ? position + 1 : -position - 1;
+  }
+
+  /**
+   * Set the value at a position of a leaf.
+   *
+   * @param position the position
+   * @param value    the value
+   */
+  public void setValue(final int position, final V value) {
+    values.set(position, value);
+  }
+
+  /**
+   * Insert a key and its value into a leaf.
+   *
+   * @param position the position
+   * @param key      the key
+   * @param value    the value
+   */
+  public void insert(final int position, final K key, final V value) {
+    assert isLeaf;
+    keys.add(position, key);
+    values.add(position, value);
+  }
+
+  /**
+   * Insert a key and the child to its right into an inner node.
+   *
+   * @param position the position of the key
+   * @param key      the key
+   * @param childKey the node key of the child, which contains the keys greater than or equal to the key
+   */
+  public void insertChild(final int position, final K key, final long childKey) {
+    assert !isLeaf;
+    keys.add(position, key);
+    childKeys.add(position + 1, childKey);
+  }
+
+  /**
+   * Remove a key and its value from a leaf.
+   *
+   * @param position the position
+   */
+  public void remove(final int position) {
+    assert isLeaf;
+    keys.remove(position);
+    values.remove(position);
+  }
+
+  /**
+   * Split the node in halves. The upper half of the keys is moved to a new node.
+   *
+   * @param newNodeKey the node key of the new node
+   * @return the new node, which holds the upper half of the keys
+   */
+  public BPlusTreeNode<K, V> split(final long newNodeKey) {
+    return split(newNodeKey, keys.size() / 2);
+  }
+
+  /**
+   * Split the node at a position. The keys from the position on are moved to a new node, whereas the key at the
+   * position of an inner node moves up to the parent.
+   *
+   * @param newNodeKey the node key of the new node
+   * @param middle     the position, which must be greater than {@code 0} and lower than the number of keys
+   * @return the new node, which holds the upper keys
+   */
+  public BPlusTreeNode<K, V> split(final long newNodeKey, final int middle) {
+    assert middle > 0 && middle < keys.size();
+
+    if (isLeaf) {
+      final List<K> upperKeys = new ArrayList<>(keys.subList(middle, keys.size()));
+      final List<V> upperValues = new ArrayList<>(values.subList(middle, values.size()));
+      keys.subList(middle, keys.size()).clear();
+      values.subList(middle, values.size()).clear();
+
+      final BPlusTreeNode<K, V> newLeaf = new BPlusTreeNode<>(newNodeKey, kind, upperKeys, upperValues);
+      newLeaf.setNextLeafKey(nextLeafKey);
+      nextLeafKey = newNodeKey;
+      return newLeaf;
+    }
+
+    // The middle key moves up to the parent, which is why it's retained neither here nor in the new node.
+    final List<K> upperKeys = new ArrayList<>(keys.subList(middle + 1, keys.size()));
+    final List<Long> upperChildKeys = new ArrayList<>(childKeys.subList(middle + 1, childKeys.size()));
+    keys.subList(middle + 1, keys.size()).clear();
+    childKeys.subList(middle + 1, childKeys.size()).clear();
+
+    return new BPlusTreeNode<>(newNodeKey, kind, upperKeys, upperChildKeys, false);
+  }
+
+  /**
+   * Remove the last key of an inner node, which has been split, as it's moved up to the parent.
+   *
+   * @return the removed key
+   */
+  public K removeLastKey() {
+    assert !isLeaf;
+    return keys.remove(keys.size() - 1);
+  }
+
+  /**
+   * Get the node key of the next leaf.
+   *
+   * @return the node key of the next leaf, or {@code Fixed.NULL_NODE_KEY}, if it's the last leaf
+   */
+  public long getNextLeafKey() {
+    return nextLeafKey;
+  }
+
+  /**
+   * Set the node key of the next leaf.
+   *
+   * @param nextLeafKey the node key of the next leaf
+   */
+  public void setNextLeafKey(final long nextLeafKey) {
+    this.nextLeafKey = nextLeafKey;
+  }
+
+  /**
+   * Determines if the leaf has a next leaf.
+   *
+   * @return {@code true}, if it has a next leaf, {@code false} otherwise
+   */
+  public boolean hasNextLeaf() {
+    return nextLeafKey != Fixed.NULL_NODE_KEY.getStandardProperty();
+  }
+
+  @Override
+  public long getNodeKey() {
+    return nodeKey;
+  }
+
+  @Override
+  public NodeKind getKind() {
+    return kind;
+  }
+
+  @Override
+  public long getRevision() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public SirixDeweyID getDeweyID() {
+    return null;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+                      .add("nodeKey", nodeKey)
+                      .add("isLeaf", isLeaf)
+                      .add("keys", keys)
+                      .add("childKeys", childKeys)
+                      .add("nextLeafKey", nextLeafKey)
+                      .toString();
+  }
+}
@@ -0,0 +1,322 @@
+package org.sirix.index.bplustree;
+
+import com.google.common.collect.AbstractIterator;
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.index.IndexEntry;
+import org.sirix.index.IndexType;
+import org.sirix.index.SearchMode;
+import org.sirix.index.avltree.interfaces.References;
+import org.sirix.node.interfaces.StructNode;
+import org.sirix.page.PageKind;
+import org.sirix.settings.Fixed;
+
+import javax.annotation.Nonnegative;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Reads a B+-tree index. A lookup reads one node per level of the tree, and as a node stores up to
+ * {@link BPlusTreeNode#MAX_NUMBER_OF_KEYS} keys, the tree has only a few levels even for large indexes. Ranges of
+ * keys are scanned by following the links between the leaves.
+ *
+ * @author Johannes Lichtenberger
+ *
+ * @param <K> the key to search for
+ * @param <V> the value
+ */
+public final class BPlusTreeReader<K extends Comparable<? super K>, V extends References> {
+
+  /** {@link PageReadOnlyTrx} for persistent storage. */
+  final PageReadOnlyTrx pageReadTrx;
+
+  /** Page kind. */
+  final PageKind pageKind;
+
+  /** Index number. */
+  final int index;
+
+  /**
+   * Get a new instance.
+   *
+   * @param <K>         key instance which extends comparable
+   * @param <V>         value
+   * @param pageReadTrx {@link PageReadOnlyTrx} for persistent storage
+   * @param type        type of index
+   * @param index       index
+   * @return new tree instance
+   */
+  public static <K extends Comparable<? super K>, V extends References> BPlusTreeReader<K, V> getInstance(
+      final PageReadOnlyTrx pageReadTrx, final IndexType type, final @Nonnegative int index) {
+    return new BPlusTreeReader<>(pageReadTrx, type, index);
+  }
+
+  /**
+   * Private constructor.
+   *
+   * @param pageReadTrx {@link PageReadOnlyTrx} for persistent storage
+   * @param type        kind of index
+   * @param index       the index number
+   */
+  private BPlusTreeReader(final PageReadOnlyTrx pageReadTrx, final IndexType type, final int index) {
+    this.pageReadTrx = checkNotNull(pageReadTrx);
+    pageKind = switch (type) {
+      case PATH -> PageKind.PATHPAGE;
+      case CAS -> PageKind.CASPAGE;
+      case NAME -> PageKind.NAMEPAGE;
+    };
+    this.index = index;
+  }
+
+  /**
+   * Get the document root of the index, which references the root node of the tree.
+   *
+   * @return the document root
+   */
+  StructNode getDocumentRoot() {
+    final var documentRoot =
+        (StructNode) pageReadTrx.getRecordOrNull(Fixed.DOCUMENT_NODE_KEY.getStandardProperty(), pageKind, index);
+
+    if (documentRoot == null) {
+      throw new IllegalStateException("Node couldn't be fetched from persistent storage!");
+    }
+
+    return documentRoot;
+  }
+
+  /**
+   * Get a node of the tree.
+   *
+   * @param nodeKey the node key
+   * @return the node
+   */
+  @SuppressWarnings("unchecked")
+  BPlusTreeNode<K, V> getTreeNode(final long nodeKey) {
+    return (BPlusTreeNode<K, V>) pageReadTrx.getRecordOrNull(nodeKey, pageKind, index);
+  }
+
+  /**
+   * Get the leaf, which stores the given key, if it's indexed. A key, which is equal to the separator key of an inner
+   * node, is stored in the subtree on the right of the separator, as the separator is the first key of this subtree.
+   *
+   * @param key the key
+   * @return the leaf, or {@code null}, if the tree is empty
+   */
+  private BPlusTreeNode<K, V> getLeaf(final K key) {
+    final StructNode documentRoot = getDocumentRoot();
+
+    if (!documentRoot.hasFirstChild()) {
+      return null;
+    }
+
+    BPlusTreeNode<K, V> node = getTreeNode(documentRoot.getFirstChildKey());
+
+    while (!node.isLeaf()) {
+      node = getTreeNode(node.getChildKey(node.getChildPosition(key)));
+    }
+
+    return node;
+  }
+
+  /**
+   * Get the leaf, from which on the first key greater than or equal to the given key is found by following the links
+   * between the leaves. As the comparator may compare only a prefix of the keys, keys, which are equal according to
+   * the comparator, may be stored on both sides of a separator, thus the descent ends left of equal separators.
+   *
+   * @param key        the key
+   * @param comparator comparator to be used to compare keys
+   * @return the leaf, or {@code null}, if the tree is empty
+   */
+  private BPlusTreeNode<K, V> getLowerBoundLeaf(final K key, final Comparator<? super K> comparator) {
+    final StructNode documentRoot = getDocumentRoot();
+
+    if (!documentRoot.hasFirstChild()) {
+      return null;
+    }
+
+    BPlusTreeNode<K, V> node = getTreeNode(documentRoot.getFirstChildKey());
+
+    while (!node.isLeaf()) {
+      node = getTreeNode(node.getChildKey(getLowerBound(node, key, comparator)));
+    }
+
+    return node;
+  }
+
+  /**
+   * Get the position of the first key of a node, which is greater than or equal to the given key, or for inner nodes
+   * the position of the child, whose subtree contains the first such key.
+   */
+  private int getLowerBound(final BPlusTreeNode<K, V> node, final K key, final Comparator<? super K> comparator) {
+    int low = 0;
+    int high = node.size();
+
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+
+      if (comparator.compare(node.getKey(mid), key) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+
+    return low;
+  }
+
+  /**
+   * Finds the specified key in the index and returns its value.
+   *
+   * @param key  key to be found
+   * @param mode the search mode
+   * @return {@link Optional} reference (with the found value, or a reference which indicates that the value hasn't
+   *     been found)
+   */
+  public Optional<V> get(final K key, final SearchMode mode) {
+    checkNotNull(key);
+    checkNotNull(mode);
+
+    if (mode == SearchMode.EQUAL) {
+      final BPlusTreeNode<K, V> leaf = getLeaf(key);
+
+      if (leaf == null) {
+        return Optional.empty();
+      }
+
+      final int position = leaf.search(key);
+      return position >= 0 ? Optional.of(leaf.getValue(position)) : Optional.empty();
+    }
+
+    // Lower keys are found from the first entry on, greater keys from the searched key on.
+    final Iterator<IndexEntry<K, V>> entries = mode == SearchMode.LOWER || mode == SearchMode.LOWER_OR_EQUAL
+        ? iterator()
+        : iterator(key, Comparator.naturalOrder());
+
+    while (entries.hasNext()) {
+      final IndexEntry<K, V> entry = entries.next();
+
+      if (mode.compare(key, entry.getKey()) == 0) {
+        return Optional.of(entry.getValue());
+      }
+    }
+
+    return Optional.empty();
+  }
+
+  /**
+   * Get an iterator over all entries in the order of their keys.
+   *
+   * @return the iterator
+   */
+  public Iterator<IndexEntry<K, V>> iterator() {
+    final StructNode documentRoot = getDocumentRoot();
+
+    if (!documentRoot.hasFirstChild()) {
+      return new LeafIterator(null, 0);
+    }
+
+    BPlusTreeNode<K, V> node = getTreeNode(documentRoot.getFirstChildKey());
+
+    while (!node.isLeaf()) {
+      node = getTreeNode(node.getChildKey(0));
+    }
+
+    return new LeafIterator(node, 0);
+  }
+
+  /**
+   * Get an iterator over the entries in the order of their keys, starting at the first entry, whose key is greater
+   * than or equal to the given key according to the comparator. The comparator must be consistent with the order of
+   * the keys, but may compare only a prefix of them, for instance only the path class record of a {@code CASValue}.
+   *
+   * @param fromKey    the key to start from
+   * @param comparator comparator to be used to compare keys
+   * @return the iterator
+   */
+  public Iterator<IndexEntry<K, V>> iterator(final K fromKey, final Comparator<? super K> comparator) {
+    checkNotNull(fromKey);
+    checkNotNull(comparator);
+
+    final BPlusTreeNode<K, V> leaf = getLowerBoundLeaf(fromKey, comparator);
+
+    if (leaf == null) {
+      return new LeafIterator(null, 0);
+    }
+
+    return new LeafIterator(leaf, getLowerBound(leaf, fromKey, comparator));
+  }
+
+  /**
+   * Returns the number of index entries.
+   *
+   * @return number of index entries
+   */
+  public long size() {
+    return getDocumentRoot().getDescendantCount();
+  }
+
+  /**
+   * An entry of a leaf.
+   */
+  private static final class Entry<K extends Comparable<? super K>, V> implements IndexEntry<K, V> {
+    private final K key;
+
+    private final V value;
+
+    private Entry(final K key, final V value) {
+      this.key = key;
+      this.value = value;
+    }
+
+    @Override
+    public K getKey() {
+      return key;
+    }
+
+    @Override
+    public V getValue() {
+      return value;
+    }
+  }
+
+  /**
+   * Iterates over the entries of the leaves by following the links between them.
+   */
+  private final class LeafIterator extends AbstractIterator<IndexEntry<K, V>> {
+
+    /** The current leaf. */
+    private BPlusTreeNode<K, V> leaf;
+
+    /** The position of the next entry in the current leaf. */
+    private int position;
+
+    /**
+     * Constructor.
+     *
+     * @param leaf     the leaf to start from, or {@code null}, if there are no entries
+     * @param position the position of the first entry in the leaf
+     */
+    private LeafIterator(final BPlusTreeNode<K, V> leaf, final int position) {
+      this.leaf = leaf;
+      this.position = position;
+    }
+
+    @Override
+    protected IndexEntry<K, V> computeNext() {
+      while (leaf != null && position == leaf.size()) {
+        leaf = leaf.hasNextLeaf() ? getTreeNode(leaf.getNextLeafKey()) : null;
+        position = 0;
+      }
+
+      if (leaf == null) {
+        return endOfData();
+      }
+
+      final var entry = new Entry<>(leaf.getKey(position), leaf.getValue(position));
+      position++;
+      return entry;
+    }
+  }
+}
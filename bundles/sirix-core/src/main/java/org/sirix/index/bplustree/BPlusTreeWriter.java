@@ -0,0 +1,490 @@
+package org.sirix.index.bplustree;
+
+import org.sirix.api.PageTrx;
+import org.sirix.cache.PageContainer;
+import org.sirix.exception.SirixIOException;
+import org.sirix.index.IndexEntry;
+import org.sirix.index.IndexTreeWriter;
+import org.sirix.index.IndexType;
+import org.sirix.index.SearchMode;
+import org.sirix.index.avltree.AVLTreeReader.MoveCursor;
+import org.sirix.index.avltree.interfaces.References;
+import org.sirix.node.NodeKind;
+import org.sirix.node.interfaces.DataRecord;
+import org.sirix.node.interfaces.StructNode;
+import org.sirix.page.*;
+import org.sirix.settings.Fixed;
+import org.sirix.utils.LogWrapper;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnegative;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Writes a B+-tree index. Keys are inserted into the leaves, and nodes, which overflow, are split in halves, whereby
+ * the first key of the upper half is inserted into the parent node. Leaves, whose postings overflow, are split such
+ * that the node keys are distributed evenly, until every posting, which exceeds the maximum on its own, is stored in a
+ * leaf of its own. Once the root node is split, a new root node is created, such that all leaves remain on the same
+ * level. Entries without node keys are removed from their leaves, but leaves aren't merged, as indexes mostly grow and
+ * a lookup still reads one node per level. Sorted entries of an empty index are bulk loaded bottom-up, that is the
+ * leaves are filled one after the other and the inner nodes are built on top of them, such that every node is written
+ * once instead of descending the tree for every entry.
+ *
+ * @author Johannes Lichtenberger
+ *
+ * @param <K> the key to search for or insert
+ * @param <V> the value
+ */
+public final class BPlusTreeWriter<K extends Comparable<? super K>, V extends References>
+    implements IndexTreeWriter<K, V> {
+  /** Logger. */
+  private static final LogWrapper LOGGER = new LogWrapper(LoggerFactory.getLogger(BPlusTreeWriter.class));
+
+  /** {@link BPlusTreeReader} instance. */
+  private final BPlusTreeReader<K, V> reader;
+
+  /** {@link PageTrx} instance. */
+  private final PageTrx<Long, DataRecord, UnorderedKeyValuePage> pageWriteTrx;
+
+  /** The kind of the nodes of the tree. */
+  private final NodeKind nodeKind;
+
+  /**
+   * Private constructor.
+   *
+   * @param pageWriteTrx {@link PageTrx} for persistent storage
+   * @param type         type of index
+   * @param index        the index number
+   */
+  private BPlusTreeWriter(final PageTrx<Long, DataRecord, UnorderedKeyValuePage> pageWriteTrx, final IndexType type,
+      final @Nonnegative int index) {
+    try {
+      final RevisionRootPage revisionRootPage = pageWriteTrx.getActualRevisionRootPage();
+      final PageReference reference;
+      switch (type) {
+        case PATH:
+          // Create path index tree if needed.
+          final PathPage pathPage = pageWriteTrx.getPathPage(revisionRootPage);
+          reference = revisionRootPage.getPathPageReference();
+          pageWriteTrx.appendLogRecord(reference, PageContainer.getInstance(pathPage, pathPage));
+          pathPage.createPathIndexTree(pageWriteTrx, index, pageWriteTrx.getLog());
+          break;
+        case CAS:
+          // Create CAS index tree if needed.
+          final CASPage casPage = pageWriteTrx.getCASPage(revisionRootPage);
+          reference = revisionRootPage.getCASPageReference();
+          pageWriteTrx.appendLogRecord(reference, PageContainer.getInstance(casPage, casPage));
+          casPage.createCASIndexTree(pageWriteTrx, index, pageWriteTrx.getLog());
+          break;
+        case NAME:
+          // Create name index tree if needed.
+          final NamePage namePage = pageWriteTrx.getNamePage(revisionRootPage);
+          reference = revisionRootPage.getNamePageReference();
+          pageWriteTrx.appendLogRecord(reference, PageContainer.getInstance(namePage, namePage));
+          namePage.createNameIndexTree(pageWriteTrx, index, pageWriteTrx.getLog());
+          break;
+        default:
+          // Must not happen.
+      }
+    } catch (final SirixIOException e) {
+      LOGGER.error(e.getMessage(), e);
+    }
+    reader = BPlusTreeReader.getInstance(pageWriteTrx, type, index);
+    this.pageWriteTrx = pageWriteTrx;
+    nodeKind = switch (type) {
+      case PATH -> NodeKind.PATHBPLUSTREE;
+      case CAS -> NodeKind.CASBPLUSTREE;
+      case NAME -> NodeKind.NAMEBPLUSTREE;
+    };
+  }
+
+  /**
+   * Get a new instance.
+   *
+   * @param pageWriteTrx {@link PageTrx} for persistent storage
+   * @param type         type of index
+   * @param index        the index number
+   * @return new tree instance
+   */
+  public static <K extends Comparable<? super K>, V extends References> BPlusTreeWriter<K, V> getInstance(
+      final PageTrx<Long, DataRecord, UnorderedKeyValuePage> pageWriteTrx, final IndexType type, final int index) {
+    return new BPlusTreeWriter<>(pageWriteTrx, type, index);
+  }
+
+  @Override
+  public V index(final K key, final V value, final MoveCursor move) {
+    checkNotNull(key);
+    checkNotNull(value);
+
+    if (!reader.getDocumentRoot().hasFirstChild()) {
+      // Index is empty.. create the first leaf, which is the root node.
+      final List<K> keys = new ArrayList<>();
+      keys.add(key);
+      final List<V> values = new ArrayList<>();
+      values.add(value);
+      final long nodeKey = getNewNodeKey();
+      pageWriteTrx.createEntry(nodeKey, new BPlusTreeNode<>(nodeKey, nodeKind, keys, values), reader.pageKind,
+          reader.index);
+      final StructNode document = prepareDocumentRootForModification();
+      document.setFirstChildKey(nodeKey);
+      document.incrementChildCount();
+      document.incrementDescendantCount();
+      return value;
+    }
+
+    BPlusTreeNode<K, V> node = reader.getTreeNode(reader.getDocumentRoot().getFirstChildKey());
+
+    while (!node.isLeaf()) {
+      node = reader.getTreeNode(node.getChildKey(node.getChildPosition(key)));
+    }
+
+    final int position = node.search(key);
+    final BPlusTreeNode<K, V> leaf = prepareTreeNodeForModification(node.getNodeKey());
+
+    if (position >= 0) {
+      leaf.setValue(position, value);
+    } else {
+      leaf.insert(-position - 1, key, value);
+      prepareDocumentRootForModification().incrementDescendantCount();
+    }
+
+    if (!isOverflowing(leaf)) {
+      return value;
+    }
+
+    // Split the leaf and its halves, as long as they overflow. The leaves are found by their first keys.
+    final Deque<K> firstKeys = new ArrayDeque<>();
+    firstKeys.push(leaf.getKey(0));
+
+    while (!firstKeys.isEmpty()) {
+      final K firstKey = firstKeys.pop();
+      final K separator = splitOverflowingLeaf(firstKey);
+
+      if (separator != null) {
+        firstKeys.push(firstKey);
+        firstKeys.push(separator);
+      }
+    }
+
+    return value;
+  }
+
+  /**
+   * Split the leaf, which stores the given key, if it overflows, and insert the separators into the parent nodes, as
+   * long as they overflow.
+   *
+   * @param key a key of the leaf
+   * @return the first key of the new leaf, or {@code null}, if the leaf doesn't overflow
+   */
+  private K splitOverflowingLeaf(final K key) {
+    // Descend to the leaf and remember the inner nodes and the positions of their children on the way.
+    final List<Long> pathNodeKeys = new ArrayList<>();
+    final List<Integer> childPositions = new ArrayList<>();
+    BPlusTreeNode<K, V> node = reader.getTreeNode(reader.getDocumentRoot().getFirstChildKey());
+
+    while (!node.isLeaf()) {
+      final int childPosition = node.getChildPosition(key);
+      pathNodeKeys.add(node.getNodeKey());
+      childPositions.add(childPosition);
+      node = reader.getTreeNode(node.getChildKey(childPosition));
+    }
+
+    if (!isOverflowing(node)) {
+      return null;
+    }
+
+    final BPlusTreeNode<K, V> leaf = prepareTreeNodeForModification(node.getNodeKey());
+    long leftNodeKey = leaf.getNodeKey();
+    long rightNodeKey = getNewNodeKey();
+    final BPlusTreeNode<K, V> rightLeaf = leaf.split(rightNodeKey, getSplitPosition(leaf));
+    final K leafSeparator = rightLeaf.getKey(0);
+    K separator = leafSeparator;
+    pageWriteTrx.createEntry(rightNodeKey, rightLeaf, reader.pageKind, reader.index);
+
+    for (int i = pathNodeKeys.size() - 1; i >= 0; i--) {
+      final BPlusTreeNode<K, V> parent = prepareTreeNodeForModification(pathNodeKeys.get(i));
+      parent.insertChild(childPositions.get(i), separator, rightNodeKey);
+
+      if (parent.size() <= BPlusTreeNode.MAX_NUMBER_OF_KEYS) {
+        return leafSeparator;
+      }
+
+      leftNodeKey = parent.getNodeKey();
+      rightNodeKey = getNewNodeKey();
+      final BPlusTreeNode<K, V> rightNode = parent.split(rightNodeKey);
+      separator = parent.removeLastKey();
+      pageWriteTrx.createEntry(rightNodeKey, rightNode, reader.pageKind, reader.index);
+    }
+
+    // The root node has been split.
+    final List<K> rootKeys = new ArrayList<>();
+    rootKeys.add(separator);
+    final List<Long> rootChildKeys = new ArrayList<>();
+    rootChildKeys.add(leftNodeKey);
+    rootChildKeys.add(rightNodeKey);
+    final long rootNodeKey = getNewNodeKey();
+    final BPlusTreeNode<K, V> newRoot = new BPlusTreeNode<>(rootNodeKey, nodeKind, rootKeys, rootChildKeys, false);
+    pageWriteTrx.createEntry(rootNodeKey, newRoot, reader.pageKind, reader.index);
+    prepareDocumentRootForModification().setFirstChildKey(rootNodeKey);
+    return leafSeparator;
+  }
+
+  /**
+   * Determines if a leaf overflows, that is if it has too many keys, or if it has more than one key and its postings
+   * have too many node keys.
+   *
+   * @param leaf the leaf
+   * @return {@code true}, if the leaf has to be split, {@code false} otherwise
+   */
+  private boolean isOverflowing(final BPlusTreeNode<K, V> leaf) {
+    return leaf.size() > BPlusTreeNode.MAX_NUMBER_OF_KEYS
+        || (leaf.size() > 1 && getNumberOfNodeKeys(leaf.getValues()) > BPlusTreeNode.MAX_NUMBER_OF_NODE_KEYS);
+  }
+
+  /**
+   * Get the position to split an overflowing leaf at. A leaf with too many keys is split in halves, otherwise the
+   * node keys of the postings are distributed as evenly as possible.
+   *
+   * @param leaf the leaf
+   * @return the position of the first key of the new leaf
+   */
+  private int getSplitPosition(final BPlusTreeNode<K, V> leaf) {
+    final List<V> values = leaf.getValues();
+    final long numberOfNodeKeys = getNumberOfNodeKeys(values);
+
+    if (numberOfNodeKeys <= BPlusTreeNode.MAX_NUMBER_OF_NODE_KEYS) {
+      return leaf.size() / 2;
+    }
+
+    int splitPosition = 1;
+    long lowerNumberOfNodeKeys = values.get(0).getNodeKeys().size();
+    long minimum = Math.max(lowerNumberOfNodeKeys, numberOfNodeKeys - lowerNumberOfNodeKeys);
+
+    for (int position = 2; position < values.size(); position++) {
+      lowerNumberOfNodeKeys += values.get(position - 1).getNodeKeys().size();
+      final long maximum = Math.max(lowerNumberOfNodeKeys, numberOfNodeKeys - lowerNumberOfNodeKeys);
+
+      if (maximum < minimum) {
+        minimum = maximum;
+        splitPosition = position;
+      }
+    }
+
+    return splitPosition;
+  }
+
+  private static <V extends References> long getNumberOfNodeKeys(final List<V> values) {
+    long numberOfNodeKeys = 0;
+    for (final V value : values) {
+      numberOfNodeKeys += value.getNodeKeys().size();
+    }
+    return numberOfNodeKeys;
+  }
+
+  @Override
+  public void bulkLoad(final Iterator<? extends IndexEntry<K, V>> entries) {
+    checkNotNull(entries);
+
+    if (reader.getDocumentRoot().hasFirstChild()) {
+      // Index isn't empty.. insert the entries one by one.
+      IndexTreeWriter.super.bulkLoad(entries);
+      return;
+    }
+
+    if (!entries.hasNext()) {
+      return;
+    }
+
+    // The keys and child node keys of the inner node, which is currently filled, per level above the leaves.
+    final List<List<K>> innerKeys = new ArrayList<>();
+    final List<List<Long>> innerChildKeys = new ArrayList<>();
+    // The first key of the subtree of the inner node, which is currently filled, per level above the leaves.
+    final List<K> innerFirstKeys = new ArrayList<>();
+
+    List<K> keys = new ArrayList<>();
+    List<V> values = new ArrayList<>();
+    long numberOfLeafNodeKeys = 0;
+    long previousLeafKey = Fixed.NULL_NODE_KEY.getStandardProperty();
+    long numberOfEntries = 0;
+
+    while (entries.hasNext()) {
+      final IndexEntry<K, V> entry = entries.next();
+      final V value = checkNotNull(entry.getValue());
+      final int numberOfNodeKeys = value.getNodeKeys().size();
+
+      // Write the leaf, once it's full or the postings of the entry would exceed the node keys of a leaf.
+      if (keys.size() == BPlusTreeNode.MAX_NUMBER_OF_KEYS || (!keys.isEmpty()
+          && numberOfLeafNodeKeys + numberOfNodeKeys > BPlusTreeNode.MAX_NUMBER_OF_NODE_KEYS)) {
+        previousLeafKey = writeLeaf(keys, values, previousLeafKey, innerKeys, innerChildKeys, innerFirstKeys);
+        keys = new ArrayList<>();
+        values = new ArrayList<>();
+        numberOfLeafNodeKeys = 0;
+      }
+
+      keys.add(checkNotNull(entry.getKey()));
+      values.add(value);
+      numberOfLeafNodeKeys += numberOfNodeKeys;
+      numberOfEntries++;
+    }
+
+    writeLeaf(keys, values, previousLeafKey, innerKeys, innerChildKeys, innerFirstKeys);
+
+    // Write the inner nodes, which haven't been filled, from the bottom up to the root node.
+    int level = 0;
+    while (level < innerKeys.size() - 1 || innerChildKeys.get(level).size() > 1) {
+      final long innerNodeKey = getNewNodeKey();
+      pageWriteTrx.createEntry(innerNodeKey,
+          new BPlusTreeNode<>(innerNodeKey, nodeKind, innerKeys.get(level), innerChildKeys.get(level), false),
+          reader.pageKind, reader.index);
+      addChild(innerKeys, innerChildKeys, innerFirstKeys, level + 1, innerFirstKeys.get(level), innerNodeKey);
+      level++;
+    }
+
+    final StructNode document = prepareDocumentRootForModification();
+    document.setFirstChildKey(innerChildKeys.get(level).get(0));
+    document.incrementChildCount();
+    document.setDescendantCount(numberOfEntries);
+  }
+
+  /**
+   * Write a leaf, which is bulk loaded, link it from the previous leaf and add it to the inner node above.
+   *
+   * @param keys            the keys of the leaf
+   * @param values          the values of the leaf
+   * @param previousLeafKey the node key of the previous leaf, or {@code Fixed.NULL_NODE_KEY}, if it's the first leaf
+   * @param innerKeys       the keys of the inner nodes per level
+   * @param innerChildKeys  the child node keys of the inner nodes per level
+   * @param innerFirstKeys  the first keys of the subtrees of the inner nodes per level
+   * @return the node key of the leaf
+   */
+  private long writeLeaf(final List<K> keys, final List<V> values, final long previousLeafKey,
+      final List<List<K>> innerKeys, final List<List<Long>> innerChildKeys, final List<K> innerFirstKeys) {
+    final long leafKey = getNewNodeKey();
+    final K firstKey = keys.get(0);
+    pageWriteTrx.createEntry(leafKey, new BPlusTreeNode<>(leafKey, nodeKind, keys, values), reader.pageKind,
+        reader.index);
+
+    if (previousLeafKey != Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      prepareTreeNodeForModification(previousLeafKey).setNextLeafKey(leafKey);
+    }
+
+    addChild(innerKeys, innerChildKeys, innerFirstKeys, 0, firstKey, leafKey);
+    return leafKey;
+  }
+
+  /**
+   * Add a child to the inner node of a level, which is currently filled. Once the inner node is full, it's written
+   * and added to the level above, and a new inner node is started.
+   *
+   * @param innerKeys      the keys of the inner nodes per level
+   * @param innerChildKeys the child node keys of the inner nodes per level
+   * @param innerFirstKeys the first keys of the subtrees of the inner nodes per level
+   * @param level          the level of the inner node
+   * @param firstKey       the first key of the subtree of the child
+   * @param childKey       the node key of the child
+   */
+  private void addChild(final List<List<K>> innerKeys, final List<List<Long>> innerChildKeys,
+      final List<K> innerFirstKeys, final int level, final K firstKey, final long childKey) {
+    if (level == innerKeys.size()) {
+      innerKeys.add(new ArrayList<>());
+      innerChildKeys.add(new ArrayList<>());
+      innerFirstKeys.add(firstKey);
+    } else if (innerChildKeys.get(level).size() == BPlusTreeNode.MAX_NUMBER_OF_KEYS + 1) {
+      final long innerNodeKey = getNewNodeKey();
+      pageWriteTrx.createEntry(innerNodeKey,
+          new BPlusTreeNode<>(innerNodeKey, nodeKind, innerKeys.get(level), innerChildKeys.get(level), false),
+          reader.pageKind, reader.index);
+      addChild(innerKeys, innerChildKeys, innerFirstKeys, level + 1, innerFirstKeys.get(level), innerNodeKey);
+      innerKeys.set(level, new ArrayList<>());
+      innerChildKeys.set(level, new ArrayList<>());
+      innerFirstKeys.set(level, firstKey);
+    }
+
+    if (!innerChildKeys.get(level).isEmpty()) {
+      innerKeys.get(level).add(firstKey);
+    }
+    innerChildKeys.get(level).add(childKey);
+  }
+
+  @Override
+  public boolean remove(final K key, final @Nonnegative long nodeKey) {
+    checkArgument(nodeKey >= 0, "nodeKey must be >= 0!");
+    checkNotNull(key);
+
+    final StructNode documentRoot = reader.getDocumentRoot();
+
+    if (!documentRoot.hasFirstChild()) {
+      return false;
+    }
+
+    BPlusTreeNode<K, V> node = reader.getTreeNode(documentRoot.getFirstChildKey());
+
+    while (!node.isLeaf()) {
+      node = reader.getTreeNode(node.getChildKey(node.getChildPosition(key)));
+    }
+
+    final int position = node.search(key);
+
+    if (position < 0 || !node.getValue(position).contains(nodeKey)) {
+      return false;
+    }
+
+    final BPlusTreeNode<K, V> leaf = prepareTreeNodeForModification(node.getNodeKey());
+    final V value = leaf.getValue(position);
+    value.removeNodeKey(nodeKey);
+
+    if (!value.hasNodeKeys()) {
+      leaf.remove(position);
+      prepareDocumentRootForModification().decrementDescendantCount();
+    }
+
+    return true;
+  }
+
+  @Override
+  public Optional<V> get(final K key, final SearchMode mode) {
+    return reader.get(checkNotNull(key), checkNotNull(mode));
+  }
+
+  /**
+   * Get the {@link BPlusTreeReader} used to search.
+   *
+   * @return {@link BPlusTreeReader} reference
+   */
+  public BPlusTreeReader<K, V> getReader() {
+    return reader;
+  }
+
+  @SuppressWarnings("unchecked")
+  private BPlusTreeNode<K, V> prepareTreeNodeForModification(final long nodeKey) {
+    return (BPlusTreeNode<K, V>) pageWriteTrx.prepareEntryForModification(nodeKey, reader.pageKind, reader.index);
+  }
+
+  private StructNode prepareDocumentRootForModification() {
+    return (StructNode) pageWriteTrx.prepareEntryForModification(Fixed.DOCUMENT_NODE_KEY.getStandardProperty(),
+        reader.pageKind, reader.index);
+  }
+
+  private long getNewNodeKey() {
+    final RevisionRootPage root = pageWriteTrx.getActualRevisionRootPage();
+    switch (reader.pageKind) {
+      case PATHPAGE:
+        return pageWriteTrx.getPathPage(root).getMaxNodeKey(reader.index) + 1;
+      case CASPAGE:
+        return pageWriteTrx.getCASPage(root).getMaxNodeKey(reader.index) + 1;
+      case NAMEPAGE:
+        return pageWriteTrx.getNamePage(root).getMaxNodeKey(reader.index) + 1;
+      // $CASES-OMITTED$
+      default:
+        throw new IllegalStateException();
+    }
+  }
+}
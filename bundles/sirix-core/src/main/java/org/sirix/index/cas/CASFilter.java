@@ -4,8 +4,8 @@ import org.brackit.xquery.atomic.Atomic;
 import org.brackit.xquery.atomic.QNm;
 import org.brackit.xquery.util.path.Path;
 import org.sirix.index.Filter;
+import org.sirix.index.IndexEntry;
 import org.sirix.index.SearchMode;
-import org.sirix.index.avltree.AVLNode;
 import org.sirix.index.avltree.keyvalue.CASValue;
 import org.sirix.index.avltree.keyvalue.NodeReferences;
 import org.sirix.index.path.PCRCollector;
@@ -74,7 +74,7 @@ public final class CASFilter implements Filter {
    * @return {@code true} if the node has been filtered, {@code false} otherwise
    */
   @Override
-  public <K extends Comparable<? super K>> boolean filter(final AVLNode<K, NodeReferences> node) {
+  public <K extends Comparable<? super K>> boolean filter(final IndexEntry<K, NodeReferences> node) {
     final K key = node.getKey();
     if (key instanceof CASValue) {
       final CASValue casValue = (CASValue) key;
@@ -5,7 +5,7 @@ import org.brackit.xquery.atomic.QNm;
 import org.brackit.xquery.util.path.Path;
 import org.sirix.index.AtomicUtil;
 import org.sirix.index.Filter;
-import org.sirix.index.avltree.AVLNode;
+import org.sirix.index.IndexEntry;
 import org.sirix.index.avltree.keyvalue.CASValue;
 import org.sirix.index.avltree.keyvalue.NodeReferences;
 import org.sirix.index.path.PCRCollector;
@@ -61,8 +61,32 @@ public final class CASFilterRange implements Filter {
     mIncMax = incMax;
   }
 
+  public Set<Long> getPCRs() {
+    return mPathFilter.getPCRs();
+  }
+
+  public Atomic getMin() {
+    return mMin;
+  }
+
+  public Atomic getMax() {
+    return mMax;
+  }
+
+  /**
+   * Determines if a value lies above the range, that is if a scan in ascending order can stop.
+   *
+   * @param value the value of an index entry
+   * @return {@code true}, if the value is greater than the maximum value (or equal to it, if the maximum is not
+   *         included), {@code false} otherwise
+   */
+  public boolean isAboveMax(final CASValue value) {
+    final int maxKeyCompare = mMax.compareTo(AtomicUtil.toType(value.getAtomicValue(), value.getType()));
+    return maxKeyCompare < 0 || (maxKeyCompare == 0 && !mIncMax);
+  }
+
   @Override
-  public <K extends Comparable<? super K>> boolean filter(final AVLNode<K, NodeReferences> node) {
+  public <K extends Comparable<? super K>> boolean filter(final IndexEntry<K, NodeReferences> node) {
     final K key = node.getKey();
     if (key instanceof CASValue) {
       final CASValue casValue = (CASValue) key;
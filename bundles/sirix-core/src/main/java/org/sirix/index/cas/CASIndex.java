@@ -1,5 +1,6 @@
 package org.sirix.index.cas;
 
+import com.google.common.collect.AbstractIterator;
 import com.google.common.collect.Iterators;
 import org.brackit.xquery.atomic.Atomic;
 import org.sirix.api.NodeCursor;
@@ -7,13 +8,16 @@ import org.sirix.api.NodeReadOnlyTrx;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.api.PageTrx;
 import org.sirix.index.ChangeListener;
+import org.sirix.index.IndexBackendType;
 import org.sirix.index.IndexDef;
+import org.sirix.index.IndexEntry;
 import org.sirix.index.IndexFilterAxis;
 import org.sirix.index.SearchMode;
 import org.sirix.index.avltree.AVLNode;
 import org.sirix.index.avltree.AVLTreeReader;
 import org.sirix.index.avltree.keyvalue.CASValue;
 import org.sirix.index.avltree.keyvalue.NodeReferences;
+import org.sirix.index.bplustree.BPlusTreeReader;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.node.interfaces.DataRecord;
 import org.sirix.page.UnorderedKeyValuePage;
@@ -30,6 +34,10 @@ public interface CASIndex<B, L extends ChangeListener, R extends NodeReadOnlyTrx
       IndexDef indexDef);
 
   default Iterator<NodeReferences> openIndex(PageReadOnlyTrx pageReadTrx, IndexDef indexDef, CASFilterRange filter) {
+    if (indexDef.getBackendType() == IndexBackendType.BPLUS_TREE) {
+      return openBPlusTreeIndex(pageReadTrx, indexDef, filter);
+    }
+
     final AVLTreeReader<CASValue, NodeReferences> reader =
         AVLTreeReader.getInstance(pageReadTrx, indexDef.getType(), indexDef.getID());
 
@@ -40,6 +48,10 @@ public interface CASIndex<B, L extends ChangeListener, R extends NodeReadOnlyTrx
   }
 
   default Iterator<NodeReferences> openIndex(PageReadOnlyTrx pageReadTrx, IndexDef indexDef, CASFilter filter) {
+    if (indexDef.getBackendType() == IndexBackendType.BPLUS_TREE) {
+      return openBPlusTreeIndex(pageReadTrx, indexDef, filter);
+    }
+
     final AVLTreeReader<CASValue, NodeReferences> reader =
         AVLTreeReader.getInstance(pageReadTrx, indexDef.getType(), indexDef.getID());
 
@@ -99,6 +111,96 @@ public interface CASIndex<B, L extends ChangeListener, R extends NodeReadOnlyTrx
     }
   }
 
+  private Iterator<NodeReferences> openBPlusTreeIndex(PageReadOnlyTrx pageReadTrx, IndexDef indexDef,
+      CASFilterRange filter) {
+    final BPlusTreeReader<CASValue, NodeReferences> reader =
+        BPlusTreeReader.getInstance(pageReadTrx, indexDef.getType(), indexDef.getID());
+
+    final Set<Long> pcrs = filter.getPCRs();
+
+    if (pcrs.size() == 1) {
+      // Scan the leaves from the minimum value of the PCR on, as long as the PCR matches and the maximum value
+      // isn't exceeded.
+      final long pcr = pcrs.iterator().next();
+      final Atomic min = filter.getMin();
+      final CASValue value = new CASValue(min, min.type(), pcr);
+
+      return new IndexFilterAxis<>(entriesUpToMax(entriesOfPCR(reader.iterator(value, Comparator.naturalOrder()), pcr),
+          filter), Set.of(filter));
+    }
+
+    return new IndexFilterAxis<>(reader.iterator(), Set.of(filter));
+  }
+
+  private Iterator<NodeReferences> openBPlusTreeIndex(PageReadOnlyTrx pageReadTrx, IndexDef indexDef,
+      CASFilter filter) {
+    final BPlusTreeReader<CASValue, NodeReferences> reader =
+        BPlusTreeReader.getInstance(pageReadTrx, indexDef.getType(), indexDef.getID());
+
+    // PCRs requested.
+    final Set<Long> pcrsRequested = filter == null ? Collections.emptySet() : filter.getPCRs();
+
+    if (pcrsRequested.size() != 1) {
+      final Set<CASFilter> setFilter = filter == null ? Collections.emptySet() : Set.of(filter);
+      return new IndexFilterAxis<>(reader.iterator(), setFilter);
+    }
+
+    final Atomic atomic = filter.getKey();
+    final long pcr = pcrsRequested.iterator().next();
+    final SearchMode mode = filter.getMode();
+
+    final CASValue value = new CASValue(atomic, atomic != null ? atomic.type() : null, pcr);
+
+    if (atomic != null && mode == SearchMode.EQUAL) {
+      // Compare for equality by PCR and atomic value.
+      return reader.get(value, mode)
+                   .map(references -> Iterators.forArray(references))
+                   .orElse(Iterators.unmodifiableIterator(Collections.emptyIterator()));
+    }
+
+    // Scan the leaves from the first matching value of the PCR on, as long as the PCR matches.
+    final Iterator<IndexEntry<CASValue, NodeReferences>> entries =
+        atomic != null && (mode == SearchMode.GREATER || mode == SearchMode.GREATER_OR_EQUAL)
+            ? reader.iterator(value, Comparator.naturalOrder())
+            : reader.iterator(value, Comparator.comparingLong(CASValue::getPathNodeKey));
+
+    return new IndexFilterAxis<>(entriesOfPCR(entries, pcr), Set.of(filter));
+  }
+
+  private Iterator<IndexEntry<CASValue, NodeReferences>> entriesOfPCR(
+      Iterator<IndexEntry<CASValue, NodeReferences>> entries, long pcr) {
+    return new AbstractIterator<>() {
+      @Override
+      protected IndexEntry<CASValue, NodeReferences> computeNext() {
+        if (entries.hasNext()) {
+          final IndexEntry<CASValue, NodeReferences> entry = entries.next();
+
+          if (entry.getKey().getPathNodeKey() == pcr) {
+            return entry;
+          }
+        }
+        return endOfData();
+      }
+    };
+  }
+
+  private Iterator<IndexEntry<CASValue, NodeReferences>> entriesUpToMax(
+      Iterator<IndexEntry<CASValue, NodeReferences>> entries, CASFilterRange filter) {
+    return new AbstractIterator<>() {
+      @Override
+      protected IndexEntry<CASValue, NodeReferences> computeNext() {
+        if (entries.hasNext()) {
+          final IndexEntry<CASValue, NodeReferences> entry = entries.next();
+
+          if (!filter.isAboveMax(entry.getKey())) {
+            return entry;
+          }
+        }
+        return endOfData();
+      }
+    };
+  }
+
   private Function<AVLNode<CASValue, NodeReferences>, Iterator<NodeReferences>> findFirstNodeWithMatchingPCRAndAtomicValue(
       CASFilter filter, AVLTreeReader<CASValue, NodeReferences> reader, SearchMode mode, CASValue value) {
     return node -> {
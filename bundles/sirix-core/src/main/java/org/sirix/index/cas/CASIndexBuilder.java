@@ -10,9 +10,8 @@ import org.sirix.api.visitor.VisitResultType;
 import org.sirix.exception.SirixIOException;
 import org.sirix.exception.SirixRuntimeException;
 import org.sirix.index.AtomicUtil;
-import org.sirix.index.SearchMode;
-import org.sirix.index.avltree.AVLTreeReader.MoveCursor;
-import org.sirix.index.avltree.AVLTreeWriter;
+import org.sirix.index.IndexEntrySorter;
+import org.sirix.index.IndexTreeWriter;
 import org.sirix.index.avltree.keyvalue.CASValue;
 import org.sirix.index.avltree.keyvalue.NodeReferences;
 import org.sirix.index.path.summary.PathSummaryReader;
@@ -25,13 +24,12 @@ import org.sirix.node.interfaces.immutable.ImmutableValueNode;
 import org.sirix.utils.LogWrapper;
 import org.slf4j.LoggerFactory;
 
-import java.util.Optional;
 import java.util.Set;
 
 public final class CASIndexBuilder {
   private static final LogWrapper LOGGER = new LogWrapper(LoggerFactory.getLogger(CASIndexBuilder.class));
 
-  private final AVLTreeWriter<CASValue, NodeReferences> mAVLTreeWriter;
+  private final IndexTreeWriter<CASValue, NodeReferences> mIndexTreeWriter;
 
   private final PathSummaryReader mPathSummaryReader;
 
@@ -39,12 +37,16 @@ public final class CASIndexBuilder {
 
   private final Type mType;
 
-  public CASIndexBuilder(final AVLTreeWriter<CASValue, NodeReferences> avlTreeWriter,
-      final PathSummaryReader pathSummaryReader, final Set<Path<QNm>> paths, final Type type) {
+  private final IndexEntrySorter<CASValue> mSorter;
+
+  public CASIndexBuilder(final IndexTreeWriter<CASValue, NodeReferences> indexTreeWriter,
+      final PathSummaryReader pathSummaryReader, final Set<Path<QNm>> paths, final Type type,
+      final IndexEntrySorter<CASValue> sorter) {
     mPathSummaryReader = pathSummaryReader;
     mPaths = paths;
-    mAVLTreeWriter = avlTreeWriter;
+    mIndexTreeWriter = indexTreeWriter;
     mType = type;
+    mSorter = sorter;
   }
 
   public VisitResult process(final ImmutableNode node, final long pathNodeKey) {
@@ -75,13 +77,7 @@ public final class CASIndexBuilder {
         }
 
         if (isOfType) {
-          final CASValue value = new CASValue(strValue, mType, pathNodeKey);
-          final Optional<NodeReferences> textReferences = mAVLTreeWriter.get(value, SearchMode.EQUAL);
-          if (textReferences.isPresent()) {
-            setNodeReferences(node, textReferences.get(), value);
-          } else {
-            setNodeReferences(node, new NodeReferences(), value);
-          }
+          mSorter.add(new CASValue(strValue, mType, pathNodeKey), node.getNodeKey());
         }
       }
     } catch (final PathException | SirixIOException e) {
@@ -90,8 +86,17 @@ public final class CASIndexBuilder {
     return VisitResultType.CONTINUE;
   }
 
-  private void setNodeReferences(final ImmutableNode node, final NodeReferences references, final CASValue value)
-      throws SirixIOException {
-    mAVLTreeWriter.index(value, references.addNodeKey(node.getNodeKey()), MoveCursor.NO_MOVE);
+  /**
+   * Write the collected entries into the index in the order of their keys.
+   */
+  public void finish() {
+    mIndexTreeWriter.bulkLoad(mSorter.sortedEntries());
+  }
+
+  /**
+   * Delete the temporary files of the collected entries, whether they have been written into the index or not.
+   */
+  public void close() {
+    mSorter.close();
   }
 }
@@ -8,12 +8,14 @@ import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.api.PageTrx;
 import org.sirix.index.ChangeListener;
 import org.sirix.index.Filter;
+import org.sirix.index.IndexBackendType;
 import org.sirix.index.IndexDef;
 import org.sirix.index.IndexFilterAxis;
 import org.sirix.index.SearchMode;
 import org.sirix.index.avltree.AVLNode;
 import org.sirix.index.avltree.AVLTreeReader;
 import org.sirix.index.avltree.keyvalue.NodeReferences;
+import org.sirix.index.bplustree.BPlusTreeReader;
 import org.sirix.node.interfaces.DataRecord;
 import org.sirix.page.UnorderedKeyValuePage;
 import org.sirix.settings.Fixed;
@@ -26,6 +28,10 @@ public interface NameIndex<B, L extends ChangeListener> {
   L createListener(PageTrx<Long, DataRecord, UnorderedKeyValuePage> pageWriteTrx, IndexDef indexDef);
 
   default Iterator<NodeReferences> openIndex(PageReadOnlyTrx pageRtx, IndexDef indexDef, NameFilter filter) {
+    if (indexDef.getBackendType() == IndexBackendType.BPLUS_TREE) {
+      return openBPlusTreeIndex(pageRtx, indexDef, filter);
+    }
+
     final AVLTreeReader<QNm, NodeReferences> reader =
         AVLTreeReader.getInstance(pageRtx, indexDef.getType(), indexDef.getID());
 
@@ -43,4 +49,22 @@ public interface NameIndex<B, L extends ChangeListener> {
       return new IndexFilterAxis<>(iter, setFilter);
     }
   }
+
+  private Iterator<NodeReferences> openBPlusTreeIndex(final PageReadOnlyTrx pageRtx, final IndexDef indexDef,
+      final NameFilter filter) {
+    final BPlusTreeReader<QNm, NodeReferences> reader =
+        BPlusTreeReader.getInstance(pageRtx, indexDef.getType(), indexDef.getID());
+
+    if (filter.getIncludes().size() == 1 && filter.getExcludes().isEmpty()) {
+      final Optional<NodeReferences> optionalNodeReferences =
+          reader.get(filter.getIncludes().iterator().next(), SearchMode.EQUAL);
+      return Iterators.forArray(optionalNodeReferences.orElse(new NodeReferences()));
+    } else {
+      final Set<Filter> setFilter = filter == null
+          ? ImmutableSet.of()
+          : ImmutableSet.of(filter);
+
+      return new IndexFilterAxis<>(reader.iterator(), setFilter);
+    }
+  }
 }
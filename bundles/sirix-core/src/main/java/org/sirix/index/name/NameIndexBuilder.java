@@ -1,53 +1,60 @@
-package org.sirix.index.name;
-
-import java.util.Optional;
-import java.util.Set;
-import org.brackit.xquery.atomic.QNm;
-import org.sirix.api.visitor.VisitResultType;
-import org.sirix.exception.SirixIOException;
-import org.sirix.index.SearchMode;
-import org.sirix.index.avltree.AVLTreeReader.MoveCursor;
-import org.sirix.index.avltree.AVLTreeWriter;
-import org.sirix.index.avltree.keyvalue.NodeReferences;
-import org.sirix.node.interfaces.immutable.ImmutableNode;
-import org.sirix.utils.LogWrapper;
-import org.slf4j.LoggerFactory;
-
-public final class NameIndexBuilder {
-  private static final LogWrapper LOGGER = new LogWrapper(LoggerFactory.getLogger(NameIndexBuilder.class));
-
-  public Set<QNm> mIncludes;
-  public Set<QNm> mExcludes;
-  public AVLTreeWriter<QNm, NodeReferences> mAVLTreeWriter;
-
-  public NameIndexBuilder(final Set<QNm> includes, final Set<QNm> excludes,
-      final AVLTreeWriter<QNm, NodeReferences> avlTreeWriter) {
-    mIncludes = includes;
-    mExcludes = excludes;
-    mAVLTreeWriter = avlTreeWriter;
-  }
-
-  public VisitResultType build(QNm name, ImmutableNode node) {
-    final boolean included = (mIncludes.isEmpty() || mIncludes.contains(name));
-    final boolean excluded = (!mExcludes.isEmpty() && mExcludes.contains(name));
-
-    if (!included || excluded) {
-      return VisitResultType.CONTINUE;
-    }
-
-    final Optional<NodeReferences> textReferences = mAVLTreeWriter.get(name, SearchMode.EQUAL);
-
-    try {
-      textReferences.ifPresentOrElse(nodeReferences -> setNodeReferences(node, nodeReferences, name),
-          () -> setNodeReferences(node, new NodeReferences(), name));
-    } catch (final SirixIOException e) {
-      LOGGER.error(e.getMessage(), e);
-    }
-
-    return VisitResultType.CONTINUE;
-  }
-
-  private void setNodeReferences(final ImmutableNode node, final NodeReferences references, final QNm name) {
-    mAVLTreeWriter.index(name, references.addNodeKey(node.getNodeKey()), MoveCursor.NO_MOVE);
-  }
-}
+package org.sirix.index.name;
+
+import java.util.Set;
+import org.brackit.xquery.atomic.QNm;
+import org.sirix.api.visitor.VisitResultType;
+import org.sirix.exception.SirixIOException;
+import org.sirix.index.IndexEntrySorter;
+import org.sirix.index.IndexTreeWriter;
+import org.sirix.index.avltree.keyvalue.NodeReferences;
+import org.sirix.node.interfaces.immutable.ImmutableNode;
+import org.sirix.utils.LogWrapper;
+import org.slf4j.LoggerFactory;
+
+public final class NameIndexBuilder {
+  private static final LogWrapper LOGGER = new LogWrapper(LoggerFactory.getLogger(NameIndexBuilder.class));
+
+  public Set<QNm> mIncludes;
+  public Set<QNm> mExcludes;
+  public IndexTreeWriter<QNm, NodeReferences> mIndexTreeWriter;
+  private final IndexEntrySorter<QNm> mSorter;
+
+  public NameIndexBuilder(final Set<QNm> includes, final Set<QNm> excludes,
+      final IndexTreeWriter<QNm, NodeReferences> indexTreeWriter, final IndexEntrySorter<QNm> sorter) {
+    mIncludes = includes;
+    mExcludes = excludes;
+    mIndexTreeWriter = indexTreeWriter;
+    mSorter = sorter;
+  }
+
+  public VisitResultType build(QNm name, ImmutableNode node) {
+    final boolean included = (mIncludes.isEmpty() || mIncludes.contains(name));
+    final boolean excluded = (!mExcludes.isEmpty() && mExcludes.contains(name));
+
+    if (!included || excluded) {
+      return VisitResultType.CONTINUE;
+    }
+
+    try {
+      mSorter.add(name, node.getNodeKey());
+    } catch (final SirixIOException e) {
+      LOGGER.error(e.getMessage(), e);
+    }
+
+    return VisitResultType.CONTINUE;
+  }
+
+  /**
+   * Write the collected entries into the index in the order of their keys.
+   */
+  public void finish() {
+    mIndexTreeWriter.bulkLoad(mSorter.sortedEntries());
+  }
+
+  /**
+   * Delete the temporary files of the collected entries, whether they have been written into the index or not.
+   */
+  public void close() {
+    mSorter.close();
+  }
+}
@@ -4,8 +4,8 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import org.brackit.xquery.atomic.QNm;
 import org.sirix.api.PageTrx;
 import org.sirix.index.IndexDef;
+import org.sirix.index.IndexTreeWriter;
 import org.sirix.index.IndexType;
-import org.sirix.index.avltree.AVLTreeWriter;
 import org.sirix.index.avltree.keyvalue.NodeReferences;
 import org.sirix.node.interfaces.DataRecord;
 import org.sirix.page.UnorderedKeyValuePage;
@@ -17,9 +17,8 @@ public final class NameIndexListenerFactory {
     final var includes = checkNotNull(indexDefinition.getIncluded());
     final var excludes = checkNotNull(indexDefinition.getExcluded());
     assert indexDefinition.getType() == IndexType.NAME;
-    final var avlTreeWriter = AVLTreeWriter.<QNm, NodeReferences>getInstance(pageWriteTrx, indexDefinition.getType(),
-        indexDefinition.getID());
+    final var indexTreeWriter = IndexTreeWriter.<QNm, NodeReferences>getInstance(pageWriteTrx, indexDefinition);
 
-    return new NameIndexListener(includes, excludes, avlTreeWriter);
+    return new NameIndexListener(includes, excludes, indexTreeWriter, indexDefinition.getPostingFormat());
   }
 }
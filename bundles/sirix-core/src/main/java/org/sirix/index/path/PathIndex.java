@@ -7,12 +7,14 @@ import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.api.PageTrx;
 import org.sirix.index.ChangeListener;
 import org.sirix.index.Filter;
+import org.sirix.index.IndexBackendType;
 import org.sirix.index.IndexDef;
 import org.sirix.index.IndexFilterAxis;
 import org.sirix.index.SearchMode;
 import org.sirix.index.avltree.AVLNode;
 import org.sirix.index.avltree.AVLTreeReader;
 import org.sirix.index.avltree.keyvalue.NodeReferences;
+import org.sirix.index.bplustree.BPlusTreeReader;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.node.interfaces.DataRecord;
 import org.sirix.page.UnorderedKeyValuePage;
@@ -29,6 +31,10 @@ public interface PathIndex<B, L extends ChangeListener> {
 
   default Iterator<NodeReferences> openIndex(final PageReadOnlyTrx pageRtx, final IndexDef indexDef,
       final PathFilter filter) {
+    if (indexDef.getBackendType() == IndexBackendType.BPLUS_TREE) {
+      return openBPlusTreeIndex(pageRtx, indexDef, filter);
+    }
+
     final AVLTreeReader<Long, NodeReferences> reader =
         AVLTreeReader.getInstance(pageRtx, indexDef.getType(), indexDef.getID());
 
@@ -46,4 +52,22 @@ public interface PathIndex<B, L extends ChangeListener> {
       return new IndexFilterAxis<>(iter, setFilter);
     }
   }
+
+  private Iterator<NodeReferences> openBPlusTreeIndex(final PageReadOnlyTrx pageRtx, final IndexDef indexDef,
+      final PathFilter filter) {
+    final BPlusTreeReader<Long, NodeReferences> reader =
+        BPlusTreeReader.getInstance(pageRtx, indexDef.getType(), indexDef.getID());
+
+    if (filter != null && filter.getPCRs().size() == 1) {
+      final Optional<NodeReferences> optionalNodeReferences =
+          reader.get(filter.getPCRs().iterator().next(), SearchMode.EQUAL);
+      return Iterators.forArray(optionalNodeReferences.orElse(new NodeReferences()));
+    } else {
+      final Set<Filter> setFilter = filter == null
+          ? ImmutableSet.of()
+          : ImmutableSet.of(filter);
+
+      return new IndexFilterAxis<>(reader.iterator(), setFilter);
+    }
+  }
 }
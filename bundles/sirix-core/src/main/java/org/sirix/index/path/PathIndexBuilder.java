@@ -1,6 +1,5 @@
 package org.sirix.index.path;
 
-import java.util.Optional;
 import java.util.Set;
 import org.brackit.xquery.atomic.QNm;
 import org.brackit.xquery.util.path.Path;
@@ -8,9 +7,8 @@ import org.brackit.xquery.util.path.PathException;
 import org.sirix.api.visitor.VisitResult;
 import org.sirix.api.visitor.VisitResultType;
 import org.sirix.exception.SirixIOException;
-import org.sirix.index.SearchMode;
-import org.sirix.index.avltree.AVLTreeReader.MoveCursor;
-import org.sirix.index.avltree.AVLTreeWriter;
+import org.sirix.index.IndexEntrySorter;
+import org.sirix.index.IndexTreeWriter;
 import org.sirix.index.avltree.keyvalue.NodeReferences;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.node.interfaces.immutable.ImmutableNode;
@@ -25,25 +23,23 @@ public final class PathIndexBuilder {
 
   private final PathSummaryReader pathSummaryReader;
 
-  private final AVLTreeWriter<Long, NodeReferences> avlTreeWriter;
+  private final IndexTreeWriter<Long, NodeReferences> indexTreeWriter;
 
-  public PathIndexBuilder(final AVLTreeWriter<Long, NodeReferences> avlTreeWriter,
-      final PathSummaryReader pathSummaryReader, final Set<Path<QNm>> paths) {
+  private final IndexEntrySorter<Long> sorter;
+
+  public PathIndexBuilder(final IndexTreeWriter<Long, NodeReferences> indexTreeWriter,
+      final PathSummaryReader pathSummaryReader, final Set<Path<QNm>> paths, final IndexEntrySorter<Long> sorter) {
     this.pathSummaryReader = pathSummaryReader;
     this.paths = paths;
-    this.avlTreeWriter = avlTreeWriter;
+    this.indexTreeWriter = indexTreeWriter;
+    this.sorter = sorter;
   }
 
   public VisitResult process(final ImmutableNode node, final long pathNodeKey) {
     try {
       final long PCR = pathNodeKey;
       if (pathSummaryReader.getPCRsForPaths(paths, true).contains(PCR) || paths.isEmpty()) {
-        final Optional<NodeReferences> textReferences = avlTreeWriter.get(PCR, SearchMode.EQUAL);
-        if (textReferences.isPresent()) {
-          setNodeReferences(node, textReferences.get(), PCR);
-        } else {
-          setNodeReferences(node, new NodeReferences(), PCR);
-        }
+        sorter.add(PCR, node.getNodeKey());
       }
     } catch (final PathException | SirixIOException e) {
       LOGGER.error(e.getMessage(), e);
@@ -51,9 +47,18 @@ public final class PathIndexBuilder {
     return VisitResultType.CONTINUE;
   }
 
-  private void setNodeReferences(final ImmutableNode node, final NodeReferences references, final long pathNodeKey)
-      throws SirixIOException {
-    avlTreeWriter.index(pathNodeKey, references.addNodeKey(node.getNodeKey()), MoveCursor.NO_MOVE);
+  /**
+   * Write the collected entries into the index in the order of their keys.
+   */
+  public void finish() {
+    indexTreeWriter.bulkLoad(sorter.sortedEntries());
+  }
+
+  /**
+   * Delete the temporary files of the collected entries, whether they have been written into the index or not.
+   */
+  public void close() {
+    sorter.close();
   }
 
 }
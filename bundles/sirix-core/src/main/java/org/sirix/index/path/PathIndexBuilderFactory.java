@@ -3,8 +3,9 @@ package org.sirix.index.path;
 import static com.google.common.base.Preconditions.checkNotNull;
 import org.sirix.api.PageTrx;
 import org.sirix.index.IndexDef;
+import org.sirix.index.IndexEntrySorter;
+import org.sirix.index.IndexTreeWriter;
 import org.sirix.index.IndexType;
-import org.sirix.index.avltree.AVLTreeWriter;
 import org.sirix.index.avltree.keyvalue.NodeReferences;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.node.interfaces.DataRecord;
@@ -17,9 +18,11 @@ public final class PathIndexBuilderFactory {
     final var pathSummary = checkNotNull(pathSummaryReader);
     final var paths = checkNotNull(indexDef.getPaths());
     assert indexDef.getType() == IndexType.PATH;
-    final var avlTreeWriter =
-        AVLTreeWriter.<Long, NodeReferences>getInstance(pageWriteTrx, indexDef.getType(), indexDef.getID());
+    final var indexTreeWriter =
+        IndexTreeWriter.<Long, NodeReferences>getInstance(pageWriteTrx, indexDef);
 
-    return new PathIndexBuilder(avlTreeWriter, pathSummary, paths);
+    final IndexEntrySorter<Long> sorter = IndexEntrySorter.getInstance(pageWriteTrx, IndexType.PATH);
+
+    return new PathIndexBuilder(indexTreeWriter, pathSummary, paths, sorter);
   }
 }
@@ -7,24 +7,27 @@ import org.brackit.xquery.util.path.Path;
 import org.brackit.xquery.util.path.PathException;
 import org.sirix.access.trx.node.xml.XmlIndexController.ChangeType;
 import org.sirix.exception.SirixIOException;
+import org.sirix.index.IndexTreeWriter;
+import org.sirix.index.PostingFormat;
 import org.sirix.index.SearchMode;
 import org.sirix.index.avltree.AVLTreeReader.MoveCursor;
-import org.sirix.index.avltree.AVLTreeWriter;
 import org.sirix.index.avltree.keyvalue.NodeReferences;
 import org.sirix.index.path.summary.PathSummaryReader;
 import org.sirix.node.interfaces.immutable.ImmutableNode;
 
 public final class PathIndexListener {
 
-  private final AVLTreeWriter<Long, NodeReferences> avlTreeWriter;
+  private final IndexTreeWriter<Long, NodeReferences> indexTreeWriter;
   private final PathSummaryReader pathSummaryReader;
   private final Set<Path<QNm>> paths;
+  private final PostingFormat postingFormat;
 
   public PathIndexListener(final Set<Path<QNm>> paths, final PathSummaryReader pathSummaryReader,
-      final AVLTreeWriter<Long, NodeReferences> avlTreeWriter) {
-    this.avlTreeWriter = avlTreeWriter;
+      final IndexTreeWriter<Long, NodeReferences> indexTreeWriter, final PostingFormat postingFormat) {
+    this.indexTreeWriter = indexTreeWriter;
     this.pathSummaryReader = pathSummaryReader;
     this.paths = paths;
+    this.postingFormat = postingFormat;
   }
 
   public void listen(final ChangeType type, final ImmutableNode node, final long pathNodeKey) {
@@ -33,17 +36,17 @@ public final class PathIndexListener {
       switch (type) {
         case INSERT:
           if (pathSummaryReader.getPCRsForPaths(paths, false).contains(pathNodeKey)) {
-            final Optional<NodeReferences> textReferences = avlTreeWriter.get(pathNodeKey, SearchMode.EQUAL);
+            final Optional<NodeReferences> textReferences = indexTreeWriter.get(pathNodeKey, SearchMode.EQUAL);
             if (textReferences.isPresent()) {
               setNodeReferences(node, textReferences.get(), pathNodeKey);
             } else {
-              setNodeReferences(node, new NodeReferences(), pathNodeKey);
+              setNodeReferences(node, new NodeReferences(postingFormat), pathNodeKey);
             }
           }
           break;
         case DELETE:
           if (pathSummaryReader.getPCRsForPaths(paths, false).contains(pathNodeKey)) {
-            avlTreeWriter.remove(pathNodeKey, node.getNodeKey());
+            indexTreeWriter.remove(pathNodeKey, node.getNodeKey());
           }
           break;
         default:
@@ -55,6 +58,6 @@ public final class PathIndexListener {
 
   private void setNodeReferences(final ImmutableNode node, final NodeReferences references, final long pathNodeKey)
       throws SirixIOException {
-    avlTreeWriter.index(pathNodeKey, references.addNodeKey(node.getNodeKey()), MoveCursor.NO_MOVE);
+    indexTreeWriter.index(pathNodeKey, references.addNodeKey(node.getNodeKey()), MoveCursor.NO_MOVE);
   }
 }
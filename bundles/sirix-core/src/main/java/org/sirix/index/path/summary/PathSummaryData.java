@@ -0,0 +1,75 @@
+package org.sirix.index.path.summary;
+
+import org.brackit.xquery.atomic.QNm;
+import org.brackit.xquery.util.path.Path;
+import org.sirix.node.interfaces.StructNode;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The mappings of a path summary, which are built once per revision and shared by all {@link PathSummaryReader}s of
+ * the revision. Shared instances are never modified: the path summary reader of a write transaction copies them,
+ * before it modifies them for the first time.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class PathSummaryData {
+  /**
+   * Mapping of a path node key to the path node/document root node.
+   */
+  private final Map<Long, StructNode> pathNodeMapping;
+
+  /**
+   * Mapping of a {@link QNm} to a set of path nodes.
+   */
+  private final Map<QNm, Set<PathNode>> qnmMapping;
+
+  /**
+   * The path cache, which may be filled concurrently by the readers sharing the mappings.
+   */
+  private final Map<Path<QNm>, Set<Long>> pathCache;
+
+  /**
+   * Constructor for empty mappings.
+   */
+  PathSummaryData() {
+    this(new HashMap<>(), new HashMap<>());
+  }
+
+  private PathSummaryData(final Map<Long, StructNode> pathNodeMapping, final Map<QNm, Set<PathNode>> qnmMapping) {
+    this.pathNodeMapping = pathNodeMapping;
+    this.qnmMapping = qnmMapping;
+    pathCache = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Copy the mappings, such that they can be modified. The path cache isn't copied.
+   *
+   * @return the copied mappings
+   */
+  PathSummaryData copy() {
+    final Map<QNm, Set<PathNode>> qnmMappingCopy = new HashMap<>(qnmMapping.size());
+
+    for (final Map.Entry<QNm, Set<PathNode>> entry : qnmMapping.entrySet()) {
+      qnmMappingCopy.put(entry.getKey(), new HashSet<>(entry.getValue()));
+    }
+
+    return new PathSummaryData(new HashMap<>(pathNodeMapping), qnmMappingCopy);
+  }
+
+  Map<Long, StructNode> getPathNodeMapping() {
+    return pathNodeMapping;
+  }
+
+  Map<QNm, Set<PathNode>> getQnmMapping() {
+    return qnmMapping;
+  }
+
+  Map<Path<QNm>, Set<Long>> getPathCache() {
+    return pathCache;
+  }
+}
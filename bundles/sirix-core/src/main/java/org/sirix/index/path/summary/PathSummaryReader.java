@@ -31,6 +31,7 @@ import org.sirix.settings.Fixed;
 import org.sirix.utils.NamePageHash;
 
 import javax.annotation.Nonnegative;
+import javax.annotation.Nullable;
 import java.math.BigInteger;
 import java.time.Instant;
 import java.util.*;
@@ -65,19 +66,14 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
   private boolean isClosed;
 
   /**
-   * Mapping of a path node key to the path node/document root node.
+   * The mappings of the path summary, which are possibly shared with other readers.
    */
-  private final Map<Long, StructNode> pathNodeMapping;
+  private PathSummaryData data;
 
   /**
-   * Mapping of a {@link QNm} to a set of path nodes.
+   * Determines if the mappings are shared with other readers, such that they have to be copied before modifying them.
    */
-  private final Map<QNm, Set<PathNode>> qnmMapping;
-
-  /**
-   * The path cache.
-   */
-  private final Map<Path<QNm>, Set<Long>> pathCache;
+  private boolean isShared;
 
   private boolean mInit = true;
 
@@ -86,10 +82,11 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
    *
    * @param pageReadTrx     page reader
    * @param resourceManager {@link ResourceManager} reference
+   * @param data            the shared mappings of the path summary or {@code null}, if they have to be built
    */
   private PathSummaryReader(final PageReadOnlyTrx pageReadTrx,
-      final ResourceManager<? extends NodeReadOnlyTrx, ? extends NodeTrx> resourceManager) {
-    pathCache = new HashMap<>();
+      final ResourceManager<? extends NodeReadOnlyTrx, ? extends NodeTrx> resourceManager,
+      final @Nullable PathSummaryData data) {
     this.pageReadTrx = pageReadTrx;
     isClosed = false;
     this.resourceManager = resourceManager;
@@ -102,8 +99,16 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
       throw new IllegalStateException("Node couldn't be fetched from persistent storage!");
     }
 
-    pathNodeMapping = new HashMap<>();
-    qnmMapping = new HashMap<>();
+    if (data != null) {
+      this.data = data;
+      isShared = true;
+      mInit = false;
+      return;
+    }
+
+    this.data = new PathSummaryData();
+    final Map<Long, StructNode> pathNodeMapping = this.data.getPathNodeMapping();
+    final Map<QNm, Set<PathNode>> qnmMapping = this.data.getQnmMapping();
     boolean first = true;
     for (final long nodeKey : new DescendantAxis(this, IncludeSelf.YES)) {
       pathNodeMapping.put(nodeKey, this.getStructuralNode());
@@ -145,21 +150,66 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
    */
   public static PathSummaryReader getInstance(final PageReadOnlyTrx pageReadTrx,
       final ResourceManager<? extends NodeReadOnlyTrx, ? extends NodeTrx> resourceManager) {
-    return new PathSummaryReader(checkNotNull(pageReadTrx), checkNotNull(resourceManager));
+    return new PathSummaryReader(checkNotNull(pageReadTrx), checkNotNull(resourceManager), null);
+  }
+
+  /**
+   * Get a new path summary reader instance, which shares the mappings of another reader of the same revision instead
+   * of building them.
+   *
+   * @param pageReadTrx     the {@link PageReadOnlyTrx} instance
+   * @param resourceManager the {@link ResourceManager} instance
+   * @param data            the mappings, as returned by {@link #share()}
+   * @return new path summary reader instance
+   */
+  public static PathSummaryReader getInstance(final PageReadOnlyTrx pageReadTrx,
+      final ResourceManager<? extends NodeReadOnlyTrx, ? extends NodeTrx> resourceManager,
+      final PathSummaryData data) {
+    return new PathSummaryReader(checkNotNull(pageReadTrx), checkNotNull(resourceManager), checkNotNull(data));
+  }
+
+  /**
+   * Get the mappings of the path summary to share them with other readers of the same revision. The mappings are
+   * copied, before this reader modifies them.
+   *
+   * @return the mappings of the path summary
+   */
+  public PathSummaryData share() {
+    assertNotClosed();
+    isShared = true;
+    return data;
+  }
+
+  /**
+   * Copy the mappings, if they are shared, as they are about to be modified.
+   */
+  private void unshare() {
+    if (isShared) {
+      data = data.copy();
+      isShared = false;
+    }
   }
 
   // package private, only used in writer to keep the mapping always up-to-date
   void putMapping(final @Nonnegative long pathNodeKey, final StructNode node) {
-    pathNodeMapping.put(pathNodeKey, node);
+    unshare();
+    data.getPathNodeMapping().put(pathNodeKey, node);
+
+    if (currentNode != null && currentNode.getNodeKey() == pathNodeKey) {
+      currentNode = node;
+    }
   }
 
   // package private, only used in writer to keep the mapping always up-to-date
   StructNode removeMapping(final @Nonnegative long pathNodeKey) {
-    return pathNodeMapping.remove(pathNodeKey);
+    unshare();
+    return data.getPathNodeMapping().remove(pathNodeKey);
   }
 
   // package private, only used in writer to keep the mapping always up-to-date
   void putQNameMapping(final PathNode node, final QNm name) {
+    unshare();
+    final Map<QNm, Set<PathNode>> qnmMapping = data.getQnmMapping();
     final Set<PathNode> pathNodes = qnmMapping.get(name) == null ? new HashSet<>() : qnmMapping.get(name);
     pathNodes.add(node);
     qnmMapping.put(name, pathNodes);
@@ -167,6 +217,8 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
 
   // package private, only used in writer to keep the mapping always up-to-date
   void removeQNameMapping(final @Nonnegative PathNode node, final QNm name) {
+    unshare();
+    final Map<QNm, Set<PathNode>> qnmMapping = data.getQnmMapping();
     final Set<PathNode> pathNodes = qnmMapping.get(name) == null ? new HashSet<>() : qnmMapping.get(name);
     if (pathNodes.size() == 1) {
       qnmMapping.remove(name);
@@ -185,7 +237,7 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
    */
   public BitSet matchDescendants(final QNm name, final @Nonnegative long pathNodeKey, final IncludeSelf includeSelf) {
     assertNotClosed();
-    final Set<PathNode> set = qnmMapping.get(name);
+    final Set<PathNode> set = data.getQnmMapping().get(name);
     if (set == null) {
       return new BitSet(0);
     }
@@ -207,7 +259,7 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
    */
   public BitSet match(final QNm name, final @Nonnegative int minLevel) {
     assertNotClosed();
-    final Set<PathNode> set = qnmMapping.get(name);
+    final Set<PathNode> set = data.getQnmMapping().get(name);
     if (set == null) {
       return new BitSet(0);
     }
@@ -229,7 +281,7 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
    */
   public BitSet match(final QNm name, final @Nonnegative int minLevel, NodeKind nodeKind) {
     assertNotClosed();
-    final Set<PathNode> set = qnmMapping.get(name);
+    final Set<PathNode> set = data.getQnmMapping().get(name);
     if (set == null) {
       return new BitSet(0);
     }
@@ -252,7 +304,7 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
    */
   public Optional<PathNode> matchLevel(final QNm name, final @Nonnegative int level, NodeKind nodeKind) {
     assertNotClosed();
-    final Set<PathNode> set = qnmMapping.get(name);
+    final Set<PathNode> set = data.getQnmMapping().get(name);
     if (set == null) {
       return Optional.empty();
     }
@@ -298,7 +350,7 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
     } else if (pathNodeKey == 0) {
       return null;
     }
-    return (PathNode) pathNodeMapping.get(pathNodeKey);
+    return (PathNode) data.getPathNodeMapping().get(pathNodeKey);
   }
 
   @Override
@@ -321,16 +373,14 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
    * @throws SirixException if anything went wrong
    */
   public Set<Long> getPCRsForPath(final Path<QNm> path, final boolean useCache) throws PathException {
-    final Set<Long> pcrSet;
+    final Map<Path<QNm>, Set<Long>> pathCache = data.getPathCache();
     if (useCache) {
-      if (pathCache.containsKey(path) && pathCache.get(path) != null) {
-        return pathCache.get(path);
-      } else {
-        pcrSet = new HashSet<>();
+      final Set<Long> cachedPcrSet = pathCache.get(path);
+      if (cachedPcrSet != null) {
+        return cachedPcrSet;
       }
-    } else {
-      pcrSet = new HashSet<>();
     }
+    final Set<Long> pcrSet = new HashSet<>();
 
     final boolean isAttributePattern = path.isAttribute();
     final int pathLength = path.getLength();
@@ -363,7 +413,10 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
     }
     moveTo(nodeKey);
     if (useCache) {
-      pathCache.put(path, pcrSet);
+      // The cache may be shared with other readers, thus the set must not be modified afterwards.
+      final Set<Long> unmodifiablePcrSet = Collections.unmodifiableSet(pcrSet);
+      pathCache.put(path, unmodifiablePcrSet);
+      return unmodifiablePcrSet;
     }
     return pcrSet;
   }
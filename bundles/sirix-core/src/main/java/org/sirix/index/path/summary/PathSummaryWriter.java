@@ -103,11 +103,30 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
   public PathSummaryWriter(final PageTrx<Long, DataRecord, UnorderedKeyValuePage> pageWriteTrx,
       final ResourceManager<R, ? extends NodeTrx> resMgr, final NodeFactory nodeFactory, final R rtx) {
     this.pageWriteTrx = checkNotNull(pageWriteTrx);
-    pathSummaryReader = PathSummaryReader.getInstance(pageWriteTrx, resMgr);
+    pathSummaryReader = createPathSummaryReader(pageWriteTrx, resMgr);
     nodeRtx = checkNotNull(rtx);
     this.nodeFactory = checkNotNull(nodeFactory);
   }
 
+  /**
+   * Create the path summary reader of the write transaction. It shares the mappings of the path summary of the
+   * revision it's based on with the readers of the revision, until it modifies them.
+   */
+  private static PathSummaryReader createPathSummaryReader(
+      final PageTrx<Long, DataRecord, UnorderedKeyValuePage> pageWriteTrx,
+      final ResourceManager<? extends NodeReadOnlyTrx, ? extends NodeTrx> resMgr) {
+    if (pageWriteTrx.getUberPage().isBootstrap()) {
+      return PathSummaryReader.getInstance(pageWriteTrx, resMgr);
+    }
+
+    final int revision = pageWriteTrx.getRevisionToRepresent();
+    final PathSummaryData data;
+    try (final PathSummaryReader pathSummaryOfRevision = resMgr.openPathSummary(revision)) {
+      data = pathSummaryOfRevision.share();
+    }
+    return PathSummaryReader.getInstance(pageWriteTrx, resMgr, data);
+  }
+
   /**
    * Get the path summary reader.
    *
@@ -146,7 +165,7 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
       axis.next();
       retVal = pathSummaryReader.getNodeKey();
       final PathNode pathNode =
-          (PathNode) pageWriteTrx.prepareEntryForModification(retVal, PageKind.PATHSUMMARYPAGE, 0);
+          preparePathNodeForModification(retVal);
       pathNode.incrementReferenceCount();
     } else {
       assert nodeKey == pathSummaryReader.getNodeKey();
@@ -156,6 +175,20 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
     return retVal;
   }
 
+  /**
+   * Prepare a path node for modification. The modified node is a copy of the node read by the path summary reader,
+   * thus the mapping of the reader is updated.
+   *
+   * @param pathNodeKey the key of the path node
+   * @return the path node to modify
+   */
+  @SuppressWarnings("unchecked")
+  private <T extends StructNode> T preparePathNodeForModification(final @Nonnegative long pathNodeKey) {
+    final T node = (T) pageWriteTrx.prepareEntryForModification(pathNodeKey, PageKind.PATHSUMMARYPAGE, 0);
+    pathSummaryReader.putMapping(pathNodeKey, node);
+    return node;
+  }
+
   /**
    * Move path summary cursor to the path node which is references by the current node.
    */
@@ -191,7 +224,7 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
 
     pathSummaryReader.putMapping(node.getNodeKey(), node);
     pathSummaryReader.moveTo(node.getNodeKey());
-    adaptForInsert(node, InsertPos.ASFIRSTCHILD, PageKind.PATHSUMMARYPAGE);
+    adaptForInsert(node, InsertPos.ASFIRSTCHILD);
     pathSummaryReader.moveTo(node.getNodeKey());
     pathSummaryReader.putQNameMapping(node, name);
 
@@ -203,18 +236,16 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
    *
    * @param newNode pointer of the new node to be inserted
    * @param insertPos determines the position where to insert
-   * @param pageKind kind of subtree root page
    * @throws SirixIOException if anything weird happens
    */
-  private void adaptForInsert(final Node newNode, final InsertPos insertPos, final PageKind pageKind) {
+  private void adaptForInsert(final Node newNode, final InsertPos insertPos) {
     assert newNode != null;
     assert insertPos != null;
-    assert pageKind != null;
 
     if (newNode instanceof StructNode) {
       final StructNode strucNode = (StructNode) newNode;
       final StructNode parent =
-          (StructNode) pageWriteTrx.prepareEntryForModification(newNode.getParentKey(), pageKind, 0);
+          preparePathNodeForModification(newNode.getParentKey());
       parent.incrementChildCount();
       if (insertPos == InsertPos.ASFIRSTCHILD) {
         parent.setFirstChildKey(newNode.getNodeKey());
@@ -222,12 +253,12 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
 
       if (strucNode.hasRightSibling()) {
         final StructNode rightSiblingNode =
-            (StructNode) pageWriteTrx.prepareEntryForModification(strucNode.getRightSiblingKey(), pageKind, 0);
+            preparePathNodeForModification(strucNode.getRightSiblingKey());
         rightSiblingNode.setLeftSiblingKey(newNode.getNodeKey());
       }
       if (strucNode.hasLeftSibling()) {
         final StructNode leftSiblingNode =
-            (StructNode) pageWriteTrx.prepareEntryForModification(strucNode.getLeftSiblingKey(), pageKind, 0);
+            preparePathNodeForModification(strucNode.getLeftSiblingKey());
         leftSiblingNode.setRightSiblingKey(newNode.getNodeKey());
       }
     }
@@ -275,8 +306,7 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
           /* The path summary just needs to be updated for the new renamed node. */
           pathSummaryReader.moveTo(oldPathNodeKey);
           final PathNode pathNode =
-              (PathNode) pageWriteTrx.prepareEntryForModification(pathSummaryReader.getNodeKey(),
-                                                                  PageKind.PATHSUMMARYPAGE, 0);
+              preparePathNodeForModification(pathSummaryReader.getNodeKey());
           pathNode.setPrefixKey(prefixKey);
           pathNode.setLocalNameKey(localNameKey);
           pathNode.setURIKey(uriKey);
@@ -422,8 +452,7 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
     nodeRtx.moveTo(oldNodeKey);
 
     // Set new reference count of the root.
-    final PathNode currNode = (PathNode) pageWriteTrx.prepareEntryForModification(pathSummaryReader.getNodeKey(),
-                                                                                  PageKind.PATHSUMMARYPAGE, 0);
+    final PathNode currNode = preparePathNodeForModification(pathSummaryReader.getNodeKey());
     currNode.setReferenceCount(currNode.getReferences() + 1);
     currNode.setLocalNameKey(localNameKey);
     currNode.setPrefixKey(prefixKey);
@@ -549,15 +578,13 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
   }
 
   private void setReferenceCountToOne() {
-    final PathNode currNode = (PathNode) pageWriteTrx.prepareEntryForModification(pathSummaryReader.getNodeKey(),
-                                                                                  PageKind.PATHSUMMARYPAGE, 0);
+    final PathNode currNode = preparePathNodeForModification(pathSummaryReader.getNodeKey());
     currNode.setReferenceCount(1);
   }
 
   private void increaseReferenceCount() {
     // Set new reference count.
-    final PathNode currNode = (PathNode) pageWriteTrx.prepareEntryForModification(pathSummaryReader.getNodeKey(),
-                                                                                  PageKind.PATHSUMMARYPAGE, 0);
+    final PathNode currNode = preparePathNodeForModification(pathSummaryReader.getNodeKey());
     currNode.setReferenceCount(currNode.getReferences() + 1);
   }
 
@@ -616,22 +643,19 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
     // Adapt left sibling node if there is one.
     if (pathSummaryReader.hasLeftSibling()) {
       final StructNode leftSibling =
-          (StructNode) pageWriteTrx.prepareEntryForModification(pathSummaryReader.getLeftSiblingKey(),
-                                                                PageKind.PATHSUMMARYPAGE, 0);
+          preparePathNodeForModification(pathSummaryReader.getLeftSiblingKey());
       leftSibling.setRightSiblingKey(pathSummaryReader.getRightSiblingKey());
     }
 
     // Adapt right sibling node if there is one.
     if (pathSummaryReader.hasRightSibling()) {
       final StructNode rightSibling =
-          (StructNode) pageWriteTrx.prepareEntryForModification(pathSummaryReader.getRightSiblingKey(),
-                                                                PageKind.PATHSUMMARYPAGE, 0);
+          preparePathNodeForModification(pathSummaryReader.getRightSiblingKey());
       rightSibling.setLeftSiblingKey(pathSummaryReader.getLeftSiblingKey());
     }
 
     // Adapt parent. If node has no left sibling it is a first child.
-    StructNode parent = (StructNode) pageWriteTrx.prepareEntryForModification(pathSummaryReader.getParentKey(),
-                                                                              PageKind.PATHSUMMARYPAGE, 0);
+    StructNode parent = preparePathNodeForModification(pathSummaryReader.getParentKey());
     if (!pathSummaryReader.hasLeftSibling()) {
       parent.setFirstChildKey(pathSummaryReader.getRightSiblingKey());
     }
@@ -649,8 +673,7 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
       if (pathSummaryReader.getReferences() == 1) {
         removePathSummaryNode(RemoveSubtreePath.NO);
       } else {
-        final PathNode pathNode = (PathNode) pageWriteTrx.prepareEntryForModification(pathSummaryReader.getNodeKey(),
-                                                                                      PageKind.PATHSUMMARYPAGE, 0);
+        final PathNode pathNode = preparePathNodeForModification(pathSummaryReader.getNodeKey());
         pathNode.decrementReferenceCount();
       }
     }
@@ -673,8 +696,7 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
         assert page.getCount(node.getLocalNameKey(), nodeKind, pageWriteTrx) != 0;
         if (pathSummaryReader.getReferences() > 1) {
           final PathNode pathNode =
-              (PathNode) pageWriteTrx.prepareEntryForModification(pathSummaryReader.getNodeKey(),
-                                                                  PageKind.PATHSUMMARYPAGE, 0);
+              preparePathNodeForModification(pathSummaryReader.getNodeKey());
           pathNode.decrementReferenceCount();
         }
       }
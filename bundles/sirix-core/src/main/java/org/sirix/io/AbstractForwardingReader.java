@@ -24,6 +24,11 @@ public abstract class AbstractForwardingReader extends ForwardingObject implemen
     return delegate().read(reference, pageReadTrx);
   }
 
+  @Override
+  public byte[] readSerializedPage(PageReference reference) {
+    return delegate().readSerializedPage(reference);
+  }
+
   @Override
   public PageReference readUberPageReference() {
     return delegate().readUberPageReference();
@@ -0,0 +1,83 @@
+package org.sirix.io;
+
+import com.google.common.hash.Hashing;
+import org.sirix.exception.SirixIOException;
+import org.sirix.page.PageReference;
+
+import javax.annotation.Nullable;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * The algorithms, which are used to compute the checksums of the stored pages (page fragments). The checksum is
+ * stored in the page reference to the page.
+ *
+ * @author Johannes Lichtenberger
+ */
+public enum ChecksumType {
+  /** SHA-256, a cryptographic hash function (the checksum of resources created with former versions). */
+  SHA256 {
+    @Override
+    public byte[] checksum(final byte[] bytes, final int offset, final int length) {
+      return Hashing.sha256().hashBytes(bytes, offset, length).asBytes();
+    }
+  },
+
+  /** CRC-32C, which is hardware-accelerated by the JVM on most platforms. */
+  CRC32C {
+    @Override
+    public byte[] checksum(final byte[] bytes, final int offset, final int length) {
+      final CRC32C crc = new CRC32C();
+      crc.update(bytes, offset, length);
+      return ByteBuffer.allocate(Integer.BYTES).putInt((int) crc.getValue()).array();
+    }
+  },
+
+  /** No checksums are computed. */
+  NONE {
+    @Override
+    public byte[] checksum(final byte[] bytes, final int offset, final int length) {
+      return null;
+    }
+  };
+
+  /**
+   * Compute the checksum of a serialized page.
+   *
+   * @param bytes  the bytes of the serialized page
+   * @param offset the offset of the serialized page in {@code bytes}
+   * @param length the length of the serialized page
+   * @return the checksum or {@code null}, if no checksum is computed
+   */
+  public abstract @Nullable byte[] checksum(byte[] bytes, int offset, int length);
+
+  /**
+   * Compute the checksum of a serialized page.
+   *
+   * @param bytes the bytes of the serialized page
+   * @return the checksum or {@code null}, if no checksum is computed
+   */
+  public @Nullable byte[] checksum(final byte[] bytes) {
+    return checksum(bytes, 0, bytes.length);
+  }
+
+  /**
+   * Verify the checksum of a serialized page against the checksum stored in the reference to the page.
+   *
+   * @param reference the reference to the page
+   * @param bytes     the bytes of the serialized page
+   * @throws SirixIOException if the checksums don't match
+   */
+  public void verify(final PageReference reference, final byte[] bytes) {
+    final byte[] expectedChecksum = reference.getHash();
+
+    if (expectedChecksum == null || this == NONE) {
+      return;
+    }
+
+    if (!Arrays.equals(expectedChecksum, checksum(bytes))) {
+      throw new SirixIOException("Checksum of the page at offset " + reference.getKey() + " doesn't match.");
+    }
+  }
+}
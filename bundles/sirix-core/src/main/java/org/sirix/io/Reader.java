@@ -57,6 +57,20 @@ public interface Reader extends AutoCloseable {
    */
   Page read(PageReference key, @Nullable PageReadOnlyTrx pageReadTrx);
 
+  /**
+   * Read the serialized page, which the reference points to, that is the page bytes once the byte
+   * handler pipeline has been reverted (decompressed, decrypted...), but before the page is
+   * deserialized. In contrast to {@link #read(PageReference, PageReadOnlyTrx)} implementations must not
+   * change any state of the reader, such that the method can be invoked concurrently by multiple
+   * threads.
+   *
+   * @param reference the reference to the page
+   * @return the serialized page or {@code null}, if the storage doesn't support concurrent reads
+   * @throws SirixIOException if something bad happens during read
+   */
+  @Nullable
+  byte[] readSerializedPage(PageReference reference);
+
   /**
    * Closing the storage.
    *
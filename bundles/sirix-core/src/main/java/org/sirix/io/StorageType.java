@@ -52,6 +52,17 @@ public enum StorageType {
     }
   },
 
+  /**
+   * {@link RandomAccessFile} backend, which buffers appended pages in memory and writes them sequentially in large
+   * chunks.
+   */
+  BUFFERED_FILE {
+    @Override
+    public IOStorage getInstance(final ResourceConfiguration resourceConf) {
+      return new FileStorage(resourceConf, true);
+    }
+  },
+
   /** FileChannel / direct I/O backend. */
   DIRECT {
     @Override
@@ -23,6 +23,9 @@ package org.sirix.io;
 
 import org.sirix.exception.SirixIOException;
 import org.sirix.page.PageReference;
+import org.sirix.page.interfaces.Page;
+
+import javax.annotation.Nullable;
 
 /**
  * Interface to provide the abstract layer related to write access of the Sirix-backend.
@@ -40,6 +43,30 @@ public interface Writer extends Reader {
    */
   Writer write(PageReference pageReference) throws SirixIOException;
 
+  /**
+   * Serialize a page, that is transform it into the bytes which are stored (the serialized page once the byte
+   * handler pipeline has been applied). The state of the writer isn't changed, such that distinct pages may be
+   * serialized concurrently.
+   *
+   * @param page the page to serialize
+   * @return the serialized page or {@code null}, if the storage keeps page instances instead of bytes
+   * @throws SirixIOException if the page couldn't be serialized
+   */
+  @Nullable
+  byte[] serializePage(Page page) throws SirixIOException;
+
+  /**
+   * Writing a page related to the reference, which has already been serialized by
+   * {@link #serializePage(Page)}. Writers, which batch writes, collect the page until the uber page reference is
+   * written, whereas the others fall back to writing the page immediately.
+   *
+   * @param pageReference that points to a page
+   * @param serializedPage the serialized page
+   * @throws SirixIOException execption to be thrown if something bad happens
+   * @return this writer instance
+   */
+  Writer write(PageReference pageReference, byte[] serializedPage) throws SirixIOException;
+
   /**
    * Write beacon for the first reference.
    *
@@ -21,11 +21,10 @@
 
 package org.sirix.io.direct;
 
-import com.google.common.hash.HashFunction;
-import com.google.common.hash.Hashing;
 import com.sun.nio.file.ExtendedOpenOption;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.exception.SirixIOException;
+import org.sirix.io.ChecksumType;
 import org.sirix.io.Reader;
 import org.sirix.io.bytepipe.ByteHandler;
 import org.sirix.page.*;
@@ -35,7 +34,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
@@ -68,9 +69,14 @@ public final class FileChannelReader implements Reader {
   final ByteHandler byteHandler;
 
   /**
-   * The hash function used to hash pages/page fragments.
+   * The algorithm used to compute the checksums of pages/page fragments.
    */
-  final HashFunction hashFunction;
+  final ChecksumType checksumType;
+
+  /**
+   * Determines if the checksums of read pages are verified.
+   */
+  private final boolean verifyChecksums;
 
   /**
    * Data file channel.
@@ -98,11 +104,15 @@ public final class FileChannelReader implements Reader {
    * @param dataFile            the data file
    * @param revisionsOffsetFile the file, which holds pointers to the revision root pages
    * @param handler             {@link ByteHandler} instance
+   * @param checksumType        the algorithm used to compute the checksums of pages
+   * @param verifyChecksums     {@code true}, if the checksums of read pages should be verified
    * @throws SirixIOException if something bad happens
    */
   public FileChannelReader(final Path dataFile, final Path revisionsOffsetFile, final ByteHandler handler,
-      final SerializationType type, final PagePersister pagePersistenter) throws IOException {
-    hashFunction = Hashing.sha256();
+      final SerializationType type, final PagePersister pagePersistenter, final ChecksumType checksumType,
+      final boolean verifyChecksums) throws IOException {
+    this.checksumType = checkNotNull(checksumType);
+    this.verifyChecksums = verifyChecksums;
     this.dataFileChannel = FileChannel.open(dataFile, StandardOpenOption.READ);
 
     this.revisionsOffsetChannel = type == SerializationType.DATA ? FileChannel.open(revisionsOffsetFile,
@@ -140,6 +150,10 @@ public final class FileChannelReader implements Reader {
       buffer.position(0);
       buffer.get(page);
 
+      if (verifyChecksums && type == SerializationType.DATA) {
+        checksumType.verify(reference, page);
+      }
+
       // Perform byte operations.
       final DataInputStream input = new DataInputStream(byteHandler.deserialize(new ByteArrayInputStream(page)));
 
@@ -150,6 +164,39 @@ public final class FileChannelReader implements Reader {
     }
   }
 
+  @Override
+  public byte[] readSerializedPage(final @Nonnull PageReference reference) {
+    try {
+      final long offset = type == SerializationType.DATA ? reference.getKey() : reference.getPersistentLogKey();
+
+      // Positional reads don't change the channel position, thus they are safe to be used concurrently.
+      final ByteBuffer dataLengthBuffer = ByteBuffer.allocate(OTHER_BEACON);
+      readFully(dataLengthBuffer, offset);
+      final int dataLength = dataLengthBuffer.flip().getInt();
+
+      final ByteBuffer pageBuffer = ByteBuffer.allocate(dataLength);
+      readFully(pageBuffer, offset + OTHER_BEACON);
+
+      if (verifyChecksums && type == SerializationType.DATA) {
+        checksumType.verify(reference, pageBuffer.array());
+      }
+
+      try (final InputStream input = byteHandler.deserialize(new ByteArrayInputStream(pageBuffer.array()))) {
+        return input.readAllBytes();
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  private void readFully(final ByteBuffer buffer, final long offset) throws IOException {
+    while (buffer.hasRemaining()) {
+      if (dataFileChannel.read(buffer, offset + buffer.position()) == -1) {
+        throw new EOFException("Unexpected end of file at offset " + (offset + buffer.position()) + ".");
+      }
+    }
+  }
+
   @Override
   public PageReference readUberPageReference() {
     final PageReference uberPageReference = new PageReference();
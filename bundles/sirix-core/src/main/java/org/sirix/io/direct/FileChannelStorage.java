@@ -23,6 +23,7 @@ package org.sirix.io.direct;
 
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.exception.SirixIOException;
+import org.sirix.io.ChecksumType;
 import org.sirix.io.IOStorage;
 import org.sirix.io.Reader;
 import org.sirix.io.Writer;
@@ -56,6 +57,12 @@ public final class FileChannelStorage implements IOStorage {
   /** Byte handler pipeline. */
   private final ByteHandlePipeline byteHandlerPipeline;
 
+  /** The algorithm used to compute the checksums of pages. */
+  private final ChecksumType checksumType;
+
+  /** Determines if the checksums of read pages are verified. */
+  private final boolean verifyChecksums;
+
   /**
    * Constructor.
    *
@@ -65,6 +72,8 @@ public final class FileChannelStorage implements IOStorage {
     assert resourceConfig != null : "resourceConfig must not be null!";
     file = resourceConfig.resourcePath;
     byteHandlerPipeline = resourceConfig.byteHandlePipeline;
+    checksumType = resourceConfig.checksumType;
+    verifyChecksums = resourceConfig.verifyChecksums;
   }
 
   @Override
@@ -77,7 +86,8 @@ public final class FileChannelStorage implements IOStorage {
 
       return new FileChannelReader(dataFilePath,
                                    revisionsOffsetFilePath,
-                                   new ByteHandlePipeline(byteHandlerPipeline), SerializationType.DATA, new PagePersister());
+                                   new ByteHandlePipeline(byteHandlerPipeline), SerializationType.DATA, new PagePersister(),
+                                   checksumType, verifyChecksums);
     } catch (final IOException e) {
       throw new SirixIOException(e);
     }
@@ -104,7 +114,8 @@ public final class FileChannelStorage implements IOStorage {
 
       return new FileChannelWriter(dataFilePath,
                                    revisionsOffsetFilePath,
-                                   new ByteHandlePipeline(byteHandlerPipeline), SerializationType.DATA, new PagePersister());
+                                   new ByteHandlePipeline(byteHandlerPipeline), SerializationType.DATA, new PagePersister(),
+                                   checksumType, verifyChecksums);
     } catch (final IOException e) {
       throw new SirixIOException(e);
     }
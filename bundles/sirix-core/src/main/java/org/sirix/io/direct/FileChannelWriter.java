@@ -24,6 +24,7 @@ package org.sirix.io.direct;
 import com.sun.nio.file.ExtendedOpenOption;
 import org.sirix.exception.SirixIOException;
 import org.sirix.io.AbstractForwardingReader;
+import org.sirix.io.ChecksumType;
 import org.sirix.io.Reader;
 import org.sirix.io.Writer;
 import org.sirix.io.bytepipe.ByteHandler;
@@ -35,6 +36,8 @@ import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -66,6 +69,27 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
 
   private final PagePersister pagePersister;
 
+  /**
+   * Pages (including the padding in front of them), which are appended to the data file with one gathering write.
+   */
+  private final List<ByteBuffer> pendingPages;
+
+  /**
+   * The offset of the first pending page (including its padding) in the data file.
+   */
+  private long pendingPagesOffset;
+
+  /**
+   * The size of the data file including the pending pages or {@code -1}, if it has to be fetched from the channel.
+   */
+  private long dataFileSize;
+
+  /**
+   * The offset of the revision root page, which is added to the revisions offset file once the data file has been
+   * synced, or {@code -1}, if no revision root page has been written since the last uber page.
+   */
+  private long revisionRootPageOffset = -1;
+
   /**
    * Constructor.
    *
@@ -74,9 +98,12 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
    * @param handler             the byte handler
    * @param serializationType   the serialization type (for the transaction log or the data file)
    * @param pagePersister       transforms in-memory pages into byte-arrays and back
+   * @param checksumType        the algorithm used to compute the checksums of pages
+   * @param verifyChecksums     {@code true}, if the checksums of read pages should be verified
    */
   public FileChannelWriter(final Path dataFile, final Path revisionsOffsetFile, final ByteHandler handler,
-      final SerializationType serializationType, final PagePersister pagePersister) throws IOException {
+      final SerializationType serializationType, final PagePersister pagePersister, final ChecksumType checksumType,
+      final boolean verifyChecksums) throws IOException {
     this.dataFileChannel = FileChannel.open(dataFile, StandardOpenOption.WRITE);
     type = checkNotNull(serializationType);
     this.revisionsOffsetFileChannel = type == SerializationType.DATA
@@ -84,11 +111,16 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
                            StandardOpenOption.WRITE)
         : null;
     this.pagePersister = checkNotNull(pagePersister);
-    reader = new FileChannelReader(dataFile, revisionsOffsetFile, handler, serializationType, pagePersister);
+    reader = new FileChannelReader(dataFile, revisionsOffsetFile, handler, serializationType, pagePersister,
+        checksumType, verifyChecksums);
+    pendingPages = new ArrayList<>();
+    dataFileSize = -1;
   }
 
   @Override
   public Writer truncateTo(final int revision) {
+    flushPendingPages();
+
     UberPage uberPage = (UberPage) reader.readUberPageReference().getPage();
 
     while (uberPage.getRevisionNumber() != revision) {
@@ -96,6 +128,7 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
       if (uberPage.getRevisionNumber() == revision) {
         try {
           dataFileChannel.truncate(uberPage.getPreviousUberPageKey());
+          dataFileSize = -1;
         } catch (final IOException e) {
           throw new SirixIOException(e);
         }
@@ -114,29 +147,43 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
    */
   @Override
   public FileChannelWriter write(final PageReference pageReference) throws SirixIOException {
+    final Page page = pageReference.getPage();
+    assert page != null;
+
+    return write(pageReference, serializePage(page));
+  }
+
+  @Override
+  public byte[] serializePage(final Page page) {
+    try (final ByteArrayOutputStream output = new ByteArrayOutputStream();
+         final DataOutputStream dataOutput = new DataOutputStream(reader.byteHandler.serialize(output))) {
+      pagePersister.serializePage(dataOutput, page, type);
+      dataOutput.flush();
+      return output.toByteArray();
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  /**
+   * Append a serialized page to the pending pages. The pages are written with one gathering write, once the
+   * uber page reference is written, the writer is closed or pages have to be read.
+   *
+   * @param pageReference  page reference to write
+   * @param serializedPage the serialized page
+   * @throws SirixIOException if errors during writing occur
+   */
+  @Override
+  public FileChannelWriter write(final PageReference pageReference, final byte[] serializedPage) {
     // Perform byte operations.
     try {
-      // Serialize page.
       final Page page = pageReference.getPage();
       assert page != null;
 
-      final byte[] serializedPage;
-
-      try (final ByteArrayOutputStream output = new ByteArrayOutputStream();
-           final DataOutputStream dataOutput = new DataOutputStream(reader.byteHandler.serialize(output))) {
-        pagePersister.serializePage(dataOutput, page, type);
-        dataOutput.flush();
-        serializedPage = output.toByteArray();
-      }
-
       final int writtenPageLength = serializedPage.length + FileChannelReader.OTHER_BEACON;
-      ByteBuffer buffer = ByteBuffer.allocate(writtenPageLength);
-      buffer.putInt(serializedPage.length);
-      buffer.put(serializedPage);
-      buffer.position(0);
 
       // Getting actual offset and appending to the end of the current file.
-      final long fileSize = dataFileChannel.size();
+      final long fileSize = getDataFileSize();
       long offset = fileSize == 0 ? FileChannelReader.FIRST_BEACON : fileSize;
       if (type == SerializationType.DATA) {
         if (page instanceof RevisionRootPage) {
@@ -148,8 +195,19 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
         }
       }
 
-      dataFileChannel.position(offset);
-      dataFileChannel.write(buffer);
+      // The padding is part of the buffer, such that all pending pages are contiguous.
+      final int padding = (int) (offset - fileSize);
+      final ByteBuffer buffer = ByteBuffer.allocate(padding + writtenPageLength);
+      buffer.position(padding);
+      buffer.putInt(serializedPage.length);
+      buffer.put(serializedPage);
+      buffer.flip();
+
+      if (pendingPages.isEmpty()) {
+        pendingPagesOffset = fileSize;
+      }
+      pendingPages.add(buffer);
+      dataFileSize = offset + writtenPageLength;
 
       // Remember page coordinates.
       switch (type) {
@@ -164,12 +222,10 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
       }
 
       pageReference.setLength(writtenPageLength);
-      pageReference.setHash(reader.hashFunction.hashBytes(serializedPage).asBytes());
+      pageReference.setHash(reader.checksumType.checksum(serializedPage));
 
       if (type == SerializationType.DATA && page instanceof RevisionRootPage) {
-        revisionsOffsetFileChannel.position(revisionsOffsetFileChannel.size());
-        buffer = ByteBuffer.allocate(8);
-        revisionsOffsetFileChannel.write(buffer);
+        revisionRootPageOffset = offset;
       }
 
       return this;
@@ -178,10 +234,47 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
     }
   }
 
+  private long getDataFileSize() throws IOException {
+    if (dataFileSize == -1) {
+      dataFileSize = dataFileChannel.size();
+    }
+    return dataFileSize;
+  }
+
+  /**
+   * Write all pending pages with one gathering write.
+   *
+   * @throws SirixIOException if an I/O error occurs
+   */
+  private void flushPendingPages() {
+    if (pendingPages.isEmpty()) {
+      return;
+    }
+
+    try {
+      final ByteBuffer[] buffers = pendingPages.toArray(new ByteBuffer[0]);
+      final ByteBuffer lastBuffer = buffers[buffers.length - 1];
+      dataFileChannel.position(pendingPagesOffset);
+      while (lastBuffer.hasRemaining()) {
+        dataFileChannel.write(buffers);
+      }
+      pendingPages.clear();
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  private static void writeFully(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
   @Override
   public void close() {
     try {
       if (dataFileChannel != null) {
+        flushPendingPages();
         dataFileChannel.force(true);
         dataFileChannel.close();
       }
@@ -197,17 +290,38 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
     }
   }
 
+  /**
+   * Write the uber page and all pending pages with one batched write and sync the data file. Afterwards the offset
+   * of the revision root page is added to the revisions offset file and the reference to the uber page is written,
+   * each followed by a sync, such that after a crash neither of them points to pages, which haven't been written.
+   *
+   * @param pageReference reference to the uber page
+   * @return this writer instance
+   */
   @Override
   public Writer writeUberPageReference(final PageReference pageReference) {
     try {
       write(pageReference);
-      dataFileChannel.position(0);
+      flushPendingPages();
+      dataFileChannel.force(false);
 
-      final ByteBuffer buffer = ByteBuffer.allocate(8);
+      if (revisionRootPageOffset != -1) {
+        final ByteBuffer offsetBuffer = ByteBuffer.allocate(Long.BYTES);
+        offsetBuffer.putLong(revisionRootPageOffset);
+        offsetBuffer.flip();
+        revisionsOffsetFileChannel.position(revisionsOffsetFileChannel.size());
+        writeFully(revisionsOffsetFileChannel, offsetBuffer);
+        revisionsOffsetFileChannel.force(false);
+        revisionRootPageOffset = -1;
+      }
+
+      final ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
       buffer.putLong(pageReference.getKey());
-      buffer.position(0);
+      buffer.flip();
 
-      dataFileChannel.write(buffer);
+      dataFileChannel.position(0);
+      writeFully(dataFileChannel, buffer);
+      dataFileChannel.force(false);
 
       return this;
     } catch (final IOException e) {
@@ -217,13 +331,18 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
 
   @Override
   protected Reader delegate() {
+    // Pending pages must be visible to the reader.
+    flushPendingPages();
     return reader;
   }
 
   @Override
   public Writer truncate() {
     try {
+      pendingPages.clear();
       dataFileChannel.truncate(0);
+      dataFileSize = 0;
+      revisionRootPageOffset = -1;
 
       if (revisionsOffsetFileChannel != null) {
         revisionsOffsetFileChannel.truncate(0);
@@ -0,0 +1,404 @@
+package org.sirix.io.file;
+
+import org.sirix.exception.SirixIOException;
+import org.sirix.io.AbstractForwardingReader;
+import org.sirix.io.ChecksumType;
+import org.sirix.io.Reader;
+import org.sirix.io.Writer;
+import org.sirix.io.bytepipe.ByteHandler;
+import org.sirix.page.PagePersister;
+import org.sirix.page.PageReference;
+import org.sirix.page.RevisionRootPage;
+import org.sirix.page.SerializationType;
+import org.sirix.page.UberPage;
+import org.sirix.page.interfaces.Page;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * File writer, which appends pages to an in-memory (direct) buffer, which is written to the data file with large
+ * sequential writes once it is full, the uber page reference is written or pages have to be read. The end of the
+ * data file is tracked in memory, such that no system call is needed to determine the offset of a page. The file
+ * format is the same as the one written by {@link FileWriter}.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class BufferedFileWriter extends AbstractForwardingReader implements Writer {
+
+  private static final short REVISION_ROOT_PAGE_BYTE_ALIGN = 256;
+
+  private static final byte PAGE_FRAGMENT_BYTE_ALIGN = 8;
+
+  /**
+   * The size of the write buffers.
+   */
+  private static final int BUFFER_SIZE = 1 << 20;
+
+  /**
+   * The maximum number of write buffers kept for reuse.
+   */
+  private static final int MAX_POOLED_BUFFERS = 16;
+
+  /**
+   * Direct write buffers, which are reused by writers.
+   */
+  private static final Queue<ByteBuffer> BUFFER_POOL = new ConcurrentLinkedQueue<>();
+
+  /**
+   * Random access to work on.
+   */
+  private final RandomAccessFile dataFile;
+
+  /**
+   * The channel of the data file, used for the (positional) writes.
+   */
+  private final FileChannel dataFileChannel;
+
+  /**
+   * {@link FileReader} reference for this writer.
+   */
+  private final FileReader reader;
+
+  private final SerializationType type;
+
+  private final RandomAccessFile revisionsOffsetFile;
+
+  private final PagePersister pagePersister;
+
+  /**
+   * Reused to serialize pages, which are written through {@link #write(PageReference)}.
+   */
+  private final PageOutputStream pageOutput;
+
+  /**
+   * Pages appended to the data file, which haven't been written yet.
+   */
+  private ByteBuffer buffer;
+
+  /**
+   * The offset in the data file of the first byte in the buffer.
+   */
+  private long bufferOffset;
+
+  /**
+   * The size of the data file including the buffered pages.
+   */
+  private long dataFileSize;
+
+  /**
+   * The offset of the revision root page, which is added to the revisions offset file once the data file has been
+   * synced, or {@code -1}, if no revision root page has been written since the last uber page.
+   */
+  private long revisionRootPageOffset = -1;
+
+  /**
+   * Constructor.
+   *
+   * @param dataFile            the data file
+   * @param revisionsOffsetFile the file, which holds pointers to the revision root pages
+   * @param handler             the byte handler
+   * @param serializationType   the serialization type (for the transaction log or the data file)
+   * @param pagePersister       transforms in-memory pages into byte-arrays and back
+   * @param checksumType        the algorithm used to compute the checksums of pages
+   * @param verifyChecksums     {@code true}, if the checksums of read pages should be verified
+   * @throws SirixIOException if an I/O error occurs
+   */
+  public BufferedFileWriter(final RandomAccessFile dataFile, final RandomAccessFile revisionsOffsetFile,
+      final ByteHandler handler, final SerializationType serializationType, final PagePersister pagePersister,
+      final ChecksumType checksumType, final boolean verifyChecksums) {
+    this.dataFile = checkNotNull(dataFile);
+    dataFileChannel = dataFile.getChannel();
+    type = checkNotNull(serializationType);
+    this.revisionsOffsetFile = type == SerializationType.DATA ? checkNotNull(revisionsOffsetFile) : null;
+    this.pagePersister = checkNotNull(pagePersister);
+    reader = new FileReader(dataFile, revisionsOffsetFile, handler, serializationType, pagePersister, checksumType,
+        verifyChecksums);
+    pageOutput = new PageOutputStream();
+    buffer = acquireBuffer();
+
+    try {
+      dataFileSize = dataFile.length();
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+    bufferOffset = dataFileSize;
+  }
+
+  private static ByteBuffer acquireBuffer() {
+    final ByteBuffer pooledBuffer = BUFFER_POOL.poll();
+    return pooledBuffer == null ? ByteBuffer.allocateDirect(BUFFER_SIZE) : pooledBuffer.clear();
+  }
+
+  private static void releaseBuffer(final ByteBuffer buffer) {
+    if (BUFFER_POOL.size() < MAX_POOLED_BUFFERS) {
+      BUFFER_POOL.offer(buffer);
+    }
+  }
+
+  @Override
+  public Writer truncateTo(final int revision) {
+    flushBuffer();
+
+    UberPage uberPage = (UberPage) reader.readUberPageReference().getPage();
+
+    while (uberPage.getRevisionNumber() != revision) {
+      uberPage = (UberPage) reader.read(new PageReference().setKey(uberPage.getPreviousUberPageKey()), null);
+      if (uberPage.getRevisionNumber() == revision) {
+        try {
+          dataFile.setLength(uberPage.getPreviousUberPageKey());
+          dataFileSize = dataFile.length();
+          bufferOffset = dataFileSize;
+        } catch (final IOException e) {
+          throw new SirixIOException(e);
+        }
+        break;
+      }
+    }
+
+    return this;
+  }
+
+  /**
+   * Write page contained in page reference to storage.
+   *
+   * @param pageReference page reference to write
+   * @throws SirixIOException if errors during writing occur
+   */
+  @Override
+  public BufferedFileWriter write(final PageReference pageReference) {
+    final Page page = pageReference.getPage();
+    assert page != null;
+
+    pageOutput.reset();
+    final int serializedPageLength = serializePage(page, pageOutput);
+    return write(pageReference, pageOutput.getBuffer(), serializedPageLength);
+  }
+
+  @Override
+  public byte[] serializePage(final Page page) {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    final int serializedPageLength = serializePage(page, output);
+    return Arrays.copyOf(output.toByteArray(), serializedPageLength);
+  }
+
+  /**
+   * Serialize a page into the given output stream.
+   *
+   * @param page   the page to serialize
+   * @param output the output stream
+   * @return the length of the serialized page
+   */
+  private int serializePage(final Page page, final ByteArrayOutputStream output) {
+    try (final DataOutputStream dataOutput = new DataOutputStream(reader.byteHandler.serialize(output))) {
+      pagePersister.serializePage(dataOutput, page, type);
+      dataOutput.flush();
+      return output.size();
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  @Override
+  public BufferedFileWriter write(final PageReference pageReference, final byte[] serializedPage) {
+    return write(pageReference, serializedPage, serializedPage.length);
+  }
+
+  private BufferedFileWriter write(final PageReference pageReference, final byte[] serializedPage,
+      final int serializedPageLength) {
+    try {
+      final Page page = pageReference.getPage();
+      assert page != null;
+
+      final int writtenPageLength = serializedPageLength + FileReader.OTHER_BEACON;
+
+      // Getting actual offset and appending to the end of the current file.
+      long offset = dataFileSize == 0 ? FileReader.FIRST_BEACON : dataFileSize;
+      if (type == SerializationType.DATA) {
+        if (page instanceof RevisionRootPage) {
+          if (offset % REVISION_ROOT_PAGE_BYTE_ALIGN != 0) {
+            offset += REVISION_ROOT_PAGE_BYTE_ALIGN - (offset % REVISION_ROOT_PAGE_BYTE_ALIGN);
+          }
+        } else if (offset % PAGE_FRAGMENT_BYTE_ALIGN != 0) {
+          offset += PAGE_FRAGMENT_BYTE_ALIGN - (offset % PAGE_FRAGMENT_BYTE_ALIGN);
+        }
+      }
+
+      final int padding = (int) (offset - dataFileSize);
+
+      if (padding + writtenPageLength > buffer.remaining()) {
+        flushBuffer();
+      }
+
+      if (padding + writtenPageLength > buffer.remaining()) {
+        // The page doesn't fit into the buffer at all, thus it's written directly.
+        final ByteBuffer pageBuffer = ByteBuffer.allocate(writtenPageLength);
+        pageBuffer.putInt(serializedPageLength);
+        pageBuffer.put(serializedPage, 0, serializedPageLength);
+        pageBuffer.flip();
+        writeFully(pageBuffer, offset);
+        bufferOffset = offset + writtenPageLength;
+      } else {
+        // The padding is written, as the buffer is written as a whole.
+        for (int i = 0; i < padding; i++) {
+          buffer.put((byte) 0);
+        }
+        buffer.putInt(serializedPageLength);
+        buffer.put(serializedPage, 0, serializedPageLength);
+      }
+
+      dataFileSize = offset + writtenPageLength;
+
+      // Remember page coordinates.
+      switch (type) {
+        case DATA:
+          pageReference.setKey(offset);
+          break;
+        case TRANSACTION_INTENT_LOG:
+          pageReference.setPersistentLogKey(offset);
+          break;
+        default:
+          // Must not happen.
+      }
+
+      pageReference.setLength(writtenPageLength);
+      pageReference.setHash(reader.checksumType.checksum(serializedPage, 0, serializedPageLength));
+
+      if (type == SerializationType.DATA && page instanceof RevisionRootPage) {
+        revisionRootPageOffset = offset;
+      }
+
+      return this;
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  /**
+   * Write the buffered pages to the data file.
+   *
+   * @throws SirixIOException if an I/O error occurs
+   */
+  private void flushBuffer() {
+    if (buffer.position() == 0) {
+      return;
+    }
+
+    try {
+      buffer.flip();
+      final int length = buffer.remaining();
+      writeFully(buffer, bufferOffset);
+      bufferOffset += length;
+      buffer.clear();
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  private void writeFully(final ByteBuffer buffer, final long offset) throws IOException {
+    final int startPosition = buffer.position();
+    while (buffer.hasRemaining()) {
+      dataFileChannel.write(buffer, offset + buffer.position() - startPosition);
+    }
+  }
+
+  @Override
+  public void close() {
+    try {
+      if (buffer != null) {
+        flushBuffer();
+        releaseBuffer(buffer);
+        buffer = null;
+      }
+      dataFile.close();
+      if (revisionsOffsetFile != null) {
+        revisionsOffsetFile.close();
+      }
+      reader.close();
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  /**
+   * Write the uber page and all buffered pages and sync the data file. Afterwards the offset of the revision root page
+   * is added to the revisions offset file and the reference to the uber page is written, each followed by a sync,
+   * such that after a crash neither of them points to pages, which haven't been written.
+   *
+   * @param pageReference reference to the uber page
+   * @return this writer instance
+   */
+  @Override
+  public Writer writeUberPageReference(final PageReference pageReference) {
+    try {
+      write(pageReference);
+      flushBuffer();
+      dataFileChannel.force(false);
+
+      if (revisionRootPageOffset != -1) {
+        revisionsOffsetFile.seek(revisionsOffsetFile.length());
+        revisionsOffsetFile.writeLong(revisionRootPageOffset);
+        revisionsOffsetFile.getChannel().force(false);
+        revisionRootPageOffset = -1;
+      }
+
+      final ByteBuffer uberPageKeyBuffer = ByteBuffer.allocate(Long.BYTES);
+      uberPageKeyBuffer.putLong(pageReference.getKey());
+      uberPageKeyBuffer.flip();
+      writeFully(uberPageKeyBuffer, 0);
+      dataFileChannel.force(false);
+
+      return this;
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  @Override
+  protected Reader delegate() {
+    // Buffered pages must be visible to the reader.
+    flushBuffer();
+    return reader;
+  }
+
+  @Override
+  public Writer truncate() {
+    try {
+      buffer.clear();
+      dataFile.setLength(0);
+      dataFileSize = 0;
+      bufferOffset = 0;
+      revisionRootPageOffset = -1;
+
+      if (revisionsOffsetFile != null) {
+        revisionsOffsetFile.setLength(0);
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+
+    return this;
+  }
+
+  /**
+   * Output stream, which exposes its internal buffer to avoid copying serialized pages.
+   */
+  private static final class PageOutputStream extends ByteArrayOutputStream {
+    PageOutputStream() {
+      super(8192);
+    }
+
+    byte[] getBuffer() {
+      return buf;
+    }
+  }
+}
@@ -24,12 +24,17 @@ package org.sirix.io.file;
 import static com.google.common.base.Preconditions.checkNotNull;
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.exception.SirixIOException;
+import org.sirix.io.ChecksumType;
 import org.sirix.io.Reader;
 import org.sirix.io.bytepipe.ByteHandler;
 import org.sirix.page.PagePersister;
@@ -38,8 +43,6 @@ import org.sirix.page.RevisionRootPage;
 import org.sirix.page.SerializationType;
 import org.sirix.page.UberPage;
 import org.sirix.page.interfaces.Page;
-import com.google.common.hash.HashFunction;
-import com.google.common.hash.Hashing;
 
 /**
  * File Reader. Used for {@link PageReadOnlyTrx} to provide read only access on a RandomAccessFile.
@@ -60,8 +63,11 @@ public final class FileReader implements Reader {
   /** Inflater to decompress. */
   final ByteHandler byteHandler;
 
-  /** The hash function used to hash pages/page fragments. */
-  final HashFunction hashFunction;
+  /** The algorithm used to compute the checksums of pages/page fragments. */
+  final ChecksumType checksumType;
+
+  /** Determines if the checksums of read pages are verified. */
+  private final boolean verifyChecksums;
 
   /** Data file. */
   private final RandomAccessFile dataFile;
@@ -81,12 +87,15 @@ public final class FileReader implements Reader {
    * @param dataFile the data file
    * @param revisionsOffsetFile the file, which holds pointers to the revision root pages
    * @param handler {@link ByteHandler} instance
+   * @param checksumType the algorithm used to compute the checksums of pages
+   * @param verifyChecksums {@code true}, if the checksums of read pages should be verified
    * @throws SirixIOException if something bad happens
    */
   public FileReader(final RandomAccessFile dataFile, final RandomAccessFile revisionsOffsetFile,
       final ByteHandler handler, final SerializationType type,
-      final PagePersister pagePersistenter) {
-    hashFunction = Hashing.sha256();
+      final PagePersister pagePersistenter, final ChecksumType checksumType, final boolean verifyChecksums) {
+    this.checksumType = checkNotNull(checksumType);
+    this.verifyChecksums = verifyChecksums;
     this.dataFile = checkNotNull(dataFile);
 
     this.revisionsOffsetFile = type == SerializationType.DATA
@@ -118,6 +127,10 @@ public final class FileReader implements Reader {
       final byte[] page = new byte[dataLength];
       dataFile.read(page);
 
+      if (verifyChecksums && type == SerializationType.DATA) {
+        checksumType.verify(reference, page);
+      }
+
       // Perform byte operations.
       final DataInputStream input =
           new DataInputStream(byteHandler.deserialize(new ByteArrayInputStream(page)));
@@ -129,6 +142,43 @@ public final class FileReader implements Reader {
     }
   }
 
+  @Override
+  public byte[] readSerializedPage(final @Nonnull PageReference reference) {
+    try {
+      final long offset = type == SerializationType.DATA
+          ? reference.getKey()
+          : reference.getPersistentLogKey();
+
+      // Positional reads on the channel neither depend on nor change the file pointer.
+      final FileChannel dataFileChannel = dataFile.getChannel();
+      final ByteBuffer dataLengthBuffer = ByteBuffer.allocate(OTHER_BEACON);
+      readFully(dataFileChannel, dataLengthBuffer, offset);
+      final int dataLength = dataLengthBuffer.flip().getInt();
+
+      final ByteBuffer pageBuffer = ByteBuffer.allocate(dataLength);
+      readFully(dataFileChannel, pageBuffer, offset + OTHER_BEACON);
+
+      if (verifyChecksums && type == SerializationType.DATA) {
+        checksumType.verify(reference, pageBuffer.array());
+      }
+
+      try (final InputStream input = byteHandler.deserialize(new ByteArrayInputStream(pageBuffer.array()))) {
+        return input.readAllBytes();
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  private static void readFully(final FileChannel channel, final ByteBuffer buffer, final long offset)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, offset + buffer.position()) == -1) {
+        throw new EOFException("Unexpected end of file at offset " + (offset + buffer.position()) + ".");
+      }
+    }
+  }
+
   @Override
   public PageReference readUberPageReference() {
     final PageReference uberPageReference = new PageReference();
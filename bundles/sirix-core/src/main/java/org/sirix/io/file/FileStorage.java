@@ -24,6 +24,7 @@ package org.sirix.io.file;
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.exception.SirixIOException;
 import org.sirix.io.Reader;
+import org.sirix.io.ChecksumType;
 import org.sirix.io.IOStorage;
 import org.sirix.io.Writer;
 import org.sirix.io.bytepipe.ByteHandlePipeline;
@@ -57,15 +58,37 @@ public final class FileStorage implements IOStorage {
   /** Byte handler pipeline. */
   private final ByteHandlePipeline byteHandlerPipeline;
 
+  /** The algorithm used to compute the checksums of pages. */
+  private final ChecksumType checksumType;
+
+  /** Determines if the checksums of read pages are verified. */
+  private final boolean verifyChecksums;
+
+  /** Determines if appended pages are buffered in memory by the writer. */
+  private final boolean bufferedWrites;
+
   /**
    * Constructor.
    *
    * @param resourceConfig the resource configuration
    */
   public FileStorage(final ResourceConfiguration resourceConfig) {
+    this(resourceConfig, false);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param resourceConfig the resource configuration
+   * @param bufferedWrites {@code true}, if the writer should buffer appended pages in memory, {@code false} otherwise
+   */
+  public FileStorage(final ResourceConfiguration resourceConfig, final boolean bufferedWrites) {
     assert resourceConfig != null : "resourceConfig must not be null!";
     file = resourceConfig.resourcePath;
     byteHandlerPipeline = resourceConfig.byteHandlePipeline;
+    checksumType = resourceConfig.checksumType;
+    verifyChecksums = resourceConfig.verifyChecksums;
+    this.bufferedWrites = bufferedWrites;
   }
 
   @Override
@@ -76,7 +99,8 @@ public final class FileStorage implements IOStorage {
 
       return new FileReader(new RandomAccessFile(dataFilePath.toFile(), "r"),
           new RandomAccessFile(revisionsOffsetFilePath.toFile(), "r"),
-          new ByteHandlePipeline(byteHandlerPipeline), SerializationType.DATA, new PagePersister());
+          new ByteHandlePipeline(byteHandlerPipeline), SerializationType.DATA, new PagePersister(), checksumType,
+          verifyChecksums);
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
@@ -99,9 +123,16 @@ public final class FileStorage implements IOStorage {
       final Path dataFilePath = createDirectoriesAndFile();
       final Path revisionsOffsetFilePath = getRevisionFilePath();
 
-      return new FileWriter(new RandomAccessFile(dataFilePath.toFile(), "rw"),
-          new RandomAccessFile(revisionsOffsetFilePath.toFile(), "rw"),
-          new ByteHandlePipeline(byteHandlerPipeline), SerializationType.DATA, new PagePersister());
+      final RandomAccessFile dataFile = new RandomAccessFile(dataFilePath.toFile(), "rw");
+      final RandomAccessFile revisionsOffsetFile = new RandomAccessFile(revisionsOffsetFilePath.toFile(), "rw");
+
+      if (bufferedWrites) {
+        return new BufferedFileWriter(dataFile, revisionsOffsetFile, new ByteHandlePipeline(byteHandlerPipeline),
+            SerializationType.DATA, new PagePersister(), checksumType, verifyChecksums);
+      }
+
+      return new FileWriter(dataFile, revisionsOffsetFile, new ByteHandlePipeline(byteHandlerPipeline),
+          SerializationType.DATA, new PagePersister(), checksumType, verifyChecksums);
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
@@ -30,6 +30,7 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import org.sirix.exception.SirixIOException;
 import org.sirix.io.AbstractForwardingReader;
+import org.sirix.io.ChecksumType;
 import org.sirix.io.Reader;
 import org.sirix.io.Writer;
 import org.sirix.io.bytepipe.ByteHandler;
@@ -41,7 +42,8 @@ import org.sirix.page.UberPage;
 import org.sirix.page.interfaces.Page;
 
 /**
- * File Writer for providing read/write access for file as a Sirix backend.
+ * File Writer for providing read/write access for file as a Sirix backend. Pages are written immediately, that is
+ * writes aren't batched as by {@link BufferedFileWriter}.
  *
  * @author Marc Kramis, Seabix
  * @author Sebastian Graf, University of Konstanz
@@ -73,10 +75,12 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
    * @param handler the byte handler
    * @param serializationType the serialization type (for the transaction log or the data file)
    * @param pagePersister transforms in-memory pages into byte-arrays and back
+   * @param checksumType the algorithm used to compute the checksums of pages
+   * @param verifyChecksums {@code true}, if the checksums of read pages should be verified
    */
   public FileWriter(final RandomAccessFile dataFile, final RandomAccessFile revisionsOffsetFile,
       final ByteHandler handler, final SerializationType serializationType,
-      final PagePersister pagePersister) {
+      final PagePersister pagePersister, final ChecksumType checksumType, final boolean verifyChecksums) {
     this.dataFile = checkNotNull(dataFile);
     type = checkNotNull(serializationType);
     this.revisionsOffsetFile = type == SerializationType.DATA
@@ -84,7 +88,8 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
         : null;
     this.pagePersister = checkNotNull(pagePersister);
     reader =
-        new FileReader(dataFile, revisionsOffsetFile, handler, serializationType, pagePersister);
+        new FileReader(dataFile, revisionsOffsetFile, handler, serializationType, pagePersister, checksumType,
+            verifyChecksums);
   }
 
   @Override
@@ -115,22 +120,31 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
    */
   @Override
   public FileWriter write(final PageReference pageReference) {
+    final Page page = pageReference.getPage();
+    assert page != null;
+
+    return write(pageReference, serializePage(page));
+  }
+
+  @Override
+  public byte[] serializePage(final Page page) {
+    try (final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final DataOutputStream dataOutput = new DataOutputStream(reader.byteHandler.serialize(output))) {
+      pagePersister.serializePage(dataOutput, page, type);
+      dataOutput.flush();
+      return output.toByteArray();
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  @Override
+  public FileWriter write(final PageReference pageReference, final byte[] serializedPage) {
     // Perform byte operations.
     try {
-      // Serialize page.
       final Page page = pageReference.getPage();
       assert page != null;
 
-      final byte[] serializedPage;
-
-      try (final ByteArrayOutputStream output = new ByteArrayOutputStream();
-          final DataOutputStream dataOutput =
-              new DataOutputStream(reader.byteHandler.serialize(output))) {
-        pagePersister.serializePage(dataOutput, page, type);
-        dataOutput.flush();
-        serializedPage = output.toByteArray();
-      }
-
       final byte[] writtenPage = new byte[serializedPage.length + FileReader.OTHER_BEACON];
       final ByteBuffer buffer = ByteBuffer.allocate(writtenPage.length);
       buffer.putInt(serializedPage.length);
@@ -168,7 +182,7 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
       }
 
       pageReference.setLength(writtenPage.length);
-      pageReference.setHash(reader.hashFunction.hashBytes(serializedPage).asBytes());
+      pageReference.setHash(reader.checksumType.checksum(serializedPage));
 
       if (type == SerializationType.DATA && page instanceof RevisionRootPage) {
         revisionsOffsetFile.seek(revisionsOffsetFile.length());
@@ -0,0 +1,202 @@
+package org.sirix.io.memorymapped;
+
+import org.sirix.exception.SirixIOException;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A read-only memory mapping of a file, which is split into fixed-size chunks. Once the file grows, only the last
+ * (partially mapped) chunk is remapped and new chunks are appended, such that existing chunks are never remapped.
+ * The mapping is shared by all readers of a resource and is safe to be used concurrently, as only absolute reads
+ * are performed on the mapped buffers and the mapped chunks are published as an immutable snapshot, which a read
+ * uses from start to end, even if the file is remapped or truncated meanwhile.
+ *
+ * @author Johannes Lichtenberger
+ */
+final class ChunkedMappedFile implements AutoCloseable {
+
+  /**
+   * The default size of a chunk.
+   */
+  static final int DEFAULT_CHUNK_SIZE = 1 << 26;
+
+  /**
+   * The file to map.
+   */
+  private final Path file;
+
+  /**
+   * The size of a chunk.
+   */
+  private final int chunkSize;
+
+  /**
+   * The channel, which is used to map the file.
+   */
+  private FileChannel channel;
+
+  /**
+   * The current mapping, which is replaced as a whole, if chunks are added or dropped.
+   */
+  private volatile Mapping mapping;
+
+  /**
+   * Constructor.
+   *
+   * @param file      the file to map
+   * @param chunkSize the size of a chunk
+   */
+  ChunkedMappedFile(final Path file, final int chunkSize) {
+    checkArgument(chunkSize > 0, "chunkSize must be > 0!");
+    this.file = checkNotNull(file);
+    this.chunkSize = chunkSize;
+    mapping = Mapping.EMPTY;
+  }
+
+  /**
+   * Read bytes from the mapped file.
+   *
+   * @param offset the offset in the file
+   * @param bytes  the array to read the bytes into
+   * @throws SirixIOException if the bytes couldn't be mapped
+   */
+  void read(final long offset, final byte[] bytes) {
+    final MappedByteBuffer[] mappedChunks = getMapping(offset + bytes.length).chunks;
+    int bytesRead = 0;
+    while (bytesRead < bytes.length) {
+      final long currentOffset = offset + bytesRead;
+      final MappedByteBuffer chunk = mappedChunks[(int) (currentOffset / chunkSize)];
+      final int offsetInChunk = (int) (currentOffset % chunkSize);
+      final int length = Math.min(bytes.length - bytesRead, chunkSize - offsetInChunk);
+      chunk.get(offsetInChunk, bytes, bytesRead, length);
+      bytesRead += length;
+    }
+  }
+
+  /**
+   * Read an int (in native byte order, as written by the {@link MMFileWriter}) from the mapped file.
+   *
+   * @param offset the offset in the file
+   * @return the int value
+   */
+  int readInt(final long offset) {
+    final byte[] bytes = new byte[Integer.BYTES];
+    read(offset, bytes);
+    return ByteBuffer.wrap(bytes).order(ByteOrder.nativeOrder()).getInt();
+  }
+
+  /**
+   * Read a long (in native byte order, as written by the {@link MMFileWriter}) from the mapped file.
+   *
+   * @param offset the offset in the file
+   * @return the long value
+   */
+  long readLong(final long offset) {
+    final byte[] bytes = new byte[Long.BYTES];
+    read(offset, bytes);
+    return ByteBuffer.wrap(bytes).order(ByteOrder.nativeOrder()).getLong();
+  }
+
+  private Mapping getMapping(final long size) {
+    final Mapping currentMapping = mapping;
+    return size <= currentMapping.size ? currentMapping : map(size);
+  }
+
+  private synchronized Mapping map(final long size) {
+    final Mapping currentMapping = mapping;
+    if (size <= currentMapping.size) {
+      return currentMapping;
+    }
+
+    try {
+      if (channel == null) {
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+      }
+
+      final long fileSize = channel.size();
+      if (size > fileSize) {
+        throw new EOFException("Offset " + size + " is beyond the end of file " + file + ".");
+      }
+
+      // Map the chunks up to the requested size. The last chunk is mapped up to the end of the file, such that
+      // subsequent reads in the same chunk don't have to remap it.
+      final int numberOfChunks = (int) ((size + chunkSize - 1) / chunkSize);
+      final MappedByteBuffer[] mappedChunks =
+          Arrays.copyOf(currentMapping.chunks, Math.max(numberOfChunks, currentMapping.chunks.length));
+      long newMappedSize = currentMapping.size;
+
+      for (int i = (int) (currentMapping.size / chunkSize); i < numberOfChunks; i++) {
+        final long chunkOffset = (long) i * chunkSize;
+        final long chunkLength = Math.min(chunkSize, fileSize - chunkOffset);
+        mappedChunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, chunkOffset, chunkLength);
+        newMappedSize = chunkOffset + chunkLength;
+      }
+
+      mapping = new Mapping(mappedChunks, newMappedSize);
+      return mapping;
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  /**
+   * Drop the mapping of all chunks, which contain bytes at or beyond the given size. Must be called once the file
+   * has been truncated. Reads, which have already started, still use the previous mapping.
+   *
+   * @param size the new size of the file
+   */
+  synchronized void truncate(final long size) {
+    final Mapping currentMapping = mapping;
+    if (size >= currentMapping.size) {
+      return;
+    }
+
+    final int numberOfChunks = (int) (size / chunkSize);
+    mapping = new Mapping(Arrays.copyOf(currentMapping.chunks, numberOfChunks), (long) numberOfChunks * chunkSize);
+  }
+
+  @Override
+  public synchronized void close() {
+    try {
+      mapping = Mapping.EMPTY;
+
+      if (channel != null) {
+        channel.close();
+        channel = null;
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  /**
+   * The mapped chunks, whereas only the last chunk might be mapped partially, and the number of mapped bytes. A
+   * mapping is never modified once it's published.
+   */
+  private static final class Mapping {
+    /** Nothing is mapped. */
+    private static final Mapping EMPTY = new Mapping(new MappedByteBuffer[0], 0);
+
+    /** The mapped chunks. */
+    private final MappedByteBuffer[] chunks;
+
+    /** The number of mapped bytes. */
+    private final long size;
+
+    private Mapping(final MappedByteBuffer[] chunks, final long size) {
+      this.chunks = chunks;
+      this.size = size;
+    }
+  }
+}
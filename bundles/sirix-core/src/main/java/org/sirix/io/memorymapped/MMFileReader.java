@@ -21,11 +21,9 @@
 
 package org.sirix.io.memorymapped;
 
-import com.google.common.hash.HashFunction;
-import com.google.common.hash.Hashing;
-import jdk.incubator.foreign.*;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.exception.SirixIOException;
+import org.sirix.io.ChecksumType;
 import org.sirix.io.Reader;
 import org.sirix.io.bytepipe.ByteHandler;
 import org.sirix.page.*;
@@ -36,15 +34,13 @@ import javax.annotation.Nullable;
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
-import java.lang.invoke.VarHandle;
-import java.nio.ByteOrder;
-import java.nio.channels.FileChannel;
-import java.nio.file.Path;
+import java.io.InputStream;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
- * Reader, to read from a memory-mapped file.
+ * Reader, to read from a memory-mapped file. The mapping of the data file and the revisions file is shared by all
+ * readers of a resource.
  *
  * @author Johannes Lichtenberger
  */
@@ -66,13 +62,14 @@ public final class MMFileReader implements Reader {
   final ByteHandler byteHandler;
 
   /**
-   * The hash function used to hash pages/page fragments.
+   * The algorithm used to compute the checksums of pages/page fragments.
    */
-  final HashFunction hashFunction;
+  final ChecksumType checksumType;
 
-  private final Path dataFile;
-
-  private final Path revisionsOffsetFile;
+  /**
+   * Determines if the checksums of read pages are verified.
+   */
+  private final boolean verifyChecksums;
 
   /**
    * The type of data to serialize.
@@ -84,102 +81,86 @@ public final class MMFileReader implements Reader {
    */
   private final PagePersister pagePersiter;
 
-  private MemorySegment dataFileSegment;
-
-  private MemorySegment revisionFileSegment;
-
-  private static final VarHandle BYTE_VAR_HANDLE = MemoryLayout.ofSequence(MemoryLayouts.JAVA_BYTE)
-                                                               .varHandle(byte.class,
-                                                                          MemoryLayout.PathElement.sequenceElement());
-
-  private static final VarHandle INT_VAR_HANDLE = MemoryHandles.varHandle(int.class, ByteOrder.nativeOrder());
-
-  private static final VarHandle LONG_VAR_HANDLE = MemoryHandles.varHandle(long.class, ByteOrder.nativeOrder());
+  /**
+   * The (shared) mapping of the data file.
+   */
+  private final ChunkedMappedFile dataFile;
 
   /**
-   * Constructor.
-   *
-   * @param dataFile            the data file
-   * @param revisionsOffsetFile the file, which holds pointers to the revision root pages
-   * @param handler             {@link ByteHandler} instance
+   * The (shared) mapping of the revisions offset file.
    */
-  public MMFileReader(final Path dataFile, final Path revisionsOffsetFile, final ByteHandler handler,
-      final SerializationType type, final PagePersister pagePersistenter) throws IOException {
-    hashFunction = Hashing.sha256();
-    this.dataFile = checkNotNull(dataFile);
-    this.revisionsOffsetFile = checkNotNull(revisionsOffsetFile);
-    byteHandler = checkNotNull(handler);
-    this.type = checkNotNull(type);
-    pagePersiter = checkNotNull(pagePersistenter);
-    dataFileSegment = dataFile.toFile().length() == 0
-        ? null
-        : MemorySegment.mapFromPath(checkNotNull(dataFile), dataFile.toFile().length(), FileChannel.MapMode.READ_ONLY);
-    revisionFileSegment = dataFile.toFile().length() == 0
-        ? null
-        : MemorySegment.mapFromPath(revisionsOffsetFile,
-                                    revisionsOffsetFile.toFile().length(),
-                                    FileChannel.MapMode.READ_ONLY);
-  }
+  private final ChunkedMappedFile revisionsOffsetFile;
 
   /**
    * Constructor.
    *
-   * @param dataFile            the data file
-   * @param revisionsOffsetFile the file, which holds pointers to the revision root pages
+   * @param dataFile            the mapping of the data file
+   * @param revisionsOffsetFile the mapping of the file, which holds pointers to the revision root pages
    * @param handler             {@link ByteHandler} instance
+   * @param type                the type of data to serialize
+   * @param pagePersistenter    transforms in-memory pages into byte-arrays and back
+   * @param checksumType        the algorithm used to compute the checksums of pages
+   * @param verifyChecksums     {@code true}, if the checksums of read pages should be verified
    */
-  public MMFileReader(final Path dataFile, final Path revisionsOffsetFile, final MemorySegment dataFileSegment, final MemorySegment revisionFileSegment, final ByteHandler handler,
-      final SerializationType type, final PagePersister pagePersistenter) {
-    hashFunction = Hashing.sha256();
+  MMFileReader(final ChunkedMappedFile dataFile, final ChunkedMappedFile revisionsOffsetFile,
+      final ByteHandler handler, final SerializationType type, final PagePersister pagePersistenter,
+      final ChecksumType checksumType, final boolean verifyChecksums) {
+    this.checksumType = checkNotNull(checksumType);
+    this.verifyChecksums = verifyChecksums;
     this.dataFile = checkNotNull(dataFile);
     this.revisionsOffsetFile = checkNotNull(revisionsOffsetFile);
     byteHandler = checkNotNull(handler);
     this.type = checkNotNull(type);
     pagePersiter = checkNotNull(pagePersistenter);
-    this.dataFileSegment = dataFileSegment;
-    this.revisionFileSegment = revisionFileSegment;
   }
 
   @Override
   public Page read(final @Nonnull PageReference reference, final @Nullable PageReadOnlyTrx pageReadTrx) {
     try {
-      // due to zero length issue which is changed in Java 15
-      if (dataFileSegment == null) {
-        dataFileSegment = MemorySegment.mapFromPath(checkNotNull(dataFile),
-                                                    dataFile.toFile().length(),
-                                                    FileChannel.MapMode.READ_ONLY);
+      final byte[] page = readPage(reference);
+      return deserialize(pageReadTrx, page);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  private byte[] readPage(final PageReference reference) {
+    final long offset = switch (type) {
+      case DATA -> {
+        if (reference.getKey() < 0) {
+          throw new SirixIOException("Reference key is not valid: " + reference.getKey());
+        }
+        yield reference.getKey();
+      }
+      case TRANSACTION_INTENT_LOG -> {
+        if (reference.getPersistentLogKey() < 0) {
+          throw new SirixIOException("Reference log key is not valid: " + reference.getPersistentLogKey());
+        }
+        yield reference.getPersistentLogKey();
       }
+      default -> throw new AssertionError();
+    };
 
-      final MemoryAddress baseAddress = dataFileSegment.baseAddress();
+    final int dataLength = dataFile.readInt(offset);
+    reference.setLength(dataLength + MMFileReader.OTHER_BEACON);
 
-      final MemoryAddress baseAddressPlusOffsetPlusInt;
+    final byte[] page = new byte[dataLength];
+    dataFile.read(offset + OTHER_BEACON, page);
 
-      final int dataLength = switch (type) {
-        case DATA -> {
-          if (reference.getKey() < 0) {
-            throw new SirixIOException("Reference key is not valid: " + reference.getKey());
-          }
-          baseAddressPlusOffsetPlusInt = baseAddress.addOffset(reference.getKey() + 4);
-          yield (int) INT_VAR_HANDLE.get(baseAddress.addOffset(reference.getKey()));
-        }
-        case TRANSACTION_INTENT_LOG -> {
-          if (reference.getLogKey() < 0) {
-            throw new SirixIOException("Reference log key is not valid: " + reference.getKey());
-          }
-          baseAddressPlusOffsetPlusInt = baseAddress.addOffset(reference.getPersistentLogKey() + 4);
-          yield (int) INT_VAR_HANDLE.get(baseAddress.addOffset(reference.getPersistentLogKey()));
-        }
-        default -> throw new AssertionError();
-      };
+    if (verifyChecksums && type == SerializationType.DATA) {
+      checksumType.verify(reference, page);
+    }
 
-      reference.setLength(dataLength + MMFileReader.OTHER_BEACON);
-      final byte[] page = new byte[dataLength];
+    return page;
+  }
 
-      for (int i = 0; i < dataLength; i++) {
-        page[i] = (byte) BYTE_VAR_HANDLE.get(baseAddressPlusOffsetPlusInt, (long) i);
-      }
+  @Override
+  public byte[] readSerializedPage(final @Nonnull PageReference reference) {
+    // Only absolute reads on the shared mapping are performed, thus the page can be read concurrently.
+    final byte[] page = readPage(new PageReference(reference));
 
-      return deserialize(pageReadTrx, page);
+    try (final InputStream input = byteHandler.deserialize(new ByteArrayInputStream(page))) {
+      return input.readAllBytes();
     } catch (final IOException e) {
       throw new SirixIOException(e);
     }
@@ -188,22 +169,7 @@ public final class MMFileReader implements Reader {
   @Override
   public PageReference readUberPageReference() {
     final PageReference uberPageReference = new PageReference();
-
-    try {
-      // new data file segment, cause it might have been written
-      if (dataFileSegment != null) {
-        dataFileSegment.close();
-      }
-
-      dataFileSegment =
-          MemorySegment.mapFromPath(checkNotNull(dataFile), dataFile.toFile().length(), FileChannel.MapMode.READ_ONLY);
-
-      final MemoryAddress baseAddress = dataFileSegment.baseAddress();
-
-      uberPageReference.setKey((long) LONG_VAR_HANDLE.get(baseAddress));
-    } catch (final IOException e) {
-      throw new SirixIOException(e);
-    }
+    uberPageReference.setKey(dataFile.readLong(0));
 
     final UberPage page = (UberPage) read(uberPageReference, null);
     uberPageReference.setPage(page);
@@ -213,31 +179,11 @@ public final class MMFileReader implements Reader {
   @Override
   public RevisionRootPage readRevisionRootPage(final int revision, final PageReadOnlyTrx pageReadTrx) {
     try {
-      if (dataFileSegment == null) {
-        dataFileSegment = MemorySegment.mapFromPath(dataFile,
-                                                    dataFile.toFile().length(),
-                                                    FileChannel.MapMode.READ_ONLY);
-      }
-
-      if (revisionFileSegment == null) {
-        revisionFileSegment = MemorySegment.mapFromPath(revisionsOffsetFile,
-                                  revisionsOffsetFile.toFile().length(),
-                                  FileChannel.MapMode.READ_ONLY);
-      }
-
-      final MemoryAddress revisionFileSegmentBaseAddress = revisionFileSegment.baseAddress();
-      MemoryAddress dataFileSegmentBaseAddress = dataFileSegment.baseAddress();
-
-      final long dataFileOffset = (long) LONG_VAR_HANDLE.get(revisionFileSegmentBaseAddress.addOffset(revision * 8));
-      final int dataLength = (int) INT_VAR_HANDLE.get(dataFileSegmentBaseAddress.addOffset(dataFileOffset));
-
-      dataFileSegmentBaseAddress = dataFileSegmentBaseAddress.addOffset(dataFileOffset + 4);
+      final long dataFileOffset = revisionsOffsetFile.readLong(revision * 8L);
+      final int dataLength = dataFile.readInt(dataFileOffset);
 
       final byte[] page = new byte[dataLength];
-
-      for (int i = 0; i < dataLength; i++) {
-        page[i] = (byte) BYTE_VAR_HANDLE.get(dataFileSegmentBaseAddress, (long) i);
-      }
+      dataFile.read(dataFileOffset + OTHER_BEACON, page);
 
       return (RevisionRootPage) deserialize(pageReadTrx, page);
     } catch (final IOException e) {
@@ -255,11 +201,6 @@ public final class MMFileReader implements Reader {
 
   @Override
   public void close() {
-    if (dataFileSegment != null) {
-      dataFileSegment.close();
-    }
-    if (revisionFileSegment != null) {
-      revisionFileSegment.close();
-    }
+    // The mappings are shared and closed by the storage.
   }
 }
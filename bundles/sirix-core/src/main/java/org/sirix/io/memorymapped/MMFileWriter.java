@@ -24,6 +24,7 @@ package org.sirix.io.memorymapped;
 import jdk.incubator.foreign.*;
 import org.sirix.exception.SirixIOException;
 import org.sirix.io.AbstractForwardingReader;
+import org.sirix.io.ChecksumType;
 import org.sirix.io.Reader;
 import org.sirix.io.Writer;
 import org.sirix.io.bytepipe.ByteHandler;
@@ -40,7 +41,8 @@ import java.nio.file.Path;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
- * Writer to read/write to a memory mapped file.
+ * Writer to read/write to a memory mapped file. Pages are written into the mapped file immediately, that is writes
+ * aren't batched as by the {@code FileChannelWriter}.
  *
  * @author Johannes Lichtenberger
  */
@@ -84,17 +86,34 @@ public final class MMFileWriter extends AbstractForwardingReader implements Writ
 
   private long revisionsOffsetSize;
 
+  /**
+   * The (shared) read-only mapping of the data file.
+   */
+  private final ChunkedMappedFile dataFileMapping;
+
+  /**
+   * The (shared) read-only mapping of the revisions offset file.
+   */
+  private final ChunkedMappedFile revisionsOffsetFileMapping;
+
   /**
    * Constructor.
    *
-   * @param dataFile            the data file
-   * @param revisionsOffsetFile the file, which holds pointers to the revision root pages
-   * @param handler             the byte handler
-   * @param serializationType   the serialization type (for the transaction log or the data file)
-   * @param pagePersister       transforms in-memory pages into byte-arrays and back
+   * @param dataFile                   the data file
+   * @param revisionsOffsetFile        the file, which holds pointers to the revision root pages
+   * @param dataFileMapping            the read-only mapping of the data file, which is shared by all readers
+   * @param revisionsOffsetFileMapping the read-only mapping of the revisions offset file, which is shared by all
+   *                                   readers
+   * @param handler                    the byte handler
+   * @param serializationType          the serialization type (for the transaction log or the data file)
+   * @param pagePersister              transforms in-memory pages into byte-arrays and back
+   * @param checksumType               the algorithm used to compute the checksums of pages
+   * @param verifyChecksums            {@code true}, if the checksums of read pages should be verified
    */
-  public MMFileWriter(final Path dataFile, final Path revisionsOffsetFile, final ByteHandler handler,
-      final SerializationType serializationType, final PagePersister pagePersister) throws IOException {
+  MMFileWriter(final Path dataFile, final Path revisionsOffsetFile, final ChunkedMappedFile dataFileMapping,
+      final ChunkedMappedFile revisionsOffsetFileMapping, final ByteHandler handler,
+      final SerializationType serializationType, final PagePersister pagePersister, final ChecksumType checksumType,
+      final boolean verifyChecksums) throws IOException {
     this.dataFile = checkNotNull(dataFile);
     dataSegmentFileSize = Files.size(dataFile);
     type = checkNotNull(serializationType);
@@ -108,8 +127,11 @@ public final class MMFileWriter extends AbstractForwardingReader implements Writ
     this.revisionsOffsetSegment =
         MemorySegment.mapFromPath(revisionsOffsetFile, currByteSizeToMap, FileChannel.MapMode.READ_WRITE);
 
-    reader =
-        new MMFileReader(dataFile, revisionsOffsetFile, dataSegment, revisionsOffsetSegment, handler, serializationType, pagePersister);
+    this.dataFileMapping = checkNotNull(dataFileMapping);
+    this.revisionsOffsetFileMapping = checkNotNull(revisionsOffsetFileMapping);
+
+    reader = new MMFileReader(dataFileMapping, revisionsOffsetFileMapping, handler, serializationType, pagePersister,
+        checksumType, verifyChecksums);
   }
 
   @Override
@@ -121,6 +143,7 @@ public final class MMFileWriter extends AbstractForwardingReader implements Writ
       if (uberPage.getRevisionNumber() == revision) {
         try (final RandomAccessFile file = new RandomAccessFile(dataFile.toFile(), "rw")) {
           file.setLength(uberPage.getPreviousUberPageKey());
+          dataFileMapping.truncate(uberPage.getPreviousUberPageKey());
         } catch (final IOException e) {
           throw new SirixIOException(e);
         }
@@ -139,21 +162,31 @@ public final class MMFileWriter extends AbstractForwardingReader implements Writ
    */
   @Override
   public MMFileWriter write(final PageReference pageReference) {
+    final Page page = pageReference.getPage();
+    assert page != null;
+
+    return write(pageReference, serializePage(page));
+  }
+
+  @Override
+  public byte[] serializePage(final Page page) {
+    try (final ByteArrayOutputStream output = new ByteArrayOutputStream();
+         final DataOutputStream dataOutput = new DataOutputStream(reader.byteHandler.serialize(output))) {
+      pagePersister.serializePage(dataOutput, page, type);
+      dataOutput.flush();
+      return output.toByteArray();
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  @Override
+  public MMFileWriter write(final PageReference pageReference, final byte[] serializedPage) {
     // Perform byte operations.
     try {
-      // Serialize page.
       final Page page = pageReference.getPage();
       assert page != null;
 
-      final byte[] serializedPage;
-
-      try (final ByteArrayOutputStream output = new ByteArrayOutputStream();
-           final DataOutputStream dataOutput = new DataOutputStream(reader.byteHandler.serialize(output))) {
-        pagePersister.serializePage(dataOutput, page, type);
-        dataOutput.flush();
-        serializedPage = output.toByteArray();
-      }
-
       // Getting actual offset and appending to the end of the current file.
       long offset = dataSegmentFileSize == 0 ? MMFileReader.FIRST_BEACON : dataSegmentFileSize;
       if (type == SerializationType.DATA) {
@@ -195,7 +228,7 @@ public final class MMFileWriter extends AbstractForwardingReader implements Writ
       }
 
       pageReference.setLength(serializedPage.length + 4);
-      pageReference.setHash(reader.hashFunction.hashBytes(serializedPage).asBytes());
+      pageReference.setHash(reader.checksumType.checksum(serializedPage));
 
       if (type == SerializationType.DATA && page instanceof RevisionRootPage) {
         final MemoryAddress revisionFileSegmentBaseAddress = revisionsOffsetSegment.baseAddress();
@@ -234,11 +267,13 @@ public final class MMFileWriter extends AbstractForwardingReader implements Writ
     if (reader != null) {
       try (final FileChannel outChan = new FileOutputStream(dataFile.toFile(), true).getChannel()) {
         outChan.truncate(dataSegmentFileSize);
+        dataFileMapping.truncate(dataSegmentFileSize);
       } catch (IOException e) {
         throw new SirixIOException(e);
       }
       try (final FileChannel outChan = new FileOutputStream(revisionsOffsetFile.toFile(), true).getChannel()) {
         outChan.truncate(revisionsOffsetSize);
+        revisionsOffsetFileMapping.truncate(revisionsOffsetSize);
       } catch (IOException e) {
         throw new SirixIOException(e);
       }
@@ -272,6 +307,7 @@ public final class MMFileWriter extends AbstractForwardingReader implements Writ
   public Writer truncate() {
     try (final FileChannel outChan = new FileOutputStream(dataFile.toFile(), true).getChannel()) {
       outChan.truncate(0);
+      dataFileMapping.truncate(0);
     } catch (IOException e) {
       throw new SirixIOException(e);
     }
@@ -23,6 +23,7 @@ package org.sirix.io.memorymapped;
 
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.exception.SirixIOException;
+import org.sirix.io.ChecksumType;
 import org.sirix.io.IOStorage;
 import org.sirix.io.Reader;
 import org.sirix.io.Writer;
@@ -56,6 +57,18 @@ public final class MMStorage implements IOStorage {
   /** Byte handler pipeline. */
   private final ByteHandlePipeline byteHandlerPipeline;
 
+  /** The algorithm used to compute the checksums of pages. */
+  private final ChecksumType checksumType;
+
+  /** Determines if the checksums of read pages are verified. */
+  private final boolean verifyChecksums;
+
+  /** The mapping of the data file, which is shared by all readers and writers. */
+  private ChunkedMappedFile dataFileMapping;
+
+  /** The mapping of the revisions offset file, which is shared by all readers and writers. */
+  private ChunkedMappedFile revisionsOffsetFileMapping;
+
   /**
    * Constructor.
    *
@@ -65,6 +78,8 @@ public final class MMStorage implements IOStorage {
     assert resourceConfig != null : "resourceConfig must not be null!";
     file = resourceConfig.resourcePath;
     byteHandlerPipeline = resourceConfig.byteHandlePipeline;
+    checksumType = resourceConfig.checksumType;
+    verifyChecksums = resourceConfig.verifyChecksums;
   }
 
   @Override
@@ -75,16 +90,27 @@ public final class MMStorage implements IOStorage {
 
       createRevisionsOffsetFileIfItDoesNotExist(revisionsOffsetFilePath);
 
-      return new MMFileReader(dataFilePath,
-                              revisionsOffsetFilePath,
+      initMappings(dataFilePath, revisionsOffsetFilePath);
+
+      return new MMFileReader(dataFileMapping,
+                              revisionsOffsetFileMapping,
                               new ByteHandlePipeline(byteHandlerPipeline),
                               SerializationType.DATA,
-                              new PagePersister());
+                              new PagePersister(),
+                              checksumType,
+                              verifyChecksums);
     } catch (final IOException e) {
       throw new SirixIOException(e);
     }
   }
 
+  private synchronized void initMappings(final Path dataFilePath, final Path revisionsOffsetFilePath) {
+    if (dataFileMapping == null) {
+      dataFileMapping = new ChunkedMappedFile(dataFilePath, ChunkedMappedFile.DEFAULT_CHUNK_SIZE);
+      revisionsOffsetFileMapping = new ChunkedMappedFile(revisionsOffsetFilePath, ChunkedMappedFile.DEFAULT_CHUNK_SIZE);
+    }
+  }
+
   private void createRevisionsOffsetFileIfItDoesNotExist(Path revisionsOffsetFilePath) throws IOException {
     if (!Files.exists(revisionsOffsetFilePath)) {
       Files.createFile(revisionsOffsetFilePath);
@@ -110,19 +136,28 @@ public final class MMStorage implements IOStorage {
 
       createRevisionsOffsetFileIfItDoesNotExist(revisionsOffsetFilePath);
 
+      initMappings(dataFilePath, revisionsOffsetFilePath);
+
       return new MMFileWriter(dataFilePath,
                               revisionsOffsetFilePath,
+                              dataFileMapping,
+                              revisionsOffsetFileMapping,
                               new ByteHandlePipeline(byteHandlerPipeline),
                               SerializationType.DATA,
-                              new PagePersister());
+                              new PagePersister(),
+                              checksumType,
+                              verifyChecksums);
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
   }
 
   @Override
-  public void close() {
-    // not used over here
+  public synchronized void close() {
+    if (dataFileMapping != null) {
+      dataFileMapping.close();
+      revisionsOffsetFileMapping.close();
+    }
   }
 
   /**
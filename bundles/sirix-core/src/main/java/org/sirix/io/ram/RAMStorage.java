@@ -120,6 +120,12 @@ public final class RAMStorage implements IOStorage {
       return mResourceFileStorage.get(reference.getKey());
     }
 
+    @Override
+    public byte[] readSerializedPage(PageReference reference) {
+      // Pages are stored in-memory, thus there's nothing to read concurrently.
+      return null;
+    }
+
     @Override
     public PageReference readUberPageReference() {
       final Page page = mResourceFileStorage.get(mUberPageKey.get(-1));
@@ -138,6 +144,17 @@ public final class RAMStorage implements IOStorage {
       return this;
     }
 
+    @Override
+    public byte[] serializePage(final Page page) {
+      // Page instances are stored, thus there's nothing to serialize.
+      return null;
+    }
+
+    @Override
+    public Writer write(final PageReference pageReference, final byte[] serializedPage) {
+      return write(pageReference);
+    }
+
     @Override
     public Writer writeUberPageReference(final PageReference pageReference) throws SirixIOException {
       final Page page = pageReference.getPage();
@@ -77,6 +77,21 @@ public abstract class AbstractForwardingNode extends ForwardingObject implements
     delegate().setHash(hash);
   }
 
+  @Override
+  public boolean hasLongHash() {
+    return delegate().hasLongHash();
+  }
+
+  @Override
+  public long getLongHash() {
+    return delegate().getLongHash();
+  }
+
+  @Override
+  public void setLongHash(final long hash) {
+    delegate().setLongHash(hash);
+  }
+
   @Override
   public long getRevision() {
     return delegate().getRevision();
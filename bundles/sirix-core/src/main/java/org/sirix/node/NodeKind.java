@@ -29,9 +29,12 @@ import org.brackit.xquery.module.Namespaces;
 import org.brackit.xquery.xdm.Type;
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.access.trx.node.HashType;
+import org.sirix.access.trx.node.HashWidth;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.index.AtomicUtil;
+import org.sirix.index.PostingFormat;
 import org.sirix.index.avltree.AVLNode;
+import org.sirix.index.bplustree.BPlusTreeNode;
 import org.sirix.index.avltree.keyvalue.CASValue;
 import org.sirix.index.avltree.keyvalue.NodeReferences;
 import org.sirix.index.path.summary.PathNode;
@@ -116,14 +119,13 @@ public enum NodeKind implements NodePersistenter {
     }
 
     @Override
-    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig)
         throws IOException {
       final ElementNode node = (ElementNode) record;
-      if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE)
+      if (storesBigIntegerHashes(resourceConfig))
         writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
-      serializeDelegate(node.getNodeDelegate(), sink);
-      serializeStructDelegate(this, node.getStructNodeDelegate(), sink,
-          pageReadTrx.getResourceManager().getResourceConfig());
+      serializeDelegate(node.getNodeDelegate(), sink, resourceConfig);
+      serializeStructDelegate(this, node.getStructNodeDelegate(), sink, resourceConfig);
       serializeNameDelegate(node.getNameNodeDelegate(), sink);
       sink.writeInt(node.getAttributeCount());
       for (int i = 0, attCount = node.getAttributeCount(); i < attCount; i++) {
@@ -172,12 +174,12 @@ public enum NodeKind implements NodePersistenter {
     }
 
     @Override
-    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig)
         throws IOException {
       final AttributeNode node = (AttributeNode) record;
-      if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE)
+      if (storesBigIntegerHashes(resourceConfig))
         writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
-      serializeDelegate(node.getNodeDelegate(), sink);
+      serializeDelegate(node.getNodeDelegate(), sink, resourceConfig);
       serializeNameDelegate(node.getNameNodeDelegate(), sink);
       serializeValDelegate(node.getValNodeDelegate(), sink);
     }
@@ -210,12 +212,12 @@ public enum NodeKind implements NodePersistenter {
     }
 
     @Override
-    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig)
         throws IOException {
       final NamespaceNode node = (NamespaceNode) record;
-      if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE)
+      if (storesBigIntegerHashes(resourceConfig))
         writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
-      serializeDelegate(node.getNodeDelegate(), sink);
+      serializeDelegate(node.getNodeDelegate(), sink, resourceConfig);
       serializeNameDelegate(node.getNameNodeDelegate(), sink);
     }
   },
@@ -248,12 +250,12 @@ public enum NodeKind implements NodePersistenter {
     }
 
     @Override
-    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig)
         throws IOException {
       final TextNode node = (TextNode) record;
-      if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE)
+      if (storesBigIntegerHashes(resourceConfig))
         writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
-      serializeDelegate(node.getNodeDelegate(), sink);
+      serializeDelegate(node.getNodeDelegate(), sink, resourceConfig);
       serializeValDelegate(node.getValNodeDelegate(), sink);
       final StructNodeDelegate del = node.getStructNodeDelegate();
       final long nodeKey = node.getNodeKey();
@@ -292,14 +294,13 @@ public enum NodeKind implements NodePersistenter {
     }
 
     @Override
-    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig)
         throws IOException {
       final PINode node = (PINode) record;
-      if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE)
+      if (storesBigIntegerHashes(resourceConfig))
         writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
-      serializeDelegate(node.getNodeDelegate(), sink);
-      serializeStructDelegate(this, node.getStructNodeDelegate(), sink,
-          pageReadTrx.getResourceManager().getResourceConfig());
+      serializeDelegate(node.getNodeDelegate(), sink, resourceConfig);
+      serializeStructDelegate(this, node.getStructNodeDelegate(), sink, resourceConfig);
       serializeNameDelegate(node.getNameNodeDelegate(), sink);
       serializeValDelegate(node.getValNodeDelegate(), sink);
     }
@@ -333,12 +334,12 @@ public enum NodeKind implements NodePersistenter {
     }
 
     @Override
-    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig)
         throws IOException {
       final CommentNode node = (CommentNode) record;
-      if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE)
+      if (storesBigIntegerHashes(resourceConfig))
         writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
-      serializeDelegate(node.getNodeDelegate(), sink);
+      serializeDelegate(node.getNodeDelegate(), sink, resourceConfig);
       serializeValDelegate(node.getValNodeDelegate(), sink);
       final StructNodeDelegate del = node.getStructNodeDelegate();
       final long nodeKey = node.getNodeKey();
@@ -362,11 +363,12 @@ public enum NodeKind implements NodePersistenter {
       final StructNodeDelegate structDel = new StructNodeDelegate(nodeDel, getVarLong(source),
           Fixed.NULL_NODE_KEY.getStandardProperty(), Fixed.NULL_NODE_KEY.getStandardProperty(),
           source.readByte() == ((byte) 0) ? 0 : 1, source.readLong());
+      readLongHash(source, nodeDel, pageReadTrx.getResourceManager().getResourceConfig());
       return new XmlDocumentRootNode(nodeDel, structDel);
     }
 
     @Override
-    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig)
         throws IOException {
       final XmlDocumentRootNode node = (XmlDocumentRootNode) record;
       // writeHash(sink, node.getHash());
@@ -374,6 +376,7 @@ public enum NodeKind implements NodePersistenter {
       putVarLong(sink, node.getFirstChildKey());
       sink.writeByte(node.hasFirstChild() ? (byte) 1 : (byte) 0);
       sink.writeLong(node.getDescendantCount());
+      writeLongHash(sink, node.getNodeDelegate(), resourceConfig);
     }
 
     @Override
@@ -399,7 +402,7 @@ public enum NodeKind implements NodePersistenter {
     }
 
     @Override
-    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx) {
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig) {
       throw new UnsupportedOperationException();
     }
 
@@ -428,7 +431,7 @@ public enum NodeKind implements NodePersistenter {
     }
 
     @Override
-    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx) {
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig) {
     }
 
     @Override
@@ -454,7 +457,7 @@ public enum NodeKind implements NodePersistenter {
     }
 
     @Override
-    public void serialize(final DataOutput ink, final DataRecord record, final PageReadOnlyTrx pageReadTrx) {
+    public void serialize(final DataOutput ink, final DataRecord record, final ResourceConfiguration resourceConfig) {
       throw new UnsupportedOperationException();
     }
 
@@ -481,7 +484,7 @@ public enum NodeKind implements NodePersistenter {
     }
 
     @Override
-    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx) {
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig) {
       throw new UnsupportedOperationException();
     }
 
@@ -509,7 +512,7 @@ public enum NodeKind implements NodePersistenter {
     }
 
     @Override
-    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx) {
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig) {
       throw new UnsupportedOperationException();
     }
 
@@ -557,12 +560,11 @@ public enum NodeKind implements NodePersistenter {
     }
 
     @Override
-    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig)
         throws IOException {
       final PathNode node = (PathNode) record;
-      serializeDelegate(node.getNodeDelegate(), sink);
-      serializeStructDelegate(this, node.getStructNodeDelegate(), sink,
-          pageReadTrx.getResourceManager().getResourceConfig());
+      serializeDelegate(node.getNodeDelegate(), sink, resourceConfig);
+      serializeStructDelegate(this, node.getStructNodeDelegate(), sink, resourceConfig);
       serializeNameDelegate(node.getNameNodeDelegate(), sink);
       sink.writeByte(node.getPathKind().getId());
       sink.writeInt(node.getReferences());
@@ -595,16 +597,7 @@ public enum NodeKind implements NodePersistenter {
       final int typeSize = source.readInt();
       final byte[] type = new byte[typeSize];
       source.readFully(type, 0, typeSize);
-      final int keySize = source.readInt();
-      final Set<Long> nodeKeys = new HashSet<>(keySize);
-      if (keySize > 0) {
-        long key = getVarLong(source);
-        nodeKeys.add(key);
-        for (int i = 1; i < keySize; i++) {
-          key += getVarLong(source);
-          nodeKeys.add(key);
-        }
-      }
+      final NodeReferences nodeReferences = deserializeNodeReferences(source, true);
       final Type atomicType = resolveType(new String(type, Constants.DEFAULT_ENCODING));
 
       // Node delegate.
@@ -616,8 +609,8 @@ public enum NodeKind implements NodePersistenter {
 
       final Atomic atomic = AtomicUtil.fromBytes(value, atomicType);
       AVLNode<CASValue, NodeReferences> node;
-      node = new AVLNode<CASValue, NodeReferences>(new CASValue(atomic, atomicType, pathNodeKey),
-          new NodeReferences(nodeKeys), nodeDel);
+      node = new AVLNode<CASValue, NodeReferences>(new CASValue(atomic, atomicType, pathNodeKey), nodeReferences,
+          nodeDel);
 
       node.setLeftChildKey(leftChild);
       node.setRightChildKey(rightChild);
@@ -626,7 +619,7 @@ public enum NodeKind implements NodePersistenter {
     }
 
     @Override
-    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig)
         throws IOException {
       @SuppressWarnings("unchecked")
       final AVLNode<CASValue, NodeReferences> node = (AVLNode<CASValue, NodeReferences>) record;
@@ -637,23 +630,8 @@ public enum NodeKind implements NodePersistenter {
       final byte[] type = key.getType().toString().getBytes(Constants.DEFAULT_ENCODING);
       sink.writeInt(type.length);
       sink.write(type);
-      final NodeReferences value = node.getValue();
-      final Set<Long> nodeKeys = value.getNodeKeys();
-
-      // Store in a list and sort the list.
-      final List<Long> listNodeKeys = new ArrayList<>(nodeKeys);
-      Collections.sort(listNodeKeys);
-      sink.writeInt(listNodeKeys.size());
-      if (!listNodeKeys.isEmpty()) {
-        putVarLong(sink, listNodeKeys.get(0));
-        for (int i = 0; i < listNodeKeys.size(); i++) {
-          if (i + 1 < listNodeKeys.size()) {
-            final long diff = listNodeKeys.get(i + 1) - listNodeKeys.get(i);
-            putVarLong(sink, diff);
-          }
-        }
-      }
-      serializeDelegate(node.getNodeDelegate(), sink);
+      serializeNodeReferences(sink, node.getValue(), true);
+      serializeDelegate(node.getNodeDelegate(), sink, resourceConfig);
       putVarLong(sink, node.getLeftChildKey());
       putVarLong(sink, node.getRightChildKey());
       putVarLong(sink, key.getPathNodeKey());
@@ -671,17 +649,6 @@ public enum NodeKind implements NodePersistenter {
         ResourceConfiguration resourceConfig) {
       throw new UnsupportedOperationException();
     }
-
-    private Type resolveType(final String s) {
-      final QNm name = new QNm(Namespaces.XS_NSURI, Namespaces.XS_PREFIX,
-          s.substring(Namespaces.XS_PREFIX.length() + 1));
-      for (final Type type : Type.builtInTypes) {
-        if (type.getName().getLocalName().equals(name.getLocalName())) {
-          return type;
-        }
-      }
-      throw new IllegalStateException("Unknown content type: " + name);
-    }
   },
 
   /**
@@ -692,17 +659,13 @@ public enum NodeKind implements NodePersistenter {
     public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
         final PageReadOnlyTrx pageReadTrx) throws IOException {
       final long key = getVarLong(source);
-      final int keySize = source.readInt();
-      final Set<Long> nodeKeys = new HashSet<>(keySize);
-      for (int i = 0; i < keySize; i++) {
-        nodeKeys.add(source.readLong());
-      }
+      final NodeReferences nodeReferences = deserializeNodeReferences(source, false);
       // Node delegate.
       final NodeDelegate nodeDel = deserializeNodeDelegateWithoutIDs(source, recordID, pageReadTrx);
       final long leftChild = getVarLong(source);
       final long rightChild = getVarLong(source);
       final boolean isChanged = source.readBoolean();
-      final AVLNode<Long, NodeReferences> node = new AVLNode<>(key, new NodeReferences(nodeKeys), nodeDel);
+      final AVLNode<Long, NodeReferences> node = new AVLNode<>(key, nodeReferences, nodeDel);
       node.setLeftChildKey(leftChild);
       node.setRightChildKey(rightChild);
       node.setChanged(isChanged);
@@ -710,18 +673,13 @@ public enum NodeKind implements NodePersistenter {
     }
 
     @Override
-    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig)
         throws IOException {
       @SuppressWarnings("unchecked")
       final AVLNode<Long, NodeReferences> node = (AVLNode<Long, NodeReferences>) record;
       putVarLong(sink, node.getKey().longValue());
-      final NodeReferences value = node.getValue();
-      final Set<Long> nodeKeys = value.getNodeKeys();
-      sink.writeInt(nodeKeys.size());
-      for (final long nodeKey : nodeKeys) {
-        sink.writeLong(nodeKey);
-      }
-      serializeDelegate(node.getNodeDelegate(), sink);
+      serializeNodeReferences(sink, node.getValue(), false);
+      serializeDelegate(node.getNodeDelegate(), sink, resourceConfig);
       putVarLong(sink, node.getLeftChildKey());
       putVarLong(sink, node.getRightChildKey());
       sink.writeBoolean(node.isChanged());
@@ -755,17 +713,13 @@ public enum NodeKind implements NodePersistenter {
       source.readFully(localNameBytes);
       final QNm name = new QNm(new String(nspBytes, Constants.DEFAULT_ENCODING),
           new String(prefixBytes, Constants.DEFAULT_ENCODING), new String(localNameBytes, Constants.DEFAULT_ENCODING));
-      final int keySize = source.readInt();
-      final Set<Long> nodeKeys = new HashSet<>(keySize);
-      for (int i = 0; i < keySize; i++) {
-        nodeKeys.add(source.readLong());
-      }
+      final NodeReferences nodeReferences = deserializeNodeReferences(source, false);
       // Node delegate.
       final NodeDelegate nodeDel = deserializeNodeDelegateWithoutIDs(source, recordID, pageReadTrx);
       final long leftChild = getVarLong(source);
       final long rightChild = getVarLong(source);
       final boolean isChanged = source.readBoolean();
-      final AVLNode<QNm, NodeReferences> node = new AVLNode<>(name, new NodeReferences(nodeKeys), nodeDel);
+      final AVLNode<QNm, NodeReferences> node = new AVLNode<>(name, nodeReferences, nodeDel);
       node.setLeftChildKey(leftChild);
       node.setRightChildKey(rightChild);
       node.setChanged(isChanged);
@@ -773,7 +727,7 @@ public enum NodeKind implements NodePersistenter {
     }
 
     @Override
-    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig)
         throws IOException {
       @SuppressWarnings("unchecked")
       final AVLNode<QNm, NodeReferences> node = (AVLNode<QNm, NodeReferences>) record;
@@ -786,13 +740,8 @@ public enum NodeKind implements NodePersistenter {
       final byte[] localNameBytes = node.getKey().getLocalName().getBytes();
       sink.writeInt(localNameBytes.length);
       sink.write(localNameBytes);
-      final NodeReferences value = node.getValue();
-      final Set<Long> nodeKeys = value.getNodeKeys();
-      sink.writeInt(nodeKeys.size());
-      for (final long nodeKey : nodeKeys) {
-        sink.writeLong(nodeKey);
-      }
-      serializeDelegate(node.getNodeDelegate(), sink);
+      serializeNodeReferences(sink, node.getValue(), false);
+      serializeDelegate(node.getNodeDelegate(), sink, resourceConfig);
       putVarLong(sink, node.getLeftChildKey());
       putVarLong(sink, node.getRightChildKey());
       sink.writeBoolean(node.isChanged());
@@ -820,7 +769,7 @@ public enum NodeKind implements NodePersistenter {
     }
 
     @Override
-    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx) {
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig) {
       throw new UnsupportedOperationException();
     }
 
@@ -853,20 +802,27 @@ public enum NodeKind implements NodePersistenter {
       final StructNodeDelegate structDel = deserializeStructDel(this, nodeDel, source,
           pageReadTrx.getResourceManager().getResourceConfig());
 
+      // Key directory.
+      final long keyDirectoryKey = pageReadTrx.getResourceManager().getResourceConfig().storeObjectKeyDirectories
+          ? getVarLong(source) - 1
+          : Fixed.NULL_NODE_KEY.getStandardProperty();
+
       // Returning an instance.
-      return new ObjectNode(hashCode, structDel);
+      return new ObjectNode(hashCode, structDel, keyDirectoryKey);
     }
 
     @Override
-    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig)
         throws IOException {
       final ObjectNode node = (ObjectNode) record;
-      if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE) {
+      if (storesBigIntegerHashes(resourceConfig)) {
         writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
       }
-      serializeDelegate(node.getNodeDelegate(), sink);
-      serializeStructDelegate(this, node.getStructNodeDelegate(), sink,
-          pageReadTrx.getResourceManager().getResourceConfig());
+      serializeDelegate(node.getNodeDelegate(), sink, resourceConfig);
+      serializeStructDelegate(this, node.getStructNodeDelegate(), sink, resourceConfig);
+      if (resourceConfig.storeObjectKeyDirectories) {
+        putVarLong(sink, node.getKeyDirectoryKey() + 1);
+      }
     }
 
     @Override
@@ -900,20 +856,27 @@ public enum NodeKind implements NodePersistenter {
       final StructNodeDelegate structDel = deserializeStructDel(this, nodeDel, source,
           pageReadTrx.getResourceManager().getResourceConfig());
 
+      // Chunk directory.
+      final long chunkDirectoryKey = pageReadTrx.getResourceManager().getResourceConfig().storeArrayChunkDirectories
+          ? getVarLong(source) - 1
+          : Fixed.NULL_NODE_KEY.getStandardProperty();
+
       // Returning an instance.
-      return new ArrayNode(hashCode, structDel, pathNodeKey);
+      return new ArrayNode(hashCode, structDel, pathNodeKey, chunkDirectoryKey);
     }
 
     @Override
-    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig)
         throws IOException {
       final ArrayNode node = (ArrayNode) record;
-      if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE)
+      if (storesBigIntegerHashes(resourceConfig))
         writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
       sink.writeLong(node.getPathNodeKey());
-      serializeDelegate(node.getNodeDelegate(), sink);
-      serializeStructDelegate(this, node.getStructNodeDelegate(), sink,
-          pageReadTrx.getResourceManager().getResourceConfig());
+      serializeDelegate(node.getNodeDelegate(), sink, resourceConfig);
+      serializeStructDelegate(this, node.getStructNodeDelegate(), sink, resourceConfig);
+      if (resourceConfig.storeArrayChunkDirectories) {
+        putVarLong(sink, node.getChunkDirectoryKey() + 1);
+      }
     }
 
     @Override
@@ -957,16 +920,15 @@ public enum NodeKind implements NodePersistenter {
     }
 
     @Override
-    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig)
         throws IOException {
       final ObjectKeyNode node = (ObjectKeyNode) record;
-      if (pageReadTrx.getResourceManager().getResourceConfig().hashType != HashType.NONE)
+      if (storesBigIntegerHashes(resourceConfig))
         writeHash(sink, node.getHash() == null ? BigInteger.ZERO : node.getHash());
       sink.writeInt(node.getNameKey());
       putVarLong(sink, node.getPathNodeKey());
-      serializeDelegate(node.getNodeDelegate(), sink);
-      serializeStructDelegate(this, node.getStructNodeDelegate(), sink,
-          pageReadTrx.getResourceManager().getResourceConfig());
+      serializeDelegate(node.getNodeDelegate(), sink, resourceConfig);
+      serializeStructDelegate(this, node.getStructNodeDelegate(), sink, resourceConfig);
     }
 
     @Override
@@ -1008,10 +970,10 @@ public enum NodeKind implements NodePersistenter {
     }
 
     @Override
-    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig)
         throws IOException {
       final ObjectStringNode node = (ObjectStringNode) record;
-      serializeDelegate(node.getNodeDelegate(), sink);
+      serializeDelegate(node.getNodeDelegate(), sink, resourceConfig);
       serializeValDelegate(node.getValNodeDelegate(), sink);
     }
 
@@ -1049,11 +1011,11 @@ public enum NodeKind implements NodePersistenter {
     }
 
     @Override
-    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig)
         throws IOException {
       final ObjectBooleanNode node = (ObjectBooleanNode) record;
       sink.writeBoolean(node.getValue());
-      serializeDelegate(node.getNodeDelegate(), sink);
+      serializeDelegate(node.getNodeDelegate(), sink, resourceConfig);
     }
 
     @Override
@@ -1123,7 +1085,7 @@ public enum NodeKind implements NodePersistenter {
     }
 
     @Override
-    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig)
         throws IOException {
       final ObjectNumberNode node = (ObjectNumberNode) record;
       final Number number = node.getValue();
@@ -1154,7 +1116,7 @@ public enum NodeKind implements NodePersistenter {
         throw new AssertionError("Type not known.");
       }
 
-      serializeDelegate(node.getNodeDelegate(), sink);
+      serializeDelegate(node.getNodeDelegate(), sink, resourceConfig);
     }
 
     private void serializeBigInteger(final DataOutput sink, final BigInteger bigInteger) throws IOException {
@@ -1195,10 +1157,10 @@ public enum NodeKind implements NodePersistenter {
     }
 
     @Override
-    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig)
         throws IOException {
       final ObjectNullNode node = (ObjectNullNode) record;
-      serializeDelegate(node.getNodeDelegate(), sink);
+      serializeDelegate(node.getNodeDelegate(), sink, resourceConfig);
     }
 
     @Override
@@ -1239,13 +1201,12 @@ public enum NodeKind implements NodePersistenter {
     }
 
     @Override
-    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig)
         throws IOException {
       final StringNode node = (StringNode) record;
-      serializeDelegate(node.getNodeDelegate(), sink);
+      serializeDelegate(node.getNodeDelegate(), sink, resourceConfig);
       serializeValDelegate(node.getValNodeDelegate(), sink);
-      serializeStructDelegate(this, node.getStructNodeDelegate(), sink,
-          pageReadTrx.getResourceManager().getResourceConfig());
+      serializeStructDelegate(this, node.getStructNodeDelegate(), sink, resourceConfig);
     }
 
     @Override
@@ -1281,13 +1242,12 @@ public enum NodeKind implements NodePersistenter {
     }
 
     @Override
-    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig)
         throws IOException {
       final BooleanNode node = (BooleanNode) record;
       sink.writeBoolean(node.getValue());
-      serializeDelegate(node.getNodeDelegate(), sink);
-      serializeStructDelegate(this, node.getStructNodeDelegate(), sink,
-          pageReadTrx.getResourceManager().getResourceConfig());
+      serializeDelegate(node.getNodeDelegate(), sink, resourceConfig);
+      serializeStructDelegate(this, node.getStructNodeDelegate(), sink, resourceConfig);
     }
 
     @Override
@@ -1356,7 +1316,7 @@ public enum NodeKind implements NodePersistenter {
     }
 
     @Override
-    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig)
         throws IOException {
       final NumberNode node = (NumberNode) record;
       final Number number = node.getValue();
@@ -1387,9 +1347,8 @@ public enum NodeKind implements NodePersistenter {
         throw new AssertionError("Type not known.");
       }
 
-      serializeDelegate(node.getNodeDelegate(), sink);
-      serializeStructDelegate(this, node.getStructNodeDelegate(), sink,
-          pageReadTrx.getResourceManager().getResourceConfig());
+      serializeDelegate(node.getNodeDelegate(), sink, resourceConfig);
+      serializeStructDelegate(this, node.getStructNodeDelegate(), sink, resourceConfig);
     }
 
     private void serializeBigInteger(final DataOutput sink, final BigInteger bigInteger) throws IOException {
@@ -1429,12 +1388,11 @@ public enum NodeKind implements NodePersistenter {
     }
 
     @Override
-    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig)
         throws IOException {
       final NullNode node = (NullNode) record;
-      serializeDelegate(node.getNodeDelegate(), sink);
-      serializeStructDelegate(this, node.getStructNodeDelegate(), sink,
-          pageReadTrx.getResourceManager().getResourceConfig());
+      serializeDelegate(node.getNodeDelegate(), sink, resourceConfig);
+      serializeStructDelegate(this, node.getStructNodeDelegate(), sink, resourceConfig);
     }
 
     @Override
@@ -1465,17 +1423,19 @@ public enum NodeKind implements NodePersistenter {
       final StructNodeDelegate structDel = new StructNodeDelegate(nodeDel, getVarLong(source),
           Fixed.NULL_NODE_KEY.getStandardProperty(), Fixed.NULL_NODE_KEY.getStandardProperty(),
           source.readByte() == ((byte) 0) ? 0 : 1, source.readLong());
+      readLongHash(source, nodeDel, pageReadTrx.getResourceManager().getResourceConfig());
       return new JsonDocumentRootNode(nodeDel, structDel);
     }
 
     @Override
-    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig)
         throws IOException {
       final JsonDocumentRootNode node = (JsonDocumentRootNode) record;
       putVarLong(sink, node.getRevision());
       putVarLong(sink, node.getFirstChildKey());
       sink.writeByte(node.hasFirstChild() ? (byte) 1 : (byte) 0);
       sink.writeLong(node.getDescendantCount());
+      writeLongHash(sink, node.getNodeDelegate(), resourceConfig);
     }
 
     @Override
@@ -1498,7 +1458,7 @@ public enum NodeKind implements NodePersistenter {
     }
 
     @Override
-    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig)
         throws IOException {
       final HashEntryNode node = (HashEntryNode) record;
       sink.writeInt(node.getKey());
@@ -1525,7 +1485,7 @@ public enum NodeKind implements NodePersistenter {
     }
 
     @Override
-    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx)
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig)
         throws IOException {
       final HashCountEntryNode node = (HashCountEntryNode) record;
       sink.writeInt(node.getValue());
@@ -1543,6 +1503,180 @@ public enum NodeKind implements NodePersistenter {
     }
   },
 
+  /**
+   * Key directory of a JSON object node.
+   */
+  OBJECT_KEY_DIRECTORY((byte) 34, ObjectKeyDirectory.class) {
+    @Override
+    public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
+        final PageReadOnlyTrx pageReadTrx) throws IOException {
+      final int size = source.readInt();
+      final Map<Integer, long[]> nodeKeysByNameHash = new HashMap<>(size);
+      for (int i = 0; i < size; i++) {
+        final int nameHash = source.readInt();
+        final long[] nodeKeys = new long[(int) getVarLong(source)];
+        for (int j = 0; j < nodeKeys.length; j++) {
+          nodeKeys[j] = getVarLong(source);
+        }
+        nodeKeysByNameHash.put(nameHash, nodeKeys);
+      }
+      return new ObjectKeyDirectory(recordID, nodeKeysByNameHash);
+    }
+
+    @Override
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig)
+        throws IOException {
+      final ObjectKeyDirectory directory = (ObjectKeyDirectory) record;
+      final Map<Integer, long[]> nodeKeysByNameHash = directory.getNodeKeysByNameHash();
+      sink.writeInt(nodeKeysByNameHash.size());
+      for (final Map.Entry<Integer, long[]> entry : nodeKeysByNameHash.entrySet()) {
+        sink.writeInt(entry.getKey());
+        putVarLong(sink, entry.getValue().length);
+        for (final long nodeKey : entry.getValue()) {
+          putVarLong(sink, nodeKey);
+        }
+      }
+    }
+
+    @Override
+    public SirixDeweyID deserializeDeweyID(DataInput source, SirixDeweyID previousDeweyID,
+        ResourceConfiguration resourceConfig) {
+      return null;
+    }
+
+    @Override
+    public void serializeDeweyID(DataOutput sink, NodeKind nodeKind, SirixDeweyID deweyID, SirixDeweyID prevDeweyID,
+        ResourceConfiguration resourceConfig) {
+    }
+  },
+
+  /**
+   * Chunk directory of a JSON array node.
+   */
+  ARRAY_CHUNK_DIRECTORY((byte) 35, ArrayChunkDirectory.class) {
+    @Override
+    public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
+        final PageReadOnlyTrx pageReadTrx) throws IOException {
+      final int numberOfChunks = source.readInt();
+      final long[] firstNodeKeys = new long[Math.max(8, numberOfChunks)];
+      final int[] sizes = new int[firstNodeKeys.length];
+      for (int i = 0; i < numberOfChunks; i++) {
+        firstNodeKeys[i] = getVarLong(source);
+        sizes[i] = (int) getVarLong(source);
+      }
+      return new ArrayChunkDirectory(recordID, firstNodeKeys, sizes, numberOfChunks);
+    }
+
+    @Override
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig)
+        throws IOException {
+      final ArrayChunkDirectory directory = (ArrayChunkDirectory) record;
+      sink.writeInt(directory.getNumberOfChunks());
+      for (int i = 0; i < directory.getNumberOfChunks(); i++) {
+        putVarLong(sink, directory.getFirstNodeKey(i));
+        putVarLong(sink, directory.getSize(i));
+      }
+    }
+
+    @Override
+    public SirixDeweyID deserializeDeweyID(DataInput source, SirixDeweyID previousDeweyID,
+        ResourceConfiguration resourceConfig) {
+      return null;
+    }
+
+    @Override
+    public void serializeDeweyID(DataOutput sink, NodeKind nodeKind, SirixDeweyID deweyID, SirixDeweyID prevDeweyID,
+        ResourceConfiguration resourceConfig) {
+    }
+  },
+
+  /**
+   * Node kind is a node of a CAS B+-tree.
+   */
+  CASBPLUSTREE((byte) 36, BPlusTreeNode.class) {
+    @Override
+    public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
+        final PageReadOnlyTrx pageReadTrx) throws IOException {
+      return deserializeBPlusTreeNode(this, source, recordID);
+    }
+
+    @Override
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig)
+        throws IOException {
+      serializeBPlusTreeNode(sink, record);
+    }
+
+    @Override
+    public SirixDeweyID deserializeDeweyID(DataInput source, SirixDeweyID previousDeweyID,
+        ResourceConfiguration resourceConfig) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void serializeDeweyID(DataOutput sink, NodeKind nodeKind, SirixDeweyID deweyID, SirixDeweyID prevDeweyID,
+        ResourceConfiguration resourceConfig) {
+      throw new UnsupportedOperationException();
+    }
+  },
+
+  /**
+   * Node kind is a node of a PATH B+-tree.
+   */
+  PATHBPLUSTREE((byte) 37, BPlusTreeNode.class) {
+    @Override
+    public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
+        final PageReadOnlyTrx pageReadTrx) throws IOException {
+      return deserializeBPlusTreeNode(this, source, recordID);
+    }
+
+    @Override
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig)
+        throws IOException {
+      serializeBPlusTreeNode(sink, record);
+    }
+
+    @Override
+    public SirixDeweyID deserializeDeweyID(DataInput source, SirixDeweyID previousDeweyID,
+        ResourceConfiguration resourceConfig) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void serializeDeweyID(DataOutput sink, NodeKind nodeKind, SirixDeweyID deweyID, SirixDeweyID prevDeweyID,
+        ResourceConfiguration resourceConfig) {
+      throw new UnsupportedOperationException();
+    }
+  },
+
+  /**
+   * Node kind is a node of a NAME B+-tree.
+   */
+  NAMEBPLUSTREE((byte) 38, BPlusTreeNode.class) {
+    @Override
+    public DataRecord deserialize(final DataInput source, final @Nonnegative long recordID, final SirixDeweyID deweyID,
+        final PageReadOnlyTrx pageReadTrx) throws IOException {
+      return deserializeBPlusTreeNode(this, source, recordID);
+    }
+
+    @Override
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig)
+        throws IOException {
+      serializeBPlusTreeNode(sink, record);
+    }
+
+    @Override
+    public SirixDeweyID deserializeDeweyID(DataInput source, SirixDeweyID previousDeweyID,
+        ResourceConfiguration resourceConfig) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void serializeDeweyID(DataOutput sink, NodeKind nodeKind, SirixDeweyID deweyID, SirixDeweyID prevDeweyID,
+        ResourceConfiguration resourceConfig) {
+      throw new UnsupportedOperationException();
+    }
+  },
+
   /**
    * Node type not known.
    */
@@ -1554,7 +1688,7 @@ public enum NodeKind implements NodePersistenter {
     }
 
     @Override
-    public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx) {
+    public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig) {
       throw new UnsupportedOperationException();
     }
 
@@ -1703,20 +1837,31 @@ public enum NodeKind implements NodePersistenter {
   private static final BigInteger getHash(final DataInput source, final PageReadOnlyTrx pageReadTrx)
       throws IOException {
     final BigInteger hashCode;
-    if (pageReadTrx.getResourceManager().getResourceConfig().hashType == HashType.NONE)
+    if (!storesBigIntegerHashes(pageReadTrx.getResourceManager().getResourceConfig()))
       hashCode = null;
     else
       hashCode = readHash(source);
     return hashCode;
   }
 
+  private static boolean storesBigIntegerHashes(final ResourceConfiguration resourceConfig) {
+    return resourceConfig.hashType != HashType.NONE && resourceConfig.hashWidth == HashWidth.BITS_128;
+  }
+
+  private static boolean storesLongHashes(final ResourceConfiguration resourceConfig) {
+    return resourceConfig.hashType != HashType.NONE && resourceConfig.hashWidth == HashWidth.BITS_64;
+  }
+
   private static final NodeDelegate deserializeNodeDelegateWithoutIDs(final DataInput source,
       final @Nonnegative long recordID, final PageReadOnlyTrx pageReadTrx) throws IOException {
     final long nodeKey = recordID;
     final long parentKey = nodeKey - getVarLong(source);
     final long revision = getVarLong(source);
-    final HashFunction hashFunction = pageReadTrx.getResourceManager().getResourceConfig().nodeHashFunction;
-    return new NodeDelegate(nodeKey, parentKey, hashFunction, null, revision, null);
+    final ResourceConfiguration resourceConfig = pageReadTrx.getResourceManager().getResourceConfig();
+    final NodeDelegate nodeDel =
+        new NodeDelegate(nodeKey, parentKey, resourceConfig.nodeHashFunction, null, revision, null);
+    readLongHash(source, nodeDel, resourceConfig);
+    return nodeDel;
   }
 
   private static final NodeDelegate deserializeNodeDelegate(final DataInput source, final @Nonnegative long recordID,
@@ -1724,13 +1869,43 @@ public enum NodeKind implements NodePersistenter {
     final long nodeKey = recordID;
     final long parentKey = nodeKey - getVarLong(source);
     final long revision = getVarLong(source);
-    final HashFunction hashFunction = pageReadTrx.getResourceManager().getResourceConfig().nodeHashFunction;
-    return new NodeDelegate(nodeKey, parentKey, hashFunction, null, revision, id);
+    final ResourceConfiguration resourceConfig = pageReadTrx.getResourceManager().getResourceConfig();
+    final NodeDelegate nodeDel =
+        new NodeDelegate(nodeKey, parentKey, resourceConfig.nodeHashFunction, null, revision, id);
+    readLongHash(source, nodeDel, resourceConfig);
+    return nodeDel;
   }
 
-  private static final void serializeDelegate(final NodeDelegate nodeDel, final DataOutput sink) throws IOException {
+  private static final void serializeDelegate(final NodeDelegate nodeDel, final DataOutput sink,
+      final ResourceConfiguration resourceConfig) throws IOException {
     putVarLong(sink, nodeDel.getNodeKey() - nodeDel.getParentKey());
     putVarLong(sink, nodeDel.getRevision());
+    writeLongHash(sink, nodeDel, resourceConfig);
+  }
+
+  /**
+   * Read the 64-bit hash of a node, which is stored with its node delegate, if the resource stores hashes of
+   * {@link HashWidth#BITS_64}.
+   */
+  private static void readLongHash(final DataInput source, final NodeDelegate nodeDel,
+      final ResourceConfiguration resourceConfig) throws IOException {
+    if (storesLongHashes(resourceConfig) && source.readBoolean()) {
+      nodeDel.setLongHash(source.readLong());
+    }
+  }
+
+  /**
+   * Write the 64-bit hash of a node, if the resource stores hashes of {@link HashWidth#BITS_64}. As every value is a
+   * valid hash, a flag denotes if the hash has been computed at all.
+   */
+  private static void writeLongHash(final DataOutput sink, final NodeDelegate nodeDel,
+      final ResourceConfiguration resourceConfig) throws IOException {
+    if (storesLongHashes(resourceConfig)) {
+      sink.writeBoolean(nodeDel.hasLongHash());
+      if (nodeDel.hasLongHash()) {
+        sink.writeLong(nodeDel.getLongHash());
+      }
+    }
   }
 
   private static void writeDeweyID(final DataOutput sink, final byte[] deweyID, final @Nonnegative int i)
@@ -1835,6 +2010,210 @@ public enum NodeKind implements NodePersistenter {
     sink.write(value);
   }
 
+  private static Type resolveType(final String s) {
+    final QNm name = new QNm(Namespaces.XS_NSURI, Namespaces.XS_PREFIX,
+        s.substring(Namespaces.XS_PREFIX.length() + 1));
+    for (final Type type : Type.builtInTypes) {
+      if (type.getName().getLocalName().equals(name.getLocalName())) {
+        return type;
+      }
+    }
+    throw new IllegalStateException("Unknown content type: " + name);
+  }
+
+  private static DataRecord deserializeBPlusTreeNode(final NodeKind kind, final DataInput source, final long recordID)
+      throws IOException {
+    final boolean isLeaf = source.readBoolean();
+    final int size = source.readInt();
+    final List<Comparable<?>> keys = new ArrayList<>(size + 1);
+    for (int i = 0; i < size; i++) {
+      keys.add(deserializeBPlusTreeKey(kind, source));
+    }
+
+    if (isLeaf) {
+      final List<NodeReferences> values = new ArrayList<>(size + 1);
+      for (int i = 0; i < size; i++) {
+        values.add(deserializeNodeReferences(source, true));
+      }
+      @SuppressWarnings({ "unchecked", "rawtypes" })
+      final BPlusTreeNode<?, NodeReferences> leaf = new BPlusTreeNode(recordID, kind, keys, values);
+      leaf.setNextLeafKey(getVarLong(source));
+      return leaf;
+    }
+
+    final List<Long> childKeys = new ArrayList<>(size + 2);
+    for (int i = 0; i <= size; i++) {
+      childKeys.add(getVarLong(source));
+    }
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    final BPlusTreeNode<?, NodeReferences> innerNode = new BPlusTreeNode(recordID, kind, keys, childKeys, false);
+    return innerNode;
+  }
+
+  private static void serializeBPlusTreeNode(final DataOutput sink, final DataRecord record) throws IOException {
+    @SuppressWarnings("unchecked")
+    final BPlusTreeNode<?, NodeReferences> node = (BPlusTreeNode<?, NodeReferences>) record;
+    sink.writeBoolean(node.isLeaf());
+    sink.writeInt(node.size());
+    for (final Object key : node.getKeys()) {
+      serializeBPlusTreeKey(node.getKind(), key, sink);
+    }
+
+    if (node.isLeaf()) {
+      for (final NodeReferences value : node.getValues()) {
+        serializeNodeReferences(sink, value, true);
+      }
+      putVarLong(sink, node.getNextLeafKey());
+    } else {
+      for (final long childKey : node.getChildKeys()) {
+        putVarLong(sink, childKey);
+      }
+    }
+  }
+
+  /**
+   * Deserialize a key of a B+-tree index, which has been serialized by
+   * {@link #serializeBPlusTreeKey(NodeKind, Object, DataOutput)}.
+   *
+   * @param kind the kind of the B+-tree nodes, which determines the type of the key
+   * @param source the source to read from
+   * @return the key
+   * @throws IOException if an I/O error occurs
+   */
+  public static Comparable<?> deserializeBPlusTreeKey(final NodeKind kind, final DataInput source)
+      throws IOException {
+    switch (kind) {
+      case CASBPLUSTREE:
+        final byte[] value = new byte[source.readInt()];
+        source.readFully(value);
+        final byte[] type = new byte[source.readInt()];
+        source.readFully(type);
+        final Type atomicType = resolveType(new String(type, Constants.DEFAULT_ENCODING));
+        final long pathNodeKey = getVarLong(source);
+        return new CASValue(AtomicUtil.fromBytes(value, atomicType), atomicType, pathNodeKey);
+      case PATHBPLUSTREE:
+        return getVarLong(source);
+      case NAMEBPLUSTREE:
+        final byte[] nspBytes = new byte[source.readInt()];
+        source.readFully(nspBytes);
+        final byte[] prefixBytes = new byte[source.readInt()];
+        source.readFully(prefixBytes);
+        final byte[] localNameBytes = new byte[source.readInt()];
+        source.readFully(localNameBytes);
+        return new QNm(new String(nspBytes, Constants.DEFAULT_ENCODING),
+            new String(prefixBytes, Constants.DEFAULT_ENCODING),
+            new String(localNameBytes, Constants.DEFAULT_ENCODING));
+      default:
+        throw new IllegalStateException("Kind not supported: " + kind);
+    }
+  }
+
+  /**
+   * Serialize a key of a B+-tree index.
+   *
+   * @param kind the kind of the B+-tree nodes, which determines the type of the key
+   * @param key the key
+   * @param sink the sink to write to
+   * @throws IOException if an I/O error occurs
+   */
+  public static void serializeBPlusTreeKey(final NodeKind kind, final Object key, final DataOutput sink)
+      throws IOException {
+    switch (kind) {
+      case CASBPLUSTREE:
+        final CASValue casValue = (CASValue) key;
+        final byte[] value = casValue.getValue();
+        sink.writeInt(value.length);
+        sink.write(value);
+        final byte[] type = casValue.getType().toString().getBytes(Constants.DEFAULT_ENCODING);
+        sink.writeInt(type.length);
+        sink.write(type);
+        putVarLong(sink, casValue.getPathNodeKey());
+        break;
+      case PATHBPLUSTREE:
+        putVarLong(sink, (Long) key);
+        break;
+      case NAMEBPLUSTREE:
+        final QNm name = (QNm) key;
+        final byte[] nspBytes = name.getNamespaceURI().getBytes(Constants.DEFAULT_ENCODING);
+        sink.writeInt(nspBytes.length);
+        sink.write(nspBytes);
+        final byte[] prefixBytes = name.getPrefix().getBytes(Constants.DEFAULT_ENCODING);
+        sink.writeInt(prefixBytes.length);
+        sink.write(prefixBytes);
+        final byte[] localNameBytes = name.getLocalName().getBytes(Constants.DEFAULT_ENCODING);
+        sink.writeInt(localNameBytes.length);
+        sink.write(localNameBytes);
+        break;
+      default:
+        throw new IllegalStateException("Kind not supported: " + kind);
+    }
+  }
+
+  /**
+   * Marks node references, which are stored as a compressed bitmap. Lists of node keys never start with it, as they
+   * start with their non-negative size.
+   */
+  private static final int NODE_REFERENCE_BITMAP = -1;
+
+  /**
+   * Serialize node references in the posting format of their index.
+   *
+   * @param sink           the sink to write to
+   * @param nodeReferences the node references
+   * @param deltaEncoded   {@code true}, if lists of node keys are stored as differences to the previous node key,
+   *                       {@code false}, if every node key is stored in eight bytes
+   * @throws IOException if an I/O error occurs
+   */
+  private static void serializeNodeReferences(final DataOutput sink, final NodeReferences nodeReferences,
+      final boolean deltaEncoded) throws IOException {
+    if (nodeReferences.getPostingFormat() == PostingFormat.BITMAP) {
+      sink.writeInt(NODE_REFERENCE_BITMAP);
+      nodeReferences.serialize(sink);
+      return;
+    }
+
+    sink.writeInt((int) nodeReferences.getNumberOfNodeKeys());
+    long previousNodeKey = 0;
+    final PrimitiveIterator.OfLong nodeKeys = nodeReferences.getNodeKeyIterator();
+    while (nodeKeys.hasNext()) {
+      final long nodeKey = nodeKeys.nextLong();
+      if (deltaEncoded) {
+        putVarLong(sink, nodeKey - previousNodeKey);
+        previousNodeKey = nodeKey;
+      } else {
+        sink.writeLong(nodeKey);
+      }
+    }
+  }
+
+  /**
+   * Deserialize node references, which have been serialized by
+   * {@link #serializeNodeReferences(DataOutput, NodeReferences, boolean)}, either as a bitmap or as a list of node
+   * keys of an index, which has been created before the node keys have been stored in bitmaps.
+   *
+   * @param source       the source to read from
+   * @param deltaEncoded {@code true}, if lists of node keys are stored as differences to the previous node key,
+   *                     {@code false}, if every node key is stored in eight bytes
+   * @return the node references
+   * @throws IOException if an I/O error occurs
+   */
+  private static NodeReferences deserializeNodeReferences(final DataInput source, final boolean deltaEncoded)
+      throws IOException {
+    final int size = source.readInt();
+
+    if (size == NODE_REFERENCE_BITMAP) {
+      return NodeReferences.deserialize(source);
+    }
+
+    final NodeReferences nodeReferences = new NodeReferences(PostingFormat.LIST);
+    long nodeKey = 0;
+    for (int i = 0; i < size; i++) {
+      nodeKey = deltaEncoded ? nodeKey + getVarLong(source) : source.readLong();
+      nodeReferences.addNodeKey(nodeKey);
+    }
+    return nodeReferences;
+  }
+
   private static BigInteger readHash(final DataInput source) throws IOException {
     final byte[] hashBytes = new byte[source.readByte()];
     source.readFully(hashBytes);
@@ -26,11 +26,12 @@ public final class NodePersistenterImpl implements NodePersistenter {
   }
 
   @Override
-  public void serialize(final DataOutput sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx) throws IOException {
+  public void serialize(final DataOutput sink, final DataRecord record, final ResourceConfiguration resourceConfig)
+      throws IOException {
     final NodeKind nodeKind = (NodeKind) record.getKind();
     final byte id = nodeKind.getId();
     sink.writeByte(id);
-    nodeKind.serialize(sink, record, pageReadTrx);
+    nodeKind.serialize(sink, record, resourceConfig);
   }
 
   @Override
@@ -58,6 +58,12 @@ public class NodeDelegate implements Node {
   /** Hash of the parent node. */
   private final BigInteger hashCode;
 
+  /** The 64-bit hash of the node, if the resource stores hashes of 64 bits. */
+  private long longHash;
+
+  /** Determines if the 64-bit hash has been computed. */
+  private boolean hasLongHash;
+
   /**
    * TypeKey of the parent node. Can be referenced later on over special pages.
    */
@@ -137,6 +143,22 @@ public class NodeDelegate implements Node {
     throw new UnsupportedOperationException();
   }
 
+  @Override
+  public boolean hasLongHash() {
+    return hasLongHash;
+  }
+
+  @Override
+  public long getLongHash() {
+    return longHash;
+  }
+
+  @Override
+  public void setLongHash(final long hash) {
+    longHash = hash;
+    hasLongHash = true;
+  }
+
   @Override
   public int hashCode() {
     return Objects.hashCode(nodeKey, typeKey, hashCode, parentKey);
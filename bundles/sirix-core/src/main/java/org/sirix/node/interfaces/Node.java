@@ -22,6 +22,7 @@
 package org.sirix.node.interfaces;
 
 import java.math.BigInteger;
+import org.sirix.access.trx.node.HashWidth;
 import org.sirix.node.NodeKind;
 import org.sirix.node.SirixDeweyID;
 import org.sirix.node.interfaces.immutable.ImmutableNode;
@@ -60,6 +61,16 @@ public interface Node extends ImmutableNode {
    */
   void setHash(BigInteger hash);
 
+  /**
+   * Set the 64-bit hash of the structure, which is stored instead of the {@link BigInteger} hash in resources storing
+   * hashes of {@link HashWidth#BITS_64}.
+   *
+   * @param hash 64-bit hash for this node
+   */
+  default void setLongHash(long hash) {
+    throw new UnsupportedOperationException();
+  }
+
   /**
    * Set the parent key.
    *
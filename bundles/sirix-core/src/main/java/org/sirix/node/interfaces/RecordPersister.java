@@ -5,6 +5,7 @@ import java.io.DataOutput;
 import java.io.IOException;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import org.sirix.access.ResourceConfiguration;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.node.SirixDeweyID;
 
@@ -39,5 +40,19 @@ public interface RecordPersister {
    * @throws NullPointerException if one of the parameters is {@code null}
    * @throws IOException if an I/O error occurs during serialization
    */
-  void serialize(DataOutput sink, DataRecord record, PageReadOnlyTrx pageReadTrx) throws IOException;
+  default void serialize(DataOutput sink, DataRecord record, PageReadOnlyTrx pageReadTrx) throws IOException {
+    serialize(sink, record, pageReadTrx.getResourceManager().getResourceConfig());
+  }
+
+  /**
+   * Serialize a record without a transaction, for instance if the transaction, which has read the record, might
+   * already be closed.
+   *
+   * @param sink where the data should be serialized to
+   * @param record the record to serialize
+   * @param resourceConfig the configuration of the resource the record belongs to
+   * @throws NullPointerException if one of the parameters is {@code null}
+   * @throws IOException if an I/O error occurs during serialization
+   */
+  void serialize(DataOutput sink, DataRecord record, ResourceConfiguration resourceConfig) throws IOException;
 }
@@ -2,6 +2,7 @@ package org.sirix.node.interfaces.immutable;
 
 import java.math.BigInteger;
 import javax.annotation.Nullable;
+import org.sirix.access.trx.node.HashWidth;
 import org.sirix.node.NodeKind;
 import org.sirix.node.interfaces.Node;
 import org.sirix.node.interfaces.DataRecord;
@@ -37,6 +38,34 @@ public interface ImmutableNode extends DataRecord {
    */
   BigInteger computeHash();
 
+  /**
+   * Determines if the 64-bit hash of the node has been computed, which is only the case in resources storing hashes of
+   * {@link HashWidth#BITS_64}.
+   *
+   * @return {@code true}, if the 64-bit hash has been computed, {@code false} otherwise
+   */
+  default boolean hasLongHash() {
+    return false;
+  }
+
+  /**
+   * Getting the stored 64-bit hash, which is only valid if {@link #hasLongHash()} returns {@code true}.
+   *
+   * @return the 64-bit hash code
+   */
+  default long getLongHash() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Compute the 64-bit hash code, which is the lower half of the hash code computed by {@link #computeHash()}.
+   *
+   * @return the computed 64-bit hash code
+   */
+  default long computeLongHash() {
+    return computeHash().longValue();
+  }
+
   /**
    * Gets key of the context item's parent.
    *
@@ -0,0 +1,353 @@
+package org.sirix.node.json;
+
+import com.google.common.base.MoreObjects;
+import org.sirix.node.NodeKind;
+import org.sirix.node.SirixDeweyID;
+import org.sirix.node.interfaces.DataRecord;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The chunk directory of an array node, which partitions the elements of the array into chunks of consecutive
+ * elements. For each chunk, the node key of its first element and its number of elements is stored, such that the
+ * element at a position is found by a binary search over the chunks followed by at most {@link #MAX_CHUNK_SIZE}
+ * moves to right siblings, instead of moving through all elements in front of it. The directory is stored as a
+ * separate record and is thus versioned as any other record.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class ArrayChunkDirectory implements DataRecord {
+
+  /** Maximum number of elements of a chunk. Larger chunks are split in halves. */
+  public static final int MAX_CHUNK_SIZE = 256;
+
+  /** The node key of the directory. */
+  private final long nodeKey;
+
+  /** The node keys of the first elements of the chunks. */
+  private long[] firstNodeKeys;
+
+  /** The number of elements of the chunks. */
+  private int[] sizes;
+
+  /**
+   * Binary indexed (Fenwick) tree over the sizes, which is derived from them. The entry at index {@code i} (starting at
+   * {@code 1}) contains the sum of the sizes of the chunks {@code i - (i & -i)} to {@code i - 1}, such that the size of
+   * a chunk is changed and the position of its first element is computed in logarithmic time.
+   */
+  private long[] sizeTree;
+
+  /** The number of elements of the array. */
+  private long numberOfElements;
+
+  /** The number of chunks. */
+  private int numberOfChunks;
+
+  /** Mapping of the node keys of the first elements to their chunks, which is built once it's needed. */
+  private Map<Long, Integer> chunksByFirstNodeKey;
+
+  /** The node key of the element, which has been located last, or {@code -1}. */
+  private long locatedNodeKey = -1;
+
+  /** The chunk of the element, which has been located last. */
+  private int locatedChunk;
+
+  /** The offset of the element, which has been located last, in its chunk. */
+  private int locatedOffset;
+
+  /**
+   * Constructor for an empty directory.
+   *
+   * @param nodeKey the node key of the directory
+   */
+  public ArrayChunkDirectory(final long nodeKey) {
+    this(nodeKey, new long[8], new int[8], 0);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param nodeKey        the node key of the directory
+   * @param firstNodeKeys  the node keys of the first elements of the chunks
+   * @param sizes          the number of elements of the chunks
+   * @param numberOfChunks the number of chunks
+   */
+  public ArrayChunkDirectory(final long nodeKey, final long[] firstNodeKeys, final int[] sizes,
+      final int numberOfChunks) {
+    this.nodeKey = nodeKey;
+    this.firstNodeKeys = firstNodeKeys;
+    this.sizes = sizes;
+    this.numberOfChunks = numberOfChunks;
+    sizeTree = new long[firstNodeKeys.length + 1];
+    buildSizeTree();
+  }
+
+  /**
+   * Build the tree over the sizes in linear time.
+   */
+  private void buildSizeTree() {
+    numberOfElements = 0;
+
+    for (int index = 1; index <= numberOfChunks; index++) {
+      sizeTree[index] = sizes[index - 1];
+      numberOfElements += sizes[index - 1];
+    }
+
+    for (int index = 1; index <= numberOfChunks; index++) {
+      final int parent = index + (index & -index);
+
+      if (parent <= numberOfChunks) {
+        sizeTree[parent] += sizeTree[index];
+      }
+    }
+
+    Arrays.fill(sizeTree, numberOfChunks + 1, sizeTree.length, 0);
+  }
+
+  /**
+   * Get the number of chunks.
+   *
+   * @return the number of chunks
+   */
+  public int getNumberOfChunks() {
+    return numberOfChunks;
+  }
+
+  /**
+   * Get the node key of the first element of a chunk.
+   *
+   * @param chunk the chunk
+   * @return the node key of the first element
+   */
+  public long getFirstNodeKey(final int chunk) {
+    return firstNodeKeys[chunk];
+  }
+
+  /**
+   * Get the number of elements of a chunk.
+   *
+   * @param chunk the chunk
+   * @return the number of elements
+   */
+  public int getSize(final int chunk) {
+    return sizes[chunk];
+  }
+
+  /**
+   * Get the position of the first element of a chunk in the array.
+   *
+   * @param chunk the chunk
+   * @return the position of the first element
+   */
+  public long getFirstPosition(final int chunk) {
+    long position = 0;
+
+    for (int index = chunk; index > 0; index -= index & -index) {
+      position += sizeTree[index];
+    }
+
+    return position;
+  }
+
+  /**
+   * Get the number of elements of the array.
+   *
+   * @return the number of elements
+   */
+  public long getNumberOfElements() {
+    return numberOfElements;
+  }
+
+  /**
+   * Get the chunk, which contains the element at the given position.
+   *
+   * @param position the position of the element in the array
+   * @return the chunk, or {@code -1}, if the array has no element at this position
+   */
+  public int getChunk(final long position) {
+    if (position < 0 || position >= getNumberOfElements()) {
+      return -1;
+    }
+
+    // Descend the tree to the last chunk, whose first element is at a position <= the given position.
+    int chunk = 0;
+    long remainingPosition = position;
+
+    for (int step = Integer.highestOneBit(numberOfChunks); step > 0; step >>= 1) {
+      final int index = chunk + step;
+
+      if (index <= numberOfChunks && sizeTree[index] <= remainingPosition) {
+        chunk = index;
+        remainingPosition -= sizeTree[index];
+      }
+    }
+
+    return chunk;
+  }
+
+  /**
+   * Get the chunk, whose first element has the given node key.
+   *
+   * @param firstNodeKey the node key of the first element
+   * @return the chunk, or {@code -1}, if no chunk starts with this element
+   */
+  public int getChunkOfFirstNodeKey(final long firstNodeKey) {
+    if (chunksByFirstNodeKey == null) {
+      chunksByFirstNodeKey = new HashMap<>(numberOfChunks);
+
+      for (int chunk = 0; chunk < numberOfChunks; chunk++) {
+        chunksByFirstNodeKey.put(firstNodeKeys[chunk], chunk);
+      }
+    }
+
+    return chunksByFirstNodeKey.getOrDefault(firstNodeKey, -1);
+  }
+
+  /**
+   * Insert a chunk.
+   *
+   * @param chunk        the index of the new chunk
+   * @param firstNodeKey the node key of the first element of the new chunk
+   * @param size         the number of elements of the new chunk
+   */
+  public void insertChunk(final int chunk, final long firstNodeKey, final int size) {
+    if (numberOfChunks == firstNodeKeys.length) {
+      final int capacity = firstNodeKeys.length * 2;
+      firstNodeKeys = Arrays.copyOf(firstNodeKeys, capacity);
+      sizes = Arrays.copyOf(sizes, capacity);
+      sizeTree = new long[capacity + 1];
+    }
+
+    System.arraycopy(firstNodeKeys, chunk, firstNodeKeys, chunk + 1, numberOfChunks - chunk);
+    System.arraycopy(sizes, chunk, sizes, chunk + 1, numberOfChunks - chunk);
+    firstNodeKeys[chunk] = firstNodeKey;
+    sizes[chunk] = size;
+    numberOfChunks++;
+
+    // The chunks behind the new chunk are shifted, thus the tree is built again.
+    buildSizeTree();
+    chunksByFirstNodeKey = null;
+    locatedNodeKey = -1;
+  }
+
+  /**
+   * Remove a chunk.
+   *
+   * @param chunk the chunk to remove
+   */
+  public void removeChunk(final int chunk) {
+    System.arraycopy(firstNodeKeys, chunk + 1, firstNodeKeys, chunk, numberOfChunks - chunk - 1);
+    System.arraycopy(sizes, chunk + 1, sizes, chunk, numberOfChunks - chunk - 1);
+    numberOfChunks--;
+
+    buildSizeTree();
+    chunksByFirstNodeKey = null;
+    locatedNodeKey = -1;
+  }
+
+  /**
+   * Set the node key of the first element of a chunk.
+   *
+   * @param chunk        the chunk
+   * @param firstNodeKey the node key of the first element
+   */
+  public void setFirstNodeKey(final int chunk, final long firstNodeKey) {
+    if (chunksByFirstNodeKey != null) {
+      chunksByFirstNodeKey.remove(firstNodeKeys[chunk]);
+      chunksByFirstNodeKey.put(firstNodeKey, chunk);
+    }
+    firstNodeKeys[chunk] = firstNodeKey;
+    locatedNodeKey = -1;
+  }
+
+  /**
+   * Set the number of elements of a chunk.
+   *
+   * @param chunk the chunk
+   * @param size  the number of elements
+   */
+  public void setSize(final int chunk, final int size) {
+    final int difference = size - sizes[chunk];
+    sizes[chunk] = size;
+    numberOfElements += difference;
+
+    for (int index = chunk + 1; index <= numberOfChunks; index += index & -index) {
+      sizeTree[index] += difference;
+    }
+
+    locatedNodeKey = -1;
+  }
+
+  /**
+   * Remember the chunk and the offset of an element, which has been located, such that subsequent insertions after
+   * this element, for instance while appending elements, don't have to locate it again.
+   *
+   * @param elementNodeKey the node key of the element
+   * @param chunk          the chunk of the element
+   * @param offset         the offset of the element in its chunk
+   */
+  public void setLocatedElement(final long elementNodeKey, final int chunk, final int offset) {
+    locatedNodeKey = elementNodeKey;
+    locatedChunk = chunk;
+    locatedOffset = offset;
+  }
+
+  /**
+   * Determines if the given element has been located last and the directory hasn't been modified since then.
+   *
+   * @param elementNodeKey the node key of the element
+   * @return {@code true}, if the element has been located last, {@code false} otherwise
+   */
+  public boolean isLocatedElement(final long elementNodeKey) {
+    return locatedNodeKey != -1 && locatedNodeKey == elementNodeKey;
+  }
+
+  /**
+   * Get the chunk of the element, which has been located last.
+   *
+   * @return the chunk
+   */
+  public int getLocatedChunk() {
+    return locatedChunk;
+  }
+
+  /**
+   * Get the offset of the element, which has been located last, in its chunk.
+   *
+   * @return the offset
+   */
+  public int getLocatedOffset() {
+    return locatedOffset;
+  }
+
+  @Override
+  public NodeKind getKind() {
+    return NodeKind.ARRAY_CHUNK_DIRECTORY;
+  }
+
+  @Override
+  public long getNodeKey() {
+    return nodeKey;
+  }
+
+  @Override
+  public long getRevision() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public SirixDeweyID getDeweyID() {
+    return null;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+                      .add("nodeKey", nodeKey)
+                      .add("numberOfChunks", numberOfChunks)
+                      .add("numberOfElements", getNumberOfElements())
+                      .toString();
+  }
+}
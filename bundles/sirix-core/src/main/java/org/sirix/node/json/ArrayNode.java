@@ -37,6 +37,7 @@ import org.sirix.node.immutable.json.ImmutableArrayNode;
 import org.sirix.node.interfaces.Node;
 import org.sirix.node.interfaces.immutable.ImmutableJsonNode;
 import org.sirix.node.xml.AbstractStructForwardingNode;
+import org.sirix.settings.Fixed;
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Objects;
 
@@ -53,6 +54,9 @@ public final class ArrayNode extends AbstractStructForwardingNode implements Imm
 
   private BigInteger hash;
 
+  /** The node key of the {@link ArrayChunkDirectory} of the array, if it has one. */
+  private long chunkDirectoryKey = Fixed.NULL_NODE_KEY.getStandardProperty();
+
   /**
    * Constructor
    *
@@ -78,6 +82,19 @@ public final class ArrayNode extends AbstractStructForwardingNode implements Imm
     this.pathNodeKey = pathNodeKey;
   }
 
+  /**
+   * Constructor
+   *
+   * @param structDel         {@link StructNodeDelegate} to be set
+   * @param pathNodeKey       the path node key
+   * @param chunkDirectoryKey the node key of the {@link ArrayChunkDirectory} of the array
+   */
+  public ArrayNode(final BigInteger hashCode, final StructNodeDelegate structDel, final long pathNodeKey,
+      final long chunkDirectoryKey) {
+    this(hashCode, structDel, pathNodeKey);
+    this.chunkDirectoryKey = chunkDirectoryKey;
+  }
+
   @Override
   public NodeKind getKind() {
     return NodeKind.ARRAY;
@@ -115,7 +132,10 @@ public final class ArrayNode extends AbstractStructForwardingNode implements Imm
 
   @Override
   public String toString() {
-    return MoreObjects.toStringHelper(this).add("structDelegate", structNodeDel).toString();
+    return MoreObjects.toStringHelper(this)
+                      .add("structDelegate", structNodeDel)
+                      .add("chunkDirectoryKey", chunkDirectoryKey)
+                      .toString();
   }
 
   @Override
@@ -140,4 +160,31 @@ public final class ArrayNode extends AbstractStructForwardingNode implements Imm
   public long getPathNodeKey() {
     return pathNodeKey;
   }
+
+  /**
+   * Get the node key of the {@link ArrayChunkDirectory} of the array.
+   *
+   * @return the node key of the chunk directory, or {@code Fixed.NULL_NODE_KEY}, if the array has no chunk directory
+   */
+  public long getChunkDirectoryKey() {
+    return chunkDirectoryKey;
+  }
+
+  /**
+   * Set the node key of the {@link ArrayChunkDirectory} of the array.
+   *
+   * @param chunkDirectoryKey the node key of the chunk directory
+   */
+  public void setChunkDirectoryKey(final long chunkDirectoryKey) {
+    this.chunkDirectoryKey = chunkDirectoryKey;
+  }
+
+  /**
+   * Determines if the array has a {@link ArrayChunkDirectory}.
+   *
+   * @return {@code true}, if the array has a chunk directory, {@code false} otherwise
+   */
+  public boolean hasChunkDirectory() {
+    return chunkDirectoryKey != Fixed.NULL_NODE_KEY.getStandardProperty();
+  }
 }
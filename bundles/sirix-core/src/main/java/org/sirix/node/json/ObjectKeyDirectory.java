@@ -0,0 +1,148 @@
+package org.sirix.node.json;
+
+import com.google.common.base.MoreObjects;
+import org.sirix.node.NodeKind;
+import org.sirix.node.SirixDeweyID;
+import org.sirix.node.interfaces.DataRecord;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The key directory of an object node, which maps the hash codes of the names of the object keys to the node keys of
+ * the {@link ObjectKeyNode}s, such that an object key can be looked up by its name without scanning all children of
+ * the object. The directory is stored as a separate record, as it only has to be modified, once object keys are
+ * inserted, renamed or removed, and is thus versioned as any other record.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class ObjectKeyDirectory implements DataRecord {
+
+  /** Empty node keys. */
+  private static final long[] NO_NODE_KEYS = new long[0];
+
+  /** The node key of the directory. */
+  private final long nodeKey;
+
+  /** Mapping of the hash code of a name to the node keys of the object keys with a name of this hash code. */
+  private final Map<Integer, long[]> nodeKeysByNameHash;
+
+  /**
+   * Constructor for an empty directory.
+   *
+   * @param nodeKey the node key of the directory
+   */
+  public ObjectKeyDirectory(final long nodeKey) {
+    this(nodeKey, new HashMap<>());
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param nodeKey            the node key of the directory
+   * @param nodeKeysByNameHash the node keys of the object keys per hash code of their name
+   */
+  public ObjectKeyDirectory(final long nodeKey, final Map<Integer, long[]> nodeKeysByNameHash) {
+    this.nodeKey = nodeKey;
+    this.nodeKeysByNameHash = nodeKeysByNameHash;
+  }
+
+  /**
+   * Get the hash code of a name, which is used as the key of the directory.
+   *
+   * @param name the name of the object key
+   * @return the hash code
+   */
+  public static int hash(final String name) {
+    return name.hashCode();
+  }
+
+  /**
+   * Get the node keys of the object keys with a name of the given hash code, which have to be compared by their names.
+   *
+   * @param nameHash the hash code of the name
+   * @return the node keys, which must not be modified
+   */
+  public long[] getNodeKeys(final int nameHash) {
+    final long[] nodeKeys = nodeKeysByNameHash.get(nameHash);
+    return nodeKeys == null ? NO_NODE_KEYS : nodeKeys;
+  }
+
+  /**
+   * Add an object key.
+   *
+   * @param nameHash         the hash code of the name
+   * @param objectKeyNodeKey the node key of the object key
+   */
+  public void add(final int nameHash, final long objectKeyNodeKey) {
+    final long[] nodeKeys = nodeKeysByNameHash.get(nameHash);
+
+    if (nodeKeys == null) {
+      nodeKeysByNameHash.put(nameHash, new long[] { objectKeyNodeKey });
+    } else {
+      final long[] newNodeKeys = Arrays.copyOf(nodeKeys, nodeKeys.length + 1);
+      newNodeKeys[nodeKeys.length] = objectKeyNodeKey;
+      nodeKeysByNameHash.put(nameHash, newNodeKeys);
+    }
+  }
+
+  /**
+   * Remove an object key.
+   *
+   * @param nameHash         the hash code of the name
+   * @param objectKeyNodeKey the node key of the object key
+   */
+  public void remove(final int nameHash, final long objectKeyNodeKey) {
+    final long[] nodeKeys = nodeKeysByNameHash.get(nameHash);
+
+    if (nodeKeys == null) {
+      return;
+    }
+
+    final long[] newNodeKeys = Arrays.stream(nodeKeys).filter(key -> key != objectKeyNodeKey).toArray();
+
+    if (newNodeKeys.length == 0) {
+      nodeKeysByNameHash.remove(nameHash);
+    } else {
+      nodeKeysByNameHash.put(nameHash, newNodeKeys);
+    }
+  }
+
+  /**
+   * Get the mapping of the hash codes of the names to the node keys, for instance to serialize the directory.
+   *
+   * @return the mapping
+   */
+  public Map<Integer, long[]> getNodeKeysByNameHash() {
+    return nodeKeysByNameHash;
+  }
+
+  @Override
+  public NodeKind getKind() {
+    return NodeKind.OBJECT_KEY_DIRECTORY;
+  }
+
+  @Override
+  public long getNodeKey() {
+    return nodeKey;
+  }
+
+  @Override
+  public long getRevision() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public SirixDeweyID getDeweyID() {
+    return null;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+                      .add("nodeKey", nodeKey)
+                      .add("numberOfNames", nodeKeysByNameHash.size())
+                      .toString();
+  }
+}
@@ -37,6 +37,7 @@ import org.sirix.node.immutable.json.ImmutableObjectNode;
 import org.sirix.node.interfaces.Node;
 import org.sirix.node.interfaces.immutable.ImmutableJsonNode;
 import org.sirix.node.xml.AbstractStructForwardingNode;
+import org.sirix.settings.Fixed;
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Objects;
 
@@ -49,6 +50,9 @@ public final class ObjectNode extends AbstractStructForwardingNode implements Im
   private final StructNodeDelegate structNodeDel;
   private BigInteger hash;
 
+  /** The node key of the {@link ObjectKeyDirectory} of the object, if it has one. */
+  private long keyDirectoryKey = Fixed.NULL_NODE_KEY.getStandardProperty();
+
   /**
    * Constructor
    *
@@ -60,6 +64,17 @@ public final class ObjectNode extends AbstractStructForwardingNode implements Im
     structNodeDel = structDel;
   }
 
+  /**
+   * Constructor
+   *
+   * @param structDel       {@link StructNodeDelegate} to be set
+   * @param keyDirectoryKey the node key of the {@link ObjectKeyDirectory} of the object
+   */
+  public ObjectNode(final BigInteger hashCode, final StructNodeDelegate structDel, final long keyDirectoryKey) {
+    this(hashCode, structDel);
+    this.keyDirectoryKey = keyDirectoryKey;
+  }
+
   /**
    * Constructor
    *
@@ -97,6 +112,33 @@ public final class ObjectNode extends AbstractStructForwardingNode implements Im
     return hash;
   }
 
+  /**
+   * Get the node key of the {@link ObjectKeyDirectory} of the object.
+   *
+   * @return the node key of the key directory, or {@code Fixed.NULL_NODE_KEY}, if the object has no key directory
+   */
+  public long getKeyDirectoryKey() {
+    return keyDirectoryKey;
+  }
+
+  /**
+   * Set the node key of the {@link ObjectKeyDirectory} of the object.
+   *
+   * @param keyDirectoryKey the node key of the key directory
+   */
+  public void setKeyDirectoryKey(final long keyDirectoryKey) {
+    this.keyDirectoryKey = keyDirectoryKey;
+  }
+
+  /**
+   * Determines if the object has a {@link ObjectKeyDirectory}.
+   *
+   * @return {@code true}, if the object has a key directory, {@code false} otherwise
+   */
+  public boolean hasKeyDirectory() {
+    return keyDirectoryKey != Fixed.NULL_NODE_KEY.getStandardProperty();
+  }
+
   @Override
   public VisitResult acceptVisitor(final JsonNodeVisitor visitor) {
     return visitor.visit(ImmutableObjectNode.of(this));
@@ -114,7 +156,10 @@ public final class ObjectNode extends AbstractStructForwardingNode implements Im
 
   @Override
   public String toString() {
-    return MoreObjects.toStringHelper(this).add("structDelegate", structNodeDel).toString();
+    return MoreObjects.toStringHelper(this)
+                      .add("structDelegate", structNodeDel)
+                      .add("keyDirectoryKey", keyDirectoryKey)
+                      .toString();
   }
 
   @Override
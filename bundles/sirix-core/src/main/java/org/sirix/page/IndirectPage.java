@@ -91,6 +91,18 @@ public final class IndirectPage extends AbstractForwardingPage {
     return reference;
   }
 
+  /**
+   * Get the offsets of the stored references without creating new references.
+   *
+   * @return the offsets in the order of the references returned by {@link #getReferences()}
+   */
+  public int[] getOffsets() {
+    if (delegate instanceof ReferencesPage4) {
+      return ((ReferencesPage4) delegate).getOffsets().stream().mapToInt(Short::intValue).toArray();
+    }
+    return ((BitmapReferencesPage) delegate).getBitmap().stream().toArray();
+  }
+
   @Override
   public void serialize(DataOutput out, SerializationType type) throws IOException {
     if (delegate instanceof ReferencesPage4) {
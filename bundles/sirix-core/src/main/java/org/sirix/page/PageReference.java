@@ -71,6 +71,7 @@ public final class PageReference {
     key = reference.key;
     persistentLogKey = reference.persistentLogKey;
     length = reference.length;
+    hashInBytes = reference.hashInBytes;
   }
 
   /**
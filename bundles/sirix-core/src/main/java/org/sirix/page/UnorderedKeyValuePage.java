@@ -45,7 +45,6 @@ import java.util.*;
 import java.util.Map.Entry;
 import java.util.function.Consumer;
 
-import static java.util.stream.Collectors.toList;
 import static org.sirix.node.Utils.getVarLong;
 import static org.sirix.node.Utils.putVarLong;
 
@@ -64,9 +63,9 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
   private boolean addedReferences;
 
   /**
-   * References to overflow pages.
+   * References to overflow pages, which are shared with the clones of the page.
    */
-  private final Map<Long, PageReference> references;
+  private final OverflowReferences overflowReferences;
 
   /**
    * Key of record page. This is the base key of all contained nodes.
@@ -74,14 +73,25 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
   private final long recordPageKey;
 
   /**
-   * Records (must be a {@link LinkedHashMap} to provide consistent iteration order).
+   * Records, indexed by the offset of the record in the page.
    */
-  private final LinkedHashMap<Long, DataRecord> records;
+  private final DataRecord[] records;
 
   /**
-   * Slots which have to be serialized.
+   * Bitmap of the offsets, for which a record is stored (provides the iteration order).
    */
-  private final Map<Long, byte[]> slots;
+  private final BitSet recordsBitmap;
+
+  /**
+   * Slots which have to be serialized, indexed by the offset of the record in the page (lazily created, as they are
+   * only needed to serialize the page).
+   */
+  private byte[][] slots;
+
+  /**
+   * Bitmap of the offsets, for which a slot has to be serialized.
+   */
+  private BitSet slotsBitmap;
 
   /**
    * Dewey IDs which have to be serialized.
@@ -115,10 +125,12 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
 
   public UnorderedKeyValuePage(final PageReadOnlyTrx pageTrx, final UnorderedKeyValuePage pageToClone) {
     addedReferences = pageToClone.addedReferences;
-    references = pageToClone.references;
+    overflowReferences = pageToClone.overflowReferences;
     recordPageKey = pageToClone.recordPageKey;
     records = pageToClone.records;
+    recordsBitmap = pageToClone.recordsBitmap;
     slots = pageToClone.slots;
+    slotsBitmap = pageToClone.slotsBitmap;
     deweyIDs = pageToClone.deweyIDs;
     pageReadTrx = pageTrx;
     pageKind = pageToClone.pageKind;
@@ -144,10 +156,10 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
     assert recordPageKey >= 0 : "recordPageKey must not be negative!";
     assert pageReadTrx != null : "The page reading trx must not be null!";
 
-    references = new LinkedHashMap<>();
+    overflowReferences = new OverflowReferences(new BitSet(Constants.NDP_NODE_COUNT));
     this.recordPageKey = recordPageKey;
-    records = new LinkedHashMap<>();
-    slots = new LinkedHashMap<>();
+    records = new DataRecord[Constants.NDP_NODE_COUNT];
+    recordsBitmap = new BitSet(Constants.NDP_NODE_COUNT);
     this.pageReadTrx = pageReadTrx;
     this.pageKind = pageKind;
     resourceConfig = pageReadTrx.getResourceManager().getResourceConfig();
@@ -176,14 +188,14 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
     resourceConfig = pageReadTrx.getResourceManager().getResourceConfig();
     recordPersister = resourceConfig.recordPersister;
     this.pageReadTrx = pageReadTrx;
-    slots = new LinkedHashMap<>();
+    records = new DataRecord[Constants.NDP_NODE_COUNT];
+    recordsBitmap = new BitSet(Constants.NDP_NODE_COUNT);
 
     if (resourceConfig.areDeweyIDsStored && recordPersister instanceof NodePersistenter) {
       deweyIDs = new LinkedHashMap<>();
       final NodePersistenter persistenter = (NodePersistenter) recordPersister;
       final int deweyIDSize = in.readInt();
 
-      records = new LinkedHashMap<>(deweyIDSize);
       SirixDeweyID optionalDeweyId = null;
 
       for (int index = 0; index < deweyIDSize; index++) {
@@ -195,7 +207,6 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
       }
     } else {
       deweyIDs = Collections.emptyMap();
-      records = new LinkedHashMap<>();
     }
 
     final var entriesBitmap = SerializationType.deserializeBitSet(in);
@@ -212,19 +223,18 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
       in.readFully(data);
       final DataRecord record =
           recordPersister.deserialize(new DataInputStream(new ByteArrayInputStream(data)), key, null, this.pageReadTrx);
-      records.put(key, record);
+      putRecord(setBit, record);
     }
 
     final int overlongEntrySize = in.readInt();
-    references = new LinkedHashMap<>(overlongEntrySize);
+    overflowReferences = new OverflowReferences(overlongEntriesBitmap);
     setBit = -1;
     for (int index = 0; index < overlongEntrySize; index++) {
       setBit = overlongEntriesBitmap.nextSetBit(setBit + 1);
       assert setBit >= 0;
-      final long key = recordPageKey * Constants.NDP_NODE_COUNT + setBit;
       final PageReference reference = new PageReference();
       reference.setKey(in.readLong());
-      references.put(key, reference);
+      putReference(setBit, reference);
     }
     assert pageReadTrx != null : "pageReadTrx must not be null!";
     final int previousReferences = in.readByte();
@@ -248,7 +258,7 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
       in.readFully(data);
       final DataRecord record =
           recordPersister.deserialize(new DataInputStream(new ByteArrayInputStream(data)), key, deweyId, pageReadTrx);
-      records.put(key, record);
+      putRecord(recordPageOffset(key), record);
     } catch (final IOException e) {
       throw new SirixIOException(e);
     }
@@ -259,14 +269,44 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
     return recordPageKey;
   }
 
+  /**
+   * Get the offset of a record in the page, which is the index of its slot.
+   *
+   * @param key the record key
+   * @return the offset of the record
+   */
+  private static int recordPageOffset(final long key) {
+    return (int) (key - ((key >> Constants.NDP_NODE_COUNT_EXPONENT) << Constants.NDP_NODE_COUNT_EXPONENT));
+  }
+
+  private void putRecord(final int offset, final DataRecord record) {
+    records[offset] = record;
+    recordsBitmap.set(offset);
+  }
+
+  private void putReference(final int offset, final PageReference reference) {
+    overflowReferences.put(offset, reference);
+  }
+
   @Override
   public DataRecord getValue(final Long key) {
     assert key != null : "key must not be null!";
-    DataRecord record = records.get(key);
+    return getValue(key.longValue());
+  }
+
+  /**
+   * Get the record with the specified key, without boxing the key.
+   *
+   * @param key the record key
+   * @return the record with the given key, or {@code null} if not present
+   */
+  public DataRecord getValue(final long key) {
+    final int offset = recordPageOffset(key);
+    DataRecord record = records[offset];
     if (record == null) {
       byte[] data;
       try {
-        final PageReference reference = references.get(key);
+        final PageReference reference = overflowReferences.get(offset);
         if (reference != null && reference.getKey() != Constants.NULL_ID_LONG) {
           data = ((OverflowPage) pageReadTrx.getReader().read(reference, pageReadTrx)).getData();
         } else {
@@ -281,7 +321,7 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
       } catch (final IOException e) {
         return null;
       }
-      records.put(key, record);
+      putRecord(offset, record);
     }
     return record;
   }
@@ -290,7 +330,7 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
   public void setEntry(final Long key, @Nonnull final DataRecord value) {
     assert value != null : "record must not be null!";
     addedReferences = false;
-    records.put(key, value);
+    putRecord(recordPageOffset(key), value);
   }
 
   @Override
@@ -323,37 +363,25 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
       }
     }
 
-    final var entriesBitmap = new BitSet(Constants.NDP_NODE_COUNT);
-    final var entriesSortedByKey = slots.entrySet().stream().sorted(Entry.comparingByKey()).collect(toList());
-    for (final Entry<Long, byte[]> entry : entriesSortedByKey) {
-      final var pageOffset = pageReadTrx.recordPageOffset(entry.getKey());
-      entriesBitmap.set(pageOffset);
-    }
-    SerializationType.serializeBitSet(out, entriesBitmap);
-
-    final var overlongEntriesBitmap = new BitSet(Constants.NDP_NODE_COUNT);
-    final var overlongEntriesSortedByKey =
-        references.entrySet().stream().sorted(Entry.comparingByKey()).collect(toList());
-    for (final Map.Entry<Long, PageReference> entry : overlongEntriesSortedByKey) {
-      final var pageOffset = pageReadTrx.recordPageOffset(entry.getKey());
-      overlongEntriesBitmap.set(pageOffset);
-    }
-    SerializationType.serializeBitSet(out, overlongEntriesBitmap);
+    // The bitmaps are ordered by the offsets and thus by the record keys.
+    SerializationType.serializeBitSet(out, slotsBitmap);
+    SerializationType.serializeBitSet(out, overflowReferences.bitmap);
 
     // Write normal entries.
-    out.writeInt(entriesSortedByKey.size());
-    for (final var entry : entriesSortedByKey) {
-      final byte[] data = entry.getValue();
+    out.writeInt(slotsBitmap.cardinality());
+    for (int offset = slotsBitmap.nextSetBit(0); offset >= 0; offset = slotsBitmap.nextSetBit(offset + 1)) {
+      final byte[] data = slots[offset];
       final int length = data.length;
       out.writeInt(length);
       out.write(data);
     }
 
     // Write overlong entries.
-    out.writeInt(overlongEntriesSortedByKey.size());
-    for (final var entry : overlongEntriesSortedByKey) {
+    final BitSet referencesBitmap = overflowReferences.bitmap;
+    out.writeInt(referencesBitmap.cardinality());
+    for (int offset = referencesBitmap.nextSetBit(0); offset >= 0; offset = referencesBitmap.nextSetBit(offset + 1)) {
       // Write key in persistent storage.
-      out.writeLong(entry.getValue().getKey());
+      out.writeLong(overflowReferences.get(offset).getKey());
     }
 
     // Write previous reference if it has any reference.
@@ -363,6 +391,62 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
     out.writeByte(pageKind.getID());
   }
 
+  /**
+   * Serialize the page without its transaction and without modifying the page, such that a page, which is shared
+   * between transactions, can be serialized by any thread, even once the transaction, which has read the page, has
+   * been closed. Pages, which reference overflow pages or store DeweyIDs, can't be serialized this way, as this
+   * requires writing the overflow pages, respectively modifies the page.
+   *
+   * @param out            the output to write to
+   * @param resourceConfig the configuration of the resource, the page belongs to
+   * @return {@code true}, if the page has been serialized, {@code false}, if it can't be serialized without its
+   * transaction, in which case nothing has been written
+   * @throws IOException if an I/O error occurs
+   */
+  public boolean serializeDetached(final DataOutput out, final ResourceConfiguration resourceConfig)
+      throws IOException {
+    if (resourceConfig.areDeweyIDsStored || !overflowReferences.bitmap.isEmpty()) {
+      return false;
+    }
+
+    final BitSet entriesBitmap = (BitSet) recordsBitmap.clone();
+    final List<byte[]> entries = new ArrayList<>(entriesBitmap.cardinality());
+    for (int offset = entriesBitmap.nextSetBit(0); offset >= 0; offset = entriesBitmap.nextSetBit(offset + 1)) {
+      final byte[] data;
+      try (final var output = new ByteArrayOutputStream(); final var dataOutput = new DataOutputStream(output)) {
+        resourceConfig.recordPersister.serialize(dataOutput, records[offset], resourceConfig);
+        data = output.toByteArray();
+      }
+
+      if (data.length > PageConstants.MAX_RECORD_SIZE) {
+        // The record has to be stored in an overflow page.
+        return false;
+      }
+
+      entries.add(data);
+    }
+
+    putVarLong(out, recordPageKey);
+    out.writeInt(revision);
+    SerializationType.serializeBitSet(out, entriesBitmap);
+    SerializationType.serializeBitSet(out, new BitSet());
+
+    out.writeInt(entries.size());
+    for (final byte[] data : entries) {
+      out.writeInt(data.length);
+      out.write(data);
+    }
+
+    // No overlong entries.
+    out.writeInt(0);
+
+    out.writeByte(previousPageRefKeys.size());
+    previousPageRefKeys.forEach(writePageFragmentKey(out));
+
+    out.writeByte(pageKind.getID());
+    return true;
+  }
+
   private Consumer<PageFragmentKey> writePageFragmentKey(DataOutput out) {
     return pageFragmentKey -> {
       try {
@@ -377,41 +461,43 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
   private void serializeDeweyRecord(SirixDeweyID id, DataOutput out) throws IOException {
     final long recordKey = deweyIDs.get(id);
     putVarLong(out, recordKey);
-    final byte[] data = slots.get(recordKey);
+    final int offset = recordPageOffset(recordKey);
+    final byte[] data = slots[offset];
     final int length = data.length;
     out.writeInt(length);
     out.write(data);
-    slots.remove(recordKey);
+    slots[offset] = null;
+    slotsBitmap.clear(offset);
   }
 
   @Override
   public String toString() {
     final MoreObjects.ToStringHelper helper = MoreObjects.toStringHelper(this).add("pagekey", recordPageKey);
-    for (final DataRecord record : records.values()) {
+    for (final DataRecord record : values()) {
       helper.add("record", record);
     }
-    for (final PageReference reference : references.values()) {
-      helper.add("reference", reference);
+    for (final Entry<Long, PageReference> reference : referenceEntrySet()) {
+      helper.add("reference", reference.getValue());
     }
     return helper.toString();
   }
 
   @Override
   public Set<Entry<Long, DataRecord>> entrySet() {
-    return records.entrySet();
+    return new SlotEntrySet<>(records, recordsBitmap);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(recordPageKey, records, references);
+    return Objects.hashCode(recordPageKey, Arrays.hashCode(records), overflowReferences.bitmap);
   }
 
   @Override
   public boolean equals(final @Nullable Object obj) {
     if (obj instanceof UnorderedKeyValuePage) {
       final UnorderedKeyValuePage other = (UnorderedKeyValuePage) obj;
-      return recordPageKey == other.recordPageKey && Objects.equal(records, other.records) && Objects.equal(references,
-                                                                                                            other.references);
+      return recordPageKey == other.recordPageKey && Arrays.equals(records, other.records)
+          && referenceEntrySet().equals(other.referenceEntrySet());
     }
     return false;
   }
@@ -432,7 +518,9 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
       }
     }
 
-    for (final PageReference reference : references.values()) {
+    final BitSet referencesBitmap = overflowReferences.bitmap;
+    for (int offset = referencesBitmap.nextSetBit(0); offset >= 0; offset = referencesBitmap.nextSetBit(offset + 1)) {
+      final PageReference reference = overflowReferences.get(offset);
       if (!(reference.getPage() == null && reference.getKey() == Constants.NULL_ID_LONG
           && reference.getLogKey() == Constants.NULL_ID_LONG)) {
         pageWriteTrx.commit(reference);
@@ -440,15 +528,45 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
     }
   }
 
+  /**
+   * Determines if records of this page are stored in overflow pages, which haven't been written yet. In this case
+   * the page can't be serialized before the overflow pages have been committed, as the keys of the overflow pages
+   * are part of the serialized page.
+   *
+   * @return {@code true}, if overflow pages have to be written first, {@code false} otherwise
+   */
+  public boolean hasUnwrittenOverflowPages() {
+    if (!addedReferences) {
+      try {
+        addReferences();
+      } catch (final IOException e) {
+        throw new SirixIOException(e);
+      }
+    }
+
+    final BitSet referencesBitmap = overflowReferences.bitmap;
+    for (int offset = referencesBitmap.nextSetBit(0); offset >= 0; offset = referencesBitmap.nextSetBit(offset + 1)) {
+      if (overflowReferences.get(offset).getKey() == Constants.NULL_ID_LONG) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   // Add references to OverflowPages.
   private void addReferences() throws IOException {
     final var storeDeweyIDs = pageReadTrx.getResourceManager().getResourceConfig().areDeweyIDsStored;
 
+    if (slots == null) {
+      slots = new byte[Constants.NDP_NODE_COUNT][];
+      slotsBitmap = new BitSet(Constants.NDP_NODE_COUNT);
+    }
+
     final var entries = sort();
-    for (final var entry : entries) {
-      final var record = entry.getValue();
+    for (final var record : entries) {
       final var recordID = record.getNodeKey();
-      if (slots.get(recordID) == null) {
+      final var offset = recordPageOffset(recordID);
+      if (slots[offset] == null) {
         // Must be either a normal record or one which requires an
         // Overflow page.
         final byte[] data;
@@ -460,13 +578,14 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
         if (data.length > PageConstants.MAX_RECORD_SIZE) {
           final var reference = new PageReference();
           reference.setPage(new OverflowPage(data));
-          references.put(recordID, reference);
+          putReference(offset, reference);
         } else {
           if (storeDeweyIDs && recordPersister instanceof NodePersistenter && record.getDeweyID() != null
               && record.getNodeKey() != 0) {
             deweyIDs.put(record.getDeweyID(), record.getNodeKey());
           }
-          slots.put(recordID, data);
+          slots[offset] = data;
+          slotsBitmap.set(offset);
         }
       }
     }
@@ -474,15 +593,15 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
     addedReferences = true;
   }
 
-  private List<Entry<Long, DataRecord>> sort() {
+  private List<DataRecord> sort() {
     // Sort entries which have deweyIDs according to their byte-length.
-    final List<Map.Entry<Long, DataRecord>> entries = new ArrayList<>(records.entrySet());
+    final List<DataRecord> entries = new ArrayList<>(values());
     final boolean storeDeweyIDs = pageReadTrx.getResourceManager().getResourceConfig().areDeweyIDsStored;
     if (storeDeweyIDs && recordPersister instanceof NodePersistenter) {
       entries.sort((a, b) -> {
-        if (a.getValue() instanceof ImmutableNode && b.getValue() instanceof ImmutableNode) {
-          final SirixDeweyID first = a.getValue().getDeweyID();
-          final SirixDeweyID second = b.getValue().getDeweyID();
+        if (a instanceof ImmutableNode && b instanceof ImmutableNode) {
+          final SirixDeweyID first = a.getDeweyID();
+          final SirixDeweyID second = b.getDeweyID();
 
           // Document node has no DeweyID.
           if (first == null && second != null)
@@ -506,7 +625,7 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
 
   @Override
   public Collection<DataRecord> values() {
-    return records.values();
+    return new SlotEntrySet<>(records, recordsBitmap).values();
   }
 
   @Override
@@ -539,24 +658,50 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
 
   @Override
   public int size() {
-    return records.size() + references.size();
+    return recordsBitmap.cardinality() + overflowReferences.bitmap.cardinality();
+  }
+
+  /**
+   * Get the number of arrays with one element per offset of a record, which have been allocated for the page (the
+   * records, and if needed the references to overflow pages and the slots, which have to be serialized).
+   *
+   * @return the number of allocated arrays
+   */
+  public int getNumberOfOffsetArrays() {
+    return 1 + (overflowReferences.references == null ? 0 : 1) + (slots == null ? 0 : 1);
+  }
+
+  /**
+   * Get the number of bytes of the serialized records, which are kept in the slots until the page is serialized.
+   *
+   * @return the number of bytes of the slots
+   */
+  public long getSlotBytes() {
+    if (slotsBitmap == null) {
+      return 0;
+    }
+    long slotBytes = 0;
+    for (int offset = slotsBitmap.nextSetBit(0); offset >= 0; offset = slotsBitmap.nextSetBit(offset + 1)) {
+      slotBytes += slots[offset].length;
+    }
+    return slotBytes;
   }
 
   @Override
   public void setPageReference(final Long key, @Nonnull final PageReference reference) {
     assert key != null;
-    references.put(key, reference);
+    putReference(recordPageOffset(key), reference);
   }
 
   @Override
   public Set<Entry<Long, PageReference>> referenceEntrySet() {
-    return references.entrySet();
+    return new SlotEntrySet<>(overflowReferences.references, overflowReferences.bitmap);
   }
 
   @Override
   public PageReference getPageReference(final Long key) {
     assert key != null;
-    return references.get(key);
+    return overflowReferences.get(recordPageOffset(key));
   }
 
   @Override
@@ -569,4 +714,124 @@ public final class UnorderedKeyValuePage implements KeyValuePage<Long, DataRecor
     return revision;
   }
 
-}
\ No newline at end of file
+  /**
+   * View of the occupied slots of an array as entries, which are keyed by the record keys.
+   *
+   * @param <V> the type of the values
+   */
+  private final class SlotEntrySet<V> extends AbstractSet<Entry<Long, V>> {
+    private final V[] slotValues;
+
+    private final BitSet bitmap;
+
+    private SlotEntrySet(final V[] slotValues, final BitSet bitmap) {
+      this.slotValues = slotValues;
+      this.bitmap = bitmap;
+    }
+
+    @Override
+    public Iterator<Entry<Long, V>> iterator() {
+      return new Iterator<>() {
+        private int offset = bitmap.nextSetBit(0);
+
+        private int lastOffset = -1;
+
+        @Override
+        public boolean hasNext() {
+          return offset >= 0;
+        }
+
+        @Override
+        public Entry<Long, V> next() {
+          if (offset < 0) {
+            throw new NoSuchElementException();
+          }
+          lastOffset = offset;
+          offset = bitmap.nextSetBit(offset + 1);
+          return new AbstractMap.SimpleImmutableEntry<>(recordPageKey * Constants.NDP_NODE_COUNT + lastOffset,
+                                                        slotValues[lastOffset]);
+        }
+
+        @Override
+        public void remove() {
+          if (lastOffset < 0) {
+            throw new IllegalStateException();
+          }
+          slotValues[lastOffset] = null;
+          bitmap.clear(lastOffset);
+          lastOffset = -1;
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return bitmap.cardinality();
+    }
+
+    private Collection<V> values() {
+      return new AbstractCollection<>() {
+        @Override
+        public Iterator<V> iterator() {
+          return new Iterator<>() {
+            private int offset = bitmap.nextSetBit(0);
+
+            @Override
+            public boolean hasNext() {
+              return offset >= 0;
+            }
+
+            @Override
+            public V next() {
+              if (offset < 0) {
+                throw new NoSuchElementException();
+              }
+              final V value = slotValues[offset];
+              offset = bitmap.nextSetBit(offset + 1);
+              return value;
+            }
+          };
+        }
+
+        @Override
+        public int size() {
+          return bitmap.cardinality();
+        }
+      };
+    }
+  }
+
+  /**
+   * References to overflow pages and the bitmap of their offsets. A page and its clones share an instance, such that
+   * a reference, which is added to one of them, is visible in the others, even if the array of the references is
+   * created after the page has been cloned.
+   */
+  private static final class OverflowReferences {
+    /**
+     * References to overflow pages, indexed by the offset of the record in the page (lazily created, as most pages
+     * don't store records in overflow pages).
+     */
+    private PageReference[] references;
+
+    /**
+     * Bitmap of the offsets, for which a reference to an overflow page is stored.
+     */
+    private final BitSet bitmap;
+
+    private OverflowReferences(final BitSet bitmap) {
+      this.bitmap = bitmap;
+    }
+
+    private PageReference get(final int offset) {
+      return references == null ? null : references[offset];
+    }
+
+    private void put(final int offset, final PageReference reference) {
+      if (references == null) {
+        references = new PageReference[Constants.NDP_NODE_COUNT];
+      }
+      references[offset] = reference;
+      bitmap.set(offset);
+    }
+  }
+}
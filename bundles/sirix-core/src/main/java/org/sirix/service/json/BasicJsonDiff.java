@@ -19,11 +19,28 @@ public final class BasicJsonDiff implements DiffObserver, JsonDiff {
 
   private final List<DiffTuple> diffs;
 
+  /**
+   * Determines if the diff of whole revisions only compares the nodes of record pages, which aren't shared between
+   * the revisions.
+   */
+  private final boolean usePageReferences;
+
   /**
    * Constructor.
    */
   public BasicJsonDiff() {
+    this(false);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param usePageReferences {@code true}, if the diff of whole revisions should skip the record pages, which are
+   *                          shared between the revisions, {@code false} if the node trees are traversed
+   */
+  public BasicJsonDiff(final boolean usePageReferences) {
     this.diffs = new ArrayList<>();
+    this.usePageReferences = usePageReferences;
   }
 
   /**
@@ -52,17 +69,40 @@ public final class BasicJsonDiff implements DiffObserver, JsonDiff {
   @Override
   public String generateDiff(JsonResourceManager resourceManager, int oldRevisionNumber, int newRevisionNumber,
       long startNodeKey, long maxDepth) {
+    final var out = new StringBuilder();
+    generateDiff(resourceManager, oldRevisionNumber, newRevisionNumber, startNodeKey, maxDepth, out);
+    return out.toString();
+  }
+
+  /**
+   * Diff two revisions and append the JSON describing the differences to the given output.
+   *
+   * @param resourceManager   the resource manager to use
+   * @param oldRevisionNumber the revision number of the older revision
+   * @param newRevisionNumber the revision number of the newer revision
+   * @param startNodeKey      the start node key
+   * @param maxDepth          the maximum depth
+   * @param out               the output to append the differences to
+   */
+  public void generateDiff(JsonResourceManager resourceManager, int oldRevisionNumber, int newRevisionNumber,
+      long startNodeKey, long maxDepth, Appendable out) {
     diffs.clear();
 
-    DiffFactory.invokeJsonDiff(new DiffFactory.Builder<>(resourceManager, newRevisionNumber, oldRevisionNumber,
-        resourceManager.getResourceConfig().hashType == HashType.NONE
-            ? DiffFactory.DiffOptimized.NO
-            : DiffFactory.DiffOptimized.HASHED, ImmutableSet.of(this)).skipSubtrees(true)
-                                                                      .newStartKey(startNodeKey)
-                                                                      .oldStartKey(startNodeKey)
-                                                                      .oldMaxDepth(maxDepth));
+    if (usePageReferences && startNodeKey == 0 && (maxDepth == 0 || maxDepth == Long.MAX_VALUE)) {
+      DiffFactory.invokePageReferenceDiff(
+          new DiffFactory.Builder<>(resourceManager, newRevisionNumber, oldRevisionNumber, DiffFactory.DiffOptimized.NO,
+              ImmutableSet.of(this)).skipSubtrees(true));
+    } else {
+      DiffFactory.invokeJsonDiff(new DiffFactory.Builder<>(resourceManager, newRevisionNumber, oldRevisionNumber,
+          resourceManager.getResourceConfig().hashType == HashType.NONE
+              ? DiffFactory.DiffOptimized.NO
+              : DiffFactory.DiffOptimized.HASHED, ImmutableSet.of(this)).skipSubtrees(true)
+                                                                        .newStartKey(startNodeKey)
+                                                                        .oldStartKey(startNodeKey)
+                                                                        .oldMaxDepth(maxDepth));
+    }
 
-    return new JsonDiffSerializer(resourceManager, oldRevisionNumber, newRevisionNumber, diffs).serialize(true);
+    new JsonDiffSerializer(resourceManager, oldRevisionNumber, newRevisionNumber, diffs).serialize(true, out);
   }
 
   @Override
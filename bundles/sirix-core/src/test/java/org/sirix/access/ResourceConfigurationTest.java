@@ -0,0 +1,87 @@
+package org.sirix.access;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.JsonTestHelper.PATHS;
+import org.sirix.access.trx.node.HashType;
+import org.sirix.access.trx.node.HashWidth;
+import org.sirix.api.json.JsonResourceManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the persistence of {@link ResourceConfiguration}s.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class ResourceConfigurationTest {
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+    JsonTestHelper.deleteEverything();
+  }
+
+  @Test
+  public void testHashWidthIsStored() {
+    createResource(HashType.ROLLING, HashWidth.BITS_64);
+
+    try (final JsonResourceManager manager = openResourceManager()) {
+      assertEquals(HashWidth.BITS_64, manager.getResourceConfig().hashWidth);
+    }
+  }
+
+  @Test
+  public void testHashedResourceWithoutHashWidthIsOpened() throws IOException {
+    final Path configFile = createResource(HashType.ROLLING);
+    removeHashWidth(configFile);
+
+    try (final JsonResourceManager manager = openResourceManager()) {
+      assertEquals(HashWidth.BITS_128, manager.getResourceConfig().hashWidth);
+    }
+  }
+
+  private static Path createResource(final HashType hashType) {
+    return createResource(hashType, HashWidth.BITS_128);
+  }
+
+  private static Path createResource(final HashType hashType, final HashWidth hashWidth) {
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    database.createResource(
+        ResourceConfiguration.newBuilder(JsonTestHelper.RESOURCE).hashKind(hashType).hashWidth(hashWidth).build());
+
+    final Path configFile;
+    try (final JsonResourceManager manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      configFile = manager.getResourceConfig().getConfigFile();
+    }
+
+    JsonTestHelper.closeEverything();
+    return configFile;
+  }
+
+  private static JsonResourceManager openResourceManager() {
+    return JsonTestHelper.getDatabase(PATHS.PATH1.getFile()).openResourceManager(JsonTestHelper.RESOURCE);
+  }
+
+  /**
+   * Simulate a resource, which has been created before the hash width has been configurable.
+   */
+  private static void removeHashWidth(final Path configFile) throws IOException {
+    final String config = Files.readString(configFile);
+    final String hashWidth = ",\"hashWidth\":\"" + HashWidth.BITS_128 + "\"";
+    assertTrue(config.contains(hashWidth));
+    Files.writeString(configFile, config.replace(hashWidth, ""));
+  }
+}
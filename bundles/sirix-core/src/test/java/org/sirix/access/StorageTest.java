@@ -30,13 +30,17 @@ import org.sirix.io.Writer;
 import org.sirix.io.bytepipe.ByteHandler;
 import org.sirix.io.file.FileStorage;
 import org.sirix.io.ram.RAMStorage;
+import org.sirix.page.PagePersister;
 import org.sirix.page.PageReference;
+import org.sirix.page.SerializationType;
 import org.sirix.page.UberPage;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 
@@ -121,6 +125,36 @@ public final class StorageTest {
     }
   }
 
+  @Test(dataProvider = "instantiateStorages")
+  public void testReadSerializedPage(final Class<IOStorage> clazz, final IOStorage[] storages)
+      throws SirixException, IOException {
+    for (final IOStorage handler : storages) {
+      try {
+        final PageReference pageRef = new PageReference();
+        pageRef.setPage(new UberPage());
+
+        try (final Writer writer = handler.createWriter()) {
+          writer.writeUberPageReference(pageRef);
+        }
+
+        try (final Reader reader = handler.createReader()) {
+          final byte[] serializedPage = reader.readSerializedPage(pageRef);
+
+          if (handler instanceof RAMStorage) {
+            assertNull("Check for " + handler.getClass() + " failed.", serializedPage);
+          } else {
+            final UberPage page = (UberPage) new PagePersister().deserializePage(
+                new DataInputStream(new ByteArrayInputStream(serializedPage)), null, SerializationType.DATA);
+            assertEquals("Check for " + handler.getClass() + " failed.",
+                ((UberPage) pageRef.getPage()).getRevisionCount(), page.getRevisionCount());
+          }
+        }
+      } finally {
+        handler.close();
+      }
+    }
+  }
+
   /**
    * Providing different implementations of the {@link ByteHandler} as Dataprovider to the test class.
    *
@@ -133,6 +167,7 @@ public final class StorageTest {
         { IOStorage.class,
             new IOStorage[]{
                 new FileStorage(mResourceConfig.setDatabaseConfiguration(dbConfig)),
+                new FileStorage(mResourceConfig.setDatabaseConfiguration(dbConfig), true),
                 new RAMStorage(mResourceConfig.setDatabaseConfiguration(dbConfig)),
             }
         }
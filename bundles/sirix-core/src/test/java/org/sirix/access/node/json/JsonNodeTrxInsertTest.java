@@ -5,14 +5,20 @@ import org.junit.Before;
 import org.junit.Test;
 import org.sirix.JsonTestHelper;
 import org.sirix.JsonTestHelper.PATHS;
+import org.sirix.access.ResourceConfiguration;
 import org.sirix.service.json.serialize.JsonSerializer;
 import org.sirix.service.json.shredder.JsonShredder;
 
 import java.io.IOException;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 public final class JsonNodeTrxInsertTest {
@@ -42,6 +48,44 @@ public final class JsonNodeTrxInsertTest {
     }
   }
 
+  @Test
+  public void testInsertIntoArrayWithChunkDirectory() {
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    database.createResource(ResourceConfiguration.newBuilder("chunkdirectory").storeArrayChunkDirectories(true).build());
+
+    final List<Integer> expected = IntStream.range(0, 1000).boxed().collect(Collectors.toCollection(ArrayList::new));
+
+    try (final var manager = database.openResourceManager("chunkdirectory");
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(expected.toString()));
+      wtx.moveTo(1);
+      wtx.insertNumberValueAsFirstChild(-1);
+      expected.add(0, -1);
+      wtx.moveTo(1);
+      assertTrue(wtx.moveToChild(300).hasMoved());
+      for (int i = 0; i < 300; i++) {
+        wtx.insertNumberValueAsRightSibling(-2);
+        expected.add(301 + i, -2);
+      }
+      wtx.moveTo(1);
+      assertTrue(wtx.moveToChild(700).hasMoved());
+      wtx.remove();
+      expected.remove(700);
+      wtx.commit();
+
+      try (final var rtx = manager.beginNodeReadOnlyTrx()) {
+        for (int i = 0; i < expected.size(); i++) {
+          rtx.moveTo(1);
+          assertTrue(rtx.moveToChild(i).hasMoved());
+          assertEquals(expected.get(i).intValue(), rtx.getNumberValue().intValue());
+        }
+        rtx.moveTo(1);
+        assertFalse(rtx.moveToChild(expected.size()).hasMoved());
+        assertEquals(1, rtx.getNodeKey());
+      }
+    }
+  }
+
   @Test
   public void testInsertSubtreeArrayAsRightSibling() throws IOException {
     try (final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
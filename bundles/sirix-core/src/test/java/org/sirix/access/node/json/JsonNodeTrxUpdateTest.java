@@ -82,6 +82,42 @@ public class JsonNodeTrxUpdateTest {
     assertEquals(new QNm("foobar"), rtx.getName());
   }
 
+  @Test
+  public void testUpdateObjectRecordNameWithKeyDirectory() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    database.createResource(ResourceConfiguration.newBuilder("keydirectory").storeObjectKeyDirectories(true).build());
+
+    try (final var manager = database.openResourceManager("keydirectory");
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader("{\"foo\":1,\"bar\":{\"baz\":true},\"qux\":null}"));
+      wtx.moveTo(1);
+      assertTrue(wtx.moveToObjectKey("bar").hasMoved());
+      wtx.setObjectKeyName("foobar");
+      wtx.moveTo(1);
+      assertTrue(wtx.moveToObjectKey("qux").hasMoved());
+      wtx.remove();
+      wtx.commit();
+
+      try (final var rtx = manager.beginNodeReadOnlyTrx(1)) {
+        rtx.moveTo(1);
+        assertTrue(rtx.moveToObjectKey("bar").hasMoved());
+        assertEquals(new QNm("bar"), rtx.getName());
+      }
+
+      try (final var rtx = manager.beginNodeReadOnlyTrx()) {
+        rtx.moveTo(1);
+        assertFalse(rtx.moveToObjectKey("bar").hasMoved());
+        assertEquals(1, rtx.getNodeKey());
+        assertFalse(rtx.moveToObjectKey("qux").hasMoved());
+        assertTrue(rtx.moveToObjectKey("foo").hasMoved());
+        rtx.moveTo(1);
+        assertTrue(rtx.moveToObjectKey("foobar").hasMoved());
+        assertTrue(rtx.moveToFirstChild().trx().moveToObjectKey("baz").hasMoved());
+        assertTrue(rtx.moveToFirstChild().trx().getBooleanValue());
+      }
+    }
+  }
+
   @Test
   public void testUpdateStringValue() {
     JsonTestHelper.createTestDocument();
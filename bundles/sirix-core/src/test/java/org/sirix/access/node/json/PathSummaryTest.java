@@ -5,6 +5,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.sirix.JsonTestHelper;
+import org.sirix.access.trx.node.json.objectvalue.StringValue;
 import org.sirix.api.Axis;
 import org.sirix.axis.DescendantAxis;
 import org.sirix.index.path.summary.PathSummaryReader;
@@ -44,6 +45,45 @@ public class PathSummaryTest {
     }
   }
 
+  @Test
+  public void testPathSummariesOfRevisionShareMappings() {
+    try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+        final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+        final var firstPathSummary = manager.openPathSummary();
+        final var secondPathSummary = manager.openPathSummary()) {
+      assertSame(firstPathSummary.share(), secondPathSummary.share());
+
+      testInsertHelper(secondPathSummary);
+    }
+  }
+
+  @Test
+  public void testSharedMappingsAreNotModifiedByWriteTrx() {
+    try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+        final var manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      final int revision = manager.getMostRecentRevisionNumber();
+
+      try (final var pathSummary = manager.openPathSummary(revision)) {
+        assertEquals(0, pathSummary.match(new QNm("newKey"), 0).cardinality());
+      }
+
+      try (final var wtx = manager.beginNodeTrx()) {
+        wtx.moveToFirstChild();
+        wtx.insertObjectRecordAsFirstChild("newKey", new StringValue("value"));
+        wtx.commit();
+      }
+
+      try (final var pathSummary = manager.openPathSummary(revision)) {
+        assertEquals(0, pathSummary.match(new QNm("newKey"), 0).cardinality());
+        testInsertHelper(pathSummary);
+      }
+
+      try (final var pathSummary = manager.openPathSummary()) {
+        assertEquals(1, pathSummary.match(new QNm("newKey"), 0).cardinality());
+      }
+    }
+  }
+
   private void testInsertHelper(final PathSummaryReader summaryReader) {
     final var axis = new DescendantAxis(summaryReader);
     PathSummaryReader summary = next(axis);
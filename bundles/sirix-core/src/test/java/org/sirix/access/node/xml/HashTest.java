@@ -32,6 +32,7 @@ import org.junit.Test;
 import org.sirix.XmlTestHelper;
 import org.sirix.access.ResourceConfiguration;
 import org.sirix.access.trx.node.HashType;
+import org.sirix.access.trx.node.HashWidth;
 import org.sirix.api.xml.XmlNodeTrx;
 import org.sirix.api.xml.XmlResourceManager;
 import org.sirix.exception.SirixException;
@@ -82,6 +83,24 @@ public class HashTest {
     testSetter(wtx);
   }
 
+  @Test
+  public void testRollingInsertRemoveWithLongHashes() throws SirixException {
+    final XmlNodeTrx wtx = createWtx(HashType.ROLLING, HashWidth.BITS_64);
+    testHashTreeWithInsertAndRemove(wtx);
+  }
+
+  @Test
+  public void testRollingDeepWithLongHashes() throws SirixException {
+    final XmlNodeTrx wtx = createWtx(HashType.ROLLING, HashWidth.BITS_64);
+    testDeepTree(wtx);
+  }
+
+  @Test
+  public void testRollingSetterWithLongHashes() throws SirixException {
+    final XmlNodeTrx wtx = createWtx(HashType.ROLLING, HashWidth.BITS_64);
+    testSetter(wtx);
+  }
+
   /**
    * Inserting nodes and removing them.
    *
@@ -215,8 +234,12 @@ public class HashTest {
   }
 
   private XmlNodeTrx createWtx(final HashType kind) throws SirixException {
+    return createWtx(kind, HashWidth.BITS_128);
+  }
+
+  private XmlNodeTrx createWtx(final HashType kind, final HashWidth width) throws SirixException {
     final var database = XmlTestHelper.getDatabase(XmlTestHelper.PATHS.PATH1.getFile());
-    database.createResource(new ResourceConfiguration.Builder(XmlTestHelper.RESOURCE).build());
+    database.createResource(new ResourceConfiguration.Builder(XmlTestHelper.RESOURCE).hashWidth(width).build());
     final XmlResourceManager manager = database.openResourceManager(XmlTestHelper.RESOURCE);
     final XmlNodeTrx wTrx = manager.beginNodeTrx();
     return wTrx;
@@ -0,0 +1,80 @@
+package org.sirix.access.trx.node;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+
+public final class NodeHistoryTest {
+
+  private Path file;
+
+  @Before
+  public void setUp() throws IOException {
+    file = Files.createTempDirectory("sirix").resolve("sirix.history");
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+    Files.deleteIfExists(file.getParent());
+  }
+
+  @Test
+  public void testGetRevisions() {
+    final NodeHistory history = new NodeHistory(file);
+    history.append(0, 0, new long[] { 0 });
+    history.append(1, 0, new long[] { 3, 0, 1, 2 });
+    history.append(2, 1, new long[] { 2 });
+    history.append(3, 2, new long[] { 0, 1 });
+
+    assertArrayEquals(new int[] { 0, 1, 3 }, history.getRevisions(0, 3).orElseThrow());
+    assertArrayEquals(new int[] { 1, 2 }, history.getRevisions(2, 3).orElseThrow());
+    assertArrayEquals(new int[] { 1 }, history.getRevisions(3, 3).orElseThrow());
+    assertArrayEquals(new int[] { 1 }, history.getRevisions(2, 1).orElseThrow());
+    assertArrayEquals(new int[] {}, history.getRevisions(4, 3).orElseThrow());
+
+    // Read the history from the file.
+    assertArrayEquals(new int[] { 1, 2 }, new NodeHistory(file).getRevisions(2, 3).orElseThrow());
+  }
+
+  @Test
+  public void testRevertedRevision() {
+    final NodeHistory history = new NodeHistory(file);
+    history.append(0, 0, new long[] { 0 });
+    history.append(1, 0, new long[] { 0, 1 });
+    history.append(2, 1, new long[] { 1, 2 });
+    // Revision 3 reverts to revision 1.
+    history.append(3, 1, new long[] {});
+
+    assertArrayEquals(new int[] { 1, 2, 3 }, history.getRevisions(1, 3).orElseThrow());
+    assertArrayEquals(new int[] { 2, 3 }, history.getRevisions(2, 3).orElseThrow());
+    assertArrayEquals(new int[] { 0, 1 }, history.getRevisions(0, 3).orElseThrow());
+  }
+
+  @Test
+  public void testReplaceRevision() {
+    final NodeHistory history = new NodeHistory(file);
+    history.append(0, 0, new long[] { 0 });
+    history.append(1, 0, new long[] { 1 });
+    history.append(1, 0, new long[] { 2 });
+
+    assertArrayEquals(new int[] {}, history.getRevisions(1, 1).orElseThrow());
+    assertArrayEquals(new int[] { 1 }, new NodeHistory(file).getRevisions(2, 1).orElseThrow());
+  }
+
+  @Test
+  public void testIncompleteHistory() {
+    final NodeHistory history = new NodeHistory(file);
+    history.append(2, 1, new long[] { 1 });
+
+    assertFalse(history.getRevisions(1, 2).isPresent());
+    assertFalse(new NodeHistory(file).getRevisions(1, 2).isPresent());
+  }
+}
@@ -0,0 +1,189 @@
+package org.sirix.access.trx.node.json;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.JsonTestHelper.PATHS;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.access.trx.node.HashType;
+import org.sirix.access.trx.node.HashWidth;
+import org.sirix.api.Axis;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.api.json.JsonNodeTrx;
+import org.sirix.api.json.JsonResourceManager;
+import org.sirix.axis.DescendantAxis;
+import org.sirix.axis.IncludeSelf;
+import org.sirix.service.json.shredder.JsonShredder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test that the hashes and descendant counts of bulk inserted subtrees, which are computed in parallel, equal the ones
+ * computed in a single postorder traversal.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class JsonNodeHashingTest {
+
+  /** Number of elements of the array, whose subtree is larger than the subtrees hashed by a single task. */
+  private static final int LARGE_ARRAY_SIZE = 5_000;
+
+  /** Maximum number of nodes of a batch, such that the subtree of a single child exceeds it. */
+  private static final int MAX_BATCH_SIZE = 1_000;
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+    JsonTestHelper.deleteEverything();
+  }
+
+  @Test
+  public void testRollingHashesInParallel() {
+    testHashesInParallel(HashType.ROLLING, HashWidth.BITS_128);
+  }
+
+  @Test
+  public void testPostorderHashesInParallel() {
+    testHashesInParallel(HashType.POSTORDER, HashWidth.BITS_128);
+  }
+
+  @Test
+  public void testRollingLongHashesInParallel() {
+    testHashesInParallel(HashType.ROLLING, HashWidth.BITS_64);
+  }
+
+  @Test
+  public void testPostorderLongHashesInParallel() {
+    testHashesInParallel(HashType.POSTORDER, HashWidth.BITS_64);
+  }
+
+  @Test
+  public void testRollingHashesOfHugeChildInParallel() {
+    testHashesInParallel(HashType.ROLLING, HashWidth.BITS_128, createDocumentWithHugeChild(), MAX_BATCH_SIZE);
+  }
+
+  @Test
+  public void testPostorderHashesOfHugeChildInParallel() {
+    testHashesInParallel(HashType.POSTORDER, HashWidth.BITS_128, createDocumentWithHugeChild(), MAX_BATCH_SIZE);
+  }
+
+  @Test
+  public void testRollingLongHashesOfHugeChildInParallel() {
+    testHashesInParallel(HashType.ROLLING, HashWidth.BITS_64, createDocumentWithHugeChild(), MAX_BATCH_SIZE);
+  }
+
+  @Test
+  public void testPostorderLongHashesOfHugeChildInParallel() {
+    testHashesInParallel(HashType.POSTORDER, HashWidth.BITS_64, createDocumentWithHugeChild(), MAX_BATCH_SIZE);
+  }
+
+  private static void testHashesInParallel(final HashType hashType, final HashWidth hashWidth) {
+    testHashesInParallel(hashType, hashWidth, createDocument(), Integer.MAX_VALUE);
+  }
+
+  private static void testHashesInParallel(final HashType hashType, final HashWidth hashWidth, final String document,
+      final int maxBatchSize) {
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    database.createResource(
+        ResourceConfiguration.newBuilder("parallel").hashKind(hashType).hashWidth(hashWidth).build());
+    database.createResource(ResourceConfiguration.newBuilder("serial").hashKind(hashType).hashWidth(hashWidth).build());
+
+    try (final JsonResourceManager parallelManager = database.openResourceManager("parallel");
+        final JsonResourceManager serialManager = database.openResourceManager("serial")) {
+      insertDocument(parallelManager, document, true, maxBatchSize);
+      insertDocument(serialManager, document, false, maxBatchSize);
+
+      try (final JsonNodeReadOnlyTrx parallelRtx = parallelManager.beginNodeReadOnlyTrx();
+          final JsonNodeReadOnlyTrx serialRtx = serialManager.beginNodeReadOnlyTrx()) {
+        final Axis parallelAxis = new DescendantAxis(parallelRtx, IncludeSelf.YES);
+        final Axis serialAxis = new DescendantAxis(serialRtx, IncludeSelf.YES);
+
+        long numberOfNodes = 0;
+        while (serialAxis.hasNext()) {
+          assertTrue(parallelAxis.hasNext());
+          assertEquals((long) serialAxis.next(), (long) parallelAxis.next());
+          if (serialRtx.isObject() || serialRtx.isArray() || serialRtx.isObjectKey()) {
+            assertNotNull(serialRtx.getHash());
+          }
+          assertEquals(serialRtx.getHash(), parallelRtx.getHash());
+          assertEquals(serialRtx.getDescendantCount(), parallelRtx.getDescendantCount());
+          numberOfNodes++;
+        }
+
+        assertFalse(parallelAxis.hasNext());
+        assertTrue(numberOfNodes > 4 * LARGE_ARRAY_SIZE);
+      }
+    }
+  }
+
+  private static void insertDocument(final JsonResourceManager manager, final String document,
+      final boolean hashSubtreesInParallel, final int maxBatchSize) {
+    try (final JsonNodeTrx wtx = manager.beginNodeTrx()) {
+      ((JsonNodeTrxImpl) wtx).setHashSubtreesInParallel(hashSubtreesInParallel);
+      ((JsonNodeTrxImpl) wtx).setMaxHashBatchSize(maxBatchSize);
+
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(document), false);
+
+      // Insert a subtree into the document, such that the hashes of its ancestors are adapted, too.
+      wtx.moveToDocumentRoot();
+      wtx.moveToFirstChild();
+      wtx.moveToFirstChild();
+      wtx.moveToFirstChild();
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader("{\"inserted\":[1,{\"foo\":\"bar\"},[true]]}"),
+          false);
+
+      wtx.commit();
+    }
+  }
+
+  /**
+   * Create a document with subtrees of different sizes: a large array, which is hashed after its elements, many small
+   * arrays, which are hashed by one task, and single values.
+   */
+  private static String createDocument() {
+    final var document = new StringBuilder("{\"small\":[]");
+
+    document.append(",\"large\":[");
+    for (int i = 0; i < LARGE_ARRAY_SIZE; i++) {
+      if (i > 0) {
+        document.append(',');
+      }
+      document.append("{\"key\":").append(i).append(",\"values\":[\"value").append(i).append("\",true,null]}");
+    }
+    document.append(']');
+
+    for (int i = 0; i < 100; i++) {
+      document.append(",\"array").append(i).append("\":[").append(i).append(",{\"nested\":[").append(i).append("]}]");
+    }
+
+    document.append(",\"string\":\"foo\",\"number\":2.33,\"boolean\":false,\"null\":null}");
+    return document.toString();
+  }
+
+  /**
+   * Create a document, whose only child and grandchild are the roots of subtrees, which exceed the maximum batch size
+   * on their own, followed by a small subtree.
+   */
+  private static String createDocumentWithHugeChild() {
+    final var document = new StringBuilder("{\"data\":{\"nested\":[");
+
+    for (int i = 0; i < LARGE_ARRAY_SIZE; i++) {
+      if (i > 0) {
+        document.append(',');
+      }
+      document.append("{\"key\":").append(i).append(",\"values\":[\"value").append(i).append("\",true,null]}");
+    }
+
+    document.append("],\"small\":[1,2,3]}}");
+    return document.toString();
+  }
+}
@@ -0,0 +1,143 @@
+package org.sirix.axis.temporal;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.Holder;
+import org.sirix.XmlTestHelper;
+import org.sirix.api.Axis;
+import org.sirix.api.xml.XmlNodeReadOnlyTrx;
+import org.sirix.api.xml.XmlNodeTrx;
+import org.sirix.api.xml.XmlResourceManager;
+import org.sirix.axis.AbstractTemporalAxis;
+import org.sirix.axis.DescendantAxis;
+import org.sirix.axis.IncludeSelf;
+import org.sirix.exception.SirixException;
+import org.sirix.utils.XmlDocumentCreator;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.testing.IteratorFeature;
+import com.google.common.collect.testing.IteratorTester;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test {@link AllVersionsAxis}.
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
+public final class AllVersionsAxisTest {
+
+  /** Number of iterations. */
+  private static final int ITERATIONS = 5;
+
+  /** The {@link Holder} instance. */
+  private Holder holder;
+
+  @Before
+  public void setUp() throws SirixException {
+    XmlTestHelper.deleteEverything();
+    try (final XmlNodeTrx wtx = Holder.generateWtx().getXdmNodeWriteTrx()) {
+      XmlDocumentCreator.createVersioned(wtx);
+    }
+    holder = Holder.generateRtx();
+  }
+
+  @After
+  public void tearDown() throws SirixException {
+    holder.close();
+    XmlTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testAxis() throws SirixException {
+    try (final XmlNodeReadOnlyTrx firstReader = holder.getResourceManager().beginNodeReadOnlyTrx(1);
+        final XmlNodeReadOnlyTrx secondReader = holder.getResourceManager().beginNodeReadOnlyTrx(2);
+        final XmlNodeReadOnlyTrx thirdReader = holder.getXmlNodeReadTrx()) {
+      new IteratorTester<>(ITERATIONS, IteratorFeature.UNMODIFIABLE,
+          ImmutableList.of(firstReader, secondReader, thirdReader), null) {
+        @Override
+        protected Iterator<XmlNodeReadOnlyTrx> newTargetIterator() {
+          return new AllVersionsAxis<>(holder.getResourceManager(), holder.getXmlNodeReadTrx());
+        }
+      }.test();
+    }
+  }
+
+  @Test
+  public void testAxisComparedToRevisionWalk() throws SirixException {
+    final XmlResourceManager resourceManager = holder.getResourceManager();
+
+    try (final XmlNodeTrx wtx = resourceManager.beginNodeTrx()) {
+      // Revisions 4 and 5 don't change any node.
+      wtx.commit();
+      wtx.commit();
+
+      // Revision 6.
+      wtx.moveTo(4);
+      wtx.setValue("fooooooo");
+      wtx.commit();
+
+      // Revision 7.
+      wtx.moveTo(4);
+      wtx.remove();
+      wtx.commit();
+    }
+
+    final List<Long> nodeKeys = new ArrayList<>();
+    try (final XmlNodeReadOnlyTrx rtx = resourceManager.beginNodeReadOnlyTrx(6)) {
+      final Axis axis = new DescendantAxis(rtx, IncludeSelf.YES);
+      while (axis.hasNext()) {
+        nodeKeys.add(axis.next());
+      }
+    }
+
+    // The transactions returned by the axes are shared, thus they are closed once the resource manager is closed.
+    for (final long nodeKey : nodeKeys) {
+      try (final XmlNodeReadOnlyTrx rtx = resourceManager.beginNodeReadOnlyTrx(6)) {
+        rtx.moveTo(nodeKey);
+
+        final List<Integer> existingRevisions = new ArrayList<>();
+        final List<Integer> changedRevisions = new ArrayList<>();
+        List<Object> previousState = null;
+        for (final XmlNodeReadOnlyTrx trx : iterate(new AllTimeAxis<>(resourceManager, rtx))) {
+          final List<Object> state = getState(trx);
+          existingRevisions.add(trx.getRevisionNumber());
+          if (!state.equals(previousState)) {
+            changedRevisions.add(trx.getRevisionNumber());
+          }
+          previousState = state;
+        }
+
+        final List<Integer> versions = new ArrayList<>();
+        for (final XmlNodeReadOnlyTrx trx : iterate(new AllVersionsAxis<>(resourceManager, rtx))) {
+          assertEquals(nodeKey, trx.getNodeKey());
+          versions.add(trx.getRevisionNumber());
+        }
+
+        // Every version of the node, which differs from its predecessor, is found, but only revisions in which the
+        // node exists are opened, and neither of the empty revisions.
+        assertTrue(versions.containsAll(changedRevisions));
+        assertTrue(existingRevisions.containsAll(versions));
+        assertFalse(versions.contains(4));
+        assertFalse(versions.contains(5));
+        assertEquals(changedRevisions.get(0), versions.get(0));
+      }
+    }
+  }
+
+  private static List<Object> getState(final XmlNodeReadOnlyTrx rtx) {
+    return List.of(rtx.getHash(), rtx.getParentKey(), rtx.getLeftSiblingKey(), rtx.getRightSiblingKey(),
+        rtx.getFirstChildKey(), rtx.getChildCount(), rtx.getDescendantCount(), String.valueOf(rtx.getValue()));
+  }
+
+  private static Iterable<XmlNodeReadOnlyTrx> iterate(
+      final AbstractTemporalAxis<XmlNodeReadOnlyTrx, XmlNodeTrx> axis) {
+    return () -> axis;
+  }
+}
@@ -73,6 +73,27 @@ public final class PastAxisTest {
     }.test();
   }
 
+  @Test
+  public void testPastAxisWithCreatedNode() throws SirixException {
+    try (final XmlNodeReadOnlyTrx secondReader = holder.getResourceManager().beginNodeReadOnlyTrx(2);
+        final XmlNodeReadOnlyTrx thirdReader = holder.getResourceManager().beginNodeReadOnlyTrx(3)) {
+      // The element, which has been inserted in the second revision.
+      thirdReader.moveToDocumentRoot();
+      thirdReader.moveToFirstChild();
+      thirdReader.moveToFirstChild();
+      thirdReader.moveToRightSibling();
+      secondReader.moveTo(thirdReader.getNodeKey());
+
+      new IteratorTester<>(ITERATIONS, IteratorFeature.UNMODIFIABLE, ImmutableList.of(thirdReader, secondReader),
+          null) {
+        @Override
+        protected Iterator<XmlNodeReadOnlyTrx> newTargetIterator() {
+          return new PastAxis<>(thirdReader.getResourceManager(), thirdReader, IncludeSelf.YES);
+        }
+      }.test();
+    }
+  }
+
   @Test
   public void testPastAxisWithRemovedNode() throws SirixException {
     try (final XmlNodeTrx wtx = holder.getResourceManager().beginNodeTrx()) {
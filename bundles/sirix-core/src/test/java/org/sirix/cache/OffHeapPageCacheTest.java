@@ -0,0 +1,93 @@
+package org.sirix.cache;
+
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.JsonTestHelper.PATHS;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.api.json.JsonNodeTrx;
+import org.sirix.api.json.JsonResourceManager;
+import org.sirix.node.interfaces.DataRecord;
+import org.sirix.page.PageKind;
+import org.sirix.page.PagePersister;
+import org.sirix.page.SerializationType;
+import org.sirix.page.UnorderedKeyValuePage;
+import org.sirix.utils.JsonDocumentCreator;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public final class OffHeapPageCacheTest {
+
+  @Test
+  public void testPutAndGet() {
+    final OffHeapPageCache cache = new OffHeapPageCache(1 << 16);
+    final byte[] bytes = { 1, 2, 3, 4, 5 };
+    cache.put(42L, bytes);
+
+    assertArrayEquals(bytes, cache.get(42L));
+    assertNull(cache.get(43L));
+
+    cache.remove(42L);
+    assertNull(cache.get(42L));
+  }
+
+  @Test
+  public void testPutPageAndDeserialize() throws IOException {
+    JsonTestHelper.deleteEverything();
+    try {
+      final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+      database.createResource(ResourceConfiguration.newBuilder(JsonTestHelper.RESOURCE).build());
+
+      try (final JsonResourceManager manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+        try (final JsonNodeTrx wtx = manager.beginNodeTrx()) {
+          JsonDocumentCreator.create(wtx);
+          wtx.commit();
+        }
+
+        final UnorderedKeyValuePage page;
+        try (final PageReadOnlyTrx pageRtx = manager.beginPageReadOnlyTrx()) {
+          page = (UnorderedKeyValuePage) pageRtx.getRecordPage(
+              new IndexLogKey(PageKind.RECORDPAGE, 0, -1, pageRtx.getRevisionNumber())).orElseThrow();
+        }
+
+        // The transaction, which has read the page, is already closed.
+        final OffHeapPageCache cache = new OffHeapPageCache(1 << 20, manager.getResourceConfig());
+        cache.putPage(42L, page);
+        final byte[] serializedPage = cache.get(42L);
+        assertNotNull(serializedPage);
+
+        try (final PageReadOnlyTrx pageRtx = manager.beginPageReadOnlyTrx()) {
+          final var deserializedPage = (UnorderedKeyValuePage) new PagePersister().deserializePage(
+              new DataInputStream(new ByteArrayInputStream(serializedPage)), pageRtx, SerializationType.DATA);
+
+          assertEquals(page.size(), deserializedPage.size());
+          for (final DataRecord record : page.values()) {
+            final DataRecord deserializedRecord = deserializedPage.getValue(record.getNodeKey());
+            assertNotNull(deserializedRecord);
+            assertEquals(record.getKind(), deserializedRecord.getKind());
+            assertEquals(record.getNodeKey(), deserializedRecord.getNodeKey());
+          }
+        }
+      }
+    } finally {
+      JsonTestHelper.deleteEverything();
+    }
+  }
+
+  @Test
+  public void testDisabledCache() {
+    final OffHeapPageCache cache = new OffHeapPageCache(0);
+    cache.put(42L, new byte[] { 1, 2, 3 });
+
+    assertFalse(cache.isEnabled());
+    assertNull(cache.get(42L));
+  }
+}
@@ -0,0 +1,114 @@
+package org.sirix.cache;
+
+import org.junit.Test;
+import org.sirix.page.OverflowPage;
+import org.sirix.page.PageReference;
+import org.sirix.page.interfaces.Page;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public final class SharedPageCacheTest {
+
+  @Test
+  public void testResourcesAreIsolated() {
+    final SharedPageCache sharedPageCache = new SharedPageCache(1 << 20);
+    final Cache<PageReference, Page> firstCache = sharedPageCache.getPageCache(sharedPageCache.createQuota(1 << 16));
+    final Cache<PageReference, Page> secondCache = sharedPageCache.getPageCache(sharedPageCache.createQuota(1 << 16));
+
+    final Page page = new OverflowPage(new byte[100]);
+    firstCache.put(new PageReference().setKey(1), page);
+
+    assertSame(page, firstCache.get(new PageReference().setKey(1)));
+    assertNull(secondCache.get(new PageReference().setKey(1)));
+  }
+
+  @Test
+  public void testQuotaIsNotExceeded() {
+    final SharedPageCache sharedPageCache = new SharedPageCache(1 << 20);
+    final SharedPageCache.Quota quota = sharedPageCache.createQuota(4_000);
+    final Cache<PageReference, Page> cache = sharedPageCache.getRecordPageCache(quota);
+    final SharedPageCache.Quota otherQuota = sharedPageCache.createQuota(1 << 16);
+    final Cache<PageReference, Page> otherCache = sharedPageCache.getRecordPageCache(otherQuota);
+
+    otherCache.put(new PageReference().setKey(0), new OverflowPage(new byte[1_000]));
+
+    final PageReference[] references = new PageReference[10];
+    for (int i = 0; i < references.length; i++) {
+      references[i] = new PageReference().setKey(i);
+      references[i].setPage(new OverflowPage(new byte[1_000]));
+      cache.put(references[i], references[i].getPage());
+    }
+
+    assertTrue(quota.getUsedBytes() <= quota.getMaximumWeight());
+
+    // Evicted pages are removed from their references.
+    int evictedPages = 0;
+    for (final PageReference reference : references) {
+      if (reference.getPage() == null) {
+        assertNull(cache.get(reference));
+        evictedPages++;
+      }
+    }
+    assertTrue(evictedPages >= 7);
+
+    assertEquals(1_000, ((OverflowPage) otherCache.get(new PageReference().setKey(0))).getData().length);
+  }
+
+  @Test
+  public void testQuotaOfResourceIsReused() {
+    final SharedPageCache sharedPageCache = new SharedPageCache(1 << 20);
+    final Path resource = Paths.get("database", "data", "resource");
+    final SharedPageCache.Quota quota =
+        sharedPageCache.getQuota(resource, 1 << 16, () -> new OffHeapPageCache(0));
+
+    final PageReference reference = new PageReference().setKey(1);
+    final Page page = new OverflowPage(new byte[100]);
+    reference.setPage(page);
+    sharedPageCache.getPageCache(quota).put(reference, page);
+
+    // Opening the resource again finds the cached page.
+    final SharedPageCache.Quota reusedQuota = sharedPageCache.getQuota(resource, 1 << 16, () -> {
+      throw new AssertionError("The quota must be reused.");
+    });
+    assertSame(quota, reusedQuota);
+    assertSame(page, sharedPageCache.getPageCache(reusedQuota).get(new PageReference().setKey(1)));
+
+    // A resource, which is created anew, gets a new quota without the pages of the former resource.
+    sharedPageCache.removeQuota(resource);
+    assertEquals(0, quota.getUsedBytes());
+    assertNull(reference.getPage());
+
+    final SharedPageCache.Quota newQuota =
+        sharedPageCache.getQuota(resource, 1 << 16, () -> new OffHeapPageCache(0));
+    assertNotSame(quota, newQuota);
+    assertNull(sharedPageCache.getPageCache(newQuota).get(new PageReference().setKey(1)));
+  }
+
+  @Test
+  public void testPagesExceedingQuotaAreEvictedInOrderOfCaching() {
+    final SharedPageCache sharedPageCache = new SharedPageCache(1 << 20);
+    final SharedPageCache.Quota quota = sharedPageCache.createQuota(4_000);
+    final Cache<PageReference, Page> cache = sharedPageCache.getPageCache(quota);
+
+    final PageReference[] references = new PageReference[5];
+    for (int i = 0; i < references.length; i++) {
+      references[i] = new PageReference().setKey(i);
+      references[i].setPage(new OverflowPage(new byte[1_000]));
+      cache.put(references[i], references[i].getPage());
+    }
+
+    assertTrue(quota.getUsedBytes() <= quota.getMaximumWeight());
+
+    // The pages, which have been cached first, are evicted.
+    assertNull(cache.get(references[0]));
+    assertNull(references[0].getPage());
+    assertSame(references[references.length - 1].getPage(), cache.get(references[references.length - 1]));
+  }
+}
@@ -4,23 +4,37 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.sirix.JsonTestHelper;
+import org.sirix.access.DatabaseConfiguration;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.io.bytepipe.ByteHandlePipeline;
+import org.sirix.io.bytepipe.ByteHandler;
+import org.sirix.io.bytepipe.Encryptor;
 import org.sirix.io.bytepipe.SnappyCompressor;
-import org.sirix.io.file.FileWriter;
+import org.sirix.node.interfaces.DataRecord;
 import org.sirix.page.PageKind;
 import org.sirix.page.PagePersister;
 import org.sirix.page.PageReference;
-import org.sirix.page.SerializationType;
 import org.sirix.page.UnorderedKeyValuePage;
+import org.sirix.service.json.shredder.JsonShredder;
 
-import java.io.FileNotFoundException;
-import java.io.RandomAccessFile;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 
 public class TransactionIntentLogTest {
+  private static final String ENCRYPTED_RESOURCE = "encrypted";
+
+  private static final String SECRET = "a value, which must not be stored in plaintext";
+
   @Before
   public void setUp() {
     JsonTestHelper.deleteEverything();
@@ -32,17 +46,12 @@ public class TransactionIntentLogTest {
   }
 
   @Test
-  public void integrationTest() throws FileNotFoundException {
+  public void integrationTest() {
     try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
       final var resourceManager = database.openResourceManager(JsonTestHelper.RESOURCE);
       final var pageReadOnlyTrx = resourceManager.beginPageReadOnlyTrx()) {
-      final RandomAccessFile file = new RandomAccessFile(JsonTestHelper.PATHS.PATH2.getFile().toFile(), "rw");
-
-      final FileWriter fileWriter =
-          new FileWriter(file, null, new ByteHandlePipeline(new ByteHandlePipeline(new SnappyCompressor())),
-                         SerializationType.TRANSACTION_INTENT_LOG, new PagePersister());
-
-      final var persistentCache = new PersistentFileCache(fileWriter);
+      final var persistentCache =
+          new PersistentFileCache(JsonTestHelper.PATHS.PATH2.getFile(), new PagePersister(), new ByteHandlePipeline());
       final var trxIntentLog = new TransactionIntentLog(persistentCache, 1);
 
       final var firstCompletePage = new UnorderedKeyValuePage(1, PageKind.RECORDPAGE, List.of(), pageReadOnlyTrx);
@@ -64,4 +73,67 @@ public class TransactionIntentLogTest {
       assertEquals(secondPageContainer, trxIntentLog.get(secondPageReference, pageReadOnlyTrx));
     }
   }
+
+  @Test
+  public void testSpilledPagesOfEncryptedResourceAreEncrypted() throws IOException {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    final Path resourcePath = JsonTestHelper.PATHS.PATH1.getFile()
+                                                      .resolve(DatabaseConfiguration.DatabasePaths.DATA.getFile())
+                                                      .resolve(ENCRYPTED_RESOURCE);
+    database.createResource(ResourceConfiguration.newBuilder(ENCRYPTED_RESOURCE)
+                                                 .byteHandlerPipeline(new ByteHandlePipeline(new SnappyCompressor(),
+                                                     new Encryptor(resourcePath)))
+                                                 .build());
+
+    try (final var resourceManager = database.openResourceManager(ENCRYPTED_RESOURCE)) {
+      try (final var wtx = resourceManager.beginNodeTrx()) {
+        wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader("{\"secret\":\"" + SECRET + "\"}"));
+        wtx.commit();
+      }
+
+      try (final var pageReadOnlyTrx = resourceManager.beginPageReadOnlyTrx()) {
+        final var page = (UnorderedKeyValuePage) pageReadOnlyTrx.getRecordPage(
+            new IndexLogKey(PageKind.RECORDPAGE, 0, -1, pageReadOnlyTrx.getRevisionNumber())).orElseThrow();
+
+        // Without a byte handler the value is found in the log file, thus the check below is meaningful.
+        assertTrue(containsSecret(spill(page, new ByteHandlePipeline(), pageReadOnlyTrx)));
+
+        final byte[] encryptedLog = spill(page,
+            PersistentFileCache.getByteHandler(resourceManager.getResourceConfig().byteHandlePipeline),
+            pageReadOnlyTrx);
+        assertFalse(containsSecret(encryptedLog));
+      }
+    }
+  }
+
+  /**
+   * Spill a page to a log file, read it back and compare it to the page.
+   *
+   * @return the content of the log file
+   */
+  private static byte[] spill(final UnorderedKeyValuePage page, final ByteHandler byteHandler,
+      final PageReadOnlyTrx pageReadOnlyTrx) throws IOException {
+    final Path logFile = Files.createTempFile("sirix", ".log");
+    try (final var persistentCache = new PersistentFileCache(logFile, new PagePersister(), byteHandler)) {
+      final var reference = new PageReference();
+      persistentCache.put(reference, PageContainer.getInstance(page, page));
+      final byte[] log = Files.readAllBytes(logFile);
+
+      final var spilledPage = (UnorderedKeyValuePage) persistentCache.get(reference, pageReadOnlyTrx).getComplete();
+      assertEquals(page.size(), spilledPage.size());
+      for (final DataRecord record : page.values()) {
+        final DataRecord spilledRecord = spilledPage.getValue(record.getNodeKey());
+        assertNotNull(spilledRecord);
+        assertEquals(record.getKind(), spilledRecord.getKind());
+      }
+
+      return log;
+    } finally {
+      Files.deleteIfExists(logFile);
+    }
+  }
+
+  private static boolean containsSecret(final byte[] log) {
+    return new String(log, StandardCharsets.ISO_8859_1).contains(SECRET);
+  }
 }
@@ -0,0 +1,106 @@
+package org.sirix.cache;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.JsonTestHelper.PATHS;
+import org.sirix.access.ResourceConfiguration;
+import org.sirix.api.PageReadOnlyTrx;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.api.json.JsonNodeTrx;
+import org.sirix.api.json.JsonResourceManager;
+import org.sirix.page.OverflowPage;
+import org.sirix.page.PageKind;
+import org.sirix.page.UnorderedKeyValuePage;
+import org.sirix.page.interfaces.Page;
+import org.sirix.utils.JsonDocumentCreator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public final class UnorderedKeyValuePageCacheTest {
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+    JsonTestHelper.deleteEverything();
+  }
+
+  @Test
+  public void testPagesDoNotExpireWithoutExpiry() {
+    final UnorderedKeyValuePageCache cache = new UnorderedKeyValuePageCache(10, 0);
+    final IndexLogKey key = new IndexLogKey(PageKind.RECORDPAGE, 0, -1, 1);
+    final Page page = new OverflowPage(new byte[10]);
+
+    cache.put(key, page);
+
+    assertSame(page, cache.get(key));
+  }
+
+  @Test
+  public void testExpiryIsStoredInResourceConfiguration() {
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    database.createResource(ResourceConfiguration.newBuilder(JsonTestHelper.RESOURCE)
+                                                 .sharedRecordPageExpiry(1_234)
+                                                 .build());
+
+    try (final JsonResourceManager manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      assertEquals(1_234, manager.getResourceConfig().sharedRecordPageExpiry);
+    }
+
+    JsonTestHelper.closeEverything();
+
+    try (final JsonResourceManager manager = JsonTestHelper.getDatabase(PATHS.PATH1.getFile())
+                                                           .openResourceManager(JsonTestHelper.RESOURCE)) {
+      assertEquals(1_234, manager.getResourceConfig().sharedRecordPageExpiry);
+    }
+  }
+
+  @Test
+  public void testSharedPageIsBoundToTransactionLookingItUp() {
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    database.createResource(ResourceConfiguration.newBuilder(JsonTestHelper.RESOURCE).sharedRecordPageExpiry(0).build());
+
+    try (final JsonResourceManager manager = database.openResourceManager(JsonTestHelper.RESOURCE)) {
+      try (final JsonNodeTrx wtx = manager.beginNodeTrx()) {
+        JsonDocumentCreator.create(wtx);
+        wtx.commit();
+      }
+
+      final UnorderedKeyValuePage firstPage;
+      try (final PageReadOnlyTrx pageRtx = manager.beginPageReadOnlyTrx()) {
+        firstPage = getRecordPage(pageRtx);
+        assertSame(pageRtx, firstPage.getPageReadTrx());
+      }
+
+      try (final PageReadOnlyTrx pageRtx = manager.beginPageReadOnlyTrx()) {
+        final UnorderedKeyValuePage secondPage = getRecordPage(pageRtx);
+        assertNotSame(firstPage, secondPage);
+        assertSame(pageRtx, secondPage.getPageReadTrx());
+        assertEquals(firstPage.size(), secondPage.size());
+        firstPage.values().forEach(record -> assertSame(record, secondPage.getValue(record.getNodeKey())));
+      }
+
+      // Nodes are still readable, once the transaction, which has reconstructed the pages, is closed.
+      try (final JsonNodeReadOnlyTrx rtx = manager.beginNodeReadOnlyTrx()) {
+        assertTrue(rtx.moveToFirstChild().hasMoved());
+        assertTrue(rtx.moveToFirstChild().hasMoved());
+        assertNotNull(rtx.getName());
+      }
+    }
+  }
+
+  private static UnorderedKeyValuePage getRecordPage(final PageReadOnlyTrx pageRtx) {
+    return (UnorderedKeyValuePage) pageRtx.getRecordPage(
+        new IndexLogKey(PageKind.RECORDPAGE, 0, -1, pageRtx.getRevisionNumber())).orElseThrow();
+  }
+}
@@ -0,0 +1,118 @@
+package org.sirix.index;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.index.avltree.keyvalue.NodeReferences;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test {@link IndexEntrySorter}.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class IndexEntrySorterTest {
+
+  /** Maximum number of bytes, such that a run holds about 50 pairs. */
+  private static final int MAX_BUFFERED_BYTES = 2048;
+
+  private Path directory;
+
+  @Before
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("sirix");
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(directory);
+  }
+
+  @Test
+  public void testEntriesOfBuffer() throws IOException {
+    try (final IndexEntrySorter<Long> sorter = new IndexEntrySorter<>(IndexType.PATH, directory)) {
+      sorter.add(5L, 1);
+      sorter.add(2L, 2);
+      sorter.add(5L, 3);
+
+      final Iterator<IndexEntry<Long, NodeReferences>> entries = sorter.sortedEntries();
+      final IndexEntry<Long, NodeReferences> first = entries.next();
+      assertEquals(2L, (long) first.getKey());
+      assertEquals(Set.of(2L), first.getValue().getNodeKeys());
+      final IndexEntry<Long, NodeReferences> second = entries.next();
+      assertEquals(5L, (long) second.getKey());
+      assertEquals(Set.of(1L, 3L), second.getValue().getNodeKeys());
+      assertFalse(entries.hasNext());
+      assertEquals(0, getNumberOfRuns());
+    }
+  }
+
+  @Test
+  public void testEntriesOfMergedRuns() throws IOException {
+    try (final IndexEntrySorter<Long> sorter = new IndexEntrySorter<>(IndexType.PATH, directory, MAX_BUFFERED_BYTES,
+        IndexEntrySorter.DEFAULT_MAX_FAN_IN)) {
+      final Iterator<IndexEntry<Long, NodeReferences>> entries = addAndSort(sorter, 100);
+
+      assertTrue(getNumberOfRuns() > 1);
+      assertEntries(entries, 100);
+    }
+
+    assertEquals(0, getNumberOfRuns());
+  }
+
+  @Test
+  public void testEntriesOfRunsMergedInIntermediatePasses() throws IOException {
+    try (final IndexEntrySorter<Long> sorter = new IndexEntrySorter<>(IndexType.PATH, directory, MAX_BUFFERED_BYTES,
+        2)) {
+      final Iterator<IndexEntry<Long, NodeReferences>> entries = addAndSort(sorter, 1_000);
+
+      // The runs have been merged, until no more than the maximum fan-in are left.
+      assertEquals(2, getNumberOfRuns());
+      assertEntries(entries, 1_000);
+    }
+
+    assertEquals(0, getNumberOfRuns());
+  }
+
+  private static Iterator<IndexEntry<Long, NodeReferences>> addAndSort(final IndexEntrySorter<Long> sorter,
+      final long numberOfNodeKeys) {
+    for (long nodeKey = 0; nodeKey < numberOfNodeKeys; nodeKey++) {
+      sorter.add(nodeKey % 7, nodeKey);
+    }
+
+    return sorter.sortedEntries();
+  }
+
+  private static void assertEntries(final Iterator<IndexEntry<Long, NodeReferences>> entries,
+      final long expectedNumberOfNodeKeys) {
+    final List<Long> keys = new ArrayList<>();
+    long numberOfNodeKeys = 0;
+    while (entries.hasNext()) {
+      final IndexEntry<Long, NodeReferences> entry = entries.next();
+      keys.add(entry.getKey());
+      numberOfNodeKeys += entry.getValue().getNumberOfNodeKeys();
+      entry.getValue().getNodeKeys().forEach(nodeKey -> assertEquals((long) entry.getKey(), nodeKey % 7));
+    }
+
+    assertEquals(List.of(0L, 1L, 2L, 3L, 4L, 5L, 6L), keys);
+    assertEquals(expectedNumberOfNodeKeys, numberOfNodeKeys);
+  }
+
+  private long getNumberOfRuns() throws IOException {
+    try (final Stream<Path> runs = Files.list(directory)) {
+      return runs.count();
+    }
+  }
+}
@@ -3,22 +3,33 @@ package org.sirix.index;
 import org.brackit.xquery.atomic.Dbl;
 import org.brackit.xquery.atomic.QNm;
 import org.brackit.xquery.atomic.Str;
+import org.brackit.xquery.xdm.DocumentException;
 import org.brackit.xquery.xdm.Type;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.sirix.JsonTestHelper;
+import org.sirix.access.trx.node.IndexController;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.api.json.JsonNodeTrx;
 import org.sirix.index.avltree.AVLTreeReader;
 import org.sirix.index.avltree.keyvalue.CASValue;
 import org.sirix.index.avltree.keyvalue.NodeReferences;
+import org.sirix.index.bplustree.BPlusTreeNode;
+import org.sirix.index.bplustree.BPlusTreeReader;
 import org.sirix.index.path.json.JsonPCRCollector;
 import org.sirix.node.NodeKind;
 import org.sirix.service.json.shredder.JsonShredder;
 import org.sirix.service.xml.shredder.InsertPosition;
+import org.sirix.settings.Fixed;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.StreamSupport;
 
 import static org.brackit.xquery.util.path.Path.parse;
@@ -27,6 +38,9 @@ import static org.junit.Assert.*;
 public final class JsonAVLTreeIntegrationTest {
   private static final Path JSON = Paths.get("src", "test", "resources", "json");
 
+  /** Number of fields of the items, which are indexed, more than fit into a single leaf of a B+-tree. */
+  private static final int NUMBER_OF_FIELDS = 3 * BPlusTreeNode.MAX_NUMBER_OF_KEYS;
+
   @Before
   public void setUp() {
     JsonTestHelper.deleteEverything();
@@ -318,6 +332,269 @@ public final class JsonAVLTreeIntegrationTest {
     }
   }
 
+  @Test
+  public void testCASIndexWithBPlusTreeBackendMatchesAVLTreeBackend() {
+    final var jsonPath = JSON.resolve("abc-location-stations.json");
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var trx = manager.beginNodeTrx()) {
+      var indexController = manager.getWtxIndexController(trx.getRevisionNumber() - 1);
+
+      final var pathToCoordinates = parse("/features/[]/geometry/coordinates/[]");
+
+      final var avlTreeIdxDef =
+          IndexDefs.createCASIdxDef(false, Type.DEC, Collections.singleton(pathToCoordinates), 0);
+      final var bplusTreeIdxDef = IndexDefs.createCASIdxDef(false, Type.DEC, Collections.singleton(pathToCoordinates),
+          1, IndexBackendType.BPLUS_TREE);
+
+      indexController.createIndexes(Set.of(avlTreeIdxDef, bplusTreeIdxDef), trx);
+
+      final var shredder = new JsonShredder.Builder(trx, JsonShredder.createFileReader(jsonPath),
+          InsertPosition.AS_FIRST_CHILD).commitAfterwards().build();
+      shredder.call();
+
+      final var reader = BPlusTreeReader.<CASValue, NodeReferences>getInstance(trx.getPageTrx(),
+          bplusTreeIdxDef.getType(), bplusTreeIdxDef.getID());
+
+      // More entries than fit into a single leaf, thus the tree has been split at least once.
+      assertTrue(reader.size() > BPlusTreeNode.MAX_NUMBER_OF_KEYS);
+
+      final List<Set<Long>> avlTreeResult = new ArrayList<>();
+      indexController.openCASIndex(trx.getPageTrx(), avlTreeIdxDef,
+          indexController.createCASFilterRange(Set.of("/features/[]/geometry/coordinates/[]"), new Dbl(0),
+              new Dbl(160), true, true, new JsonPCRCollector(trx)))
+                     .forEachRemaining(nodeReferences -> avlTreeResult.add(nodeReferences.getNodeKeys()));
+
+      final List<Set<Long>> bplusTreeResult = new ArrayList<>();
+      indexController.openCASIndex(trx.getPageTrx(), bplusTreeIdxDef,
+          indexController.createCASFilterRange(Set.of("/features/[]/geometry/coordinates/[]"), new Dbl(0),
+              new Dbl(160), true, true, new JsonPCRCollector(trx)))
+                     .forEachRemaining(nodeReferences -> bplusTreeResult.add(nodeReferences.getNodeKeys()));
+
+      assertFalse(bplusTreeResult.isEmpty());
+      assertEquals(avlTreeResult, bplusTreeResult);
+    }
+  }
+
+  @Test
+  public void testPointLookupsOfSeparatorKeysInBPlusTreeIndexes() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var trx = manager.beginNodeTrx()) {
+      var indexController = manager.getWtxIndexController(trx.getRevisionNumber() - 1);
+
+      final var paths = IntStream.range(0, NUMBER_OF_FIELDS)
+                                 .mapToObj(field -> parse("/items/[]/field" + field))
+                                 .collect(Collectors.toSet());
+
+      final var avlTreeCASIdxDef = IndexDefs.createCASIdxDef(false, Type.STR, paths, 0);
+      final var bplusTreeCASIdxDef = IndexDefs.createCASIdxDef(false, Type.STR, paths, 1, IndexBackendType.BPLUS_TREE);
+      final var avlTreePathIdxDef = IndexDefs.createPathIdxDef(paths, 0);
+      final var bplusTreePathIdxDef = IndexDefs.createPathIdxDef(paths, 1, IndexBackendType.BPLUS_TREE);
+      final var avlTreeNameIdxDef = IndexDefs.createNameIdxDef(0, IndexDefs.NameIndexType.JSON);
+      final var bplusTreeNameIdxDef =
+          IndexDefs.createNameIdxDef(1, IndexDefs.NameIndexType.JSON, IndexBackendType.BPLUS_TREE);
+
+      indexController.createIndexes(Set.of(avlTreeCASIdxDef, bplusTreeCASIdxDef, avlTreePathIdxDef,
+          bplusTreePathIdxDef, avlTreeNameIdxDef, bplusTreeNameIdxDef), trx);
+
+      // Every field is inserted twice, thus the listeners look up keys, which have become separators of inner nodes
+      // while inserting the first item, to add the node keys of the second item to their references.
+      final var shredder = new JsonShredder.Builder(trx, JsonShredder.createStringReader(createItems()),
+          InsertPosition.AS_FIRST_CHILD).commitAfterwards().build();
+      shredder.call();
+
+      JsonAVLTreeIntegrationTest.<CASValue>assertPointLookups(trx, avlTreeCASIdxDef,
+          bplusTreeCASIdxDef, NUMBER_OF_FIELDS);
+      JsonAVLTreeIntegrationTest.<Long>assertPointLookups(trx, avlTreePathIdxDef,
+          bplusTreePathIdxDef, NUMBER_OF_FIELDS);
+      JsonAVLTreeIntegrationTest.<QNm>assertPointLookups(trx, avlTreeNameIdxDef,
+          bplusTreeNameIdxDef, NUMBER_OF_FIELDS + 1);
+
+      // Indexes, which are built on demand, are bulk loaded, whereby the first key of every leaf becomes a separator.
+      final var bulkLoadedCASIdxDef = IndexDefs.createCASIdxDef(false, Type.STR, paths, 2, IndexBackendType.BPLUS_TREE);
+      final var bulkLoadedPathIdxDef = IndexDefs.createPathIdxDef(paths, 2, IndexBackendType.BPLUS_TREE);
+      final var bulkLoadedNameIdxDef =
+          IndexDefs.createNameIdxDef(2, IndexDefs.NameIndexType.JSON, IndexBackendType.BPLUS_TREE);
+
+      indexController.createIndexes(Set.of(bulkLoadedCASIdxDef, bulkLoadedPathIdxDef, bulkLoadedNameIdxDef), trx);
+
+      JsonAVLTreeIntegrationTest.<CASValue>assertPointLookups(trx, avlTreeCASIdxDef,
+          bulkLoadedCASIdxDef, NUMBER_OF_FIELDS);
+      JsonAVLTreeIntegrationTest.<Long>assertPointLookups(trx, avlTreePathIdxDef,
+          bulkLoadedPathIdxDef, NUMBER_OF_FIELDS);
+      JsonAVLTreeIntegrationTest.<QNm>assertPointLookups(trx, avlTreeNameIdxDef,
+          bulkLoadedNameIdxDef, NUMBER_OF_FIELDS + 1);
+    }
+  }
+
+  @Test
+  public void testIndexesBuiltOnDemandMatchIndexesBuiltWhileListening() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var trx = manager.beginNodeTrx()) {
+      var indexController = manager.getWtxIndexController(trx.getRevisionNumber() - 1);
+
+      final var paths = IntStream.range(0, NUMBER_OF_FIELDS)
+                                 .mapToObj(field -> parse("/items/[]/field" + field))
+                                 .collect(Collectors.toSet());
+
+      final List<IndexDef> listenerIndexDefs = new ArrayList<>();
+      final List<IndexDef> onDemandIndexDefs = new ArrayList<>();
+      int indexDefNo = 0;
+      for (final IndexBackendType backendType : IndexBackendType.values()) {
+        listenerIndexDefs.addAll(createIndexDefs(paths, indexDefNo++, backendType));
+        onDemandIndexDefs.addAll(createIndexDefs(paths, indexDefNo++, backendType));
+      }
+
+      indexController.createIndexes(Set.copyOf(listenerIndexDefs), trx);
+
+      final var shredder = new JsonShredder.Builder(trx, JsonShredder.createStringReader(createItems()),
+          InsertPosition.AS_FIRST_CHILD).commitAfterwards().build();
+      shredder.call();
+
+      // The entries of indexes, which are built on demand, are sorted and bulk loaded.
+      indexController.createIndexes(Set.copyOf(onDemandIndexDefs), trx);
+
+      for (int i = 0; i < listenerIndexDefs.size(); i++) {
+        final var entriesBuiltWhileListening = getEntries(trx, listenerIndexDefs.get(i));
+        final var entriesBuiltOnDemand = getEntries(trx, onDemandIndexDefs.get(i));
+
+        assertTrue(entriesBuiltWhileListening.size() >= NUMBER_OF_FIELDS);
+        assertEquals(entriesBuiltWhileListening, entriesBuiltOnDemand);
+      }
+    }
+  }
+
+  @Test
+  public void testIndexesOfFormerPostingFormatAreReadAndWritten() throws DocumentException {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    final var paths = Set.of(parse("/items/[]/field0"), parse("/items/[]/field1"));
+    final var bitmapIndexDefs = createIndexDefs(paths, 0, IndexBackendType.AVL_TREE);
+    final List<IndexDef> listIndexDefs = new ArrayList<>();
+    for (final IndexDef indexDef : createIndexDefs(paths, 1, IndexBackendType.AVL_TREE)) {
+      listIndexDefs.add(withoutPostingFormat(indexDef));
+    }
+
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var trx = manager.beginNodeTrx()) {
+      final var indexController = manager.getWtxIndexController(trx.getRevisionNumber() - 1);
+      final List<IndexDef> indexDefs = new ArrayList<>(bitmapIndexDefs);
+      indexDefs.addAll(listIndexDefs);
+      indexController.createIndexes(Set.copyOf(indexDefs), trx);
+
+      final var shredder = new JsonShredder.Builder(trx, JsonShredder.createStringReader(createItems()),
+          InsertPosition.AS_FIRST_CHILD).commitAfterwards().build();
+      shredder.call();
+    }
+
+    // Read the entries of the index pages from the storage instead of the caches of the writing transaction.
+    JsonTestHelper.closeEverything();
+
+    try (final var manager = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile())
+                                           .openResourceManager(JsonTestHelper.RESOURCE);
+         final var rtx = manager.beginNodeReadOnlyTrx()) {
+      for (int i = 0; i < bitmapIndexDefs.size(); i++) {
+        final var listIndexDef = listIndexDefs.get(i);
+        final var listEntries = getEntries(rtx, listIndexDef);
+
+        assertFalse(listEntries.isEmpty());
+        assertEquals(getEntries(rtx, bitmapIndexDefs.get(i)), listEntries);
+
+        final var reader =
+            AVLTreeReader.<Comparable<Object>, NodeReferences>getInstance(rtx.getPageTrx(), listIndexDef.getType(),
+                listIndexDef.getID());
+        reader.new AVLNodeIterator(Fixed.DOCUMENT_NODE_KEY.getStandardProperty())
+            .forEachRemaining(node -> assertEquals(PostingFormat.LIST, node.getValue().getPostingFormat()));
+      }
+    }
+  }
+
+  /**
+   * Simulate an index definition, which has been stored before the posting format has been stored.
+   */
+  private static IndexDef withoutPostingFormat(final IndexDef indexDef) throws DocumentException {
+    assertEquals(PostingFormat.BITMAP, indexDef.getPostingFormat());
+
+    final String postingFormat = " postings=\"" + PostingFormat.BITMAP + "\"";
+    final String materializedIndexDef = indexDef.toString();
+    assertTrue(materializedIndexDef.contains(postingFormat));
+
+    final IndexDef formerIndexDef = new IndexDef();
+    formerIndexDef.init(IndexController.deserialize(
+        new ByteArrayInputStream(materializedIndexDef.replace(postingFormat, "").getBytes(StandardCharsets.UTF_8)))
+                                       .getFirstChild());
+    assertEquals(PostingFormat.LIST, formerIndexDef.getPostingFormat());
+    return formerIndexDef;
+  }
+
+  private static List<IndexDef> createIndexDefs(final Set<org.brackit.xquery.util.path.Path<QNm>> paths,
+      final int indexDefNo, final IndexBackendType backendType) {
+    return List.of(IndexDefs.createCASIdxDef(false, Type.STR, paths, indexDefNo, backendType),
+        IndexDefs.createPathIdxDef(paths, indexDefNo, backendType),
+        IndexDefs.createNameIdxDef(indexDefNo, IndexDefs.NameIndexType.JSON, backendType));
+  }
+
+  /**
+   * Get the entries of an index in the order of their keys, regardless of the backend.
+   */
+  private static <K extends Comparable<? super K>> SortedMap<K, Set<Long>> getEntries(final JsonNodeReadOnlyTrx trx,
+      final IndexDef indexDef) {
+    final SortedMap<K, Set<Long>> entries = new TreeMap<>();
+
+    if (indexDef.getBackendType() == IndexBackendType.BPLUS_TREE) {
+      final var reader =
+          BPlusTreeReader.<K, NodeReferences>getInstance(trx.getPageTrx(), indexDef.getType(), indexDef.getID());
+      reader.iterator()
+            .forEachRemaining(entry -> entries.put(entry.getKey(), new HashSet<>(entry.getValue().getNodeKeys())));
+    } else {
+      final var reader =
+          AVLTreeReader.<K, NodeReferences>getInstance(trx.getPageTrx(), indexDef.getType(), indexDef.getID());
+      reader.new AVLNodeIterator(Fixed.DOCUMENT_NODE_KEY.getStandardProperty())
+          .forEachRemaining(node -> entries.put(node.getKey(), new HashSet<>(node.getValue().getNodeKeys())));
+    }
+
+    return entries;
+  }
+
+  /**
+   * Create two items with the same fields and values, such that every key of the indexes references two nodes.
+   */
+  private static String createItems() {
+    final var item = IntStream.range(0, NUMBER_OF_FIELDS)
+                              .mapToObj(field -> "\"field" + field + "\":\"value" + field + "\"")
+                              .collect(Collectors.joining(",", "{", "}"));
+    return "{\"items\":[" + item + "," + item + "]}";
+  }
+
+  private static <K extends Comparable<? super K>> void assertPointLookups(final JsonNodeTrx trx,
+      final IndexDef avlTreeIdxDef, final IndexDef bplusTreeIdxDef, final long numberOfEntries) {
+    final var avlTreeReader =
+        AVLTreeReader.<K, NodeReferences>getInstance(trx.getPageTrx(), avlTreeIdxDef.getType(), avlTreeIdxDef.getID());
+    final var bplusTreeReader = BPlusTreeReader.<K, NodeReferences>getInstance(trx.getPageTrx(),
+        bplusTreeIdxDef.getType(), bplusTreeIdxDef.getID());
+
+    // More entries than fit into a single leaf, thus the tree has inner nodes.
+    assertTrue(numberOfEntries > BPlusTreeNode.MAX_NUMBER_OF_KEYS);
+    assertEquals(numberOfEntries, bplusTreeReader.size());
+
+    final var entries = bplusTreeReader.iterator();
+    long numberOfScannedEntries = 0;
+    while (entries.hasNext()) {
+      final var entry = entries.next();
+      final var expectedReferences = avlTreeReader.get(entry.getKey(), SearchMode.EQUAL);
+      final var references = bplusTreeReader.get(entry.getKey(), SearchMode.EQUAL);
+
+      assertTrue(expectedReferences.isPresent());
+      assertTrue(references.isPresent());
+      assertEquals(expectedReferences.get().getNodeKeys(), entry.getValue().getNodeKeys());
+      assertEquals(expectedReferences.get().getNodeKeys(), references.get().getNodeKeys());
+      numberOfScannedEntries++;
+    }
+
+    assertEquals(numberOfEntries, numberOfScannedEntries);
+  }
+
   @Test
   public void testPathIndexWhileListeningAndPathIndexOnDemand() {
     final var jsonPath = JSON.resolve("abc-location-stations.json");
@@ -0,0 +1,114 @@
+package org.sirix.index.avltree.keyvalue;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test {@link NodeReferences}.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class NodeReferencesTest {
+
+  @Test
+  public void testSerialization() throws IOException {
+    // A dense range of node keys, which is stored as a run, and sparse node keys beyond 32 bits.
+    final Set<Long> nodeKeys = LongStream.range(100, 10_000).boxed().collect(Collectors.toCollection(HashSet::new));
+    nodeKeys.add(3L);
+    nodeKeys.add(1L << 40);
+    final var references = new NodeReferences(nodeKeys);
+
+    final var deserializedReferences = serializeAndDeserialize(references);
+
+    assertEquals(references, deserializedReferences);
+    assertEquals(nodeKeys, deserializedReferences.getNodeKeys());
+
+    // The references are still modifiable after they have been serialized.
+    references.addNodeKey(10_000);
+    references.removeNodeKey(100);
+
+    final var modifiedReferences = serializeAndDeserialize(references);
+
+    assertEquals(references, modifiedReferences);
+    assertTrue(modifiedReferences.contains(10_000));
+    assertFalse(modifiedReferences.contains(100));
+    assertEquals(nodeKeys.size(), modifiedReferences.getNumberOfNodeKeys());
+  }
+
+  @Test
+  public void testSerializationOfEmptyReferences() throws IOException {
+    final var deserializedReferences = serializeAndDeserialize(new NodeReferences());
+
+    assertFalse(deserializedReferences.hasNodeKeys());
+    assertEquals(0, deserializedReferences.getNumberOfNodeKeys());
+  }
+
+  @Test
+  public void testSetOperations() {
+    assertEquals(Set.of(1L, 2L, 3L, 4L, 5L), references(1, 2, 3).addAll(references(3, 4, 5)).getNodeKeys());
+    assertEquals(Set.of(2L, 3L), references(1, 2, 3).retainAll(references(2, 3, 4)).getNodeKeys());
+    assertEquals(Set.of(1L), references(1, 2, 3).removeAll(references(2, 3, 4)).getNodeKeys());
+    assertEquals(Set.of(), references(1, 2).retainAll(references(3, 4)).getNodeKeys());
+
+    final var union = NodeReferences.union(List.of(references(5, 3), references(3, 1), new NodeReferences()).iterator());
+
+    assertEquals(references(1, 3, 5), union);
+    assertEquals(List.of(1L, 3L, 5L), toList(union.getNodeKeyIterator()));
+  }
+
+  @Test
+  public void testAddAndRemoveNodeKeys() {
+    final var references = new NodeReferences();
+
+    assertFalse(references.hasNodeKeys());
+    assertEquals(references, references.addNodeKey(7).addNodeKey(2).addNodeKey(7));
+    assertEquals(2, references.getNumberOfNodeKeys());
+    assertEquals(List.of(2L, 7L), new ArrayList<>(references.getNodeKeys()));
+    assertTrue(references.isPresent(2));
+    assertTrue(references.removeNodeKey(2));
+    assertFalse(references.removeNodeKey(2));
+    assertFalse(references.contains(2));
+    assertEquals(Set.of(7L).hashCode(), references.hashCode());
+  }
+
+  private static NodeReferences references(final long... nodeKeys) {
+    final var references = new NodeReferences();
+    for (final long nodeKey : nodeKeys) {
+      references.addNodeKey(nodeKey);
+    }
+    return references;
+  }
+
+  private static List<Long> toList(final PrimitiveIterator.OfLong iterator) {
+    final List<Long> nodeKeys = new ArrayList<>();
+    iterator.forEachRemaining((long nodeKey) -> nodeKeys.add(nodeKey));
+    return nodeKeys;
+  }
+
+  private static NodeReferences serializeAndDeserialize(final NodeReferences references) throws IOException {
+    final var out = new ByteArrayOutputStream();
+    try (final var sink = new DataOutputStream(out)) {
+      references.serialize(sink);
+    }
+
+    try (final var source = new DataInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+      return NodeReferences.deserialize(source);
+    }
+  }
+}
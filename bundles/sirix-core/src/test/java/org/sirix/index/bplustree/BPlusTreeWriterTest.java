@@ -0,0 +1,233 @@
+package org.sirix.index.bplustree;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.api.json.JsonNodeTrx;
+import org.sirix.index.IndexEntry;
+import org.sirix.index.IndexType;
+import org.sirix.index.SearchMode;
+import org.sirix.index.avltree.AVLTreeReader.MoveCursor;
+import org.sirix.index.avltree.keyvalue.NodeReferences;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test {@link BPlusTreeWriter} and {@link BPlusTreeReader}.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class BPlusTreeWriterTest {
+
+  /** Number of keys, such that the inner nodes below the root node are split, too. */
+  private static final int NUMBER_OF_KEYS = 10_000;
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testInsertWithSplitsOfInnerNodes() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var trx = manager.beginNodeTrx()) {
+      final BPlusTreeWriter<Long, NodeReferences> writer = createWriter(trx);
+
+      for (final long key : shuffledKeys()) {
+        writer.index(key, new NodeReferences(Set.of(key)), MoveCursor.NO_MOVE);
+      }
+
+      final BPlusTreeReader<Long, NodeReferences> reader = writer.getReader();
+
+      // The root node and the nodes below it are inner nodes.
+      final var root = reader.getTreeNode(reader.getDocumentRoot().getFirstChildKey());
+      assertFalse(root.isLeaf());
+      assertFalse(reader.getTreeNode(root.getChildKey(0)).isLeaf());
+
+      assertEquals(NUMBER_OF_KEYS, reader.size());
+      assertEquals(LongStream.range(0, NUMBER_OF_KEYS).boxed().collect(Collectors.toList()), getKeys(reader.iterator()));
+      assertNodesAreBounded(reader, root);
+
+      for (long key = 0; key < NUMBER_OF_KEYS; key++) {
+        assertEquals(Set.of(key), reader.get(key, SearchMode.EQUAL).orElseThrow().getNodeKeys());
+      }
+
+      assertFalse(reader.get((long) NUMBER_OF_KEYS, SearchMode.EQUAL).isPresent());
+      assertEquals(Long.valueOf(NUMBER_OF_KEYS - 1),
+          getKeys(reader.iterator((long) NUMBER_OF_KEYS - 1, Comparator.naturalOrder())).get(0));
+    }
+  }
+
+  @Test
+  public void testRemove() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var trx = manager.beginNodeTrx()) {
+      final BPlusTreeWriter<Long, NodeReferences> writer = createWriter(trx);
+
+      for (final long key : shuffledKeys()) {
+        writer.index(key, new NodeReferences(Set.of(key, key + NUMBER_OF_KEYS)), MoveCursor.NO_MOVE);
+      }
+
+      // Keys are removed, once their last node key is removed.
+      for (long key = 0; key < NUMBER_OF_KEYS; key += 2) {
+        assertTrue(writer.remove(key, key));
+        assertTrue(writer.remove(key, key + NUMBER_OF_KEYS));
+      }
+
+      assertTrue(writer.remove(1L, 1));
+      assertFalse(writer.remove(1L, 1));
+      assertFalse(writer.remove(0L, 0));
+      assertFalse(writer.remove((long) NUMBER_OF_KEYS, 0));
+
+      final BPlusTreeReader<Long, NodeReferences> reader = writer.getReader();
+
+      assertEquals(NUMBER_OF_KEYS / 2, reader.size());
+      assertEquals(LongStream.range(0, NUMBER_OF_KEYS).filter(key -> key % 2 == 1).boxed().collect(Collectors.toList()),
+          getKeys(reader.iterator()));
+      assertFalse(reader.get(0L, SearchMode.EQUAL).isPresent());
+      assertEquals(Set.of(1L + NUMBER_OF_KEYS), reader.get(1L, SearchMode.EQUAL).orElseThrow().getNodeKeys());
+      assertEquals(Set.of(3L, 3L + NUMBER_OF_KEYS), reader.get(3L, SearchMode.EQUAL).orElseThrow().getNodeKeys());
+
+      // Removed keys are inserted again.
+      writer.index(0L, new NodeReferences(Set.of(0L)), MoveCursor.NO_MOVE);
+
+      assertEquals(NUMBER_OF_KEYS / 2 + 1, reader.size());
+      assertEquals(Set.of(0L), reader.get(0L, SearchMode.EQUAL).orElseThrow().getNodeKeys());
+    }
+  }
+
+  @Test
+  public void testLeavesAreSplitByNodeKeysOfPostings() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var trx = manager.beginNodeTrx()) {
+      final BPlusTreeWriter<Long, NodeReferences> writer = createWriter(trx);
+
+      // Every fourth posting exceeds the node keys of a leaf on its own.
+      for (long key = 0; key < 16; key++) {
+        writer.index(key, createReferences(key % 4 == 0 ? 2 * BPlusTreeNode.MAX_NUMBER_OF_NODE_KEYS : 1_000),
+            MoveCursor.NO_MOVE);
+      }
+
+      final BPlusTreeReader<Long, NodeReferences> reader = writer.getReader();
+
+      assertEquals(LongStream.range(0, 16).boxed().collect(Collectors.toList()), getKeys(reader.iterator()));
+      assertNodesAreBounded(reader, reader.getTreeNode(reader.getDocumentRoot().getFirstChildKey()));
+
+      // Postings grow while they are modified.
+      final NodeReferences references = reader.get(1L, SearchMode.EQUAL).orElseThrow();
+      LongStream.range(0, BPlusTreeNode.MAX_NUMBER_OF_NODE_KEYS).forEach(references::addNodeKey);
+      writer.index(1L, references, MoveCursor.NO_MOVE);
+
+      assertNodesAreBounded(reader, reader.getTreeNode(reader.getDocumentRoot().getFirstChildKey()));
+    }
+  }
+
+  @Test
+  public void testBulkLoad() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var trx = manager.beginNodeTrx()) {
+      final BPlusTreeWriter<Long, NodeReferences> writer = createWriter(trx);
+
+      final List<IndexEntry<Long, NodeReferences>> entries = new ArrayList<>();
+      for (long key = 0; key < NUMBER_OF_KEYS; key++) {
+        entries.add(createEntry(key, key % 1_000 == 0 ? createReferences(1_000) : new NodeReferences(Set.of(key))));
+      }
+
+      writer.bulkLoad(entries.iterator());
+
+      final BPlusTreeReader<Long, NodeReferences> reader = writer.getReader();
+
+      assertEquals(NUMBER_OF_KEYS, reader.size());
+      assertEquals(LongStream.range(0, NUMBER_OF_KEYS).boxed().collect(Collectors.toList()), getKeys(reader.iterator()));
+      assertNodesAreBounded(reader, reader.getTreeNode(reader.getDocumentRoot().getFirstChildKey()));
+
+      for (long key = 1; key < NUMBER_OF_KEYS; key += 1_000) {
+        assertEquals(Set.of(key), reader.get(key, SearchMode.EQUAL).orElseThrow().getNodeKeys());
+      }
+
+      // Entries, which are bulk loaded into an index, which isn't empty, are inserted one by one.
+      writer.bulkLoad(List.of(createEntry((long) NUMBER_OF_KEYS, new NodeReferences(Set.of(0L)))).iterator());
+
+      assertEquals(NUMBER_OF_KEYS + 1, reader.size());
+      assertEquals(Set.of(0L), reader.get((long) NUMBER_OF_KEYS, SearchMode.EQUAL).orElseThrow().getNodeKeys());
+    }
+  }
+
+  private static BPlusTreeWriter<Long, NodeReferences> createWriter(final JsonNodeTrx trx) {
+    return BPlusTreeWriter.getInstance(trx.getPageWtx(), IndexType.PATH, 0);
+  }
+
+  private static List<Long> shuffledKeys() {
+    final List<Long> keys = LongStream.range(0, NUMBER_OF_KEYS).boxed().collect(Collectors.toList());
+    Collections.shuffle(keys, new Random(42));
+    return keys;
+  }
+
+  private static NodeReferences createReferences(final long numberOfNodeKeys) {
+    final var references = new NodeReferences();
+    LongStream.range(0, numberOfNodeKeys).forEach(nodeKey -> references.addNodeKey(nodeKey * 2));
+    return references;
+  }
+
+  private static IndexEntry<Long, NodeReferences> createEntry(final Long key, final NodeReferences value) {
+    return new IndexEntry<>() {
+      @Override
+      public Long getKey() {
+        return key;
+      }
+
+      @Override
+      public NodeReferences getValue() {
+        return value;
+      }
+    };
+  }
+
+  private static List<Long> getKeys(final Iterator<IndexEntry<Long, NodeReferences>> entries) {
+    final List<Long> keys = new ArrayList<>();
+    entries.forEachRemaining(entry -> keys.add(entry.getKey()));
+    return keys;
+  }
+
+  /**
+   * Assert that the nodes of a subtree don't have too many keys, and that leaves with more than one key don't have
+   * too many node keys.
+   */
+  private static void assertNodesAreBounded(final BPlusTreeReader<Long, NodeReferences> reader,
+      final BPlusTreeNode<Long, NodeReferences> node) {
+    assertTrue(node.size() <= BPlusTreeNode.MAX_NUMBER_OF_KEYS);
+
+    if (node.isLeaf()) {
+      final long numberOfNodeKeys = node.getValues().stream().mapToLong(NodeReferences::getNumberOfNodeKeys).sum();
+      assertTrue(node.size() == 1 || numberOfNodeKeys <= BPlusTreeNode.MAX_NUMBER_OF_NODE_KEYS);
+      return;
+    }
+
+    assertEquals(node.size() + 1, node.getChildKeys().size());
+    for (final long childKey : node.getChildKeys()) {
+      assertNodesAreBounded(reader, reader.getTreeNode(childKey));
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package org.sirix.io;
+
+import org.junit.Test;
+import org.sirix.exception.SirixIOException;
+import org.sirix.page.PageReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public final class ChecksumTypeTest {
+
+  private static final byte[] PAGE = { 1, 2, 3, 4, 5, 6, 7, 8 };
+
+  @Test
+  public void testChecksumLengths() {
+    assertEquals(32, ChecksumType.SHA256.checksum(PAGE).length);
+    assertEquals(4, ChecksumType.CRC32C.checksum(PAGE).length);
+    assertNull(ChecksumType.NONE.checksum(PAGE));
+  }
+
+  @Test
+  public void testVerify() {
+    final PageReference reference = new PageReference().setKey(0);
+    reference.setHash(ChecksumType.CRC32C.checksum(PAGE));
+
+    ChecksumType.CRC32C.verify(reference, PAGE);
+  }
+
+  @Test(expected = SirixIOException.class)
+  public void testVerifyCorruptedPage() {
+    final PageReference reference = new PageReference().setKey(0);
+    reference.setHash(ChecksumType.CRC32C.checksum(PAGE));
+
+    final byte[] corruptedPage = PAGE.clone();
+    corruptedPage[3] ^= 1;
+    ChecksumType.CRC32C.verify(reference, corruptedPage);
+  }
+}
@@ -0,0 +1,111 @@
+package org.sirix.io.memorymapped;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public final class ChunkedMappedFileTest {
+
+  private static final int CHUNK_SIZE = 16;
+
+  private Path file;
+
+  private ChunkedMappedFile mappedFile;
+
+  @Before
+  public void setUp() throws IOException {
+    file = Files.createTempFile("sirix", ".data");
+    mappedFile = new ChunkedMappedFile(file, CHUNK_SIZE);
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    mappedFile.close();
+    Files.deleteIfExists(file);
+  }
+
+  @Test
+  public void testReadAcrossChunks() throws IOException {
+    final byte[] bytes = bytes(0, 40);
+    Files.write(file, bytes);
+
+    final byte[] read = new byte[30];
+    mappedFile.read(5, read);
+
+    assertArrayEquals(bytes(5, 30), read);
+  }
+
+  @Test
+  public void testReadAfterFileHasGrown() throws IOException {
+    Files.write(file, bytes(0, 10));
+
+    final byte[] read = new byte[10];
+    mappedFile.read(0, read);
+    assertArrayEquals(bytes(0, 10), read);
+
+    Files.write(file, bytes(10, 30), StandardOpenOption.APPEND);
+
+    final byte[] readAfterAppend = new byte[35];
+    mappedFile.read(5, readAfterAppend);
+    assertArrayEquals(bytes(5, 35), readAfterAppend);
+  }
+
+  @Test
+  public void testReadIntAndLongInNativeOrder() throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE + 2 + Long.BYTES).order(ByteOrder.nativeOrder());
+    buffer.putInt(CHUNK_SIZE - 2, 4711);
+    buffer.putLong(CHUNK_SIZE + 2, Long.MAX_VALUE - 1);
+    Files.write(file, buffer.array());
+
+    assertEquals(4711, mappedFile.readInt(CHUNK_SIZE - 2));
+    assertEquals(Long.MAX_VALUE - 1, mappedFile.readLong(CHUNK_SIZE + 2));
+  }
+
+  @Test
+  public void testReadWhileMappingIsTruncated() throws Exception {
+    final byte[] bytes = bytes(0, 64);
+    Files.write(file, bytes);
+
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      final Future<?> reads = executor.submit(() -> {
+        for (int i = 0; i < 10_000; i++) {
+          final byte[] read = new byte[40];
+          mappedFile.read(20, read);
+          assertArrayEquals(bytes(20, 40), read);
+        }
+      });
+
+      while (!reads.isDone()) {
+        // Only the mapping is dropped, the file keeps its content.
+        mappedFile.truncate(CHUNK_SIZE);
+        mappedFile.truncate(0);
+      }
+
+      reads.get();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static byte[] bytes(final int from, final int length) {
+    final byte[] bytes = new byte[length];
+    for (int i = 0; i < length; i++) {
+      bytes[i] = (byte) (from + i);
+    }
+    return bytes;
+  }
+}
@@ -0,0 +1,105 @@
+package org.sirix.node.json;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test {@link ArrayChunkDirectory}.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class ArrayChunkDirectoryTest {
+
+  @Test
+  public void testPositions() {
+    final ArrayChunkDirectory directory = new ArrayChunkDirectory(1);
+    directory.insertChunk(0, 10, 3);
+    directory.insertChunk(1, 20, 5);
+    directory.insertChunk(1, 15, 2);
+
+    assertEquals(10, directory.getNumberOfElements());
+    assertEquals(0, directory.getFirstPosition(0));
+    assertEquals(3, directory.getFirstPosition(1));
+    assertEquals(5, directory.getFirstPosition(2));
+    assertEquals(-1, directory.getChunk(-1));
+    assertEquals(0, directory.getChunk(2));
+    assertEquals(1, directory.getChunk(3));
+    assertEquals(2, directory.getChunk(9));
+    assertEquals(-1, directory.getChunk(10));
+    assertEquals(1, directory.getChunkOfFirstNodeKey(15));
+
+    directory.setSize(0, 1);
+
+    assertEquals(8, directory.getNumberOfElements());
+    assertEquals(1, directory.getFirstPosition(1));
+    assertEquals(3, directory.getFirstPosition(2));
+    assertEquals(1, directory.getChunk(2));
+
+    directory.removeChunk(1);
+
+    assertEquals(6, directory.getNumberOfElements());
+    assertEquals(1, directory.getFirstPosition(1));
+    assertEquals(20, directory.getFirstNodeKey(1));
+    assertEquals(1, directory.getChunk(5));
+  }
+
+  @Test
+  public void testPositionsComparedToSizes() {
+    final Random random = new Random(42);
+    final ArrayChunkDirectory directory = new ArrayChunkDirectory(1);
+    final List<Integer> sizes = new ArrayList<>();
+
+    for (int i = 0; i < 2_000; i++) {
+      final int operation = random.nextInt(4);
+
+      if (sizes.isEmpty() || operation == 0) {
+        final int chunk = random.nextInt(sizes.size() + 1);
+        final int size = 1 + random.nextInt(ArrayChunkDirectory.MAX_CHUNK_SIZE);
+        directory.insertChunk(chunk, i, size);
+        sizes.add(chunk, size);
+      } else if (operation == 1 && sizes.size() > 1) {
+        final int chunk = random.nextInt(sizes.size());
+        directory.removeChunk(chunk);
+        sizes.remove(chunk);
+      } else {
+        final int chunk = random.nextInt(sizes.size());
+        final int size = 1 + random.nextInt(ArrayChunkDirectory.MAX_CHUNK_SIZE);
+        directory.setSize(chunk, size);
+        sizes.set(chunk, size);
+      }
+
+      assertPositions(sizes, directory);
+    }
+
+    // A directory, which is deserialized, derives the positions from the sizes.
+    final int numberOfChunks = directory.getNumberOfChunks();
+    final long[] firstNodeKeys = new long[numberOfChunks];
+    final int[] chunkSizes = new int[numberOfChunks];
+    for (int chunk = 0; chunk < numberOfChunks; chunk++) {
+      firstNodeKeys[chunk] = directory.getFirstNodeKey(chunk);
+      chunkSizes[chunk] = directory.getSize(chunk);
+    }
+    assertPositions(sizes, new ArrayChunkDirectory(1, firstNodeKeys, chunkSizes, numberOfChunks));
+  }
+
+  private static void assertPositions(final List<Integer> sizes, final ArrayChunkDirectory directory) {
+    assertEquals(sizes.size(), directory.getNumberOfChunks());
+
+    long position = 0;
+    for (int chunk = 0; chunk < sizes.size(); chunk++) {
+      assertEquals(sizes.get(chunk).intValue(), directory.getSize(chunk));
+      assertEquals(position, directory.getFirstPosition(chunk));
+      assertEquals(chunk, directory.getChunk(position));
+      assertEquals(chunk, directory.getChunk(position + sizes.get(chunk) - 1));
+      position += sizes.get(chunk);
+    }
+
+    assertEquals(position, directory.getNumberOfElements());
+    assertEquals(-1, directory.getChunk(position));
+  }
+}
@@ -22,6 +22,9 @@
 package org.sirix.page;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
@@ -29,6 +32,8 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.brackit.xquery.atomic.QNm;
 import org.junit.After;
@@ -38,10 +43,12 @@ import org.sirix.Holder;
 import org.sirix.XmlTestHelper;
 import org.sirix.api.PageReadOnlyTrx;
 import org.sirix.exception.SirixException;
+import org.sirix.node.NodeKind.DumbNode;
 import org.sirix.node.SirixDeweyID;
 import org.sirix.node.delegates.NameNodeDelegate;
 import org.sirix.node.delegates.NodeDelegate;
 import org.sirix.node.delegates.StructNodeDelegate;
+import org.sirix.node.interfaces.DataRecord;
 import org.sirix.node.interfaces.NameNode;
 import org.sirix.node.xml.ElementNode;
 import org.sirix.utils.NamePageHash;
@@ -121,4 +128,65 @@ public final class NodePageTest {
     assertEquals(7, ((NameNode) page2.getValue(0l)).getLocalNameKey());
     assertEquals(NamePageHash.generateHashForString("xs:untyped"), element.getTypeKey());
   }
+
+  @Test
+  public void testReferencesToOverflowPagesAreAllocatedLazily() {
+    final UnorderedKeyValuePage page = new UnorderedKeyValuePage(1L, PageKind.RECORDPAGE, List.of(), mPageReadTrx);
+    page.setEntry(1025L, new DumbNode(1025L));
+
+    assertEquals(1, page.getNumberOfOffsetArrays());
+    assertNull(page.getPageReference(1030L));
+    assertEquals(0, page.referenceEntrySet().size());
+
+    final PageReference reference = new PageReference();
+    page.setPageReference(1030L, reference);
+
+    assertEquals(2, page.getNumberOfOffsetArrays());
+    assertSame(reference, page.getPageReference(1030L));
+    assertEquals(2, page.size());
+  }
+
+  @Test
+  public void testReferencesToOverflowPagesAreSharedWithClones() throws IOException {
+    final UnorderedKeyValuePage page = new UnorderedKeyValuePage(1L, PageKind.RECORDPAGE, List.of(), mPageReadTrx);
+    final UnorderedKeyValuePage clone = new UnorderedKeyValuePage(mPageReadTrx, page);
+
+    // The references are created, once the clone stores a record in an overflow page.
+    final PageReference reference = new PageReference();
+    reference.setKey(42L);
+    clone.setPageReference(1030L, reference);
+
+    assertSame(reference, page.getPageReference(1030L));
+    assertEquals(1, page.referenceEntrySet().size());
+    assertEquals(1, page.size());
+    assertFalse(page.hasUnwrittenOverflowPages());
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final PagePersister pagePersister = new PagePersister();
+    pagePersister.serializePage(new DataOutputStream(out), page, SerializationType.DATA);
+    final UnorderedKeyValuePage deserializedPage = (UnorderedKeyValuePage) pagePersister.deserializePage(
+        new DataInputStream(new ByteArrayInputStream(out.toByteArray())), mPageReadTrx, SerializationType.DATA);
+
+    assertEquals(42L, deserializedPage.getPageReference(1030L).getKey());
+  }
+
+  @Test
+  public void testEntriesAreOrderedByRecordKey() {
+    final UnorderedKeyValuePage page = new UnorderedKeyValuePage(1L, PageKind.RECORDPAGE, List.of(), mPageReadTrx);
+    page.setEntry(1030L, new DumbNode(1030L));
+    page.setEntry(1025L, new DumbNode(1025L));
+    page.setEntry(2047L, new DumbNode(2047L));
+    final PageReference reference = new PageReference();
+    page.setPageReference(1100L, reference);
+
+    assertEquals(4, page.size());
+    assertEquals(List.of(1025L, 1030L, 2047L),
+        page.entrySet().stream().map(Map.Entry::getKey).collect(Collectors.toList()));
+    assertEquals(List.of(1025L, 1030L, 2047L),
+        page.values().stream().map(DataRecord::getNodeKey).collect(Collectors.toList()));
+    assertEquals(1030L, page.getValue(1030L).getNodeKey());
+    assertNull(page.getValue(1026L));
+    assertEquals(reference, page.getPageReference(1100L));
+    assertEquals(1100L, (long) page.referenceEntrySet().iterator().next().getKey());
+  }
 }
@@ -1,18 +1,28 @@
 package org.sirix.service.json;
 
+import com.google.common.collect.ImmutableSet;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.sirix.JsonTestHelper;
 import org.sirix.access.trx.node.json.objectvalue.StringValue;
+import org.sirix.api.json.JsonResourceManager;
+import org.sirix.diff.DiffDepth;
+import org.sirix.diff.DiffFactory;
+import org.sirix.diff.DiffFactory.DiffType;
+import org.sirix.diff.DiffObserver;
 import org.sirix.service.json.shredder.JsonShredder;
 
+import javax.annotation.Nonnull;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public final class BasicJsonDiffTest {
   private static final Path JSON = Paths.get("src", "test", "resources", "json");
@@ -50,6 +60,132 @@ public final class BasicJsonDiffTest {
     }
   }
 
+  @Test
+  public void test_whenMultipleRevisionsExist_thenDiffUsingPageReferences() throws IOException {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    assert database != null;
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.moveTo(15);
+      final var nodeKey = wtx.insertObjectRecordAsRightSibling("hereIAm", new StringValue("yeah")).getParentKey();
+      wtx.commit();
+      wtx.moveTo(nodeKey);
+      wtx.insertObjectRecordAsRightSibling("111hereIAm", new StringValue("111yeah"));
+      wtx.commit();
+
+      final String diffRev1Rev2 = new BasicJsonDiff(true).generateDiff(manager, 1, 2);
+      assertEquals(Files.readString(JSON.resolve("basicJsonDiffTest").resolve("diffRev1Rev2.json")), diffRev1Rev2);
+
+      final String diffRev1Rev3 = new BasicJsonDiff(true).generateDiff(manager, 1, 3);
+      assertEquals(Files.readString(JSON.resolve("basicJsonDiffTest").resolve("diffRev1Rev3.json")), diffRev1Rev3);
+    }
+  }
+
+  @Test
+  public void test_whenSubtreeIsRemoved_thenDiffUsingPageReferences() {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      // Remove the object key "bar" and its object value.
+      wtx.moveTo(7);
+      wtx.remove();
+      wtx.commit();
+
+      final String diff = assertDiffUsingPageReferencesEqualsFullDiff(manager);
+      assertTrue(diff.contains("\"delete\""));
+    }
+  }
+
+  @Test
+  public void test_whenValuesAreChanged_thenDiffUsingPageReferences() {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.moveTo(12);
+      wtx.setBooleanValue(false);
+      wtx.moveTo(14);
+      wtx.setStringValue("world");
+      wtx.commit();
+
+      final String diff = assertDiffUsingPageReferencesEqualsFullDiff(manager);
+      assertTrue(diff.contains("\"update\""));
+    }
+  }
+
+  @Test
+  public void test_whenKeyNameIsChanged_thenDiffUsingPageReferences() {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      wtx.moveTo(13);
+      wtx.setObjectKeyName("bazz");
+      wtx.commit();
+
+      final String diff = assertDiffUsingPageReferencesEqualsFullDiff(manager);
+      assertTrue(diff.contains("\"name\":\"bazz\""));
+    }
+  }
+
+  @Test
+  public void test_whenSubtreeIsRemoved_thenDiffUsingPageReferencesReportsSubtreeOnlyIfNotSkipped() {
+    JsonTestHelper.createTestDocument();
+
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      // Remove the object key "bar" and its object value with two object records.
+      wtx.moveTo(7);
+      wtx.remove();
+      wtx.commit();
+
+      assertEquals(List.of(7L), getDeletedNodeKeysUsingPageReferences(manager, true));
+      assertEquals(List.of(7L, 8L, 9L, 10L, 11L, 12L), getDeletedNodeKeysUsingPageReferences(manager, false));
+    }
+  }
+
+  /**
+   * Assert that the diff of the first and the second revision, which compares the changed record pages, equals the
+   * diff, which traverses the node trees.
+   *
+   * @return the diff
+   */
+  private static String assertDiffUsingPageReferencesEqualsFullDiff(final JsonResourceManager manager) {
+    final String diff = new BasicJsonDiff().generateDiff(manager, 1, 2);
+    assertEquals(diff, new BasicJsonDiff(true).generateDiff(manager, 1, 2));
+    return diff;
+  }
+
+  private static List<Long> getDeletedNodeKeysUsingPageReferences(final JsonResourceManager manager,
+      final boolean skipSubtrees) {
+    final List<Long> deletedNodeKeys = new ArrayList<>();
+    final DiffObserver observer = new DiffObserver() {
+      @Override
+      public void diffListener(@Nonnull final DiffType diffType, final long newNodeKey, final long oldNodeKey,
+          @Nonnull final DiffDepth depth) {
+        if (diffType == DiffType.DELETED) {
+          deletedNodeKeys.add(oldNodeKey);
+        }
+      }
+
+      @Override
+      public void diffDone() {
+      }
+    };
+
+    DiffFactory.invokePageReferenceDiff(
+        new DiffFactory.Builder<>(manager, 2, 1, DiffFactory.DiffOptimized.NO, ImmutableSet.of(observer)).skipSubtrees(
+            skipSubtrees));
+    return deletedNodeKeys;
+  }
+
   @Test
   public void test_whenMultipleRevisionsExist_thenDiff2() throws IOException {
     JsonTestHelper.createTestDocument();
@@ -0,0 +1,41 @@
+package org.sirix.rest
+
+import io.netty.handler.codec.http.HttpResponseStatus
+import io.vertx.core.Handler
+import io.vertx.core.http.HttpServerResponse
+import io.vertx.ext.web.RoutingContext
+import io.vertx.ext.web.handler.impl.HttpStatusException
+
+/**
+ * Reports the failure of a request with its status code and message. If part of the response has already been
+ * streamed, the status code can't be changed anymore, so the connection is closed instead, such that the client
+ * doesn't take the truncated response for a complete one.
+ */
+class FailureHandler : Handler<RoutingContext> {
+    override fun handle(failureRoutingContext: RoutingContext) {
+        val response = failureRoutingContext.response()
+
+        if (response.headWritten()) {
+            if (!response.closed())
+                response.close()
+
+            return
+        }
+
+        val statusCode = failureRoutingContext.statusCode()
+        val failure = failureRoutingContext.failure()
+
+        if (statusCode == -1) {
+            if (failure is HttpStatusException)
+                response(response, failure.statusCode, failure.message)
+            else
+                response(response, HttpResponseStatus.INTERNAL_SERVER_ERROR.code(), failure.message)
+        } else {
+            response(response, statusCode, failure?.message)
+        }
+    }
+
+    private fun response(response: HttpServerResponse, statusCode: Int, failureMessage: String?) {
+        response.setStatusCode(statusCode).end("Failure calling the RESTful API: $failureMessage")
+    }
+}
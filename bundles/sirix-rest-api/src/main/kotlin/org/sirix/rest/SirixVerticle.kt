@@ -4,7 +4,6 @@ import io.netty.handler.codec.http.HttpResponseStatus
 import io.vertx.core.http.HttpHeaders
 import io.vertx.core.http.HttpMethod
 import io.vertx.core.http.HttpServer
-import io.vertx.core.http.HttpServerResponse
 import io.vertx.core.json.DecodeException
 import io.vertx.core.json.JsonObject
 import io.vertx.core.net.PemKeyCertOptions
@@ -42,7 +41,38 @@ class SirixVerticle : CoroutineVerticle() {
     /** Storage for databases: Sirix data in home directory. */
     private val location = Paths.get(userHome, "sirix-data")
 
+    /** Keeps databases open across requests. */
+    private lateinit var sessionPool: DatabaseSessionPool
+
+    /** Keeps query results open across requests, which are serialized page by page. */
+    private lateinit var cursorStore: QueryCursorStore
+
+    /** Commits patches of JSON resources, optionally concurrent ones at once. */
+    private lateinit var patchCommitter: JsonPatchCommitter
+
     override suspend fun start() {
+        val maxIdleTime = config.getLong("session.maxIdleTime", DatabaseSessionPool.DEFAULT_MAX_IDLE_TIME)
+        sessionPool = DatabaseSessionPool(location, maxIdleTime)
+
+        vertx.setPeriodic(maxIdleTime) {
+            vertx.executeBlocking<Unit>({ promise ->
+                sessionPool.evictIdleDatabases()
+                promise.complete()
+            }, {})
+        }
+
+        val cursorTimeToLive = config.getLong("cursor.timeToLive", QueryCursorStore.DEFAULT_TIME_TO_LIVE)
+        cursorStore = QueryCursorStore(cursorTimeToLive)
+
+        vertx.setPeriodic(cursorTimeToLive) {
+            vertx.executeBlocking<Unit>({ promise ->
+                cursorStore.evictExpiredCursors()
+                promise.complete()
+            }, {})
+        }
+
+        patchCommitter = JsonPatchCommitter(location, config.getBoolean("patch.groupCommit", false))
+
         val router = createRouter()
 
         // Start an HTTP/2 server
@@ -70,6 +100,11 @@ class SirixVerticle : CoroutineVerticle() {
         }
     }
 
+    override suspend fun stop() {
+        cursorStore.close()
+        sessionPool.close()
+    }
+
     private suspend fun listen(server: HttpServer, router: Router, port: Int) {
         server.requestHandler { router.handle(it) }
             .listenAwait(config.getInteger("port", port))
@@ -115,7 +150,7 @@ class SirixVerticle : CoroutineVerticle() {
                     "cors.allowedOriginPattern",
                     "*"
                 )
-            ).allowedHeaders(allowedHeaders).allowedMethods(allowedMethods).allowCredentials(
+            ).allowedHeaders(allowedHeaders).allowedMethods(allowedMethods).exposedHeader(QueryCursor.CURSOR_HEADER).allowCredentials(
                 config.getBoolean("cors.allowCredentials", false)
             )
         )
@@ -179,21 +214,21 @@ class SirixVerticle : CoroutineVerticle() {
             Auth(keycloak, AuthRole.VIEW).handle(it)
             it.next()
         }.handler(BodyHandler.create()).coroutineHandler {
-            GetHandler(location).handle(it)
+            GetHandler(location, sessionPool, cursorStore).handle(it)
         }
 
         get("/").coroutineHandler {
             Auth(keycloak, AuthRole.VIEW).handle(it)
             it.next()
         }.coroutineHandler {
-            GetHandler(location).handle(it)
+            GetHandler(location, sessionPool, cursorStore).handle(it)
         }
 
         delete("/").coroutineHandler {
             Auth(keycloak, AuthRole.DELETE).handle(it)
             it.next()
         }.coroutineHandler {
-            DeleteHandler(location).handle(it)
+            DeleteHandler(location, sessionPool).handle(it)
         }
 
         // "/:database"
@@ -201,34 +236,34 @@ class SirixVerticle : CoroutineVerticle() {
             Auth(keycloak, AuthRole.CREATE).handle(it)
             it.next()
         }.handler(BodyHandler.create()).coroutineHandler {
-            CreateMultipleResources(location).handle(it)
+            CreateMultipleResources(location, sessionPool).handle(it)
         }
 
         get("/:database").coroutineHandler {
             Auth(keycloak, AuthRole.VIEW).handle(it)
             it.next()
         }.coroutineHandler {
-            GetHandler(location).handle(it)
+            GetHandler(location, sessionPool, cursorStore).handle(it)
         }
 
         put("/:database").consumes("application/xml").coroutineHandler {
             Auth(keycloak, AuthRole.CREATE).handle(it)
             it.next()
         }.handler(BodyHandler.create()).coroutineHandler {
-            XmlCreate(location, false).handle(it)
+            XmlCreate(location, sessionPool, false).handle(it)
         }
         put("/:database").consumes("application/json").coroutineHandler {
             Auth(keycloak, AuthRole.CREATE).handle(it)
             it.next()
         }.coroutineHandler {
-            JsonCreate(location, true).handle(it)
+            JsonCreate(location, sessionPool, true).handle(it)
         }
 
         delete("/:database").coroutineHandler {
             Auth(keycloak, AuthRole.DELETE).handle(it)
             it.next()
         }.coroutineHandler {
-            DeleteHandler(location).handle(it)
+            DeleteHandler(location, sessionPool).handle(it)
         }
 
         // "/:database/:resource"
@@ -236,14 +271,14 @@ class SirixVerticle : CoroutineVerticle() {
             Auth(keycloak, AuthRole.VIEW).handle(it)
             it.next()
         }.coroutineHandler {
-            XmlHead(location).handle(it)
+            XmlHead(sessionPool).handle(it)
         }
 
         head("/:database/:resource").produces("application/json").coroutineHandler {
             Auth(keycloak, AuthRole.VIEW).handle(it)
             it.next()
         }.coroutineHandler {
-            JsonHead(location).handle(it)
+            JsonHead(sessionPool).handle(it)
         }
 
         post("/:database/:resource")
@@ -253,7 +288,7 @@ class SirixVerticle : CoroutineVerticle() {
                 Auth(keycloak, AuthRole.MODIFY).handle(it)
                 it.next()
             }.handler(BodyHandler.create()).coroutineHandler {
-                XmlUpdate(location).handle(it)
+                XmlUpdate(location, sessionPool).handle(it)
             }
         post("/:database/:resource")
             .consumes("application/json")
@@ -262,7 +297,17 @@ class SirixVerticle : CoroutineVerticle() {
                 Auth(keycloak, AuthRole.MODIFY).handle(it)
                 it.next()
             }.handler(BodyHandler.create()).coroutineHandler {
-                JsonUpdate(location).handle(it)
+                JsonUpdate(location, sessionPool).handle(it)
+            }
+
+        patch("/:database/:resource")
+            .consumes("application/json")
+            .produces("application/json")
+            .coroutineHandler {
+                Auth(keycloak, AuthRole.MODIFY).handle(it)
+                it.next()
+            }.handler(BodyHandler.create()).coroutineHandler {
+                JsonPatch(sessionPool, patchCommitter).handle(it)
             }
 
         post("/:database/:resource")
@@ -270,34 +315,34 @@ class SirixVerticle : CoroutineVerticle() {
                 Auth(keycloak, AuthRole.VIEW).handle(it)
                 it.next()
             }.handler(BodyHandler.create()).coroutineHandler {
-                GetHandler(location).handle(it)
+                GetHandler(location, sessionPool, cursorStore).handle(it)
             }
 
         get("/:database/:resource").coroutineHandler {
             Auth(keycloak, AuthRole.VIEW).handle(it)
             it.next()
         }.coroutineHandler {
-            GetHandler(location).handle(it)
+            GetHandler(location, sessionPool, cursorStore).handle(it)
         }
 
         put("/:database/:resource").consumes("application/xml").coroutineHandler {
             Auth(keycloak, AuthRole.CREATE).handle(it)
             it.next()
         }.coroutineHandler {
-            XmlCreate(location, false).handle(it)
+            XmlCreate(location, sessionPool, false).handle(it)
         }
         put("/:database/:resource").consumes("application/json").coroutineHandler {
             Auth(keycloak, AuthRole.CREATE).handle(it)
             it.next()
         }.coroutineHandler {
-            JsonCreate(location, false).handle(it)
+            JsonCreate(location, sessionPool, false).handle(it)
         }
 
         delete("/:database/:resource").coroutineHandler {
             Auth(keycloak, AuthRole.DELETE).handle(it)
             it.next()
         }.coroutineHandler {
-            DeleteHandler(location).handle(it)
+            DeleteHandler(location, sessionPool).handle(it)
         }
 
         // "/:database/:resource/subroutes"
@@ -305,19 +350,19 @@ class SirixVerticle : CoroutineVerticle() {
             Auth(keycloak, AuthRole.VIEW).handle(it)
             it.next()
         }.coroutineHandler {
-            HistoryHandler(location).handle(it)
+            HistoryHandler(sessionPool).handle(it)
         }
         get("/:database/:resource/diff").produces("application/json").coroutineHandler {
             Auth(keycloak, AuthRole.VIEW).handle(it)
             it.next()
         }.coroutineHandler {
-            DiffHandler(location).handle(it)
+            DiffHandler(sessionPool).handle(it)
         }
         get("/:database/:resource/pathSummary").produces("application/json").coroutineHandler {
             Auth(keycloak, AuthRole.VIEW).handle(it)
             it.next()
         }.coroutineHandler {
-            PathSummaryHandler(location).handle(it)
+            PathSummaryHandler(sessionPool).handle(it)
         }
 
         // Exception with status code
@@ -325,22 +370,7 @@ class SirixVerticle : CoroutineVerticle() {
             ctx.fail(HttpStatusException(HttpResponseStatus.NOT_FOUND.code()))
         }
 
-        route().failureHandler { failureRoutingContext ->
-            val statusCode = failureRoutingContext.statusCode()
-            val failure = failureRoutingContext.failure()
-
-            if (statusCode == -1) {
-                if (failure is HttpStatusException)
-                    response(failureRoutingContext.response(), failure.statusCode, failure.message)
-                else
-                    response(
-                        failureRoutingContext.response(), HttpResponseStatus.INTERNAL_SERVER_ERROR.code(),
-                        failure.message
-                    )
-            } else {
-                response(failureRoutingContext.response(), statusCode, failure?.message)
-            }
-        }
+        route().failureHandler(FailureHandler())
     }
 
     private suspend fun getToken(
@@ -384,10 +414,6 @@ class SirixVerticle : CoroutineVerticle() {
         }
     }
 
-    private fun response(response: HttpServerResponse, statusCode: Int, failureMessage: String?) {
-        response.setStatusCode(statusCode).end("Failure calling the RESTful API: $failureMessage")
-    }
-
     /**
      * An extension method for simplifying coroutines usage with Vert.x Web routers.
      */
@@ -22,12 +22,17 @@ import java.math.BigInteger
 import java.nio.file.Files
 import java.nio.file.Path
 
-abstract class AbstractDeleteHandler(protected val location: Path) {
+abstract class AbstractDeleteHandler(
+    protected val location: Path,
+    protected val sessionPool: DatabaseSessionPool
+) {
     protected suspend fun dropDatabasesOfType(ctx: RoutingContext, dbType: DatabaseType) {
         // Initialize queryResource context and store.
         val dbStore = createStore(ctx)
 
         ctx.vertx().executeBlockingAwait { promise: Promise<Unit> ->
+            sessionPool.invalidateAll()
+
             val databases = Files.list(location)
 
             databases.use {
@@ -6,7 +6,7 @@ import org.sirix.rest.crud.json.JsonCreate
 import org.sirix.rest.crud.xml.XmlCreate
 import java.nio.file.Path
 
-class CreateMultipleResources(private val location: Path) {
+class CreateMultipleResources(private val location: Path, private val sessionPool: DatabaseSessionPool) {
     suspend fun handle(ctx: RoutingContext): Route {
         val fileUploads = ctx.fileUploads()
         var isXmlFiles = false
@@ -33,8 +33,8 @@ class CreateMultipleResources(private val location: Path) {
             }
         }
 
-        if (isXmlFiles) XmlCreate(location, true).handle(ctx)
-        else if (isJsonFiles) JsonCreate(location, true).handle(ctx)
+        if (isXmlFiles) XmlCreate(location, sessionPool, true).handle(ctx)
+        else if (isJsonFiles) JsonCreate(location, sessionPool, true).handle(ctx)
 
         return ctx.currentRoute()
     }
@@ -0,0 +1,34 @@
+package org.sirix.rest.crud
+
+import org.sirix.api.Database
+import org.sirix.api.ResourceManager
+import java.io.Closeable
+
+/**
+ * A lease of a pooled database. Resource managers opened through the session are kept open by the database and must
+ * not be closed by handlers.
+ */
+class DatabaseSession<T : ResourceManager<*, *>> internal constructor(
+    val database: Database<T>,
+    private val onClose: () -> Unit
+) : Closeable {
+    private var isClosed = false
+
+    /**
+     * Open a resource manager or get the already opened one.
+     *
+     * @param resourceName the name of the resource
+     * @return the resource manager
+     */
+    fun openResourceManager(resourceName: String): T {
+        return database.openResourceManager(resourceName)
+    }
+
+    override fun close() {
+        if (isClosed)
+            return
+
+        isClosed = true
+        onClose()
+    }
+}
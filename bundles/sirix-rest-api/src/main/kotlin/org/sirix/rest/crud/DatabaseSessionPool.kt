@@ -0,0 +1,218 @@
+package org.sirix.rest.crud
+
+import io.vertx.core.Promise
+import io.vertx.core.Vertx
+import io.vertx.kotlin.core.executeBlockingAwait
+import org.sirix.access.DatabaseType
+import org.sirix.access.Databases
+import org.sirix.api.Database
+import org.sirix.api.ResourceManager
+import org.sirix.api.json.JsonResourceManager
+import org.sirix.api.xml.XmlResourceManager
+import java.nio.file.Path
+
+/**
+ * Keeps databases open across requests, such that their resource managers, the buffer managers of the resources and
+ * the most recent uber pages aren't reopened, re-read and thus cold on every request.
+ *
+ * Databases are leased by handlers through [DatabaseSession]s and reference counted. A database, which hasn't been
+ * leased for `maxIdleTime` milliseconds is closed by [evictIdleDatabases]. Handlers, which modify, create or remove
+ * a database or one of its resources through another database instance (as they have to act on behalf of the
+ * authenticated user), must [invalidate] the pooled database, such that subsequent requests don't read stale
+ * revisions. An invalidated database is closed once the last lease is closed. Handlers running on an event loop use
+ * [invalidating] or [invalidateAwait], which close the databases on a worker thread.
+ */
+class DatabaseSessionPool(
+    private val location: Path,
+    private val maxIdleTime: Long = DEFAULT_MAX_IDLE_TIME
+) {
+    companion object {
+        /** The default time in milliseconds, after which a database, which isn't leased, is closed. */
+        const val DEFAULT_MAX_IDLE_TIME = 5 * 60 * 1000L
+    }
+
+    private data class Key(val file: Path, val databaseType: DatabaseType)
+
+    private class PooledDatabase(val database: Database<*>) {
+        var references = 0
+
+        var lastAccess = System.currentTimeMillis()
+
+        var isInvalidated = false
+    }
+
+    private val databases = HashMap<Key, PooledDatabase>()
+
+    /**
+     * Lease a JSON database.
+     *
+     * @param databaseName the name of the database
+     * @return the session, which must be closed once the database isn't used anymore
+     */
+    fun openJsonDatabase(databaseName: String): DatabaseSession<JsonResourceManager> {
+        @Suppress("UNCHECKED_CAST")
+        return acquire(databaseName, DatabaseType.JSON) as DatabaseSession<JsonResourceManager>
+    }
+
+    /**
+     * Lease an XML database.
+     *
+     * @param databaseName the name of the database
+     * @return the session, which must be closed once the database isn't used anymore
+     */
+    fun openXmlDatabase(databaseName: String): DatabaseSession<XmlResourceManager> {
+        @Suppress("UNCHECKED_CAST")
+        return acquire(databaseName, DatabaseType.XML) as DatabaseSession<XmlResourceManager>
+    }
+
+    /**
+     * Lease a database of either type.
+     *
+     * @param databaseName the name of the database
+     * @return the session, which must be closed once the database isn't used anymore
+     */
+    fun openDatabase(databaseName: String): DatabaseSession<*> {
+        return acquire(databaseName, Databases.getDatabaseType(location.resolve(databaseName).toAbsolutePath()))
+    }
+
+    @Synchronized
+    private fun acquire(databaseName: String, databaseType: DatabaseType): DatabaseSession<*> {
+        val file = location.resolve(databaseName).toAbsolutePath()
+        val key = Key(file, databaseType)
+
+        val pooledDatabase = databases.getOrPut(key) {
+            @Suppress("WHEN_ENUM_CAN_BE_NULL_IN_JAVA")
+            val database = when (databaseType) {
+                DatabaseType.JSON -> Databases.openJsonDatabase(file)
+                DatabaseType.XML -> Databases.openXmlDatabase(file)
+            }
+
+            PooledDatabase(database)
+        }
+
+        pooledDatabase.references++
+        pooledDatabase.lastAccess = System.currentTimeMillis()
+
+        @Suppress("UNCHECKED_CAST")
+        val database = pooledDatabase.database as Database<ResourceManager<*, *>>
+
+        return DatabaseSession(database) { release(pooledDatabase) }
+    }
+
+    @Synchronized
+    private fun release(pooledDatabase: PooledDatabase) {
+        pooledDatabase.references--
+        pooledDatabase.lastAccess = System.currentTimeMillis()
+
+        if (pooledDatabase.isInvalidated && pooledDatabase.references == 0) {
+            pooledDatabase.database.close()
+        }
+    }
+
+    /**
+     * Remove a database from the pool. It's closed immediately, if it isn't leased, otherwise once the last lease is
+     * closed.
+     *
+     * @param databaseName the name of the database
+     */
+    fun invalidate(databaseName: String) {
+        remove(databaseName).forEach { it.close() }
+    }
+
+    /**
+     * Remove a database from the pool. If it isn't leased, it's closed on a worker thread, such that the event loop
+     * isn't blocked, otherwise once the last lease is closed.
+     *
+     * @param vertx the Vert.x instance
+     * @param databaseName the name of the database
+     */
+    suspend fun invalidateAwait(vertx: Vertx, databaseName: String) {
+        val databasesToClose = remove(databaseName)
+
+        if (databasesToClose.isNotEmpty()) {
+            vertx.executeBlockingAwait { promise: Promise<Unit> ->
+                databasesToClose.forEach { it.close() }
+                promise.complete(null)
+            }
+        }
+    }
+
+    /**
+     * Run a block, which modifies a database, creates or removes it or one of its resources. The pooled database is
+     * invalidated beforehand, such that resources to remove aren't kept open by the pool, and afterwards, such that
+     * databases pooled in the meantime don't serve stale revisions.
+     *
+     * @param vertx the Vert.x instance
+     * @param databaseName the name of the database
+     * @param block the block to run
+     * @return the result of the block
+     */
+    suspend inline fun <T> invalidating(vertx: Vertx, databaseName: String, block: () -> T): T {
+        invalidateAwait(vertx, databaseName)
+
+        try {
+            return block()
+        } finally {
+            invalidateAwait(vertx, databaseName)
+        }
+    }
+
+    /**
+     * Remove the databases with the given name from the pool and mark them as invalidated.
+     *
+     * @return the removed databases, which aren't leased and thus have to be closed
+     */
+    @Synchronized
+    private fun remove(databaseName: String): List<Database<*>> {
+        val file = location.resolve(databaseName).toAbsolutePath()
+
+        return DatabaseType.values().mapNotNull { databaseType ->
+            databases.remove(Key(file, databaseType))?.let { invalidate(it) }
+        }
+    }
+
+    /**
+     * Remove all databases from the pool.
+     */
+    @Synchronized
+    fun invalidateAll() {
+        databases.values.forEach { invalidate(it)?.close() }
+        databases.clear()
+    }
+
+    /**
+     * Mark a pooled database as invalidated.
+     *
+     * @return the database, if it isn't leased and thus has to be closed, `null` otherwise
+     */
+    private fun invalidate(pooledDatabase: PooledDatabase): Database<*>? {
+        pooledDatabase.isInvalidated = true
+
+        return if (pooledDatabase.references == 0) pooledDatabase.database else null
+    }
+
+    /**
+     * Close all databases, which haven't been leased for the maximum idle time.
+     */
+    @Synchronized
+    fun evictIdleDatabases() {
+        val now = System.currentTimeMillis()
+        val iterator = databases.values.iterator()
+
+        while (iterator.hasNext()) {
+            val pooledDatabase = iterator.next()
+
+            if (pooledDatabase.references == 0 && now - pooledDatabase.lastAccess >= maxIdleTime) {
+                iterator.remove()
+                pooledDatabase.database.close()
+            }
+        }
+    }
+
+    /**
+     * Close all databases.
+     */
+    fun close() {
+        invalidateAll()
+    }
+}
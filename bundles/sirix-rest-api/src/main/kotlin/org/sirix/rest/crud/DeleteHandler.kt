@@ -11,10 +11,12 @@ import org.sirix.rest.crud.xml.XmlDelete
 import java.nio.file.Files
 import java.nio.file.Path
 
-class DeleteHandler(private val location: Path) {
+class DeleteHandler(private val location: Path, private val sessionPool: DatabaseSessionPool) {
     suspend fun handle(ctx: RoutingContext): Route {
         if (ctx.pathParam("database") == null && ctx.pathParam("resource") == null) {
             ctx.vertx().executeBlockingAwait { _: Promise<Unit> ->
+                sessionPool.invalidateAll()
+
                 val databases = Files.list(location)
 
                 databases.use {
@@ -37,8 +39,8 @@ class DeleteHandler(private val location: Path) {
 
             @Suppress("WHEN_ENUM_CAN_BE_NULL_IN_JAVA")
             when (databaseType) {
-                DatabaseType.JSON -> JsonDelete(location).handle(ctx)
-                DatabaseType.XML -> XmlDelete(location).handle(ctx)
+                DatabaseType.JSON -> JsonDelete(location, sessionPool).handle(ctx)
+                DatabaseType.XML -> XmlDelete(location, sessionPool).handle(ctx)
             }
         }
 
@@ -7,19 +7,14 @@ import io.vertx.core.http.HttpHeaders
 import io.vertx.ext.web.Route
 import io.vertx.ext.web.RoutingContext
 import io.vertx.kotlin.core.executeBlockingAwait
-import org.sirix.access.DatabaseType
-import org.sirix.access.Databases.*
 import org.sirix.access.ResourceConfiguration
-import org.sirix.api.Database
 import org.sirix.api.json.JsonNodeReadOnlyTrx
 import org.sirix.api.json.JsonResourceManager
+import org.sirix.rest.crud.json.JsonSerializeHelper
 import org.sirix.service.json.BasicJsonDiff
-import java.nio.charset.StandardCharsets
-import java.nio.file.Files
-import java.nio.file.Path
-import java.util.function.Consumer
+import java.io.Writer
 
-class DiffHandler(private val location: Path) {
+class DiffHandler(private val sessionPool: DatabaseSessionPool) {
     suspend fun handle(ctx: RoutingContext): Route {
         val context = ctx.vertx().orCreateContext
         val databaseName = ctx.pathParam("database")
@@ -30,73 +25,78 @@ class DiffHandler(private val location: Path) {
             return ctx.currentRoute()
         }
 
-        val database = openDatabase(databaseName)
+        val session = sessionPool.openDatabase(databaseName)
 
-        database.use {
-            val resourceManager = database.openResourceManager(resourceName)
+        session.use {
+            val resourceManager = session.openResourceManager(resourceName)
 
-            resourceManager.use {
-                if (resourceManager is JsonResourceManager) {
-                    val diff = context.executeBlockingAwait<String> { resultPromise ->
-                        val firstRevision: String? = ctx.queryParam("first-revision").getOrNull(0)
-                        val secondRevision: String? = ctx.queryParam("second-revision").getOrNull(0)
+            if (resourceManager is JsonResourceManager) {
+                val firstRevision: String? = ctx.queryParam("first-revision").getOrNull(0)
+                val secondRevision: String? = ctx.queryParam("second-revision").getOrNull(0)
 
-                        if (firstRevision == null || secondRevision == null) {
-                            ctx.fail(IllegalArgumentException("First and second revision must be specified."))
-                            return@executeBlockingAwait
-                        }
+                if (firstRevision == null || secondRevision == null) {
+                    ctx.fail(IllegalArgumentException("First and second revision must be specified."))
+                    return ctx.currentRoute()
+                }
 
-                        val startNodeKey: String? = ctx.queryParam("startNodeKey").getOrNull(0)
-                        val maxDepth: String? = ctx.queryParam("maxDepth").getOrNull(0)
-
-                        val startNodeKeyAsLong = startNodeKey?.let { startNodeKey.toLong() } ?: 0
-                        val maxDepthAsLong = maxDepth?.let { maxDepth.toLong() } ?: Long.MAX_VALUE
-
-                        if (resourceManager.resourceConfig.areDeweyIDsStored && secondRevision.toInt() - 1 == firstRevision.toInt()) {
-                            if (startNodeKeyAsLong == 0L && maxDepthAsLong == 0L) {
-                                val diffPath = resourceManager.getResourceConfig()
-                                    .resource
-                                    .resolve(ResourceConfiguration.ResourcePaths.UPDATE_OPERATIONS.path)
-                                    .resolve("diffFromRev${firstRevision.toInt()}toRev${secondRevision.toInt()}.json")
-
-                                resultPromise.complete(Files.readString(diffPath))
-                            } else {
-                                val rtx = resourceManager.beginNodeReadOnlyTrx(secondRevision.toInt())
-
-                                rtx.use {
-                                    useUpdateOperations(
-                                        rtx,
-                                        startNodeKeyAsLong,
-                                        databaseName,
-                                        resourceName,
-                                        firstRevision,
-                                        secondRevision,
-                                        maxDepthAsLong,
-                                        resultPromise
-                                    )
-                                }
-                            }
-                        } else {
-                            resultPromise.complete(
-                                BasicJsonDiff().generateDiff(
-                                    resourceManager,
-                                    firstRevision.toInt(),
-                                    secondRevision.toInt(),
-                                    startNodeKeyAsLong,
-                                    maxDepthAsLong
-                                )
-                            )
-                        }
-                    }
+                val startNodeKey: String? = ctx.queryParam("startNodeKey").getOrNull(0)
+                val maxDepth: String? = ctx.queryParam("maxDepth").getOrNull(0)
+
+                val startNodeKeyAsLong = startNodeKey?.let { startNodeKey.toLong() } ?: 0
+                val maxDepthAsLong = maxDepth?.let { maxDepth.toLong() } ?: Long.MAX_VALUE
+
+                val useUpdateOperations = resourceManager.resourceConfig.areDeweyIDsStored
+                        && secondRevision.toInt() - 1 == firstRevision.toInt()
+
+                if (useUpdateOperations && startNodeKeyAsLong == 0L && maxDepthAsLong == 0L) {
+                    val diffPath = resourceManager.getResourceConfig()
+                        .resource
+                        .resolve(ResourceConfiguration.ResourcePaths.UPDATE_OPERATIONS.path)
+                        .resolve("diffFromRev${firstRevision.toInt()}toRev${secondRevision.toInt()}.json")
 
                     ctx.response().setStatusCode(200)
                         .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
-                        .putHeader(
-                            HttpHeaders.CONTENT_LENGTH,
-                            diff!!.toByteArray(StandardCharsets.UTF_8).size.toString()
+                        .sendFile(diffPath.toString())
+
+                    return ctx.currentRoute()
+                }
+
+                context.executeBlockingAwait { promise: Promise<Unit> ->
+                    ctx.response().setStatusCode(200)
+                        .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+
+                    val out = JsonSerializeHelper.createResponseWriter(ctx)
+
+                    if (useUpdateOperations) {
+                        val rtx = resourceManager.beginNodeReadOnlyTrx(secondRevision.toInt())
+
+                        rtx.use {
+                            useUpdateOperations(
+                                rtx,
+                                startNodeKeyAsLong,
+                                databaseName,
+                                resourceName,
+                                firstRevision,
+                                secondRevision,
+                                maxDepthAsLong,
+                                out
+                            )
+                        }
+                    } else {
+                        BasicJsonDiff().generateDiff(
+                            resourceManager,
+                            firstRevision.toInt(),
+                            secondRevision.toInt(),
+                            startNodeKeyAsLong,
+                            maxDepthAsLong,
+                            out
                         )
-                        .write(diff)
-                        .end()
+                    }
+
+                    // Only end the response on success, such that a failure is still reported with an error status
+                    // code, as long as nothing has been sent.
+                    out.close()
+                    promise.complete(null)
                 }
             }
         }
@@ -112,7 +112,7 @@ class DiffHandler(private val location: Path) {
         firstRevision: String,
         secondRevision: String,
         maxDepthAsLong: Long,
-        resultPromise: Promise<String>
+        out: Writer
     ) {
         rtx.moveTo(startNodeKeyAsLong)
         val metaInfo = createMetaInfo(
@@ -126,16 +126,7 @@ class DiffHandler(private val location: Path) {
         val updateOperations =
             rtx.getUpdateOperationsInSubtreeOfNode(rtx.deweyID, maxDepthAsLong)
         updateOperations.forEach { diffs.add(it) }
-        val json = metaInfo.toString()
-        resultPromise.complete(json)
-    }
-
-    private fun openDatabase(databaseName: String): Database<*> {
-        @Suppress("WHEN_ENUM_CAN_BE_NULL_IN_JAVA")
-        return when (getDatabaseType(location.resolve(databaseName).toAbsolutePath())) {
-            DatabaseType.JSON -> openJsonDatabase(location.resolve(databaseName))
-            DatabaseType.XML -> openXmlDatabase(location.resolve(databaseName))
-        }
+        out.write(metaInfo.toString())
     }
 
     private fun createMetaInfo(
@@ -22,7 +22,11 @@ import java.nio.file.Path
 import java.util.stream.Collectors
 
 @Suppress("RedundantLambdaArrow")
-class GetHandler(private val location: Path) {
+class GetHandler(
+    private val location: Path,
+    private val sessionPool: DatabaseSessionPool,
+    private val cursorStore: QueryCursorStore
+) {
     suspend fun handle(ctx: RoutingContext): Route {
         val context = ctx.vertx().orCreateContext
         val databaseName: String? = ctx.pathParam("database")
@@ -34,7 +38,16 @@ class GetHandler(private val location: Path) {
 
         val acceptHeader = ctx.request().getHeader(HttpHeaders.ACCEPT)
 
-        if (databaseName == null && resourceName == null) {
+        val cursor: String? = ctx.queryParam("cursor").getOrElse(0) { jsonBody?.getString("cursor") }
+
+        if (databaseName == null && resourceName == null && cursor != null) {
+            with(acceptHeader) {
+                when {
+                    contains("application/xml") -> XmlGet(sessionPool, cursorStore).nextPage(cursor, ctx, context)
+                    else -> JsonGet(sessionPool, cursorStore).nextPage(cursor, ctx, context)
+                }
+            }
+        } else if (databaseName == null && resourceName == null) {
             if (query == null || query.isEmpty()) {
                 listDatabases(ctx, context)
             } else {
@@ -42,35 +55,41 @@ class GetHandler(private val location: Path) {
                     ctx.queryParam("startResultSeqIndex").getOrElse(0) { jsonBody?.getString("startResultSeqIndex") }
                 val endResultSeqIndex =
                     ctx.queryParam("endResultSeqIndex").getOrElse(0) { jsonBody?.getString("endResultSeqIndex") }
+                val pageSize = QueryCursor.parsePageSize(
+                    ctx.queryParam("pageSize").getOrElse(0) { jsonBody?.getString("pageSize") }
+                )
 
                 with(acceptHeader) {
                     when {
-                        contains("application/json") -> JsonGet(location).xquery(
+                        contains("application/json") -> JsonGet(sessionPool, cursorStore).xquery(
                             query,
                             null,
                             ctx,
                             context,
                             ctx.get("user") as User,
                             startResultSeqIndex?.toLong(),
-                            endResultSeqIndex?.toLong()
+                            endResultSeqIndex?.toLong(),
+                            pageSize
                         )
-                        contains("application/xml") -> XmlGet(location).xquery(
+                        contains("application/xml") -> XmlGet(sessionPool, cursorStore).xquery(
                             query,
                             null,
                             ctx,
                             context,
                             ctx.get("user") as User,
                             startResultSeqIndex?.toLong(),
-                            endResultSeqIndex?.toLong()
+                            endResultSeqIndex?.toLong(),
+                            pageSize
                         )
-                        else -> JsonGet(location).xquery(
+                        else -> JsonGet(sessionPool, cursorStore).xquery(
                             query,
                             null,
                             ctx,
                             context,
                             ctx.get("user") as User,
                             startResultSeqIndex?.toLong(),
-                            endResultSeqIndex?.toLong()
+                            endResultSeqIndex?.toLong(),
+                            pageSize
                         )
                     }
                 }
@@ -92,9 +111,9 @@ class GetHandler(private val location: Path) {
             with(acceptHeader) {
                 @Suppress("IMPLICIT_CAST_TO_ANY")
                 when {
-                    contains("application/json") -> JsonGet(location).handle(ctx)
-                    contains("application/xml") -> XmlGet(location).handle(ctx)
-                    else -> JsonGet(location).handle(ctx)
+                    contains("application/json") -> JsonGet(sessionPool, cursorStore).handle(ctx)
+                    contains("application/xml") -> XmlGet(sessionPool, cursorStore).handle(ctx)
+                    else -> JsonGet(sessionPool, cursorStore).handle(ctx)
                 }
             }
         }
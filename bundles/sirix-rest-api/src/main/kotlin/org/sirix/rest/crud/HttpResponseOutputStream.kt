@@ -0,0 +1,94 @@
+package org.sirix.rest.crud
+
+import io.vertx.core.Context
+import io.vertx.core.buffer.Buffer
+import io.vertx.core.http.HttpHeaders
+import io.vertx.core.http.HttpServerResponse
+import java.io.IOException
+import java.io.OutputStream
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+/**
+ * Output stream, which writes directly into an HTTP response. The status code and the headers must be set before
+ * anything is written.
+ *
+ * Bytes are collected in chunks. If the whole response fits into the first chunk, it's sent with a `Content-Length`
+ * header once the stream is closed. Otherwise the response is sent chunked, and a worker thread writing the response
+ * blocks whenever the write queue of the connection is full, so the memory needed stays bounded regardless of the
+ * size of the response.
+ */
+class HttpResponseOutputStream(
+    private val response: HttpServerResponse,
+    private val chunkSize: Int = DEFAULT_CHUNK_SIZE
+) : OutputStream() {
+    companion object {
+        /** The default size of a chunk in bytes. */
+        const val DEFAULT_CHUNK_SIZE = 1 shl 16
+
+        /** The milliseconds to wait for the write queue to drain until the connection is checked again. */
+        private const val DRAIN_TIMEOUT = 100L
+    }
+
+    private var buffer = Buffer.buffer(chunkSize)
+
+    private var isClosed = false
+
+    /** `true`, if the first chunk has been sent, `false` otherwise. */
+    var isStreaming = false
+        private set
+
+    override fun write(b: Int) {
+        buffer.appendByte(b.toByte())
+
+        if (buffer.length() >= chunkSize)
+            writeChunk()
+    }
+
+    override fun write(b: ByteArray, off: Int, len: Int) {
+        buffer.appendBytes(b, off, len)
+
+        if (buffer.length() >= chunkSize)
+            writeChunk()
+    }
+
+    override fun close() {
+        if (isClosed)
+            return
+
+        isClosed = true
+
+        if (isStreaming) {
+            response.end(buffer)
+        } else {
+            response.putHeader(HttpHeaders.CONTENT_LENGTH, buffer.length().toString()).end(buffer)
+        }
+    }
+
+    private fun writeChunk() {
+        if (response.closed())
+            throw IOException("The connection has been closed by the client.")
+
+        if (!isStreaming) {
+            isStreaming = true
+            response.isChunked = true
+        }
+
+        response.write(buffer)
+        buffer = Buffer.buffer(chunkSize)
+
+        awaitDrain()
+    }
+
+    private fun awaitDrain() {
+        if (Context.isOnEventLoopThread() || !response.writeQueueFull())
+            return
+
+        val drained = CountDownLatch(1)
+        response.drainHandler { drained.countDown() }
+
+        while (response.writeQueueFull() && !response.closed()) {
+            drained.await(DRAIN_TIMEOUT, TimeUnit.MILLISECONDS)
+        }
+    }
+}
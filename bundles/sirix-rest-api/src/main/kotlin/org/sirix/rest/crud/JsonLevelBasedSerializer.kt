@@ -4,7 +4,6 @@ import io.vertx.ext.web.RoutingContext
 import org.sirix.api.json.JsonResourceManager
 import org.sirix.rest.crud.json.JsonSerializeHelper
 import org.sirix.service.json.serialize.JsonSerializer
-import java.io.StringWriter
 
 class JsonLevelBasedSerializer {
     fun serialize(
@@ -15,7 +14,7 @@ class JsonLevelBasedSerializer {
         val levelList = ctx.queryParam("maxLevel")
         val nodeIdList = ctx.queryParam("nodeId")
 
-        val out = StringWriter()
+        val out = JsonSerializeHelper.createResponseWriter(ctx)
 
         val serializerBuilder = JsonSerializer.newBuilder(manager, out)
 
@@ -34,4 +33,4 @@ class JsonLevelBasedSerializer {
 
         JsonSerializeHelper().serialize(serializer, out, ctx, manager, nodeId?.toLong())
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
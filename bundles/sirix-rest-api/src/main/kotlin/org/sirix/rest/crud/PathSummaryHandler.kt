@@ -4,35 +4,28 @@ import io.vertx.core.http.HttpHeaders
 import io.vertx.ext.web.Route
 import io.vertx.ext.web.RoutingContext
 import io.vertx.kotlin.core.executeBlockingAwait
-import org.sirix.access.DatabaseType
-import org.sirix.access.Databases.*
-import org.sirix.api.Database
 import org.sirix.axis.DescendantAxis
 import java.nio.charset.StandardCharsets
-import java.nio.file.Path
 
-class PathSummaryHandler(private val location: Path) {
+class PathSummaryHandler(private val sessionPool: DatabaseSessionPool) {
     suspend fun handle(ctx: RoutingContext): Route {
         val context = ctx.vertx().orCreateContext
         val databaseName = ctx.pathParam("database")
         val resourceName = ctx.pathParam("resource")
 
-        @Suppress("WHEN_ENUM_CAN_BE_NULL_IN_JAVA") val database: Database<*> =
-            when (getDatabaseType(location.resolve(databaseName).toAbsolutePath())) {
-                DatabaseType.JSON -> openJsonDatabase(location.resolve(databaseName))
-                DatabaseType.XML -> openXmlDatabase(location.resolve(databaseName))
-            }
+        val session = sessionPool.openDatabase(databaseName)
 
         context.executeBlockingAwait<String> {
-            database.use {
-                val manager = database.openResourceManager(resourceName)
+            session.use {
+                val manager = session.openResourceManager(resourceName)
 
-                manager.use {
-                    val buffer = StringBuilder()
-                    if (manager.getResourceConfig().withPathSummary) {
-                        val revision = ctx.queryParam("revision")[0]
+                val buffer = StringBuilder()
+                if (manager.getResourceConfig().withPathSummary) {
+                    val revision = ctx.queryParam("revision")[0]
 
-                        val pathSummary = manager.openPathSummary(revision.toInt())
+                    val pathSummary = manager.openPathSummary(revision.toInt())
+                    // The path summary is closed, as the pooled resource manager isn't.
+                    pathSummary.use {
                         val pathSummaryAxis = DescendantAxis(pathSummary)
 
                         buffer.append("{\"pathSummary\":[")
@@ -60,18 +53,18 @@ class PathSummaryHandler(private val location: Path) {
                         }
 
                         buffer.append("]}")
-                    } else {
-                        buffer.append("{\"pathSummary\":[]}")
                     }
+                } else {
+                    buffer.append("{\"pathSummary\":[]}")
+                }
 
-                    val content = buffer.toString()
+                val content = buffer.toString()
 
-                    ctx.response().setStatusCode(200)
-                        .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
-                        .putHeader(HttpHeaders.CONTENT_LENGTH, content.toByteArray(StandardCharsets.UTF_8).size.toString())
-                        .write(content)
-                        .end()
-                }
+                ctx.response().setStatusCode(200)
+                    .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+                    .putHeader(HttpHeaders.CONTENT_LENGTH, content.toByteArray(StandardCharsets.UTF_8).size.toString())
+                    .write(content)
+                    .end()
             }
         }
 
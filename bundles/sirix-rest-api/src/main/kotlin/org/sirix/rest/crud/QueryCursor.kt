@@ -0,0 +1,96 @@
+package org.sirix.rest.crud
+
+import io.netty.handler.codec.http.HttpResponseStatus
+import io.vertx.ext.web.handler.impl.HttpStatusException
+import org.brackit.xquery.xdm.Item
+import org.brackit.xquery.xdm.Iter
+import org.brackit.xquery.xdm.Sequence
+import org.sirix.access.User
+import java.io.Closeable
+
+/**
+ * The result of a query, which is kept open across requests, such that it's serialized page by page without
+ * evaluating the query again. The transactions opened during the evaluation stay open, so all pages are read from
+ * the same revisions.
+ *
+ * @param sequence the result of the query or `null`, if it's empty
+ * @param pageSize the maximum number of items in a page
+ * @param user the user, who evaluated the query
+ * @param resources closed (in order) once the cursor is closed
+ */
+class QueryCursor(
+    sequence: Sequence?,
+    val pageSize: Int,
+    private val user: User,
+    private val resources: List<AutoCloseable>
+) : Closeable {
+    companion object {
+        /** The HTTP header, which contains the token to get the next page. */
+        const val CURSOR_HEADER = "X-Cursor"
+
+        /**
+         * Parse the page size of a query request.
+         *
+         * @param pageSize the requested page size or `null`, if the result isn't paged
+         * @return the page size or `null`, if the result isn't paged
+         * @throws HttpStatusException with status code 400, if the page size isn't a number > 0
+         */
+        fun parsePageSize(pageSize: String?): Int? {
+            if (pageSize == null)
+                return null
+
+            val size = pageSize.toIntOrNull()
+
+            if (size == null || size <= 0) {
+                throw HttpStatusException(
+                    HttpResponseStatus.BAD_REQUEST.code(),
+                    IllegalArgumentException("The page size must be a number > 0.")
+                )
+            }
+
+            return size
+        }
+    }
+
+    private val itemIterator: Iter? = sequence?.iterate()
+
+    private var nextItem: Item? = itemIterator?.next()
+
+    /** The time in milliseconds, at which the cursor expires, if it isn't used. */
+    internal var expiresAt = 0L
+
+    /** `true`, if the result contains items, which haven't been returned, `false` otherwise. */
+    val hasNext: Boolean
+        get() = nextItem != null
+
+    init {
+        require(pageSize > 0) { "The page size must be > 0." }
+    }
+
+    /**
+     * Get the next page of items.
+     *
+     * @return the next page, which is empty if all items have been returned
+     */
+    fun nextPage(): List<Item> {
+        val page = ArrayList<Item>()
+
+        while (page.size < pageSize) {
+            val item = nextItem ?: break
+            page.add(item)
+            nextItem = itemIterator!!.next()
+        }
+
+        return page
+    }
+
+    /**
+     * Determines if the cursor has been opened by the given user.
+     */
+    fun isOwnedBy(user: User) = this.user == user
+
+    override fun close() {
+        itemIterator?.close()
+        resources.forEach { it.close() }
+    }
+}
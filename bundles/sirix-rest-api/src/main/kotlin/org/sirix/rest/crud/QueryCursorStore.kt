@@ -0,0 +1,96 @@
+package org.sirix.rest.crud
+
+import org.sirix.access.User
+import java.util.*
+
+/**
+ * Keeps [QueryCursor]s open across requests. Cursors are referenced by opaque tokens and closed, once all items have
+ * been returned or they haven't been used for `timeToLive` milliseconds.
+ */
+class QueryCursorStore(private val timeToLive: Long = DEFAULT_TIME_TO_LIVE) {
+    companion object {
+        /** The default time in milliseconds, after which an unused cursor is closed. */
+        const val DEFAULT_TIME_TO_LIVE = 60 * 1000L
+    }
+
+    private val cursors = HashMap<String, QueryCursor>()
+
+    /**
+     * Keep a cursor, if it has items, which haven't been returned, otherwise close it.
+     *
+     * @param cursor the cursor
+     * @param token the token of the cursor, if it has already been kept before, `null` otherwise
+     * @return the token of the cursor or `null`, if it has been closed
+     */
+    @Synchronized
+    fun keep(cursor: QueryCursor, token: String? = null): String? {
+        if (!cursor.hasNext) {
+            cursor.close()
+            return null
+        }
+
+        val cursorToken = token ?: newToken()
+        cursor.expiresAt = System.currentTimeMillis() + timeToLive
+        cursors[cursorToken] = cursor
+        return cursorToken
+    }
+
+    /**
+     * Create a new token, under which a cursor can be kept.
+     *
+     * @return the token
+     */
+    fun newToken(): String = UUID.randomUUID().toString()
+
+    /**
+     * Take a cursor to get its next page. It's removed from the store, such that it's neither used concurrently nor
+     * closed in the meantime, and has to be kept again afterwards.
+     *
+     * @param token the token of the cursor
+     * @param user the user, who requests the next page
+     * @return the cursor or `null`, if it doesn't exist, has expired or has been opened by another user
+     */
+    @Synchronized
+    fun take(token: String, user: User): QueryCursor? {
+        val cursor = cursors[token] ?: return null
+
+        if (!cursor.isOwnedBy(user))
+            return null
+
+        cursors.remove(token)
+
+        if (cursor.expiresAt <= System.currentTimeMillis()) {
+            cursor.close()
+            return null
+        }
+
+        return cursor
+    }
+
+    /**
+     * Close all cursors, which have expired.
+     */
+    @Synchronized
+    fun evictExpiredCursors() {
+        val now = System.currentTimeMillis()
+        val iterator = cursors.values.iterator()
+
+        while (iterator.hasNext()) {
+            val cursor = iterator.next()
+
+            if (cursor.expiresAt <= now) {
+                iterator.remove()
+                cursor.close()
+            }
+        }
+    }
+
+    /**
+     * Close all cursors.
+     */
+    @Synchronized
+    fun close() {
+        cursors.values.forEach { it.close() }
+        cursors.clear()
+    }
+}
@@ -3,6 +3,7 @@ package org.sirix.rest.crud
 import org.brackit.xquery.XQuery
 import org.brackit.xquery.util.serialize.Serializer
 import org.brackit.xquery.xdm.Item
+import org.sirix.access.User
 import org.sirix.xquery.SirixCompileChain
 import org.sirix.xquery.SirixQueryContext
 
@@ -49,5 +50,53 @@ class QuerySerializer {
                 }
             }
         }
+
+        /**
+         * Evaluate a query and open a cursor on its result.
+         *
+         * @param sirixCompileChain the compile chain, which is closed together with the cursor
+         * @param query the query
+         * @param queryCtx the query context, which is closed together with the cursor
+         * @param pageSize the maximum number of items in a page
+         * @param user the user, who evaluates the query
+         * @param resources further resources, which are needed to read the result and closed together with the cursor
+         * @return the cursor
+         */
+        fun openCursor(
+            sirixCompileChain: SirixCompileChain,
+            query: String,
+            queryCtx: SirixQueryContext,
+            pageSize: Int,
+            user: User,
+            resources: List<AutoCloseable>
+        ): QueryCursor {
+            val cursorResources = listOf(sirixCompileChain, queryCtx) + resources
+
+            try {
+                val sequence = XQuery(sirixCompileChain, query).execute(queryCtx)
+
+                return QueryCursor(sequence, pageSize, user, cursorResources)
+            } catch (e: Exception) {
+                cursorResources.forEach { it.close() }
+                throw e
+            }
+        }
+
+        /**
+         * Serialize a page of items.
+         *
+         * @param page the items
+         * @param serializer the serializer, which is closed afterwards
+         * @param serialize serializes an item
+         */
+        fun serializePage(
+            page: List<Item>,
+            serializer: Serializer,
+            serialize: (Serializer, Item?) -> Unit
+        ) {
+            serializer.use {
+                page.forEach { item -> serialize(serializer, item) }
+            }
+        }
     }
 }
\ No newline at end of file
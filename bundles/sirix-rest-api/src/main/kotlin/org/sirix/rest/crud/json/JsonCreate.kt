@@ -21,10 +21,10 @@ import org.sirix.access.Databases
 import org.sirix.access.ResourceConfiguration
 import org.sirix.api.Database
 import org.sirix.api.json.JsonResourceManager
+import org.sirix.rest.crud.DatabaseSessionPool
 import org.sirix.rest.crud.SirixDBUser
 import org.sirix.service.json.serialize.JsonSerializer
 import org.sirix.service.json.shredder.JsonShredder
-import java.io.StringWriter
 import java.nio.file.Files
 import java.nio.file.Path
 import java.nio.file.Paths
@@ -32,6 +32,7 @@ import java.util.*
 
 class JsonCreate(
     private val location: Path,
+    private val sessionPool: DatabaseSessionPool,
     private val createMultipleResources: Boolean = false
 ) {
     suspend fun handle(ctx: RoutingContext): Route {
@@ -51,12 +52,16 @@ class JsonCreate(
         }
 
         if (createMultipleResources) {
-            createMultipleResources(databaseName, ctx)
+            sessionPool.invalidating(ctx.vertx(), databaseName) {
+                createMultipleResources(databaseName, ctx)
+            }
             ctx.response().setStatusCode(201).end()
             return ctx.currentRoute()
         }
 
-        shredder(databaseName, resource, ctx)
+        sessionPool.invalidating(ctx.vertx(), databaseName) {
+            shredder(databaseName, resource, ctx)
+        }
 
         return ctx.currentRoute()
     }
@@ -164,7 +169,7 @@ class JsonCreate(
         routingCtx: RoutingContext
     ) {
         withContext(Dispatchers.IO) {
-            val out = StringWriter()
+            val out = JsonSerializeHelper.createResponseWriter(routingCtx)
             val serializerBuilder = JsonSerializer.newBuilder(manager, out)
             val serializer = serializerBuilder.build()
 
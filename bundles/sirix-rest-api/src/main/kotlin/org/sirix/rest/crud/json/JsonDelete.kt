@@ -11,10 +11,11 @@ import org.sirix.api.Database
 import org.sirix.api.ResourceManager
 import org.sirix.api.json.JsonResourceManager
 import org.sirix.rest.crud.AbstractDeleteHandler
+import org.sirix.rest.crud.DatabaseSessionPool
 import org.sirix.xquery.json.BasicJsonDBStore
 import java.nio.file.Path
 
-class JsonDelete(location: Path) : AbstractDeleteHandler(location) {
+class JsonDelete(location: Path, sessionPool: DatabaseSessionPool) : AbstractDeleteHandler(location, sessionPool) {
     suspend fun handle(ctx: RoutingContext): Route {
         val databaseName: String? = ctx.pathParam("database")
         val resource: String? = ctx.pathParam("resource")
@@ -23,7 +24,9 @@ class JsonDelete(location: Path) : AbstractDeleteHandler(location) {
         if (databaseName == null) {
             dropDatabasesOfType(ctx, DatabaseType.JSON)
         } else {
-            delete(databaseName, resource, nodeId?.toLongOrNull(), ctx)
+            sessionPool.invalidating(ctx.vertx(), databaseName) {
+                delete(databaseName, resource, nodeId?.toLongOrNull(), ctx)
+            }
         }
 
         return ctx.currentRoute()
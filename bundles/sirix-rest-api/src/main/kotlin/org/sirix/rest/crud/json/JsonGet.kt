@@ -12,13 +12,16 @@ import io.vertx.kotlin.core.executeBlockingAwait
 import io.vertx.kotlin.coroutines.dispatcher
 import kotlinx.coroutines.withContext
 import org.brackit.xquery.XQuery
-import org.brackit.xquery.xdm.Item
-import org.sirix.access.Databases
 import org.sirix.api.Database
 import org.sirix.api.json.JsonResourceManager
 import org.sirix.exception.SirixUsageException
+import org.sirix.rest.crud.DatabaseSession
+import org.sirix.rest.crud.DatabaseSessionPool
+import org.sirix.rest.crud.QueryCursor
+import org.sirix.rest.crud.QueryCursorStore
 import org.sirix.rest.crud.QuerySerializer
 import org.sirix.rest.crud.Revisions
+import org.sirix.rest.crud.SirixDBUser
 import org.sirix.rest.crud.xml.XmlSessionDBStore
 import org.sirix.service.json.serialize.JsonSerializer
 import org.sirix.xquery.JsonDBSerializer
@@ -26,11 +29,8 @@ import org.sirix.xquery.SirixCompileChain
 import org.sirix.xquery.SirixQueryContext
 import org.sirix.xquery.json.*
 import org.sirix.xquery.node.BasicXmlDBStore
-import java.io.StringWriter
-import java.nio.charset.StandardCharsets
-import java.nio.file.Path
 
-class JsonGet(private val location: Path) {
+class JsonGet(private val sessionPool: DatabaseSessionPool, private val cursorStore: QueryCursorStore) {
     suspend fun handle(ctx: RoutingContext): Route {
         val context = ctx.vertx().orCreateContext
         val databaseName = ctx.pathParam("database")
@@ -58,32 +58,35 @@ class JsonGet(private val location: Path) {
 
         val nodeId: String? = ctx.queryParam("nodeId").getOrNull(0)
 
-        val database: Database<JsonResourceManager>
+        val session: DatabaseSession<JsonResourceManager>
         try {
-            database = Databases.openJsonDatabase(location.resolve(databaseName))
+            session = sessionPool.openJsonDatabase(databaseName)
         } catch (e: SirixUsageException) {
             ctx.fail(HttpStatusException(HttpResponseStatus.NOT_FOUND.code(), e))
             return
         }
 
-        database.use {
+        session.use {
+            val database = session.database
+
             try {
-                val manager = database.openResourceManager(resource)
+                val manager = session.openResourceManager(resource!!)
 
-                manager.use {
-                    if (query != null && query.isNotEmpty()) {
-                        queryResource(
-                            databaseName, database, revision, revisionTimestamp, manager, ctx, nodeId, query,
-                            vertxContext, user
+                if (query != null && query.isNotEmpty()) {
+                    queryResource(
+                        databaseName, database, revision, revisionTimestamp, manager, ctx, nodeId, query,
+                        vertxContext, user
+                    )
+                } else {
+                    val revisions: Array<Int> =
+                        Revisions.getRevisionsToSerialize(
+                            startRevision, endRevision, startRevisionTimestamp,
+                            endRevisionTimestamp, manager, revision, revisionTimestamp
                         )
-                    } else {
-                        val revisions: Array<Int> =
-                            Revisions.getRevisionsToSerialize(
-                                startRevision, endRevision, startRevisionTimestamp,
-                                endRevisionTimestamp, manager, revision, revisionTimestamp
-                            )
 
+                    vertxContext.executeBlockingAwait { promise: Promise<Nothing> ->
                         serializeResource(manager, revisions, nodeId?.toLongOrNull(), ctx)
+                        promise.complete(null)
                     }
                 }
             } catch (e: SirixUsageException) {
@@ -100,45 +103,55 @@ class JsonGet(private val location: Path) {
         nodeId: String?, query: String, vertxContext: Context, user: User
     ) {
         withContext(vertxContext.dispatcher()) {
+            // The collection isn't closed, as it would close the pooled database.
             val dbCollection = JsonDBCollection(databaseName, database)
 
-            dbCollection.use {
-                val revisionNumber = Revisions.getRevisionNumber(revision, revisionTimestamp, manager)
+            val revisionNumber = Revisions.getRevisionNumber(revision, revisionTimestamp, manager)
+            val pageSize = QueryCursor.parsePageSize(ctx.queryParam("pageSize").getOrElse(0) { null })
+
+            try {
+                val trx = manager.beginNodeReadOnlyTrx(revisionNumber[0])
 
                 try {
-                    val trx = manager.beginNodeReadOnlyTrx(revisionNumber[0])
-
-                    trx.use {
-                        if (nodeId == null)
-                            trx.moveToFirstChild()
-                        else
-                            trx.moveTo(nodeId.toLong())
-
-                        val jsonItem = JsonItemFactory().getSequence(trx, dbCollection)
-
-                        val startResultSeqIndex = ctx.queryParam("startResultSeqIndex").getOrElse(0) { null }
-                        val endResultSeqIndex = ctx.queryParam("endResultSeqIndex").getOrElse(0) { null }
-
-                        xquery(
-                            query,
-                            jsonItem,
-                            ctx,
-                            vertxContext,
-                            user,
-                            startResultSeqIndex?.toLong(),
-                            endResultSeqIndex?.toLong()
-                        )
-                    }
-                } catch (e: SirixUsageException) {
-                    ctx.fail(HttpStatusException(HttpResponseStatus.NOT_FOUND.code(), e))
+                    if (nodeId == null)
+                        trx.moveToFirstChild()
+                    else
+                        trx.moveTo(nodeId.toLong())
+
+                    val jsonItem = JsonItemFactory().getSequence(trx, dbCollection)
+
+                    val startResultSeqIndex = ctx.queryParam("startResultSeqIndex").getOrElse(0) { null }
+                    val endResultSeqIndex = ctx.queryParam("endResultSeqIndex").getOrElse(0) { null }
+
+                    // A cursor keeps the transaction and the database open, until all pages have been read.
+                    val cursorResources: List<AutoCloseable> =
+                        if (pageSize == null) emptyList() else listOf(trx, sessionPool.openJsonDatabase(databaseName!!))
+
+                    xquery(
+                        query,
+                        jsonItem,
+                        ctx,
+                        vertxContext,
+                        user,
+                        startResultSeqIndex?.toLong(),
+                        endResultSeqIndex?.toLong(),
+                        pageSize,
+                        cursorResources
+                    )
+                } finally {
+                    if (pageSize == null)
+                        trx.close()
                 }
+            } catch (e: SirixUsageException) {
+                ctx.fail(HttpStatusException(HttpResponseStatus.NOT_FOUND.code(), e))
             }
         }
     }
 
     suspend fun xquery(
         query: String, node: Item?, routingContext: RoutingContext, vertxContext: Context,
-        user: User, startResultSeqIndex: Long?, endResultSeqIndex: Long?
+        user: User, startResultSeqIndex: Long?, endResultSeqIndex: Long?, pageSize: Int? = null,
+        cursorResources: List<AutoCloseable> = emptyList()
     ) {
         vertxContext.executeBlockingAwait { promise: Promise<Nothing> ->
             // Initialize queryResource context and store.
@@ -151,10 +164,30 @@ class JsonGet(private val location: Path) {
                 SirixQueryContext.CommitStrategy.AUTO
             )
 
+            if (pageSize != null) {
+                node.let { queryCtx.contextItem = node }
+
+                val cursor = QuerySerializer.openCursor(
+                    SirixCompileChain.createWithNodeAndJsonStore(xmlDBStore, jsonDBStore),
+                    query,
+                    queryCtx,
+                    pageSize,
+                    SirixDBUser.create(routingContext),
+                    cursorResources
+                )
+
+                serializeNextPage(cursor, null, routingContext)
+                promise.complete(null)
+                return@executeBlockingAwait
+            }
+
             queryCtx.use {
                 node.let { queryCtx.contextItem = node }
 
-                val out = StringBuilder()
+                routingContext.response().setStatusCode(200)
+                    .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+
+                val out = JsonSerializeHelper.createResponseWriter(routingContext)
 
                 executeQueryAndSerialize(
                     xmlDBStore,
@@ -166,26 +199,66 @@ class JsonGet(private val location: Path) {
                     endResultSeqIndex
                 )
 
-                val body = out.toString()
+                out.close()
+            }
+
+            promise.complete(null)
+        }
+    }
 
-                routingContext.response().setStatusCode(200)
-                    .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
-                    .putHeader(
-                        HttpHeaders.CONTENT_LENGTH,
-                        body.toByteArray(StandardCharsets.UTF_8).size.toString()
+    /**
+     * Serialize the next page of a query result, which has been opened by a former request.
+     */
+    suspend fun nextPage(token: String, routingContext: RoutingContext, vertxContext: Context) {
+        vertxContext.executeBlockingAwait { promise: Promise<Nothing> ->
+            val cursor = cursorStore.take(token, SirixDBUser.create(routingContext))
+
+            if (cursor == null) {
+                routingContext.fail(
+                    HttpStatusException(
+                        HttpResponseStatus.NOT_FOUND.code(),
+                        IllegalStateException("Query cursor not found or expired.")
                     )
-                    .write(body)
-                    .end()
+                )
+            } else {
+                serializeNextPage(cursor, token, routingContext)
             }
 
             promise.complete(null)
         }
     }
 
+    private fun serializeNextPage(cursor: QueryCursor, token: String?, routingContext: RoutingContext) {
+        val out = JsonSerializeHelper.createResponseWriter(routingContext)
+
+        try {
+            val page = cursor.nextPage()
+            val nextToken = if (cursor.hasNext) token ?: cursorStore.newToken() else null
+
+            val response = routingContext.response().setStatusCode(200)
+                .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+
+            nextToken?.let { response.putHeader(QueryCursor.CURSOR_HEADER, it) }
+
+            QuerySerializer.serializePage(page, JsonDBSerializer(out, true)) { serializer, item ->
+                serializer.serialize(item)
+            }
+
+            // The cursor is kept only once its page has been serialized, but before the response is ended, such that
+            // the next page can be requested as soon as this one has been received.
+            cursorStore.keep(cursor, nextToken)
+        } catch (e: Exception) {
+            cursor.close()
+            throw e
+        }
+
+        out.close()
+    }
+
     private fun executeQueryAndSerialize(
         xmlDBStore: XmlSessionDBStore,
         jsonDBStore: JsonSessionDBStore,
-        out: StringBuilder,
+        out: Appendable,
         startResultSeqIndex: Long?,
         query: String,
         queryCtx: SirixQueryContext?,
@@ -212,7 +285,7 @@ class JsonGet(private val location: Path) {
         manager: JsonResourceManager, revisions: Array<Int>, nodeId: Long?,
         ctx: RoutingContext
     ) {
-        val out = StringWriter()
+        val out = JsonSerializeHelper.createResponseWriter(ctx)
 
         val serializerBuilder = JsonSerializer.newBuilder(manager, out).revisions(revisions.toIntArray())
 
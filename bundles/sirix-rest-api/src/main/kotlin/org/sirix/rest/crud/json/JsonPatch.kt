@@ -0,0 +1,67 @@
+package org.sirix.rest.crud.json
+
+import io.netty.handler.codec.http.HttpResponseStatus
+import io.vertx.core.http.HttpHeaders
+import io.vertx.core.json.DecodeException
+import io.vertx.core.json.JsonArray
+import io.vertx.ext.web.Route
+import io.vertx.ext.web.RoutingContext
+import io.vertx.ext.web.handler.impl.HttpStatusException
+import io.vertx.kotlin.core.json.json
+import io.vertx.kotlin.core.json.obj
+import org.sirix.exception.SirixUsageException
+import org.sirix.rest.crud.DatabaseSessionPool
+import org.sirix.rest.crud.SirixDBUser
+
+/**
+ * Applies a patch, that is a list of [JsonPatchOperation]s, to a resource and commits it at once, instead of creating
+ * a revision for every single change.
+ */
+class JsonPatch(private val sessionPool: DatabaseSessionPool, private val committer: JsonPatchCommitter) {
+    suspend fun handle(ctx: RoutingContext): Route {
+        val databaseName = ctx.pathParam("database")
+        val resource = ctx.pathParam("resource")
+
+        if (databaseName == null || resource == null) {
+            ctx.fail(IllegalArgumentException("Database name and resource name not given."))
+            return ctx.currentRoute()
+        }
+
+        val operations = try {
+            JsonPatchOperation.fromJson(JsonArray(ctx.bodyAsString))
+        } catch (e: DecodeException) {
+            ctx.fail(HttpStatusException(HttpResponseStatus.BAD_REQUEST.code(), e))
+            return ctx.currentRoute()
+        } catch (e: IllegalArgumentException) {
+            ctx.fail(HttpStatusException(HttpResponseStatus.BAD_REQUEST.code(), e))
+            return ctx.currentRoute()
+        }
+
+        val revisionNumber = try {
+            sessionPool.invalidating(ctx.vertx(), databaseName) {
+                committer.commit(
+                    ctx.vertx().orCreateContext,
+                    databaseName,
+                    resource,
+                    SirixDBUser.create(ctx),
+                    operations
+                )
+            }
+        } catch (e: JsonPatchConflictException) {
+            ctx.fail(HttpStatusException(HttpResponseStatus.CONFLICT.code(), e))
+            return ctx.currentRoute()
+        } catch (e: SirixUsageException) {
+            ctx.fail(HttpStatusException(HttpResponseStatus.BAD_REQUEST.code(), e))
+            return ctx.currentRoute()
+        } catch (e: IllegalArgumentException) {
+            ctx.fail(HttpStatusException(HttpResponseStatus.BAD_REQUEST.code(), e))
+            return ctx.currentRoute()
+        }
+
+        ctx.response().setStatusCode(200)
+            .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+            .end(json { obj("revision" to revisionNumber) }.encode())
+
+        return ctx.currentRoute()
+    }
+}
@@ -0,0 +1,151 @@
+package org.sirix.rest.crud.json
+
+import io.vertx.core.Context
+import io.vertx.core.Promise
+import io.vertx.kotlin.core.executeBlockingAwait
+import io.vertx.kotlin.coroutines.await
+import org.sirix.access.Databases
+import org.sirix.access.User
+import org.sirix.api.json.JsonNodeTrx
+import java.nio.file.Path
+
+/**
+ * Applies patches to JSON resources and commits them.
+ *
+ * If group commits are enabled, patches, which are sent concurrently by the same user to the same resource, are
+ * applied in a single transaction and committed at once, such that only one revision is created. Patches arriving
+ * while a group is committed are queued and form the next group. If a patch of a group fails, the transaction is
+ * rolled back and the patches of the group are applied and committed one by one, such that a failing patch doesn't
+ * affect the others.
+ *
+ * @param location the location of the databases
+ * @param isGroupCommitEnabled determines if concurrent patches are committed at once
+ */
+class JsonPatchCommitter(private val location: Path, private val isGroupCommitEnabled: Boolean) {
+    private data class Key(val databaseName: String, val resourceName: String, val user: User)
+
+    private class PendingPatch(val operations: List<JsonPatchOperation>, val promise: Promise<Int>)
+
+    private class Group {
+        val pendingPatches = ArrayList<PendingPatch>()
+
+        var isCommitting = false
+    }
+
+    private val groups = HashMap<Key, Group>()
+
+    /**
+     * Apply a patch and commit it.
+     *
+     * @param vertxContext the context to execute the blocking operations on
+     * @param databaseName the name of the database
+     * @param resourceName the name of the resource
+     * @param user the user, on behalf of whom the patch is committed
+     * @param operations the operations of the patch
+     * @return the number of the revision, in which the patch has been committed
+     */
+    suspend fun commit(
+        vertxContext: Context,
+        databaseName: String,
+        resourceName: String,
+        user: User,
+        operations: List<JsonPatchOperation>
+    ): Int {
+        val key = Key(databaseName, resourceName, user)
+
+        if (!isGroupCommitEnabled) {
+            return vertxContext.executeBlockingAwait { promise: Promise<Int> ->
+                commitPatches(key, listOf(PendingPatch(operations, promise)))
+            }!!
+        }
+
+        val pendingPatch = PendingPatch(operations, Promise.promise())
+        val group: Group
+        val isLeader: Boolean
+
+        synchronized(groups) {
+            group = groups.getOrPut(key) { Group() }
+            group.pendingPatches.add(pendingPatch)
+            isLeader = !group.isCommitting
+            group.isCommitting = true
+        }
+
+        if (isLeader) {
+            vertxContext.executeBlocking<Unit>({ promise ->
+                commitGroup(key, group)
+                promise.complete()
+            }, false, {})
+        }
+
+        return pendingPatch.promise.future().await()
+    }
+
+    private fun commitGroup(key: Key, group: Group) {
+        while (true) {
+            val pendingPatches = synchronized(groups) {
+                if (group.pendingPatches.isEmpty()) {
+                    group.isCommitting = false
+                    groups.remove(key)
+                    return
+                }
+
+                val pendingPatches = ArrayList(group.pendingPatches)
+                group.pendingPatches.clear()
+                pendingPatches
+            }
+
+            try {
+                commitPatches(key, pendingPatches)
+            } catch (e: Exception) {
+                pendingPatches.forEach { it.promise.tryFail(e) }
+            }
+        }
+    }
+
+    private fun commitPatches(key: Key, pendingPatches: List<PendingPatch>) {
+        val database = Databases.openJsonDatabase(location.resolve(key.databaseName), key.user)
+
+        database.use {
+            val manager = database.openResourceManager(key.resourceName)
+
+            manager.use {
+                val wtx = manager.beginNodeTrx()
+
+                wtx.use {
+                    try {
+                        pendingPatches.forEach { apply(wtx, it) }
+                        wtx.commit()
+                    } catch (e: Exception) {
+                        wtx.rollback()
+
+                        if (pendingPatches.size == 1) {
+                            pendingPatches.single().promise.fail(e)
+                        } else {
+                            pendingPatches.forEach { commitSeparately(wtx, it) }
+                        }
+
+                        return
+                    }
+
+                    val revisionNumber = manager.mostRecentRevisionNumber
+                    pendingPatches.forEach { it.promise.complete(revisionNumber) }
+                }
+            }
+        }
+    }
+
+    private fun commitSeparately(wtx: JsonNodeTrx, pendingPatch: PendingPatch) {
+        try {
+            apply(wtx, pendingPatch)
+            wtx.commit()
+            pendingPatch.promise.complete(wtx.resourceManager.mostRecentRevisionNumber)
+        } catch (e: Exception) {
+            wtx.rollback()
+            pendingPatch.promise.fail(e)
+        }
+    }
+
+    private fun apply(wtx: JsonNodeTrx, pendingPatch: PendingPatch) {
+        pendingPatch.operations.forEach { it.apply(wtx) }
+    }
+}
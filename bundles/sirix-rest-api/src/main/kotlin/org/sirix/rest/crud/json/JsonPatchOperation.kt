@@ -0,0 +1,238 @@
+package org.sirix.rest.crud.json
+
+import com.google.gson.stream.JsonReader
+import com.google.gson.stream.JsonToken
+import io.vertx.core.json.Json
+import io.vertx.core.json.JsonArray
+import io.vertx.core.json.JsonObject
+import org.sirix.access.trx.node.HashType
+import org.sirix.api.json.JsonNodeTrx
+import org.sirix.exception.SirixUsageException
+import org.sirix.node.NodeKind
+import org.sirix.service.json.JsonNumber
+import org.sirix.service.json.shredder.JsonShredder
+import java.math.BigInteger
+
+/**
+ * A single operation of a patch, which is applied to the node with the given key. Operations don't commit, such that
+ * all operations of a patch (and of concurrent patches) are committed at once.
+ *
+ * A patch is a JSON array of operations, for instance:
+ *
+ * ```
+ * [{"op": "insert", "nodeId": 3, "insert": "asFirstChild", "data": {"foo": "bar"}},
+ *  {"op": "replace", "nodeId": 7, "data": [1, 2, 3]},
+ *  {"op": "rename", "nodeId": 12, "name": "baz"},
+ *  {"op": "remove", "nodeId": 15}]
+ * ```
+ *
+ * Each operation may contain the hash of its node (as returned in the `ETag` header), which is checked if the resource
+ * stores hashes.
+ */
+sealed class JsonPatchOperation(val nodeId: Long?, private val hash: BigInteger?) {
+    companion object {
+        /**
+         * Parse a patch.
+         *
+         * @param patch the operations
+         * @return the parsed operations
+         * @throws IllegalArgumentException if an operation is malformed
+         */
+        fun fromJson(patch: JsonArray): List<JsonPatchOperation> {
+            return patch.map { operation ->
+                require(operation is JsonObject) { "A patch operation must be a JSON object." }
+
+                val nodeId = longValue(operation, "nodeId")
+                val hash = bigIntegerValue(operation, "hash")
+
+                when (operation.getString("op")) {
+                    "insert" -> Insert(
+                        nodeId,
+                        hash,
+                        JsonInsertionMode.getInsertionModeByName(operation.getString("insert", "asFirstChild")),
+                        data(operation)
+                    )
+                    "replace" -> Replace(requireNodeId(nodeId), hash, data(operation))
+                    "rename" -> Rename(
+                        requireNodeId(nodeId),
+                        hash,
+                        requireNotNull(operation.getString("name")) { "The new name must be given." }
+                    )
+                    "remove" -> Remove(requireNodeId(nodeId), hash)
+                    else -> throw IllegalArgumentException("Unknown patch operation: ${operation.getString("op")}")
+                }
+            }
+        }
+
+        private fun longValue(operation: JsonObject, field: String): Long? {
+            val value = operation.getValue(field) ?: return null
+
+            return requireNotNull(value.toString().toLongOrNull()) { "The $field must be a number." }
+        }
+
+        private fun bigIntegerValue(operation: JsonObject, field: String): BigInteger? {
+            val value = operation.getValue(field) ?: return null
+
+            return requireNotNull(value.toString().toBigIntegerOrNull()) { "The $field must be a number." }
+        }
+
+        private fun requireNodeId(nodeId: Long?): Long {
+            return requireNotNull(nodeId) { "The node id must be given." }
+        }
+
+        private fun data(operation: JsonObject): String {
+            require(operation.containsKey("data")) { "The data to insert must be given." }
+
+            return encode(operation.getValue("data"))
+        }
+
+        private fun encode(value: Any?): String {
+            return when (value) {
+                is JsonObject -> value.encode()
+                is JsonArray -> value.encode()
+                else -> Json.encode(value)
+            }
+        }
+    }
+
+    /**
+     * Apply the operation.
+     *
+     * @param wtx the transaction, which is not committed
+     * @throws SirixUsageException if the node doesn't exist
+     * @throws JsonPatchConflictException if the node has been changed in the meantime
+     */
+    fun apply(wtx: JsonNodeTrx) {
+        if (nodeId != null && !wtx.moveTo(nodeId).hasMoved()) {
+            throw SirixUsageException("Node with key $nodeId doesn't exist.")
+        }
+
+        val isHashed = wtx.resourceManager.resourceConfig.hashType != HashType.NONE
+
+        if (hash != null && isHashed && wtx.hash != hash) {
+            throw JsonPatchConflictException("Someone might have changed the node with key $nodeId in the meantime.")
+        }
+
+        applyOnNode(wtx)
+    }
+
+    protected abstract fun applyOnNode(wtx: JsonNodeTrx)
+
+    /**
+     * Insert a JSON value relative to the node. If no node is given, the value is inserted relative to the first node
+     * of the resource or as the first node, if it's empty.
+     */
+    class Insert(
+        nodeId: Long?,
+        hash: BigInteger?,
+        private val insertionMode: JsonInsertionMode,
+        private val data: String
+    ) : JsonPatchOperation(nodeId, hash) {
+        override fun applyOnNode(wtx: JsonNodeTrx) {
+            if (nodeId == null) {
+                wtx.moveToDocumentRoot()
+
+                if (wtx.hasFirstChild())
+                    wtx.moveToFirstChild()
+            }
+
+            insertionMode.insert(wtx, JsonShredder.createStringReader(data))
+        }
+    }
+
+    /**
+     * Replace a node and its subtree with a JSON value. The value of an object record is replaced, if the node is an
+     * object key. Values are updated in place, if the new value is of the same type.
+     */
+    class Replace(nodeId: Long, hash: BigInteger?, private val data: String) : JsonPatchOperation(nodeId, hash) {
+        override fun applyOnNode(wtx: JsonNodeTrx) {
+            val jsonReader = JsonShredder.createStringReader(data)
+
+            when (wtx.kind) {
+                NodeKind.OBJECT_KEY -> {
+                    replaceObjectRecordValue(wtx)
+                    return
+                }
+                NodeKind.STRING_VALUE, NodeKind.OBJECT_STRING_VALUE -> if (jsonReader.peek() == JsonToken.STRING) {
+                    wtx.setStringValue(jsonReader.nextString())
+                    return
+                }
+                NodeKind.NUMBER_VALUE, NodeKind.OBJECT_NUMBER_VALUE -> if (jsonReader.peek() == JsonToken.NUMBER) {
+                    wtx.setNumberValue(JsonNumber.stringToNumber(jsonReader.nextString()))
+                    return
+                }
+                NodeKind.BOOLEAN_VALUE, NodeKind.OBJECT_BOOLEAN_VALUE -> if (jsonReader.peek() == JsonToken.BOOLEAN) {
+                    wtx.setBooleanValue(jsonReader.nextBoolean())
+                    return
+                }
+            }
+
+            if (wtx.parentKind == NodeKind.OBJECT_KEY) {
+                wtx.moveToParent()
+                replaceObjectRecordValue(wtx)
+            } else {
+                replaceArrayElementOrRoot(wtx, jsonReader)
+            }
+        }
+
+        private fun replaceObjectRecordValue(wtx: JsonNodeTrx) {
+            val jsonReader = JsonShredder.createStringReader(data)
+
+            if (jsonReader.peek() != JsonToken.BEGIN_OBJECT && jsonReader.peek() != JsonToken.BEGIN_ARRAY) {
+                wtx.replaceObjectRecordValue(
+                    wtx.name.localName,
+                    JsonInsertionMode.ASFIRSTCHILD.getObjectRecordValue(jsonReader)
+                )
+            } else {
+                // Containers can't be inserted as object record values, thus the record is inserted again.
+                val key = wtx.name.localName
+                val objectNodeKey = wtx.parentKey
+
+                wtx.remove()
+                wtx.moveTo(objectNodeKey)
+                wtx.insertSubtreeAsFirstChild(
+                    JsonShredder.createStringReader("{${Json.encode(key)}:$data}"),
+                    false
+                )
+            }
+        }
+
+        private fun replaceArrayElementOrRoot(wtx: JsonNodeTrx, jsonReader: JsonReader) {
+            val leftSiblingKey = if (wtx.hasLeftSibling()) wtx.leftSiblingKey else null
+            val parentKey = wtx.parentKey
+
+            wtx.remove()
+
+            if (leftSiblingKey == null) {
+                wtx.moveTo(parentKey)
+                JsonInsertionMode.ASFIRSTCHILD.insert(wtx, jsonReader)
+            } else {
+                wtx.moveTo(leftSiblingKey)
+                JsonInsertionMode.ASRIGHTSIBLING.insert(wtx, jsonReader)
+            }
+        }
+    }
+
+    /**
+     * Rename an object key.
+     */
+    class Rename(nodeId: Long, hash: BigInteger?, private val name: String) : JsonPatchOperation(nodeId, hash) {
+        override fun applyOnNode(wtx: JsonNodeTrx) {
+            wtx.setObjectKeyName(name)
+        }
+    }
+
+    /**
+     * Remove a node and its subtree.
+     */
+    class Remove(nodeId: Long, hash: BigInteger?) : JsonPatchOperation(nodeId, hash) {
+        override fun applyOnNode(wtx: JsonNodeTrx) {
+            wtx.remove()
+        }
+    }
+}
+
+/**
+ * Thrown, if the hash given in a patch operation doesn't match the hash of its node.
+ */
+class JsonPatchConflictException(message: String) : SirixUsageException(message)
@@ -4,43 +4,44 @@ import io.vertx.core.http.HttpHeaders
 import io.vertx.ext.web.RoutingContext
 import org.sirix.access.trx.node.HashType
 import org.sirix.api.json.JsonResourceManager
+import org.sirix.rest.crud.HttpResponseOutputStream
 import org.sirix.service.json.serialize.JsonSerializer
-import java.io.StringWriter
+import java.io.OutputStreamWriter
+import java.io.Writer
 import java.nio.charset.StandardCharsets
 
 class JsonSerializeHelper {
+    companion object {
+        /**
+         * Create a writer, which streams into the response.
+         */
+        fun createResponseWriter(ctx: RoutingContext): Writer {
+            return OutputStreamWriter(HttpResponseOutputStream(ctx.response()), StandardCharsets.UTF_8)
+        }
+    }
+
     fun serialize(
         serializer: JsonSerializer,
-        out: StringWriter,
+        out: Writer,
         ctx: RoutingContext,
         manager: JsonResourceManager,
         nodeId: Long?
     ) {
-        serializer.call()
-
-        val body = out.toString()
+        val response = ctx.response().setStatusCode(200)
+            .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
 
-        if (manager.resourceConfig.hashType == HashType.NONE) {
-            writeResponseWithoutHashValue(ctx, body)
-        } else {
-            writeResponseWithHashValue(manager, ctx, body, nodeId)
+        if (manager.resourceConfig.hashType != HashType.NONE) {
+            response.putHeader(HttpHeaders.ETAG, getHashValue(manager, nodeId))
         }
-    }
 
-    private fun writeResponseWithoutHashValue(ctx: RoutingContext, body: String) {
-        ctx.response().setStatusCode(200)
-            .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
-            .putHeader(HttpHeaders.CONTENT_LENGTH, body.toByteArray(StandardCharsets.UTF_8).size.toString())
-            .write(body)
-            .end()
+        serializer.call()
+
+        // Only end the response on success, such that a failure is still reported with an error status code, as
+        // long as nothing has been sent.
+        out.close()
     }
 
-    private fun writeResponseWithHashValue(
-        manager: JsonResourceManager,
-        ctx: RoutingContext,
-        body: String,
-        nodeId: Long?
-    ) {
+    private fun getHashValue(manager: JsonResourceManager, nodeId: Long?): String {
         val rtx = manager.beginNodeReadOnlyTrx()
 
         rtx.use {
@@ -49,12 +50,7 @@ class JsonSerializeHelper {
             else
                 rtx.moveTo(nodeId).trx().hash
 
-            ctx.response().setStatusCode(200)
-                .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
-                .putHeader(HttpHeaders.CONTENT_LENGTH, body.toByteArray(StandardCharsets.UTF_8).size.toString())
-                .putHeader(HttpHeaders.ETAG, hash.toString())
-                .write(body)
-                .end()
+            return hash.toString()
         }
     }
-}
\ No newline at end of file
+}
@@ -12,77 +12,67 @@ import org.sirix.access.Databases
 import org.sirix.access.trx.node.HashType
 import org.sirix.access.trx.node.json.objectvalue.*
 import org.sirix.api.json.JsonNodeTrx
+import org.sirix.rest.crud.DatabaseSessionPool
 import org.sirix.rest.crud.SirixDBUser
 import org.sirix.rest.crud.json.JsonInsertionMode.Companion.getInsertionModeByName
 import org.sirix.service.json.JsonNumber
 import org.sirix.service.json.serialize.JsonSerializer
 import org.sirix.service.json.shredder.JsonShredder
 import java.io.IOException
-import java.io.StringWriter
 import java.math.BigInteger
 import java.nio.file.Path
 
 enum class JsonInsertionMode {
     ASFIRSTCHILD {
         override fun insertSubtree(wtx: JsonNodeTrx, jsonReader: JsonReader) {
-            wtx.insertSubtreeAsFirstChild(jsonReader)
+            wtx.insertSubtreeAsFirstChild(jsonReader, false)
         }
 
         override fun insertString(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             wtx.insertStringValueAsFirstChild(jsonReader.nextString())
-            wtx.commit()
         }
 
         override fun insertNumber(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             wtx.insertNumberValueAsFirstChild(JsonNumber.stringToNumber(jsonReader.nextString()))
-            wtx.commit()
         }
 
         override fun insertNull(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             jsonReader.nextNull()
             wtx.insertNullValueAsFirstChild()
-            wtx.commit()
         }
 
         override fun insertBoolean(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             wtx.insertBooleanValueAsFirstChild(jsonReader.nextBoolean())
-            wtx.commit()
         }
 
         override fun insertObjectRecord(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             wtx.insertObjectRecordAsFirstChild(jsonReader.nextName(), getObjectRecordValue(jsonReader))
-            wtx.commit()
         }
     },
     ASRIGHTSIBLING {
         override fun insertSubtree(wtx: JsonNodeTrx, jsonReader: JsonReader) {
-            wtx.insertSubtreeAsRightSibling(jsonReader)
+            wtx.insertSubtreeAsRightSibling(jsonReader, false)
         }
 
         override fun insertString(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             wtx.insertStringValueAsRightSibling(jsonReader.nextString())
-            wtx.commit()
         }
 
         override fun insertNumber(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             wtx.insertNumberValueAsRightSibling(JsonNumber.stringToNumber(jsonReader.nextString()))
-            wtx.commit()
         }
 
         override fun insertNull(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             jsonReader.nextNull()
             wtx.insertNullValueAsRightSibling()
-            wtx.commit()
         }
 
         override fun insertBoolean(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             wtx.insertBooleanValueAsRightSibling(jsonReader.nextBoolean())
-            wtx.commit()
         }
 
         override fun insertObjectRecord(wtx: JsonNodeTrx, jsonReader: JsonReader) {
             wtx.insertObjectRecordAsRightSibling(jsonReader.nextName(), getObjectRecordValue(jsonReader))
-            wtx.commit()
         }
     };
 
@@ -121,6 +111,22 @@ enum class JsonInsertionMode {
         return value
     }
 
+    /**
+     * Insert the JSON value read by the reader. The transaction isn't committed, such that several insertions can be
+     * committed at once.
+     */
+    fun insert(wtx: JsonNodeTrx, jsonReader: JsonReader) {
+        when (jsonReader.peek()) {
+            JsonToken.BEGIN_ARRAY, JsonToken.BEGIN_OBJECT -> insertSubtree(wtx, jsonReader)
+            JsonToken.STRING -> insertString(wtx, jsonReader)
+            JsonToken.NULL -> insertNull(wtx, jsonReader)
+            JsonToken.NUMBER -> insertNumber(wtx, jsonReader)
+            JsonToken.BOOLEAN -> insertBoolean(wtx, jsonReader)
+            JsonToken.NAME -> insertObjectRecord(wtx, jsonReader)
+            else -> throw IllegalStateException()
+        }
+    }
+
     abstract fun insertSubtree(wtx: JsonNodeTrx, jsonReader: JsonReader)
 
     abstract fun insertString(wtx: JsonNodeTrx, jsonReader: JsonReader)
@@ -138,7 +144,7 @@ enum class JsonInsertionMode {
     }
 }
 
-class JsonUpdate(private val location: Path) {
+class JsonUpdate(private val location: Path, private val sessionPool: DatabaseSessionPool) {
     suspend fun handle(ctx: RoutingContext): Route {
         val databaseName = ctx.pathParam("database")
 
@@ -152,7 +158,9 @@ class JsonUpdate(private val location: Path) {
 
         val body = ctx.bodyAsString
 
-        update(databaseName, resource, nodeId?.toLongOrNull(), insertionMode, body, ctx)
+        sessionPool.invalidating(ctx.vertx(), databaseName) {
+            update(databaseName, resource, nodeId?.toLongOrNull(), insertionMode, body, ctx)
+        }
 
         return ctx.currentRoute()
     }
@@ -200,18 +208,8 @@ class JsonUpdate(private val location: Path) {
 
                         val insertionModeByName = getInsertionModeByName(insertionModeAsString!!)
 
-                        if (jsonReader.peek() != JsonToken.BEGIN_ARRAY && jsonReader.peek() != JsonToken.BEGIN_OBJECT) {
-                            when (jsonReader.peek()) {
-                                JsonToken.STRING -> insertionModeByName.insertString(wtx, jsonReader)
-                                JsonToken.NULL -> insertionModeByName.insertNull(wtx, jsonReader)
-                                JsonToken.NUMBER -> insertionModeByName.insertNumber(wtx, jsonReader)
-                                JsonToken.BOOLEAN -> insertionModeByName.insertBoolean(wtx, jsonReader)
-                                JsonToken.NAME -> insertionModeByName.insertObjectRecord(wtx, jsonReader)
-                                else -> throw IllegalStateException()
-                            }
-                        } else {
-                            insertionModeByName.insertSubtree(wtx, jsonReader)
-                        }
+                        insertionModeByName.insert(wtx, jsonReader)
+                        wtx.commit()
 
                         if (nodeId != null)
                             wtx.moveTo(nodeId)
@@ -231,7 +229,7 @@ class JsonUpdate(private val location: Path) {
                             ctx.response().putHeader(HttpHeaders.ETAG, hash.toString()).end()
                         }
                     } else {
-                        val out = StringWriter()
+                        val out = JsonSerializeHelper.createResponseWriter(ctx)
                         val serializerBuilder = JsonSerializer.newBuilder(manager, out)
                         val serializer = serializerBuilder.build()
 
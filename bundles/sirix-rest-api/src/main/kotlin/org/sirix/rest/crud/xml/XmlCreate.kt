@@ -22,11 +22,12 @@ import org.sirix.access.ResourceConfiguration
 import org.sirix.api.Database
 import org.sirix.api.json.JsonResourceManager
 import org.sirix.api.xml.XmlResourceManager
+import org.sirix.rest.crud.DatabaseSessionPool
+import org.sirix.rest.crud.HttpResponseOutputStream
 import org.sirix.rest.crud.SirixDBUser
 import org.sirix.service.json.shredder.JsonShredder
 import org.sirix.service.xml.serialize.XmlSerializer
 import org.sirix.service.xml.shredder.XmlShredder
-import java.io.ByteArrayOutputStream
 import java.io.FileInputStream
 import java.nio.charset.StandardCharsets
 import java.nio.file.Files
@@ -34,7 +35,11 @@ import java.nio.file.Path
 import java.nio.file.Paths
 import java.util.*
 
-class XmlCreate(private val location: Path, private val createMultipleResources: Boolean = false) {
+class XmlCreate(
+    private val location: Path,
+    private val sessionPool: DatabaseSessionPool,
+    private val createMultipleResources: Boolean = false
+) {
     suspend fun handle(ctx: RoutingContext): Route {
         val databaseName = ctx.pathParam("database")
         val resource = ctx.pathParam("resource")
@@ -52,12 +57,16 @@ class XmlCreate(private val location: Path, private val createMultipleResources:
         }
 
         if (createMultipleResources) {
-            createMultipleResources(databaseName, ctx)
+            sessionPool.invalidating(ctx.vertx(), databaseName) {
+                createMultipleResources(databaseName, ctx)
+            }
             ctx.response().setStatusCode(201).end()
             return ctx.currentRoute()
         }
 
-        shredder(databaseName, resource, ctx)
+        sessionPool.invalidating(ctx.vertx(), databaseName) {
+            shredder(databaseName, resource, ctx)
+        }
 
         return ctx.currentRoute()
     }
@@ -147,7 +156,7 @@ class XmlCreate(private val location: Path, private val createMultipleResources:
         routingCtx: RoutingContext
     ) {
         withContext(Dispatchers.IO) {
-            val out = ByteArrayOutputStream()
+            val out = HttpResponseOutputStream(routingCtx.response())
             val serializerBuilder = XmlSerializer.XmlSerializerBuilder(manager, out)
             val serializer = serializerBuilder.emitIDs().emitRESTful().emitRESTSequence().prettyPrint().build()
 
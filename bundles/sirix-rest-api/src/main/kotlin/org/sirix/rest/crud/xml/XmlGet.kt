@@ -12,13 +12,18 @@ import io.vertx.kotlin.core.executeBlockingAwait
 import io.vertx.kotlin.coroutines.dispatcher
 import kotlinx.coroutines.withContext
 import org.brackit.xquery.XQuery
-import org.sirix.access.Databases
 import org.sirix.api.Database
 import org.sirix.api.xml.XmlNodeReadOnlyTrx
 import org.sirix.api.xml.XmlResourceManager
 import org.sirix.exception.SirixUsageException
+import org.sirix.rest.crud.DatabaseSession
+import org.sirix.rest.crud.DatabaseSessionPool
+import org.sirix.rest.crud.HttpResponseOutputStream
+import org.sirix.rest.crud.QueryCursor
+import org.sirix.rest.crud.QueryCursorStore
 import org.sirix.rest.crud.QuerySerializer
 import org.sirix.rest.crud.Revisions
+import org.sirix.rest.crud.SirixDBUser
 import org.sirix.service.xml.serialize.XmlSerializer
 import org.sirix.xquery.SirixCompileChain
 import org.sirix.xquery.SirixQueryContext
@@ -26,12 +31,10 @@ import org.sirix.xquery.XmlDBSerializer
 import org.sirix.xquery.node.BasicXmlDBStore
 import org.sirix.xquery.node.XmlDBCollection
 import org.sirix.xquery.node.XmlDBNode
-import java.io.ByteArrayOutputStream
+import java.io.OutputStream
 import java.io.PrintStream
-import java.nio.charset.StandardCharsets
-import java.nio.file.Path
 
-class XmlGet(private val location: Path) {
+class XmlGet(private val sessionPool: DatabaseSessionPool, private val cursorStore: QueryCursorStore) {
     suspend fun handle(ctx: RoutingContext): Route {
         val context = ctx.vertx().orCreateContext
         val databaseName: String? = ctx.pathParam("database")
@@ -59,32 +62,35 @@ class XmlGet(private val location: Path) {
 
         val nodeId: String? = ctx.queryParam("nodeId").getOrNull(0)
 
-        val database: Database<XmlResourceManager>
+        val session: DatabaseSession<XmlResourceManager>
         try {
-            database = Databases.openXmlDatabase(location.resolve(databaseName))
+            session = sessionPool.openXmlDatabase(databaseName!!)
         } catch (e: SirixUsageException) {
             ctx.fail(HttpStatusException(HttpResponseStatus.NOT_FOUND.code(), e))
             return
         }
 
-        database.use {
+        session.use {
+            val database = session.database
+
             try {
-                val manager = database.openResourceManager(resource)
+                val manager = session.openResourceManager(resource!!)
 
-                manager.use {
-                    if (query != null && query.isNotEmpty()) {
-                        queryResource(
-                            databaseName, database, revision, revisionTimestamp, manager, ctx, nodeId, query,
-                            vertxContext, user
+                if (query != null && query.isNotEmpty()) {
+                    queryResource(
+                        databaseName, database, revision, revisionTimestamp, manager, ctx, nodeId, query,
+                        vertxContext, user
+                    )
+                } else {
+                    val revisions: Array<Int> =
+                        Revisions.getRevisionsToSerialize(
+                            startRevision, endRevision, startRevisionTimestamp,
+                            endRevisionTimestamp, manager, revision, revisionTimestamp
                         )
-                    } else {
-                        val revisions: Array<Int> =
-                            Revisions.getRevisionsToSerialize(
-                                startRevision, endRevision, startRevisionTimestamp,
-                                endRevisionTimestamp, manager, revision, revisionTimestamp
-                            )
 
+                    vertxContext.executeBlockingAwait { promise: Promise<Unit> ->
                         serializeResource(manager, revisions, nodeId?.toLongOrNull(), ctx)
+                        promise.complete(null)
                     }
                 }
             } catch (e: SirixUsageException) {
@@ -101,116 +107,197 @@ class XmlGet(private val location: Path) {
         nodeId: String?, query: String, vertxContext: Context, user: User
     ) {
         withContext(vertxContext.dispatcher()) {
+            // The collection isn't closed, as it would close the pooled database.
             val dbCollection = XmlDBCollection(databaseName, database)
 
-            dbCollection.use {
-                val revisionNumber = Revisions.getRevisionNumber(revision, revisionTimestamp, manager)
+            val revisionNumber = Revisions.getRevisionNumber(revision, revisionTimestamp, manager)
+            val pageSize = QueryCursor.parsePageSize(ctx.queryParam("pageSize").getOrElse(0) { null })
+
+            val trx: XmlNodeReadOnlyTrx
+            try {
+                trx = manager.beginNodeReadOnlyTrx(revisionNumber[0])
 
-                val trx: XmlNodeReadOnlyTrx
                 try {
-                    trx = manager.beginNodeReadOnlyTrx(revisionNumber[0])
-
-                    trx.use {
-                        if (nodeId == null)
-                            trx.moveToFirstChild()
-                        else
-                            trx.moveTo(nodeId.toLong())
-
-                        val dbNode = XmlDBNode(trx, dbCollection)
-
-                        val startResultSeqIndex = ctx.queryParam("startResultSeqIndex").getOrElse(0) { null }
-                        val endResultSeqIndex = ctx.queryParam("endResultSeqIndex").getOrElse(0) { null }
-
-                        xquery(
-                            query,
-                            dbNode,
-                            ctx,
-                            vertxContext,
-                            user,
-                            startResultSeqIndex?.toLong(),
-                            endResultSeqIndex?.toLong()
-                        )
-                    }
-                } catch (e: SirixUsageException) {
-                    ctx.fail(HttpStatusException(HttpResponseStatus.NOT_FOUND.code(), e))
+                    if (nodeId == null)
+                        trx.moveToFirstChild()
+                    else
+                        trx.moveTo(nodeId.toLong())
+
+                    val dbNode = XmlDBNode(trx, dbCollection)
+
+                    val startResultSeqIndex = ctx.queryParam("startResultSeqIndex").getOrElse(0) { null }
+                    val endResultSeqIndex = ctx.queryParam("endResultSeqIndex").getOrElse(0) { null }
+
+                    // A cursor keeps the transaction and the database open, until all pages have been read.
+                    val cursorResources: List<AutoCloseable> =
+                        if (pageSize == null) emptyList() else listOf(trx, sessionPool.openXmlDatabase(databaseName!!))
+
+                    xquery(
+                        query,
+                        dbNode,
+                        ctx,
+                        vertxContext,
+                        user,
+                        startResultSeqIndex?.toLong(),
+                        endResultSeqIndex?.toLong(),
+                        pageSize,
+                        cursorResources
+                    )
+                } finally {
+                    if (pageSize == null)
+                        trx.close()
                 }
+            } catch (e: SirixUsageException) {
+                ctx.fail(HttpStatusException(HttpResponseStatus.NOT_FOUND.code(), e))
             }
         }
     }
 
     suspend fun xquery(
         query: String, node: XmlDBNode?, routingContext: RoutingContext, context: Context,
-        user: User, startResultSeqIndex: Long?, endResultSeqIndex: Long?
+        user: User, startResultSeqIndex: Long?, endResultSeqIndex: Long?, pageSize: Int? = null,
+        cursorResources: List<AutoCloseable> = emptyList()
     ) {
         context.executeBlockingAwait { promise: Promise<Unit> ->
             // Initialize queryResource context and store.
             val dbStore = XmlSessionDBStore(routingContext, BasicXmlDBStore.newBuilder().build(), user)
 
+            if (pageSize != null) {
+                val queryCtx = SirixQueryContext.createWithNodeStore(dbStore)
+
+                node.let { queryCtx.contextItem = node }
+
+                val cursor = QuerySerializer.openCursor(
+                    SirixCompileChain.createWithNodeStore(dbStore),
+                    query,
+                    queryCtx,
+                    pageSize,
+                    SirixDBUser.create(routingContext),
+                    cursorResources
+                )
+
+                serializeNextPage(cursor, null, routingContext)
+                promise.complete(null)
+                return@executeBlockingAwait
+            }
+
             dbStore.use {
                 val queryCtx = SirixQueryContext.createWithNodeStore(dbStore)
 
                 node.let { queryCtx.contextItem = node }
 
-                val out = ByteArrayOutputStream()
+                routingContext.response().setStatusCode(200)
+                    .putHeader(HttpHeaders.CONTENT_TYPE, "application/xml")
 
-                out.use {
-                    executeQueryAndSerialize(
-                        out,
-                        dbStore,
-                        startResultSeqIndex,
-                        query,
-                        queryCtx,
-                        endResultSeqIndex
-                    )
+                val out = HttpResponseOutputStream(routingContext.response())
 
-                    val body = String(out.toByteArray(), StandardCharsets.UTF_8)
+                executeQueryAndSerialize(
+                    out,
+                    dbStore,
+                    startResultSeqIndex,
+                    query,
+                    queryCtx,
+                    endResultSeqIndex
+                )
 
-                    routingContext.response().setStatusCode(200)
-                        .putHeader(HttpHeaders.CONTENT_TYPE, "application/xml")
-                        .putHeader(HttpHeaders.CONTENT_LENGTH, body.toByteArray(StandardCharsets.UTF_8).size.toString())
-                        .write(body)
-                        .end()
-                }
+                out.close()
             }
 
             promise.complete(null)
         }
     }
 
+    /**
+     * Serialize the next page of a query result, which has been opened by a former request.
+     */
+    suspend fun nextPage(token: String, routingContext: RoutingContext, context: Context) {
+        context.executeBlockingAwait { promise: Promise<Unit> ->
+            val cursor = cursorStore.take(token, SirixDBUser.create(routingContext))
+
+            if (cursor == null) {
+                routingContext.fail(
+                    HttpStatusException(
+                        HttpResponseStatus.NOT_FOUND.code(),
+                        IllegalStateException("Query cursor not found or expired.")
+                    )
+                )
+            } else {
+                serializeNextPage(cursor, token, routingContext)
+            }
+
+            promise.complete(null)
+        }
+    }
+
+    private fun serializeNextPage(cursor: QueryCursor, token: String?, routingContext: RoutingContext) {
+        val out = HttpResponseOutputStream(routingContext.response())
+
+        try {
+            val page = cursor.nextPage()
+            val nextToken = if (cursor.hasNext) token ?: cursorStore.newToken() else null
+
+            val response = routingContext.response().setStatusCode(200)
+                .putHeader(HttpHeaders.CONTENT_TYPE, "application/xml")
+
+            nextToken?.let { response.putHeader(QueryCursor.CURSOR_HEADER, it) }
+
+            // Not closed, as closing the stream ends the response.
+            val printStream = PrintStream(out)
+
+            QuerySerializer.serializePage(page, XmlDBSerializer(printStream, true, true)) { serializer, item ->
+                serializer.serialize(item)
+            }
+
+            printStream.flush()
+
+            // The cursor is kept only once its page has been serialized, but before the response is ended, such that
+            // the next page can be requested as soon as this one has been received.
+            cursorStore.keep(cursor, nextToken)
+        } catch (e: Exception) {
+            cursor.close()
+            throw e
+        }
+
+        out.close()
+    }
+
     private fun executeQueryAndSerialize(
-        out: ByteArrayOutputStream,
+        out: OutputStream,
         dbStore: XmlSessionDBStore,
         startResultSeqIndex: Long?,
         query: String,
         queryCtx: SirixQueryContext?,
         endResultSeqIndex: Long?
     ) {
-        PrintStream(out).use { printStream ->
-            SirixCompileChain.createWithNodeStore(dbStore).use { sirixCompileChain ->
-                if (startResultSeqIndex == null) {
-                    XQuery(sirixCompileChain, query).prettyPrint().serialize(
-                        queryCtx,
-                        XmlDBSerializer(printStream, true, true)
-                    )
-                } else {
-                    QuerySerializer.serializePaginated(
-                        sirixCompileChain,
-                        query,
-                        queryCtx,
-                        startResultSeqIndex,
-                        endResultSeqIndex,
-                        XmlDBSerializer(printStream, true, true)
-                    ) { serializer, startItem -> serializer.serialize(startItem) }
-                }
+        // Not closed, as closing the stream ends the response.
+        val printStream = PrintStream(out)
+
+        SirixCompileChain.createWithNodeStore(dbStore).use { sirixCompileChain ->
+            if (startResultSeqIndex == null) {
+                XQuery(sirixCompileChain, query).prettyPrint().serialize(
+                    queryCtx,
+                    XmlDBSerializer(printStream, true, true)
+                )
+            } else {
+                QuerySerializer.serializePaginated(
+                    sirixCompileChain,
+                    query,
+                    queryCtx,
+                    startResultSeqIndex,
+                    endResultSeqIndex,
+                    XmlDBSerializer(printStream, true, true)
+                ) { serializer, startItem -> serializer.serialize(startItem) }
             }
         }
+
+        printStream.flush()
     }
 
     private fun serializeResource(
         manager: XmlResourceManager, revisions: Array<Int>, nodeId: Long?,
         ctx: RoutingContext
     ) {
-        val out = ByteArrayOutputStream()
+        val out = HttpResponseOutputStream(ctx.response())
 
         val serializerBuilder = XmlSerializer.XmlSerializerBuilder(manager, out).revisions(revisions.toIntArray())
 
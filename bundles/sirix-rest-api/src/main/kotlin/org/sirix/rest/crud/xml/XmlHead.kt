@@ -7,16 +7,15 @@ import io.vertx.ext.web.Route
 import io.vertx.ext.web.RoutingContext
 import io.vertx.ext.web.handler.impl.HttpStatusException
 import io.vertx.kotlin.core.executeBlockingAwait
-import org.sirix.access.Databases
 import org.sirix.access.trx.node.HashType
-import org.sirix.api.Database
 import org.sirix.api.xml.XmlResourceManager
 import org.sirix.exception.SirixUsageException
-import java.nio.file.Path
+import org.sirix.rest.crud.DatabaseSession
+import org.sirix.rest.crud.DatabaseSessionPool
 import java.time.LocalDateTime
 import java.time.ZoneId
 
-class XmlHead(private val location: Path) {
+class XmlHead(private val sessionPool: DatabaseSessionPool) {
     suspend fun handle(ctx: RoutingContext): Route {
         val databaseName = ctx.pathParam("database")
         val resource = ctx.pathParam("resource")
@@ -38,41 +37,39 @@ class XmlHead(private val location: Path) {
 
         val nodeId: String? = ctx.queryParam("nodeId").getOrNull(0)
 
-        val database: Database<XmlResourceManager>
+        val session: DatabaseSession<XmlResourceManager>
         try {
-            database = Databases.openXmlDatabase(location.resolve(databaseName))
+            session = sessionPool.openXmlDatabase(databaseName)
         } catch (e: SirixUsageException) {
             ctx.fail(HttpStatusException(HttpResponseStatus.NOT_FOUND.code(), e))
             return
         }
 
-        database.use {
+        session.use {
             try {
-                val manager = database.openResourceManager(resource)
-
-                manager.use {
-                    if (manager.resourceConfig.hashType == HashType.NONE)
-                        return
-
-                    val revisionNumber = getRevisionNumber(revision, revisionTimestamp, manager)
-
-                    val rtx = manager.beginNodeReadOnlyTrx(revisionNumber)
-
-                    rtx.use {
-                        if (nodeId != null) {
-                            if (!rtx.moveTo(nodeId.toLong()).hasMoved()) {
-                                ctx.fail(
-                                    HttpResponseStatus.BAD_REQUEST.code(),
-                                    IllegalStateException("Node with ID ${nodeId} doesn't exist.")
-                                )
-                            }
-                        } else if (rtx.isDocumentRoot) {
-                            rtx.moveToFirstChild()
-                        }
+                val manager = session.openResourceManager(resource)
+
+                if (manager.resourceConfig.hashType == HashType.NONE)
+                    return
+
+                val revisionNumber = getRevisionNumber(revision, revisionTimestamp, manager)
 
-                        ctx.response().putHeader(HttpHeaders.ETAG, rtx.hash.toString())
-                        ctx.response().end()
+                val rtx = manager.beginNodeReadOnlyTrx(revisionNumber)
+
+                rtx.use {
+                    if (nodeId != null) {
+                        if (!rtx.moveTo(nodeId.toLong()).hasMoved()) {
+                            ctx.fail(
+                                HttpResponseStatus.BAD_REQUEST.code(),
+                                IllegalStateException("Node with ID ${nodeId} doesn't exist.")
+                            )
+                        }
+                    } else if (rtx.isDocumentRoot) {
+                        rtx.moveToFirstChild()
                     }
+
+                    ctx.response().putHeader(HttpHeaders.ETAG, rtx.hash.toString())
+                    ctx.response().end()
                 }
             } catch (e: SirixUsageException) {
                 ctx.fail(HttpStatusException(HttpResponseStatus.NOT_FOUND.code(), e))
@@ -5,41 +5,31 @@ import io.vertx.ext.web.RoutingContext
 import org.sirix.access.trx.node.HashType
 import org.sirix.api.xml.XmlResourceManager
 import org.sirix.service.xml.serialize.XmlSerializer
-import java.io.ByteArrayOutputStream
-import java.nio.charset.StandardCharsets
+import java.io.OutputStream
 
 class XmlSerializeHelper {
     fun serializeXml(
         serializer: XmlSerializer,
-        out: ByteArrayOutputStream,
+        out: OutputStream,
         ctx: RoutingContext,
         manager: XmlResourceManager,
         nodeId: Long?
     ) {
-        serializer.call()
-        val body = String(out.toByteArray(), StandardCharsets.UTF_8)
+        val response = ctx.response().setStatusCode(200)
+            .putHeader(HttpHeaders.CONTENT_TYPE, "application/xml")
 
-        if (manager.resourceConfig.hashType == HashType.NONE) {
-            writeResponseWithoutHashValue(ctx, body)
-        } else {
-            writeResponseWithHashValue(manager, ctx, body, nodeId)
+        if (manager.resourceConfig.hashType != HashType.NONE) {
+            response.putHeader(HttpHeaders.ETAG, getHashValue(manager, nodeId))
         }
-    }
 
-    private fun writeResponseWithoutHashValue(ctx: RoutingContext, body: String) {
-        ctx.response().setStatusCode(200)
-            .putHeader(HttpHeaders.CONTENT_TYPE, "application/xml")
-            .putHeader(HttpHeaders.CONTENT_LENGTH, body.toByteArray(StandardCharsets.UTF_8).size.toString())
-            .write(body)
-            .end()
+        serializer.call()
+
+        // Only end the response on success, such that a failure is still reported with an error status code, as
+        // long as nothing has been sent.
+        out.close()
     }
 
-    private fun writeResponseWithHashValue(
-        manager: XmlResourceManager,
-        ctx: RoutingContext,
-        body: String,
-        nodeId: Long?
-    ) {
+    private fun getHashValue(manager: XmlResourceManager, nodeId: Long?): String {
         val rtx = manager.beginNodeReadOnlyTrx()
 
         rtx.use {
@@ -48,12 +38,7 @@ class XmlSerializeHelper {
             else
                 rtx.moveTo(nodeId).trx().hash
 
-            ctx.response().setStatusCode(200)
-                .putHeader(HttpHeaders.CONTENT_TYPE, "application/xml")
-                .putHeader(HttpHeaders.CONTENT_LENGTH, body.toByteArray(StandardCharsets.UTF_8).size.toString())
-                .putHeader(HttpHeaders.ETAG, hash.toString())
-                .write(body)
-                .end()
+            return hash.toString()
         }
     }
-}
\ No newline at end of file
+}
@@ -8,10 +8,11 @@ import io.vertx.kotlin.core.executeBlockingAwait
 import org.sirix.access.Databases
 import org.sirix.access.trx.node.HashType
 import org.sirix.api.xml.XmlNodeTrx
+import org.sirix.rest.crud.DatabaseSessionPool
+import org.sirix.rest.crud.HttpResponseOutputStream
 import org.sirix.rest.crud.SirixDBUser
 import org.sirix.service.xml.serialize.XmlSerializer
 import org.sirix.service.xml.shredder.XmlShredder
-import java.io.ByteArrayOutputStream
 import java.math.BigInteger
 import java.nio.charset.StandardCharsets
 import java.nio.file.Path
@@ -46,7 +47,7 @@ enum class XmlInsertionMode {
     }
 }
 
-class XmlUpdate(private val location: Path) {
+class XmlUpdate(private val location: Path, private val sessionPool: DatabaseSessionPool) {
     suspend fun handle(ctx: RoutingContext): Route {
         val databaseName = ctx.pathParam("database")
 
@@ -60,7 +61,9 @@ class XmlUpdate(private val location: Path) {
 
         val body = ctx.bodyAsString
 
-        update(databaseName, resource, nodeId?.toLongOrNull(), insertionMode, body, ctx)
+        sessionPool.invalidating(ctx.vertx(), databaseName) {
+            update(databaseName, resource, nodeId?.toLongOrNull(), insertionMode, body, ctx)
+        }
 
         return ctx.currentRoute()
     }
@@ -126,7 +129,7 @@ class XmlUpdate(private val location: Path) {
                             ctx.response().putHeader(HttpHeaders.ETAG, hash.toString()).end()
                         }
                     } else {
-                        val out = ByteArrayOutputStream()
+                        val out = HttpResponseOutputStream(ctx.response())
                         val serializerBuilder = XmlSerializer.XmlSerializerBuilder(manager, out)
 
                         val serializer =
@@ -0,0 +1,98 @@
+package org.sirix.rest
+
+import io.vertx.core.Vertx
+import io.vertx.core.http.HttpServer
+import io.vertx.ext.web.Router
+import io.vertx.ext.web.client.WebClient
+import io.vertx.junit5.Timeout
+import io.vertx.junit5.VertxExtension
+import io.vertx.junit5.VertxTestContext
+import io.vertx.kotlin.core.http.closeAwait
+import io.vertx.kotlin.core.http.listenAwait
+import io.vertx.kotlin.coroutines.dispatcher
+import io.vertx.kotlin.ext.web.client.sendAwait
+import kotlinx.coroutines.GlobalScope
+import kotlinx.coroutines.launch
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.sirix.rest.crud.HttpResponseOutputStream
+import java.util.concurrent.TimeUnit
+
+@ExtendWith(VertxExtension::class)
+@DisplayName("FailureHandler test")
+class FailureHandlerTest {
+    companion object {
+        private const val PORT = 9445
+
+        private const val CHUNK_SIZE = 1024
+
+        private const val FAILURE_MESSAGE = "Serialization failed."
+    }
+
+    @Test
+    @Timeout(value = 10, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Testing a failure, before anything has been streamed")
+    fun testFailureBeforeStreaming(vertx: Vertx, testContext: VertxTestContext) {
+        GlobalScope.launch(vertx.dispatcher()) {
+            val server = startServer(vertx, CHUNK_SIZE / 2)
+
+            try {
+                val response = WebClient.create(vertx).get(PORT, "localhost", "/").sendAwait()
+
+                testContext.verify {
+                    assertEquals(500, response.statusCode())
+                    assertEquals("Failure calling the RESTful API: $FAILURE_MESSAGE", response.bodyAsString())
+                }
+
+                testContext.completeNow()
+            } catch (e: Throwable) {
+                testContext.failNow(e)
+            } finally {
+                server.closeAwait()
+            }
+        }
+    }
+
+    @Test
+    @Timeout(value = 10, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Testing a failure, once the first chunk has been streamed")
+    fun testFailureWhileStreaming(vertx: Vertx, testContext: VertxTestContext) {
+        GlobalScope.launch(vertx.dispatcher()) {
+            val server = startServer(vertx, CHUNK_SIZE * 4)
+
+            try {
+                // The connection is closed, thus the client doesn't receive the end of the chunked response.
+                WebClient.create(vertx).get(PORT, "localhost", "/").sendAwait()
+
+                testContext.failNow(IllegalStateException("The truncated response has been received as a whole."))
+            } catch (e: Throwable) {
+                testContext.completeNow()
+            } finally {
+                server.closeAwait()
+            }
+        }
+    }
+
+    /**
+     * Start a server, which fails after it has written the given number of bytes into the response.
+     */
+    private suspend fun startServer(vertx: Vertx, sizeBeforeFailure: Int): HttpServer {
+        val router = Router.router(vertx)
+
+        router.get("/").handler { ctx ->
+            vertx.executeBlocking<Unit>({ promise ->
+                val out = HttpResponseOutputStream(ctx.response(), CHUNK_SIZE)
+                out.write(ByteArray(sizeBeforeFailure))
+                promise.fail(IllegalStateException(FAILURE_MESSAGE))
+            }, { result ->
+                if (result.failed())
+                    ctx.fail(result.cause())
+            })
+        }
+        router.route().failureHandler(FailureHandler())
+
+        return vertx.createHttpServer().requestHandler { router.handle(it) }.listenAwait(PORT)
+    }
+}
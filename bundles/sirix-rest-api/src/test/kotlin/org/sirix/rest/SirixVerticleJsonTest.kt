@@ -17,12 +17,19 @@ import io.vertx.kotlin.ext.web.client.sendAwait
 import io.vertx.kotlin.ext.web.client.sendBufferAwait
 import io.vertx.kotlin.ext.web.client.sendJsonAwait
 import kotlinx.coroutines.GlobalScope
+import kotlinx.coroutines.async
+import kotlinx.coroutines.awaitAll
 import kotlinx.coroutines.coroutineScope
 import kotlinx.coroutines.launch
 import org.junit.jupiter.api.*
 import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertNotNull
+import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.extension.ExtendWith
+import org.sirix.rest.crud.QueryCursor
 import org.skyscreamer.jsonassert.JSONAssert
+import java.math.BigInteger
 import java.util.concurrent.TimeUnit
 
 
@@ -42,6 +49,7 @@ class SirixVerticleJsonTest {
             JsonObject().put("port", 9443)
                 .put("client.secret", "78a294c4-0492-4e44-a35f-7eb9cab0d831") // "64aaf9b2-9ea1-43cd-bcb6-87d2f430aaa2"
                 .put("keycloak.url", "http://localhost:8080/auth/realms/sirixdb")
+                .put("patch.groupCommit", true)
         )
         vertx.deployVerticle("org.sirix.rest.SirixVerticle", options, testContext.completing())
 
@@ -1307,6 +1315,312 @@ class SirixVerticleJsonTest {
         }
     }
 
+    @Test
+    @Timeout(value = 10, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Testing a paged query, which fits into a single page")
+    fun testGetQueryWithSinglePage(vertx: Vertx, testContext: VertxTestContext) {
+        GlobalScope.launch(vertx.dispatcher()) {
+            testContext.verifyCoroutine {
+                createResource()
+
+                val httpResponse = client.getAbs("$server$serverPath?query=1%20to%205&pageSize=10").putHeader(
+                    HttpHeaders.AUTHORIZATION
+                        .toString(), "Bearer $accessToken"
+                ).putHeader(HttpHeaders.ACCEPT.toString(), "application/json").sendAwait()
+
+                testContext.verify {
+                    assertEquals(200, httpResponse.statusCode())
+                    assertNull(httpResponse.getHeader(QueryCursor.CURSOR_HEADER))
+                    JSONAssert.assertEquals("""{"rest":[1,2,3,4,5]}""", httpResponse.bodyAsString(), true)
+                    testContext.completeNow()
+                }
+            }
+        }
+    }
+
+    @Test
+    @Timeout(value = 10, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Testing a paged query, which is read with a cursor")
+    fun testGetQueryWithCursor(vertx: Vertx, testContext: VertxTestContext) {
+        GlobalScope.launch(vertx.dispatcher()) {
+            testContext.verifyCoroutine {
+                createResource()
+
+                var httpResponse = client.getAbs("$server$serverPath?query=1%20to%205&pageSize=2").putHeader(
+                    HttpHeaders.AUTHORIZATION
+                        .toString(), "Bearer $accessToken"
+                ).putHeader(HttpHeaders.ACCEPT.toString(), "application/json").sendAwait()
+
+                val cursor = httpResponse.getHeader(QueryCursor.CURSOR_HEADER)
+
+                testContext.verify {
+                    assertEquals(200, httpResponse.statusCode())
+                    assertNotNull(cursor)
+                    JSONAssert.assertEquals("""{"rest":[1,2]}""", httpResponse.bodyAsString(), true)
+                }
+
+                httpResponse = getNextPage(cursor)
+
+                testContext.verify {
+                    assertEquals(200, httpResponse.statusCode())
+                    assertEquals(cursor, httpResponse.getHeader(QueryCursor.CURSOR_HEADER))
+                    JSONAssert.assertEquals("""{"rest":[3,4]}""", httpResponse.bodyAsString(), true)
+                }
+
+                httpResponse = getNextPage(cursor)
+
+                testContext.verify {
+                    assertEquals(200, httpResponse.statusCode())
+                    assertNull(httpResponse.getHeader(QueryCursor.CURSOR_HEADER))
+                    JSONAssert.assertEquals("""{"rest":[5]}""", httpResponse.bodyAsString(), true)
+                }
+
+                // The cursor is closed, once its last page has been read.
+                httpResponse = getNextPage(cursor)
+
+                testContext.verify {
+                    assertEquals(404, httpResponse.statusCode())
+                    testContext.completeNow()
+                }
+            }
+        }
+    }
+
+    @Test
+    @Timeout(value = 10, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Testing paged queries with an unknown cursor and invalid page sizes")
+    fun testGetQueryWithInvalidCursorOrPageSize(vertx: Vertx, testContext: VertxTestContext) {
+        GlobalScope.launch(vertx.dispatcher()) {
+            testContext.verifyCoroutine {
+                createResource()
+
+                var httpResponse = getNextPage("unknown")
+
+                testContext.verify {
+                    assertEquals(404, httpResponse.statusCode())
+                }
+
+                for (pageSize in listOf("0", "-1", "foo")) {
+                    httpResponse = client.getAbs("$server$serverPath?query=1%20to%205&pageSize=$pageSize").putHeader(
+                        HttpHeaders.AUTHORIZATION
+                            .toString(), "Bearer $accessToken"
+                    ).putHeader(HttpHeaders.ACCEPT.toString(), "application/json").sendAwait()
+
+                    testContext.verify {
+                        assertEquals(400, httpResponse.statusCode())
+                    }
+                }
+
+                httpResponse = client.getAbs("$server?query=1%20to%205&pageSize=0").putHeader(
+                    HttpHeaders.AUTHORIZATION
+                        .toString(), "Bearer $accessToken"
+                ).putHeader(HttpHeaders.ACCEPT.toString(), "application/json").sendAwait()
+
+                testContext.verify {
+                    assertEquals(400, httpResponse.statusCode())
+                    testContext.completeNow()
+                }
+            }
+        }
+    }
+
+    @Test
+    @Timeout(value = 10, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Testing a patch of a resource")
+    fun testPatch(vertx: Vertx, testContext: VertxTestContext) {
+        GlobalScope.launch(vertx.dispatcher()) {
+            testContext.verifyCoroutine {
+                createResource()
+
+                var httpResponse = client.headAbs("$server$serverPath?nodeId=4").putHeader(
+                    HttpHeaders.AUTHORIZATION
+                        .toString(), "Bearer $accessToken"
+                ).putHeader(HttpHeaders.ACCEPT.toString(), "application/json").sendAwait()
+
+                val hashCode = httpResponse.getHeader(HttpHeaders.ETAG.toString())
+
+                httpResponse = patch(
+                    """[{"op":"replace","nodeId":4,"hash":"$hashCode","data":"baz"},
+                       {"op":"insert","nodeId":3,"insert":"asFirstChild","data":1}]"""
+                )
+
+                testContext.verify {
+                    assertEquals(200, httpResponse.statusCode())
+                    assertEquals(2, httpResponse.bodyAsJsonObject().getInteger("revision"))
+                }
+
+                httpResponse = getResource()
+
+                testContext.verify {
+                    assertEquals(200, httpResponse.statusCode())
+                    JSONAssert.assertEquals("""{"foo":[1,"baz",null,2.33]}""", httpResponse.bodyAsString(), true)
+                    testContext.completeNow()
+                }
+            }
+        }
+    }
+
+    @Test
+    @Timeout(value = 10, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Testing patches, which conflict with the resource or are malformed")
+    fun testPatchWithConflictOrMalformedOperations(vertx: Vertx, testContext: VertxTestContext) {
+        GlobalScope.launch(vertx.dispatcher()) {
+            testContext.verifyCoroutine {
+                createResource()
+
+                var httpResponse = client.headAbs("$server$serverPath?nodeId=4").putHeader(
+                    HttpHeaders.AUTHORIZATION
+                        .toString(), "Bearer $accessToken"
+                ).putHeader(HttpHeaders.ACCEPT.toString(), "application/json").sendAwait()
+
+                val hashCode = httpResponse.getHeader(HttpHeaders.ETAG.toString()).toBigInteger()
+
+                httpResponse = patch("""[{"op":"replace","nodeId":4,"hash":${hashCode + BigInteger.ONE},"data":"baz"}]""")
+
+                testContext.verify {
+                    assertEquals(409, httpResponse.statusCode())
+                }
+
+                for (patch in listOf(
+                    """[{"op":"replace","nodeId":4,"hash":"foo","data":"baz"}]""",
+                    """[{"op":"replace","nodeId":"foo","data":"baz"}]""",
+                    """[{"op":"replace","nodeId":1000,"data":"baz"}]""",
+                    """[{"op":"move","nodeId":4}]""",
+                    """{"op":"remove","nodeId":4}"""
+                )) {
+                    httpResponse = patch(patch)
+
+                    testContext.verify {
+                        assertEquals(400, httpResponse.statusCode())
+                    }
+                }
+
+                httpResponse = getResource()
+
+                testContext.verify {
+                    JSONAssert.assertEquals("""{"foo":["bar",null,2.33]}""", httpResponse.bodyAsString(), true)
+                    testContext.completeNow()
+                }
+            }
+        }
+    }
+
+    @Test
+    @Timeout(value = 10, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Testing the rollback of a patch, of which an operation fails")
+    fun testPatchRollback(vertx: Vertx, testContext: VertxTestContext) {
+        GlobalScope.launch(vertx.dispatcher()) {
+            testContext.verifyCoroutine {
+                createResource()
+
+                var httpResponse = patch(
+                    """[{"op":"replace","nodeId":4,"data":"baz"},{"op":"remove","nodeId":1000}]"""
+                )
+
+                testContext.verify {
+                    assertEquals(400, httpResponse.statusCode())
+                }
+
+                httpResponse = getResource()
+
+                testContext.verify {
+                    JSONAssert.assertEquals("""{"foo":["bar",null,2.33]}""", httpResponse.bodyAsString(), true)
+                }
+
+                // No revision has been created by the failed patch.
+                httpResponse = patch("""[{"op":"remove","nodeId":5}]""")
+
+                testContext.verify {
+                    assertEquals(200, httpResponse.statusCode())
+                    assertEquals(2, httpResponse.bodyAsJsonObject().getInteger("revision"))
+                    testContext.completeNow()
+                }
+            }
+        }
+    }
+
+    @Test
+    @Timeout(value = 20, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Testing concurrent patches of a resource")
+    fun testConcurrentPatches(vertx: Vertx, testContext: VertxTestContext) {
+        GlobalScope.launch(vertx.dispatcher()) {
+            testContext.verifyCoroutine {
+                createResource()
+
+                val numberOfPatches = 10
+
+                // Concurrent patches are committed in groups, thus they may share revisions.
+                val responses = coroutineScope {
+                    (1..numberOfPatches).map { value ->
+                        async {
+                            patch("""[{"op":"insert","nodeId":3,"insert":"asFirstChild","data":$value}]""")
+                        }
+                    }.awaitAll()
+                }
+
+                testContext.verify {
+                    responses.forEach { response ->
+                        assertEquals(200, response.statusCode())
+                        assertTrue(response.bodyAsJsonObject().getInteger("revision") in 2..numberOfPatches + 1)
+                    }
+                }
+
+                val httpResponse = getResource()
+
+                testContext.verify {
+                    val values = JsonObject(httpResponse.bodyAsString()).getJsonArray("foo")
+                    assertEquals(numberOfPatches + 3, values.size())
+                    assertEquals((1..numberOfPatches).toSet(), values.filterIsInstance<Int>().toSet())
+                    testContext.completeNow()
+                }
+            }
+        }
+    }
+
+    private suspend fun createResource(json: String = """{"foo":["bar",null,2.33]}""") {
+        val credentials = json {
+            obj(
+                "username" to "admin",
+                "password" to "admin"
+            )
+        }
+
+        val response = client.postAbs("$server/token").sendJsonAwait(credentials)
+
+        assertEquals(200, response.statusCode())
+
+        accessToken = response.bodyAsJsonObject().getString("access_token")
+
+        val httpResponse = client.putAbs("$server$serverPath").putHeader(
+            HttpHeaders.AUTHORIZATION
+                .toString(), "Bearer $accessToken"
+        ).putHeader(HttpHeaders.CONTENT_TYPE.toString(), "application/json")
+            .putHeader(HttpHeaders.ACCEPT.toString(), "application/json")
+            .sendBufferAwait(Buffer.buffer(json))
+
+        assertEquals(200, httpResponse.statusCode())
+    }
+
+    private suspend fun patch(patch: String) =
+        client.patchAbs("$server$serverPath").putHeader(
+            HttpHeaders.AUTHORIZATION
+                .toString(), "Bearer $accessToken"
+        ).putHeader(HttpHeaders.CONTENT_TYPE.toString(), "application/json")
+            .putHeader(HttpHeaders.ACCEPT.toString(), "application/json")
+            .sendBufferAwait(Buffer.buffer(patch))
+
+    private suspend fun getResource() =
+        client.getAbs("$server$serverPath").putHeader(
+            HttpHeaders.AUTHORIZATION
+                .toString(), "Bearer $accessToken"
+        ).putHeader(HttpHeaders.ACCEPT.toString(), "application/json").sendAwait()
+
+    private suspend fun getNextPage(cursor: String?) =
+        client.getAbs("$server?cursor=$cursor").putHeader(
+            HttpHeaders.AUTHORIZATION
+                .toString(), "Bearer $accessToken"
+        ).putHeader(HttpHeaders.ACCEPT.toString(), "application/json").sendAwait()
+
     private suspend fun VertxTestContext.verifyCoroutine(block: suspend () -> Unit) = coroutineScope {
         launch(coroutineContext) {
             try {
@@ -0,0 +1,147 @@
+package org.sirix.rest.crud
+
+import io.vertx.core.Vertx
+import io.vertx.junit5.Timeout
+import io.vertx.junit5.VertxExtension
+import io.vertx.junit5.VertxTestContext
+import io.vertx.kotlin.coroutines.dispatcher
+import kotlinx.coroutines.GlobalScope
+import kotlinx.coroutines.launch
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertNotSame
+import org.junit.jupiter.api.Assertions.assertSame
+import org.junit.jupiter.api.Assertions.assertThrows
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.sirix.access.DatabaseConfiguration
+import org.sirix.access.Databases
+import org.sirix.api.Database
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.concurrent.TimeUnit
+
+@ExtendWith(VertxExtension::class)
+@DisplayName("DatabaseSessionPool test")
+class DatabaseSessionPoolTest {
+    companion object {
+        private const val DATABASE_NAME = "database"
+    }
+
+    private lateinit var location: Path
+
+    private lateinit var sessionPool: DatabaseSessionPool
+
+    @BeforeEach
+    fun setUp() {
+        location = Files.createTempDirectory("sirix-session-pool")
+        Databases.createJsonDatabase(DatabaseConfiguration(location.resolve(DATABASE_NAME)))
+        sessionPool = DatabaseSessionPool(location)
+    }
+
+    @AfterEach
+    fun tearDown() {
+        sessionPool.close()
+        location.toFile().deleteRecursively()
+    }
+
+    @Test
+    @DisplayName("Testing that leases share the pooled database")
+    fun testLeaseAndRelease() {
+        val firstSession = sessionPool.openJsonDatabase(DATABASE_NAME)
+        val secondSession = sessionPool.openJsonDatabase(DATABASE_NAME)
+
+        assertSame(firstSession.database, secondSession.database)
+
+        firstSession.close()
+        secondSession.close()
+
+        // The database is kept open once it isn't leased anymore.
+        assertIsOpen(firstSession.database)
+
+        sessionPool.openJsonDatabase(DATABASE_NAME).use { session ->
+            assertSame(firstSession.database, session.database)
+        }
+    }
+
+    @Test
+    @DisplayName("Testing that idle databases are evicted")
+    fun testEviction() {
+        sessionPool = DatabaseSessionPool(location, 0)
+
+        val leasedSession = sessionPool.openJsonDatabase(DATABASE_NAME)
+        sessionPool.evictIdleDatabases()
+
+        // Leased databases aren't evicted.
+        assertIsOpen(leasedSession.database)
+
+        leasedSession.close()
+        sessionPool.evictIdleDatabases()
+
+        assertIsClosed(leasedSession.database)
+
+        sessionPool.openJsonDatabase(DATABASE_NAME).use { session ->
+            assertNotSame(leasedSession.database, session.database)
+            assertIsOpen(session.database)
+        }
+    }
+
+    @Test
+    @DisplayName("Testing the invalidation of a leased database")
+    fun testInvalidationDuringLease() {
+        val leasedSession = sessionPool.openJsonDatabase(DATABASE_NAME)
+
+        sessionPool.invalidate(DATABASE_NAME)
+
+        // The lease still uses the invalidated database, whereas new leases get a new one.
+        assertIsOpen(leasedSession.database)
+
+        sessionPool.openJsonDatabase(DATABASE_NAME).use { session ->
+            assertNotSame(leasedSession.database, session.database)
+        }
+
+        leasedSession.close()
+
+        assertIsClosed(leasedSession.database)
+    }
+
+    @Test
+    @Timeout(value = 10, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Testing the invalidation of databases on an event loop")
+    fun testInvalidateAwait(vertx: Vertx, testContext: VertxTestContext) {
+        GlobalScope.launch(vertx.dispatcher()) {
+            val releasedSession = sessionPool.openJsonDatabase(DATABASE_NAME)
+            releasedSession.close()
+
+            sessionPool.invalidating(vertx, DATABASE_NAME) {
+                testContext.verify {
+                    assertIsClosed(releasedSession.database)
+                }
+            }
+
+            val leasedSession = sessionPool.openJsonDatabase(DATABASE_NAME)
+            sessionPool.invalidateAwait(vertx, DATABASE_NAME)
+
+            testContext.verify {
+                assertIsOpen(leasedSession.database)
+            }
+
+            leasedSession.close()
+
+            testContext.verify {
+                assertIsClosed(leasedSession.database)
+            }
+
+            testContext.completeNow()
+        }
+    }
+
+    private fun assertIsOpen(database: Database<*>) {
+        database.listResources()
+    }
+
+    private fun assertIsClosed(database: Database<*>) {
+        assertThrows(IllegalStateException::class.java) { database.listResources() }
+    }
+}
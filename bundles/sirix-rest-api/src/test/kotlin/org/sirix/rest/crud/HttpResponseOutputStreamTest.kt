@@ -0,0 +1,106 @@
+package org.sirix.rest.crud
+
+import io.vertx.core.Vertx
+import io.vertx.core.http.HttpHeaders
+import io.vertx.core.http.HttpServer
+import io.vertx.ext.web.client.WebClient
+import io.vertx.junit5.Timeout
+import io.vertx.junit5.VertxExtension
+import io.vertx.junit5.VertxTestContext
+import io.vertx.kotlin.core.http.closeAwait
+import io.vertx.kotlin.core.http.listenAwait
+import io.vertx.kotlin.coroutines.dispatcher
+import io.vertx.kotlin.ext.web.client.sendAwait
+import kotlinx.coroutines.GlobalScope
+import kotlinx.coroutines.launch
+import org.junit.jupiter.api.Assertions.assertArrayEquals
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import java.util.concurrent.TimeUnit
+
+@ExtendWith(VertxExtension::class)
+@DisplayName("HttpResponseOutputStream test")
+class HttpResponseOutputStreamTest {
+    companion object {
+        private const val PORT = 9444
+
+        private const val CHUNK_SIZE = 1024
+    }
+
+    @Test
+    @Timeout(value = 10, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Testing a response, which fits into the first chunk")
+    fun testResponseWithContentLength(vertx: Vertx, testContext: VertxTestContext) {
+        GlobalScope.launch(vertx.dispatcher()) {
+            val content = createContent(CHUNK_SIZE / 2)
+            val server = startServer(vertx, content)
+
+            try {
+                val response = WebClient.create(vertx).get(PORT, "localhost", "/").sendAwait()
+
+                testContext.verify {
+                    assertEquals(200, response.statusCode())
+                    assertEquals(content.size.toString(), response.getHeader(HttpHeaders.CONTENT_LENGTH.toString()))
+                    assertNull(response.getHeader(HttpHeaders.TRANSFER_ENCODING.toString()))
+                    assertArrayEquals(content, response.bodyAsBuffer().bytes)
+                }
+
+                testContext.completeNow()
+            } catch (e: Throwable) {
+                testContext.failNow(e)
+            } finally {
+                server.closeAwait()
+            }
+        }
+    }
+
+    @Test
+    @Timeout(value = 10, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Testing a response, which is sent in chunks")
+    fun testChunkedResponse(vertx: Vertx, testContext: VertxTestContext) {
+        GlobalScope.launch(vertx.dispatcher()) {
+            // Large enough to fill the write queue of the connection, such that the writer has to wait for it to drain.
+            val content = createContent(CHUNK_SIZE * 1024 + 17)
+            val server = startServer(vertx, content)
+
+            try {
+                val response = WebClient.create(vertx).get(PORT, "localhost", "/").sendAwait()
+
+                testContext.verify {
+                    assertEquals(200, response.statusCode())
+                    assertEquals("chunked", response.getHeader(HttpHeaders.TRANSFER_ENCODING.toString()))
+                    assertNull(response.getHeader(HttpHeaders.CONTENT_LENGTH.toString()))
+                    assertArrayEquals(content, response.bodyAsBuffer().bytes)
+                }
+
+                testContext.completeNow()
+            } catch (e: Throwable) {
+                testContext.failNow(e)
+            } finally {
+                server.closeAwait()
+            }
+        }
+    }
+
+    private suspend fun startServer(vertx: Vertx, content: ByteArray): HttpServer {
+        return vertx.createHttpServer().requestHandler { request ->
+            vertx.executeBlocking<Unit>({ promise ->
+                HttpResponseOutputStream(request.response(), CHUNK_SIZE).use { out ->
+                    // Write in pieces, which don't match the chunk size.
+                    var offset = 0
+                    while (offset < content.size) {
+                        val length = minOf(100, content.size - offset)
+                        out.write(content, offset, length)
+                        offset += length
+                    }
+                }
+                promise.complete()
+            }, {})
+        }.listenAwait(PORT)
+    }
+
+    private fun createContent(size: Int) = ByteArray(size) { index -> (index % 128).toByte() }
+}
@@ -67,10 +67,11 @@ public final class IndexExpr implements Expr {
 
     final JsonNodeReadOnlyTrx rtx =
         revision == -1 ? manager.beginNodeReadOnlyTrx() : manager.beginNodeReadOnlyTrx(revision);
-    var nodeKeys = new ArrayList<Long>();
+    // The node keys of all matching index entries, combined in a compressed bitmap.
+    var nodeKeys = new NodeReferences();
 
     final var indexType = (IndexType) properties.get("indexType");
-    final var indexTypeToNodeKeys = new HashMap<IndexDef, List<Long>>();
+    final var indexTypeToNodeKeys = new HashMap<IndexDef, NodeReferences>();
     final var arrayIndexes = (Map<String, Deque<Integer>>) properties.get("arrayIndexes");
 
     for (final Map.Entry<IndexDef, List<Path<QNm>>> entrySet : indexDefsToPaths.entrySet()) {
@@ -115,7 +116,7 @@ public final class IndexExpr implements Expr {
 
             indexTypeToNodeKeys.put(entrySet.getKey(), nodeKeys);
 
-            nodeKeys = new ArrayList<>();
+            nodeKeys = new NodeReferences();
           } else {
             final SearchMode searchMode = getSearchMode(comparisonType);
 
@@ -129,7 +130,7 @@ public final class IndexExpr implements Expr {
 
             indexTypeToNodeKeys.put(entrySet.getKey(), nodeKeys);
 
-            nodeKeys = new ArrayList<>();
+            nodeKeys = new NodeReferences();
           }
         }
         case NAME -> {
@@ -142,7 +143,7 @@ public final class IndexExpr implements Expr {
     final var jsonItemFactory = new JsonItemFactory();
 
     switch (indexType) {
-      case PATH -> nodeKeys.forEach(nodeKey -> {
+      case PATH -> nodeKeys.getNodeKeys().forEach(nodeKey -> {
         rtx.moveTo(nodeKey).trx().moveToFirstChild();
         sequence.add(jsonItemFactory.getSequence(rtx, jsonCollection));
       });
@@ -150,7 +151,7 @@ public final class IndexExpr implements Expr {
         final var indexDefToPredicateLevel = (Map<IndexDef, Integer>) properties.get("predicateLevel");
         final var predicateLevel = indexDefToPredicateLevel.get(indexDef);
         final var nodeKeysOfIndex = indexTypeToNodeKeys.get(indexDef);
-        nodeKeysOfIndex.forEach(nodeKey -> {
+        nodeKeysOfIndex.getNodeKeys().forEach(nodeKey -> {
           // TODO: We can skip this traversal once we store a DeweyID <=> nodeKey mapping.
           // Then we can simply clip the DeweyID with the given path level and get the corresponding nodeKey.
           rtx.moveTo(nodeKey);
@@ -219,10 +220,10 @@ public final class IndexExpr implements Expr {
   }
 
   private void checkIfIndexNodeIsApplicable(JsonResourceManager manager, JsonNodeReadOnlyTrx rtx,
-      Map<String, Deque<Integer>> arrayIndexes, Iterator<NodeReferences> nodeReferencesIterator, List<Long> nodeKeys) {
+      Map<String, Deque<Integer>> arrayIndexes, Iterator<NodeReferences> nodeReferencesIterator, NodeReferences nodeKeys) {
     try (final var pathSummary = revision == -1 ? manager.openPathSummary() : manager.openPathSummary(revision)) {
       nodeReferencesIterator.forEachRemaining(currentNodeReferences -> {
-        final var currNodeKeys = new HashSet<>(currentNodeReferences.getNodeKeys());
+        final var currNodeKeys = new NodeReferences().addAll(currentNodeReferences);
         // if array indexes are given (only some might be specified we have to drop false positive nodes
         if (arrayIndexes != null && !arrayIndexes.isEmpty()) {
           currentNodeReferences.getNodeKeys().forEach(nodeKey -> {
@@ -273,7 +274,7 @@ public final class IndexExpr implements Expr {
                       hasMoved = rtx.moveToLeftSibling().hasMoved();
                     }
                     if (!hasMoved || rtx.hasLeftSibling()) {
-                      currNodeKeys.remove(nodeKey);
+                      currNodeKeys.removeNodeKey(nodeKey);
                       break outer;
                     }
                     rtx.moveToParent();
@@ -17,9 +17,9 @@ import org.sirix.xquery.json.TemporalJsonDBItem;
 
 /**
  * <p>
- * Function for selecting a node in the future or the future-or-self. The first parameter is the
- * context node. Second parameter is if ithe current node should be included or not. Supported
- * signature is:
+ * Function for selecting a node in all revisions, in which it has been created or changed. The
+ * revisions are looked up in the node history of the resource, if available. The parameter is the
+ * context node. Supported signature is:
  * </p>
  * <ul>
  * <li><code>jn:all-times($doc as json-item()) as json-item()*</code></li>
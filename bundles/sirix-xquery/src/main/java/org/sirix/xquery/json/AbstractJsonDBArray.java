@@ -136,12 +136,7 @@ public abstract class AbstractJsonDBArray<T extends AbstractJsonDBArray<T>> exte
 
   private void moveToIndex(int index, JsonNodeTrx trx) {
     // must have children
-
-    trx.moveToFirstChild();
-
-    for (int i = 1; i <= index; i++) {
-      trx.moveToRightSibling();
-    }
+    trx.moveToChild(index);
   }
 
   private JsonNodeTrx getReadWriteTrx() {
@@ -370,15 +365,7 @@ public abstract class AbstractJsonDBArray<T extends AbstractJsonDBArray<T>> exte
   private Sequence getSequenceAtIndex(final JsonNodeReadOnlyTrx rtx, final int index) {
     moveRtx();
 
-    final var axis = new ChildAxis(rtx);
-
-    for (int i = 0; i < index && axis.hasNext(); i++) {
-      axis.next();
-    }
-
-    if (axis.hasNext()) {
-      axis.next();
-
+    if (rtx.moveToChild(index).hasMoved()) {
       return jsonItemFactory.getSequence(rtx, collection);
     }
 
@@ -6,7 +6,7 @@ import org.brackit.xquery.xdm.Stream;
 import org.brackit.xquery.xdm.json.Array;
 import org.sirix.api.json.JsonNodeReadOnlyTrx;
 import org.sirix.axis.IncludeSelf;
-import org.sirix.axis.temporal.AllTimeAxis;
+import org.sirix.axis.temporal.AllVersionsAxis;
 import org.sirix.axis.temporal.FutureAxis;
 import org.sirix.axis.temporal.PastAxis;
 import org.sirix.xquery.StructuredDBItem;
@@ -60,7 +60,7 @@ public final class JsonDBArray extends AbstractJsonDBArray<JsonDBArray>
   @Override
   public Stream<JsonDBArray> getAllTimes() {
     moveRtx();
-    return new TemporalSirixJsonArrayStream(new AllTimeAxis<>(rtx.getResourceManager(), rtx), collection);
+    return new TemporalSirixJsonArrayStream(new AllVersionsAxis<>(rtx.getResourceManager(), rtx), collection);
   }
 
   @Override
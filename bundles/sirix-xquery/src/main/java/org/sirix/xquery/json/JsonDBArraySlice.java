@@ -18,9 +18,8 @@ import org.sirix.api.json.JsonNodeReadOnlyTrx;
 import org.sirix.api.json.JsonNodeTrx;
 import org.sirix.api.json.JsonResourceManager;
 import org.sirix.axis.AbstractTemporalAxis;
-import org.sirix.axis.ChildAxis;
 import org.sirix.axis.IncludeSelf;
-import org.sirix.axis.temporal.AllTimeAxis;
+import org.sirix.axis.temporal.AllVersionsAxis;
 import org.sirix.axis.temporal.FirstAxis;
 import org.sirix.axis.temporal.FutureAxis;
 import org.sirix.axis.temporal.LastAxis;
@@ -116,7 +115,7 @@ public final class JsonDBArraySlice extends AbstractJsonDBArray<JsonDBArraySlice
   @Override
   public Stream<JsonDBArraySlice> getAllTimes() {
     moveRtx();
-    return new TemporalSirixJsonArraySliceStream(new AllTimeAxis<>(rtx.getResourceManager(), rtx), collection,
+    return new TemporalSirixJsonArraySliceStream(new AllVersionsAxis<>(rtx.getResourceManager(), rtx), collection,
         fromIndex, toIndex);
   }
 
@@ -138,9 +137,18 @@ public final class JsonDBArraySlice extends AbstractJsonDBArray<JsonDBArraySlice
 
   private List<Sequence> getValues() {
     final var values = new ArrayList<Sequence>();
-
-    for (int i = 0, length = len(); i < length; i++) {
-      values.add(at(fromIndex + i));
+    final int length = len();
+
+    if (length > 0 && rtx.moveToChild(fromIndex).hasMoved()) {
+      for (int i = 0; i < length; i++) {
+        final long childNodeKey = rtx.getNodeKey();
+        values.add(jsonUtil.getSequence(rtx, collection));
+        rtx.moveTo(childNodeKey);
+
+        if (!rtx.moveToRightSibling().hasMoved()) {
+          break;
+        }
+      }
     }
 
     return values;
@@ -149,14 +157,7 @@ public final class JsonDBArraySlice extends AbstractJsonDBArray<JsonDBArraySlice
   private Sequence getSequenceAtIndex(final JsonNodeReadOnlyTrx rtx, final int index) {
     moveRtx();
 
-    final var axis = new ChildAxis(rtx);
-
-    for (int i = 0; i < index && axis.hasNext(); i++)
-      axis.next();
-
-    if (axis.hasNext()) {
-      axis.next();
-
+    if (rtx.moveToChild(index).hasMoved()) {
       return jsonUtil.getSequence(rtx, collection);
     }
 
@@ -174,7 +175,7 @@ public final class JsonDBArraySlice extends AbstractJsonDBArray<JsonDBArraySlice
       return getSequenceAtIndex(rtx, ii);
     }
 
-    return values.get(ii);
+    return values.get(numericIndex.intValue());
   }
 
   @Override
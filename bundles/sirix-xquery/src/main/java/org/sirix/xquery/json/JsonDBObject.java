@@ -21,9 +21,7 @@ import org.sirix.api.json.JsonResourceManager;
 import org.sirix.axis.AbstractTemporalAxis;
 import org.sirix.axis.ChildAxis;
 import org.sirix.axis.IncludeSelf;
-import org.sirix.axis.filter.FilterAxis;
-import org.sirix.axis.filter.json.JsonNameFilter;
-import org.sirix.axis.temporal.AllTimeAxis;
+import org.sirix.axis.temporal.AllVersionsAxis;
 import org.sirix.axis.temporal.FirstAxis;
 import org.sirix.axis.temporal.FutureAxis;
 import org.sirix.axis.temporal.LastAxis;
@@ -173,7 +171,7 @@ public final class JsonDBObject extends AbstractItem
   @Override
   public Stream<JsonDBObject> getAllTimes() {
     moveRtx();
-    return new TemporalSirixJsonObjectStream(new AllTimeAxis<>(rtx.getResourceManager(), rtx), collection);
+    return new TemporalSirixJsonObjectStream(new AllVersionsAxis<>(rtx.getResourceManager(), rtx), collection);
   }
 
   @Override
@@ -377,18 +375,7 @@ public final class JsonDBObject extends AbstractItem
   }
 
   private boolean findField(QNm field, JsonNodeTrx trx) {
-    trx.moveToFirstChild();
-
-    boolean isFound = false;
-
-    do {
-      if (trx.getName().equals(field)) {
-        isFound = true;
-        break;
-      }
-    } while (trx.moveToRightSibling().hasMoved());
-
-    return isFound;
+    return trx.moveToObjectKey(field.getLocalName()).hasMoved();
   }
 
   @Override
@@ -481,11 +468,7 @@ public final class JsonDBObject extends AbstractItem
     moveRtx();
 
     return fields.computeIfAbsent(field, (unused) -> {
-      final var axis = new FilterAxis<>(new ChildAxis(rtx), new JsonNameFilter(rtx, field));
-
-      if (axis.hasNext()) {
-        axis.next();
-
+      if (rtx.moveToObjectKey(field.getLocalName()).hasMoved()) {
         return jsonItemFactory.getSequence(rtx.moveToFirstChild().trx(), collection);
       }
 
@@ -503,15 +486,7 @@ public final class JsonDBObject extends AbstractItem
   }
 
   private Sequence getValueSequenceAtIndex(final JsonNodeReadOnlyTrx rtx, final int index) {
-    final var axis = new ChildAxis(rtx);
-
-    for (int i = 0; i < index && axis.hasNext(); i++) {
-      axis.next();
-    }
-
-    if (axis.hasNext()) {
-      axis.next();
-
+    if (rtx.moveToChild(index).hasMoved()) {
       return jsonItemFactory.getSequence(rtx.moveToFirstChild().trx(), collection);
     }
 
@@ -7,7 +7,7 @@ import org.brackit.xquery.xdm.json.Array;
 import org.brackit.xquery.xdm.json.TemporalJsonItem;
 import org.sirix.api.json.JsonNodeReadOnlyTrx;
 import org.sirix.axis.IncludeSelf;
-import org.sirix.axis.temporal.AllTimeAxis;
+import org.sirix.axis.temporal.AllVersionsAxis;
 import org.sirix.axis.temporal.FutureAxis;
 import org.sirix.axis.temporal.PastAxis;
 import org.sirix.xquery.stream.json.TemporalSirixJsonObjectKeyArrayStream;
@@ -59,7 +59,7 @@ public final class JsonObjectKeyDBArray extends AbstractJsonDBArray<JsonObjectKe
   @Override
   public Stream<JsonObjectKeyDBArray> getAllTimes() {
     moveRtx();
-    return new TemporalSirixJsonObjectKeyArrayStream(new AllTimeAxis<>(rtx.getResourceManager(), rtx), collection);
+    return new TemporalSirixJsonObjectKeyArrayStream(new AllVersionsAxis<>(rtx.getResourceManager(), rtx), collection);
   }
 
   @Override
@@ -22,7 +22,7 @@ import org.sirix.api.json.JsonResourceManager;
 import org.sirix.axis.AbstractTemporalAxis;
 import org.sirix.axis.ChildAxis;
 import org.sirix.axis.IncludeSelf;
-import org.sirix.axis.temporal.AllTimeAxis;
+import org.sirix.axis.temporal.AllVersionsAxis;
 import org.sirix.axis.temporal.FirstAxis;
 import org.sirix.axis.temporal.FutureAxis;
 import org.sirix.axis.temporal.LastAxis;
@@ -81,7 +81,7 @@ public final class JsonObjectValueDBArray extends AbstractJsonDBArray<JsonObject
   @Override
   public Stream<JsonObjectValueDBArray> getAllTimes() {
     moveRtx();
-    return new TemporalSirixJsonObjectValueArrayStream(new AllTimeAxis<>(rtx.getResourceManager(), rtx), collection);
+    return new TemporalSirixJsonObjectValueArrayStream(new AllVersionsAxis<>(rtx.getResourceManager(), rtx), collection);
   }
 
   @Override
@@ -1750,7 +1750,7 @@ public final class XmlDBNode extends AbstractTemporalNode<XmlDBNode> implements
   @Override
   public Stream<AbstractTemporalNode<XmlDBNode>> getAllTime() {
     moveRtx();
-    return new TemporalSirixNodeStream(new AllTimeAxis<>(mRtx.getResourceManager(), mRtx), mCollection);
+    return new TemporalSirixNodeStream(new AllVersionsAxis<>(mRtx.getResourceManager(), mRtx), mCollection);
   }
 
   @Override
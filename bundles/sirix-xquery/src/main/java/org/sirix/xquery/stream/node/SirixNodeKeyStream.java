@@ -2,7 +2,7 @@ package org.sirix.xquery.stream.node;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import java.util.Iterator;
-import java.util.Set;
+import java.util.PrimitiveIterator;
 import org.brackit.xquery.xdm.Stream;
 import org.sirix.api.xml.XmlNodeReadOnlyTrx;
 import org.sirix.index.avltree.keyvalue.NodeReferences;
@@ -13,6 +13,8 @@ public final class SirixNodeKeyStream implements Stream<XmlDBNode> {
 
   private final Iterator<NodeReferences> iter;
 
+  private PrimitiveIterator.OfLong nodeKeys;
+
   private final XmlDBCollection collection;
 
   private final XmlNodeReadOnlyTrx rtx;
@@ -26,13 +28,14 @@ public final class SirixNodeKeyStream implements Stream<XmlDBNode> {
 
   @Override
   public XmlDBNode next() {
-    while (iter.hasNext()) {
-      final NodeReferences nodeReferences = iter.next();
-      final Set<Long> nodeKeys = nodeReferences.getNodeKeys();
-      for (final long nodeKey : nodeKeys) {
-        rtx.moveTo(nodeKey);
-        return new XmlDBNode(rtx, collection);
-      }
+    if (nodeKeys == null) {
+      // Combine the references of all matching index entries, such that the nodes are returned in ascending order of
+      // their node keys and each node only once.
+      nodeKeys = NodeReferences.union(iter).getNodeKeyIterator();
+    }
+    if (nodeKeys.hasNext()) {
+      rtx.moveTo(nodeKeys.nextLong());
+      return new XmlDBNode(rtx, collection);
     }
     return null;
   }
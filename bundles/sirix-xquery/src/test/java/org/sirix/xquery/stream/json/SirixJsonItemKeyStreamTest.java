@@ -0,0 +1,59 @@
+package org.sirix.xquery.stream.json;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.JsonTestHelper;
+import org.sirix.JsonTestHelper.PATHS;
+import org.sirix.api.json.JsonNodeReadOnlyTrx;
+import org.sirix.api.json.JsonResourceManager;
+import org.sirix.index.avltree.keyvalue.NodeReferences;
+import org.sirix.xquery.json.JsonDBCollection;
+import org.sirix.xquery.json.JsonDBObject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test {@link SirixJsonItemKeyStream}.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class SirixJsonItemKeyStreamTest {
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+    JsonTestHelper.createTestDocument();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+    JsonTestHelper.deleteEverything();
+  }
+
+  @Test
+  public void testNodesOfAllReferencesAreReturnedOnceInNodeKeyOrder() {
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    final var collection = new JsonDBCollection("collection", database);
+
+    try (final JsonResourceManager manager = database.openResourceManager(JsonTestHelper.RESOURCE);
+        final JsonNodeReadOnlyTrx rtx = manager.beginNodeReadOnlyTrx()) {
+      final var references = List.of(new NodeReferences(Set.of(5L, 3L)), new NodeReferences(Set.of(3L, 1L, 7L)),
+          new NodeReferences());
+      final var stream = new SirixJsonItemKeyStream(references.iterator(), collection, rtx);
+
+      final List<Long> nodeKeys = new ArrayList<>();
+      JsonDBObject item;
+      while ((item = stream.next()) != null) {
+        nodeKeys.add(item.getNodeKey());
+      }
+
+      assertEquals(List.of(1L, 3L, 5L, 7L), nodeKeys);
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package org.sirix.xquery.stream.node;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sirix.XmlTestHelper;
+import org.sirix.XmlTestHelper.PATHS;
+import org.sirix.api.xml.XmlNodeReadOnlyTrx;
+import org.sirix.api.xml.XmlResourceManager;
+import org.sirix.index.avltree.keyvalue.NodeReferences;
+import org.sirix.xquery.node.XmlDBCollection;
+import org.sirix.xquery.node.XmlDBNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test {@link SirixNodeKeyStream}.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class SirixNodeKeyStreamTest {
+
+  @Before
+  public void setUp() {
+    XmlTestHelper.deleteEverything();
+    XmlTestHelper.createTestDocument();
+  }
+
+  @After
+  public void tearDown() {
+    XmlTestHelper.closeEverything();
+    XmlTestHelper.deleteEverything();
+  }
+
+  @Test
+  public void testNodesOfAllReferencesAreReturnedOnceInNodeKeyOrder() {
+    final var database = XmlTestHelper.getDatabase(PATHS.PATH1.getFile());
+    final var collection = new XmlDBCollection("collection", database);
+
+    try (final XmlResourceManager manager = database.openResourceManager(XmlTestHelper.RESOURCE);
+        final XmlNodeReadOnlyTrx rtx = manager.beginNodeReadOnlyTrx()) {
+      final var references = List.of(new NodeReferences(Set.of(5L, 3L)), new NodeReferences(Set.of(3L, 1L, 7L)),
+          new NodeReferences());
+      final var stream = new SirixNodeKeyStream(references.iterator(), collection, rtx);
+
+      final List<Long> nodeKeys = new ArrayList<>();
+      XmlDBNode item;
+      while ((item = stream.next()) != null) {
+        nodeKeys.add(item.getNodeKey());
+      }
+
+      assertEquals(List.of(1L, 3L, 5L, 7L), nodeKeys);
+    }
+  }
+}